@@ -0,0 +1,137 @@
+package greencity.benchmark;
+
+import greencity.dto.order.BigOrderTableDTO;
+import greencity.dto.order.OrderDto;
+import greencity.entity.coords.Coordinates;
+import greencity.entity.order.BigOrderTableViews;
+import greencity.entity.order.Order;
+import greencity.entity.user.ubs.OrderAddress;
+import greencity.entity.user.ubs.UBSuser;
+import greencity.mapping.order.BigOrderTableDtoMapper;
+import greencity.mapping.order.OrderToOrderDtoMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per row cost of mapping the rows of the list endpoints through
+ * {@link ModelMapper}, configured as in {@code MapperConfig}, and through the
+ * direct call of the same converter. Run with
+ * {@code mvn -P jmh -pl benchmarks -am package} and
+ * {@code java -jar benchmarks/target/benchmarks.jar -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MappingBenchmark {
+    private final BigOrderTableDtoMapper bigOrderTableDtoMapper = new BigOrderTableDtoMapper();
+    private final OrderToOrderDtoMapper orderToOrderDtoMapper = new OrderToOrderDtoMapper();
+    private ModelMapper modelMapper;
+    private BigOrderTableViews bigOrderTableView;
+    private Order order;
+
+    /**
+     * Creates the mapper and the rows.
+     */
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setMatchingStrategy(MatchingStrategies.STRICT)
+            .setFieldMatchingEnabled(true)
+            .setSkipNullEnabled(true)
+            .setFieldAccessLevel(AccessLevel.PRIVATE);
+        modelMapper.addConverter(bigOrderTableDtoMapper);
+        modelMapper.addConverter(orderToOrderDtoMapper);
+        bigOrderTableView = BigOrderTableViews.builder()
+            .id(1L)
+            .orderStatus("FORMED")
+            .orderPaymentStatus("PAID")
+            .orderDate(LocalDate.of(2024, 1, 1))
+            .paymentDate(LocalDate.of(2024, 1, 1))
+            .clientName("Anna Koval")
+            .clientPhoneNumber("0991234567")
+            .clientEmail("anna@gmail.com")
+            .senderName("Anna Koval")
+            .senderPhone("0991234567")
+            .senderEmail("anna@gmail.com")
+            .violationsAmount(0)
+            .region("Київська область")
+            .city("Київ")
+            .district("Печерський")
+            .address("Хрещатик, 1")
+            .regionEn("Kyiv region")
+            .cityEn("Kyiv")
+            .districtEn("Pecherskyi")
+            .addressEn("Khreshchatyk, 1")
+            .bagAmount("3")
+            .totalOrderSum(500_00L)
+            .generalDiscount(0L)
+            .amountDue(0L)
+            .totalPayment(500_00L)
+            .isBlocked(false)
+            .tariffsInfoId(1L)
+            .build();
+        order = Order.builder()
+            .id(1L)
+            .ubsUser(UBSuser.builder()
+                .firstName("Anna")
+                .lastName("Koval")
+                .phoneNumber("0991234567")
+                .orderAddress(OrderAddress.builder()
+                    .city("Kyiv")
+                    .street("Khreshchatyk")
+                    .houseNumber("1")
+                    .coordinates(Coordinates.builder().latitude(50.45).longitude(30.52).build())
+                    .build())
+                .build())
+            .build();
+    }
+
+    /**
+     * Row of the orders table mapped through {@link ModelMapper}.
+     */
+    @Benchmark
+    public BigOrderTableDTO bigOrderTableModelMapper() {
+        return modelMapper.map(bigOrderTableView, BigOrderTableDTO.class);
+    }
+
+    /**
+     * Row of the orders table mapped by the direct call of the converter.
+     */
+    @Benchmark
+    public BigOrderTableDTO bigOrderTableDirect() {
+        return bigOrderTableDtoMapper.map(bigOrderTableView);
+    }
+
+    /**
+     * Undelivered order mapped through {@link ModelMapper}.
+     */
+    @Benchmark
+    public OrderDto orderModelMapper() {
+        return modelMapper.map(order, OrderDto.class);
+    }
+
+    /**
+     * Undelivered order mapped by the direct call of the converter.
+     */
+    @Benchmark
+    public OrderDto orderDirect() {
+        return orderToOrderDtoMapper.map(order);
+    }
+}
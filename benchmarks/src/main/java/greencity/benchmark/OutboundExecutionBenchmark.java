@@ -0,0 +1,164 @@
+package greencity.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import greencity.client.UserRemoteClient;
+import greencity.config.OutboundConcurrencyConfigProp;
+import greencity.config.OutboundConcurrencyFeignClient;
+import greencity.config.OutboundConcurrencyLimiter;
+import greencity.security.JwtTool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a burst of requests, each of which calls the user server
+ * through {@link UserRemoteClient}, run by the platform pool of
+ * {@code AsyncConfig} and by a virtual thread per request. The Feign client is
+ * created by Spring Cloud OpenFeign with the interceptor of the application and
+ * the {@link OutboundConcurrencyFeignClient} of {@code OutboundClientConfig},
+ * and calls a local HTTP server which answers after the latency of the user
+ * server, so the modes differ only in what bounds the concurrency. Run with
+ * {@code mvn -P jmh -pl benchmarks -am package} and
+ * {@code java -jar benchmarks/target/benchmarks.jar OutboundExecutionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class OutboundExecutionBenchmark {
+    private static final int REQUESTS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final byte[] RESPONSE = "true".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    private String mode;
+    @Param({"20"})
+    private long latencyMillis;
+
+    private HttpServer userServer;
+    private ConfigurableApplicationContext context;
+    private UserRemoteClient userRemoteClient;
+    private ExecutorService executor;
+
+    /**
+     * Starts the user server, the Feign client and the executor of the mode.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        userServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), REQUESTS * 2);
+        userServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        userServer.createContext("/", this::respond);
+        userServer.start();
+        context = new SpringApplicationBuilder(OutboundClients.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .properties(
+                "greencity.redirect.user-server-address=http://localhost:" + userServer.getAddress().getPort(),
+                "greencity.authorization.service-email=service@greencity.ua",
+                "greencity.authorization.token-key=benchmark-token-key-of-at-least-256-bits",
+                "greencity.outbound.limits.user-remote-client=100",
+                "greencity.outbound.acquire-timeout=PT30S",
+                "logging.level.root=WARN")
+            .run();
+        userRemoteClient = context.getBean(UserRemoteClient.class);
+        executor = "virtual".equals(mode)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(POOL_SIZE);
+    }
+
+    /**
+     * Stops the executor, the Feign client and the user server.
+     */
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+        userServer.stop(0);
+    }
+
+    /**
+     * Burst of requests, each of which calls the user server once.
+     */
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int burst() throws InterruptedException {
+        List<Callable<Boolean>> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(() -> userRemoteClient.checkIfUserExistsByUuid("uuid"));
+        }
+        return executor.invokeAll(requests).size();
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Thread.sleep(latencyMillis);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(RESPONSE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Beans of the outbound calls to the user server, as created by the
+     * application.
+     */
+    @Configuration
+    @EnableConfigurationProperties
+    @EnableFeignClients(clients = UserRemoteClient.class)
+    @ImportAutoConfiguration({JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+        FeignAutoConfiguration.class})
+    @Import({OutboundConcurrencyConfigProp.class, OutboundConcurrencyLimiter.class, JwtTool.class})
+    public static class OutboundClients {
+        /**
+         * Method to get the client of the Feign clients of
+         * {@code OutboundClientConfig}.
+         *
+         * @return {@link Client}
+         */
+        @Bean
+        public Client feignClient(OutboundConcurrencyLimiter outboundConcurrencyLimiter) {
+            return new OutboundConcurrencyFeignClient(new Client.Default(null, null), outboundConcurrencyLimiter);
+        }
+    }
+}
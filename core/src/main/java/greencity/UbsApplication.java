@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
@@ -17,12 +18,14 @@ public class UbsApplication {
     }
 
     /**
-     * Bean to return RestTemplate.
+     * Bean to return RestTemplate, whose calls are limited per host.
      *
      * @return {@link RestTemplate}.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ClientHttpRequestInterceptor outboundConcurrencyInterceptor) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(outboundConcurrencyInterceptor);
+        return restTemplate;
     }
 }
@@ -1,20 +1,43 @@
 package greencity.configuration;
 
+import greencity.config.FileStorageConfigProp;
+import greencity.config.NotificationBatchConfigProp;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
 
+/**
+ * Executors of the application. When {@code spring.threads.virtual.enabled} is
+ * set, as in the {@code virtual-threads} profile, the executors which mostly
+ * wait for the remote calls start a virtual thread per task and are bounded by
+ * the limits of the outbound destinations instead of the pool sizes, while the
+ * executor of the database lookups keeps its pool of platform threads.
+ */
 @EnableAsync
 @Configuration
 public class AsyncConfig {
+    private static final int ORDER_PAGE_CONCURRENCY = 4;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
     /**
      *
      * {@inheritDoc}
      */
     @Bean
     public Executor taskExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("ext-async-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5); // set the core pool size
         executor.setMaxPoolSize(10); // max pool size
@@ -22,4 +45,70 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Method to get executor which dispatches chunks of notifications to the
+     * notification providers.
+     *
+     * @return {@link TaskExecutor}
+     */
+    @Bean("notificationDispatchExecutor")
+    public TaskExecutor notificationDispatchExecutor(NotificationBatchConfigProp notificationBatchConfigProp) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("notification-dispatch-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationBatchConfigProp.getDispatchParallelism());
+        executor.setMaxPoolSize(notificationBatchConfigProp.getDispatchParallelism());
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Method to get executor which uploads and deletes files of the file storage.
+     *
+     * @return {@link TaskExecutor}
+     */
+    @Bean("fileStorageExecutor")
+    public TaskExecutor fileStorageExecutor(FileStorageConfigProp fileStorageConfigProp) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("file-storage-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fileStorageConfigProp.getParallelism());
+        executor.setMaxPoolSize(fileStorageConfigProp.getParallelism());
+        executor.setThreadNamePrefix("file-storage-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Method to get executor which runs the independent lookups of the order page
+     * of the admin concurrently. Every running lookup holds a database connection
+     * while its request waits for it holding another one, so the executor has no
+     * queue and at most half of the Hikari maximumPoolSize threads. A lookup which
+     * does not get a thread is rejected and runs on the connection of its request,
+     * so the waiting requests never hold the connections their lookups need.
+     *
+     * @return {@link TaskExecutor}
+     */
+    @Bean("orderPageExecutor")
+    public TaskExecutor orderPageExecutor() {
+        int concurrency = Math.max(1, Math.min(ORDER_PAGE_CONCURRENCY, maximumPoolSize / 2));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("order-page-");
+        executor.initialize();
+        return executor;
+    }
+
+    private static TaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
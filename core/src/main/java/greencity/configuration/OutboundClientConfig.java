@@ -0,0 +1,39 @@
+package greencity.configuration;
+
+import feign.Client;
+import greencity.config.OutboundConcurrencyFeignClient;
+import greencity.config.OutboundConcurrencyLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+
+@Configuration
+public class OutboundClientConfig {
+    /**
+     * Method to get the client of the Feign clients which holds a slot of the Feign
+     * client for every request until its response arrives.
+     *
+     * @return {@link Client}
+     */
+    @Bean
+    public Client feignClient(OutboundConcurrencyLimiter outboundConcurrencyLimiter) {
+        return new OutboundConcurrencyFeignClient(new Client.Default(null, null), outboundConcurrencyLimiter);
+    }
+
+    /**
+     * Method to get the interceptor of {@code RestTemplate} which takes a slot of
+     * the host of every request.
+     *
+     * @return {@link ClientHttpRequestInterceptor}
+     */
+    @Bean
+    public ClientHttpRequestInterceptor outboundConcurrencyInterceptor(
+        OutboundConcurrencyLimiter outboundConcurrencyLimiter) {
+        return (request, body, execution) -> {
+            try (OutboundConcurrencyLimiter.Permit permit =
+                outboundConcurrencyLimiter.acquire(request.getURI().getHost())) {
+                return execution.execute(request, body);
+            }
+        };
+    }
+}
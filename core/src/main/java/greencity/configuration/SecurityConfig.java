@@ -3,7 +3,7 @@ package greencity.configuration;
 import greencity.security.JwtTool;
 import greencity.security.filters.AccessTokenAuthenticationFilter;
 import greencity.security.providers.JwtAuthenticationProvider;
-import greencity.service.FeignClientCallAsync;
+import greencity.service.user.UserPrincipalCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -43,7 +43,7 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @EnableMethodSecurity
 public class SecurityConfig {
     private final JwtTool jwtTool;
-    private final FeignClientCallAsync userRemoteClient;
+    private final UserPrincipalCacheService userPrincipalCacheService;
     private final AuthenticationConfiguration authenticationConfiguration;
 
     @Value("${spring.messaging.stomp.websocket.allowed-origins}")
@@ -53,10 +53,10 @@ public class SecurityConfig {
      * Constructor.
      */
     @Autowired
-    public SecurityConfig(JwtTool jwtTool, FeignClientCallAsync userRemoteClient,
+    public SecurityConfig(JwtTool jwtTool, UserPrincipalCacheService userPrincipalCacheService,
         AuthenticationConfiguration authenticationConfiguration) {
         this.jwtTool = jwtTool;
-        this.userRemoteClient = userRemoteClient;
+        this.userPrincipalCacheService = userPrincipalCacheService;
         this.authenticationConfiguration = authenticationConfiguration;
     }
 
@@ -91,7 +91,7 @@ public class SecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
             .addFilterBefore(
-                new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userRemoteClient),
+                new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userPrincipalCacheService),
                 UsernamePasswordAuthenticationFilter.class)
             .exceptionHandling(exception -> exception.authenticationEntryPoint((req, resp, exc) -> resp
                 .sendError(SC_UNAUTHORIZED, "Authorize first."))
@@ -116,6 +116,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET,
                     UBS_MANAG_LINK + "/getAllCertificates",
                     UBS_MANAG_LINK + "/bigOrderTable",
+                    UBS_MANAG_LINK + "/bigOrderTable/cursor",
+                    UBS_MANAG_LINK + "/bigOrderTable/export",
                     UBS_MANAG_LINK + "/getOrdersViewParameters",
                     UBS_MANAG_LINK + "/tableParams",
                     UBS_MANAG_LINK + "/usersAll",
@@ -129,6 +131,8 @@ public class SecurityConfig {
                     ADMIN_EMPL_LINK + "/**",
                     ADMIN_LINK + "/notification/get-all-templates",
                     ADMIN_LINK + "/notification/get-template/{id}",
+                    ADMIN_LINK + "/notification/user-cache/stats",
+                    ADMIN_LINK + "/notification/channels/stats",
                     SUPER_ADMIN_LINK + "/get-all-receiving-station",
                     SUPER_ADMIN_LINK + "/getLocations",
                     SUPER_ADMIN_LINK + "/getActiveLocations",
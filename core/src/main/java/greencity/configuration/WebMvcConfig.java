@@ -3,6 +3,7 @@ package greencity.configuration;
 import greencity.client.UserRemoteClient;
 import greencity.converters.UserArgumentResolver;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -26,13 +27,20 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Autowired
     private UserRemoteClient userRemoteClient;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     /**
-     * Method to get single threaded executor.
+     * Method to get single threaded executor. A virtual thread is started for every
+     * task instead when the virtual threads are enabled.
      *
      * @return {@link ExecutorService}
      */
     @Bean("singleThreadedExecutor")
     public ExecutorService singleThreadedExecutor() {
+        if (virtualThreads) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
         return Executors.newSingleThreadExecutor();
     }
 
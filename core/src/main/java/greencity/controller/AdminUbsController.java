@@ -15,6 +15,7 @@ import greencity.service.ubs.OrdersAdminsPageService;
 import greencity.service.ubs.OrdersForUserService;
 import greencity.service.ubs.ValuesForUserTableService;
 import greencity.service.ubs.ViolationService;
+import greencity.service.user.UserPrincipalCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -41,6 +42,7 @@ public class AdminUbsController {
     private final ValuesForUserTableService valuesForUserTable;
     private final OrdersForUserService ordersForUserService;
     private final ViolationService violationService;
+    private final UserPrincipalCacheService userPrincipalCacheService;
 
     /**
      * Controller for obtaining all users that made at least one order.
@@ -238,4 +240,25 @@ public class AdminUbsController {
         return ResponseEntity.status(HttpStatus.OK)
             .body(violationService.getAllViolations(page, userId, columnName, sortingOrder));
     }
+
+    /**
+     * Controller that invalidates the cached principal of the user with the given
+     * email, or all cached principals when no email is given. It is called when a
+     * user is deactivated or changed in the user service.
+     */
+    @Operation(summary = "Invalidate the user principal cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK, content = @Content),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @DeleteMapping("/user-principal-cache")
+    public ResponseEntity<HttpStatus> invalidateUserPrincipalCache(@RequestParam(required = false) String email) {
+        if (email == null) {
+            userPrincipalCacheService.invalidateAll();
+        } else {
+            userPrincipalCacheService.invalidate(email);
+        }
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
 }
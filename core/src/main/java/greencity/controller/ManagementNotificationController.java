@@ -3,11 +3,15 @@ package greencity.controller;
 import greencity.annotations.ApiPageable;
 import greencity.constants.HttpStatuses;
 import greencity.dto.notification.AddNotificationTemplateWithPlatformsDto;
+import greencity.dto.notification.NotificationChannelStatsDto;
 import greencity.dto.notification.NotificationTemplateDto;
 import greencity.dto.notification.NotificationTemplateWithPlatformsDto;
 import greencity.dto.notification.NotificationTemplateWithPlatformsUpdateDto;
+import greencity.dto.notification.NotificationUserCacheStatsDto;
 import greencity.dto.pageble.PageableDto;
+import greencity.service.notification.NotificationChannelDispatcher;
 import greencity.service.notification.NotificationTemplateService;
+import greencity.service.notification.NotificationUserCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,12 +33,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody;
+import java.util.List;
 
 @RestController
 @RequestMapping("/admin/notification")
 @RequiredArgsConstructor
 public class ManagementNotificationController {
     private final NotificationTemplateService notificationTemplateService;
+    private final NotificationUserCacheService notificationUserCacheService;
+    private final NotificationChannelDispatcher notificationChannelDispatcher;
 
     /**
      * Controller that returns all notification templates.
@@ -153,4 +160,54 @@ public class ManagementNotificationController {
         notificationTemplateService.removeNotificationTemplate(id);
         return ResponseEntity.status(HttpStatus.OK).build();
     }
+
+    /**
+     * Controller that returns statistics of the user cache used by notification
+     * providers.
+     */
+    @Operation(summary = "Get statistics of the notification user cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content),
+    })
+    @GetMapping("/user-cache/stats")
+    public ResponseEntity<NotificationUserCacheStatsDto> getUserCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(notificationUserCacheService.getStats());
+    }
+
+    /**
+     * Controller that invalidates the cached user with the given email, or the
+     * whole notification user cache when no email is given.
+     */
+    @Operation(summary = "Invalidate the notification user cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK, content = @Content),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content),
+    })
+    @DeleteMapping("/user-cache")
+    public ResponseEntity<HttpStatus> invalidateUserCache(@RequestParam(required = false) String email) {
+        if (email == null) {
+            notificationUserCacheService.invalidateAll();
+        } else {
+            notificationUserCacheService.invalidate(email);
+        }
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
+    /**
+     * Controller that returns queue depth, send latency and delivery statistics of
+     * every notification channel.
+     */
+    @Operation(summary = "Get statistics of the notification channels")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content),
+    })
+    @GetMapping("/channels/stats")
+    public ResponseEntity<List<NotificationChannelStatsDto>> getChannelStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(notificationChannelDispatcher.getStats());
+    }
 }
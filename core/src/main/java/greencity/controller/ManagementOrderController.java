@@ -3,6 +3,7 @@ package greencity.controller;
 import greencity.annotations.ApiLocale;
 import greencity.annotations.CurrentUserUuid;
 import greencity.constants.HttpStatuses;
+import greencity.dto.CursorPageDto;
 import greencity.dto.bag.AdditionalBagInfoDto;
 import greencity.dto.certificate.CertificateDtoForAdding;
 import greencity.dto.certificate.CertificateDtoForSearching;
@@ -38,6 +39,7 @@ import greencity.dto.violation.UpdateViolationToUserDto;
 import greencity.dto.violation.ViolationDetailInfoDto;
 import greencity.dto.violation.ViolationsInfoDto;
 import greencity.entity.parameters.CustomTableView;
+import greencity.enums.OrderExportFormat;
 import greencity.filters.CertificateFilterCriteria;
 import greencity.filters.CertificatePage;
 import greencity.filters.OrderPage;
@@ -56,14 +58,18 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -312,6 +318,81 @@ public class ManagementOrderController {
             .body(bigOrderTableService.getOrders(page, criteria, principal.getName()));
     }
 
+    /**
+     * The method returns page of order's data from big order table using keyset
+     * pagination. Pass {@code nextCursor} of the previous response as
+     * {@code cursor} to get the following page.
+     *
+     * @return {@link CursorPageDto} with order's information
+     */
+    @Operation(summary = "Get order's data from big order table by cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST, content = @Content),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @PreAuthorize("@preAuthorizer.hasAuthority('SEE_BIG_ORDER_TABLE', authentication)")
+    @GetMapping("/bigOrderTable/cursor")
+    public ResponseEntity<CursorPageDto<BigOrderTableDTO>> getOrdersByCursor(OrderPage page,
+        OrderSearchCriteria criteria,
+        Principal principal) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(bigOrderTableService.getOrdersAfter(page, criteria, principal.getName()));
+    }
+
+    /**
+     * The method exports all order's data from big order table matching the
+     * filters, in the requested order, to a CSV or XLSX file. Orders are written to
+     * the response as they are read from the database. If the export fails before
+     * the response is committed, the response is reset for the error; otherwise the
+     * error aborts the response, so an incomplete file is never sent as complete.
+     */
+    @Operation(summary = "Export order's data from big order table")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK, content = @Content),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST, content = @Content),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @PreAuthorize("@preAuthorizer.hasAuthority('SEE_BIG_ORDER_TABLE', authentication)")
+    @GetMapping("/bigOrderTable/export")
+    public void exportOrders(OrderPage page,
+        OrderSearchCriteria criteria,
+        @RequestParam(defaultValue = "CSV") OrderExportFormat format,
+        Principal principal,
+        @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("orders." + format.getExtension()).build().toString());
+        try {
+            bigOrderTableService.exportOrders(page, criteria, principal.getName(), format,
+                response.getOutputStream());
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The method fully rebuilds big order table from its source view.
+     *
+     * @return number of orders in the rebuilt table
+     */
+    @Operation(summary = "Rebuild big order table")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @PostMapping("/bigOrderTable/rebuild")
+    public ResponseEntity<Long> rebuildOrdersTable() {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(bigOrderTableService.rebuildOrderTable());
+    }
+
     /**
      * The method save or update view of order table. This method only save Uuid of
      * user and titles of columns in DataBase. All changes actually take place at
@@ -4,12 +4,15 @@ import greencity.annotations.CurrentUserUuid;
 import greencity.constants.HttpStatuses;
 import greencity.dto.AddNewTariffDto;
 import greencity.dto.DetailsOfDeactivateTariffsDto;
+import greencity.dto.ReferenceDataCacheStatsDto;
 import greencity.dto.courier.*;
 import greencity.dto.location.LocationCreateDto;
 import greencity.dto.location.LocationInfoDto;
+import greencity.dto.location.api.LocationCacheStatsDto;
 import greencity.dto.service.GetServiceDto;
 import greencity.dto.service.GetTariffServiceDto;
 import greencity.dto.service.ServiceDto;
+import greencity.dto.service.TariffRepricingJobDto;
 import greencity.dto.service.TariffServiceDto;
 import greencity.dto.tariff.*;
 import greencity.entity.order.Courier;
@@ -17,6 +20,9 @@ import greencity.enums.LocationStatus;
 import greencity.exceptions.BadRequestException;
 import greencity.filters.TariffsInfoFilterCriteria;
 import greencity.service.SuperAdminService;
+import greencity.service.locations.LocationCacheService;
+import greencity.service.ubs.ReferenceDataCacheService;
+import greencity.service.ubs.TariffRepricingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -40,6 +46,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 class SuperAdminController {
     private final SuperAdminService superAdminService;
+    private final LocationCacheService locationCacheService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final TariffRepricingService tariffRepricingService;
 
     /**
      * Controller for create new tariff service.
@@ -145,6 +154,27 @@ class SuperAdminController {
         return ResponseEntity.status(HttpStatus.OK).body(superAdminService.editTariffService(dto, id, uuid));
     }
 
+    /**
+     * Controller that returns the progress of the latest repricing of the unpaid
+     * orders after the tariff service was edited.
+     *
+     * @param id {@link Integer} tariff service id.
+     * @return {@link TariffRepricingJobDto}
+     */
+    @Operation(summary = "Get progress of the repricing of the orders after the tariff service was edited")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(implementation = TariffRepricingJobDto.class))),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND, content = @Content)
+    })
+    @PreAuthorize("@preAuthorizer.hasAuthority('EDIT_DELETE_DEACTIVATE_PRICING_CARD', authentication)")
+    @GetMapping("/editTariffService/{id}/repricing")
+    public ResponseEntity<TariffRepricingJobDto> getTariffServiceRepricing(@PathVariable Integer id) {
+        return ResponseEntity.status(HttpStatus.OK).body(tariffRepricingService.getLatestJob(id));
+    }
+
     /**
      * Controller for creating new service for tariff.
      *
@@ -755,4 +785,71 @@ class SuperAdminController {
             throw new BadRequestException("You should enter at least one parameter");
         }
     }
+
+    /**
+     * Controller that returns statistics of every region of the cache of the
+     * location API.
+     *
+     * @return list of {@link LocationCacheStatsDto}
+     */
+    @Operation(summary = "Get statistics of the location API cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = LocationCacheStatsDto.class)))),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @GetMapping("/location-cache/stats")
+    public ResponseEntity<List<LocationCacheStatsDto>> getLocationCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(locationCacheService.getStats());
+    }
+
+    /**
+     * Controller that removes all entries from the cache of the location API.
+     */
+    @Operation(summary = "Invalidate the location API cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK, content = @Content),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @DeleteMapping("/location-cache")
+    public ResponseEntity<HttpStatus> invalidateLocationCache() {
+        locationCacheService.invalidateAll();
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
+    /**
+     * Controller that returns version, hit rate and staleness of every region of
+     * the reference data cache.
+     *
+     * @return list of {@link ReferenceDataCacheStatsDto}
+     */
+    @Operation(summary = "Get statistics of the reference data cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(
+                array = @ArraySchema(schema = @Schema(implementation = ReferenceDataCacheStatsDto.class)))),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @GetMapping("/reference-data-cache/stats")
+    public ResponseEntity<List<ReferenceDataCacheStatsDto>> getReferenceDataCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(referenceDataCacheService.getStats());
+    }
+
+    /**
+     * Controller that invalidates every region of the reference data cache.
+     */
+    @Operation(summary = "Invalidate the reference data cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK, content = @Content),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED, content = @Content),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN, content = @Content)
+    })
+    @DeleteMapping("/reference-data-cache")
+    public ResponseEntity<HttpStatus> invalidateReferenceDataCache() {
+        referenceDataCacheService.invalidateAll();
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
 }
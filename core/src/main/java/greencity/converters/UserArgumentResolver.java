@@ -2,11 +2,13 @@ package greencity.converters;
 
 import greencity.annotations.CurrentUserUuid;
 import greencity.client.UserRemoteClient;
+import greencity.dto.user.UserPrincipalVO;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -35,10 +37,21 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
             && parameter.getParameterType().equals(String.class);
     }
 
+    /**
+     * Method returns uuid of the current user. The uuid resolved by the
+     * authentication filter is used when it is present, otherwise it is requested
+     * from the user service.
+     *
+     * @return {@link String} uuid or {@code null} for anonymous request.
+     */
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         Principal principal = webRequest.getUserPrincipal();
+        if (principal instanceof Authentication authentication
+            && authentication.getDetails() instanceof UserPrincipalVO user) {
+            return user.getUuid();
+        }
         return principal != null ? userRemoteClient.findUuidByEmail(principal.getName()) : null;
     }
 }
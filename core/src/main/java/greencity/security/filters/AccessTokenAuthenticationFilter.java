@@ -1,14 +1,14 @@
 package greencity.security.filters;
 
-import greencity.dto.user.UserVO;
+import greencity.dto.user.UserPrincipalVO;
 import greencity.security.JwtTool;
-import greencity.service.FeignClientCallAsync;
+import greencity.service.user.UserPrincipalCacheService;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import jakarta.servlet.FilterChain;
@@ -16,7 +16,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Optional;
 
 /**
  * Class that provide Authentication object based on JWT.
@@ -28,16 +27,16 @@ import java.util.Optional;
 public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTool jwtTool;
     private final AuthenticationManager authenticationManager;
-    private final FeignClientCallAsync userRemoteClient;
+    private final UserPrincipalCacheService userPrincipalCacheService;
 
     /**
      * Constructor.
      */
     public AccessTokenAuthenticationFilter(JwtTool jwtTool, AuthenticationManager authenticationManager,
-        FeignClientCallAsync userRemoteClient) {
+        UserPrincipalCacheService userPrincipalCacheService) {
         this.jwtTool = jwtTool;
         this.authenticationManager = authenticationManager;
-        this.userRemoteClient = userRemoteClient;
+        this.userPrincipalCacheService = userPrincipalCacheService;
     }
 
     private String extractToken(HttpServletRequest request) {
@@ -46,7 +45,8 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * Checks if request has token in header, if this token still valid, and set
-     * authentication for spring.
+     * authentication for spring. The uuid of the user is kept in the details of the
+     * authentication, so that it is not requested from the user service again.
      *
      * @param request  this is servlet that take request
      * @param response this is response servlet
@@ -63,20 +63,17 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
         if (token != null) {
             try {
                 ((ProviderManager) authenticationManager).setEraseCredentialsAfterAuthentication(false);
-                Authentication authentication = authenticationManager
+                AbstractAuthenticationToken authentication = (AbstractAuthenticationToken) authenticationManager
                     .authenticate(new UsernamePasswordAuthenticationToken(token, null));
-                Optional<UserVO> user =
-                    userRemoteClient.getRecordsAsync((String) authentication.getPrincipal()).get();
+                UserPrincipalVO user = userPrincipalCacheService.getPrincipal((String) authentication.getPrincipal());
                 log.info("user: {}", user);
-                if (user.isPresent()) {
+                if (user.isActive()) {
                     log.debug("User successfully authenticate - {}", authentication.getPrincipal());
+                    authentication.setDetails(user);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             } catch (ExpiredJwtException e) {
                 log.info("Token has expired: " + token);
-            } catch (InterruptedException e) {
-                log.info("Thread was interrupted: " + e.getMessage());
-                Thread.currentThread().interrupt();
             } catch (Exception e) {
                 log.info("Access denied with token: " + e.getMessage());
             }
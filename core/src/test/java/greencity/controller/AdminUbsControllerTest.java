@@ -8,7 +8,9 @@ import greencity.dto.order.BlockedOrderDto;
 import greencity.dto.order.ChangeOrderResponseDTO;
 import greencity.dto.order.RequestToChangeOrdersDataDto;
 import greencity.dto.table.ColumnWidthDto;
+import greencity.dto.user.UserPrincipalVO;
 import greencity.service.ubs.OrdersAdminsPageService;
+import greencity.service.user.UserPrincipalCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,6 +30,7 @@ import static greencity.ModelUtils.getUuid;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -39,6 +43,9 @@ class AdminUbsControllerTest {
     @Mock
     private OrdersAdminsPageService ordersAdminsPageService;
 
+    @Mock
+    private UserPrincipalCacheService userPrincipalCacheService;
+
     private static final String management = "/ubs/management";
     @InjectMocks
     AdminUbsController adminUbsController;
@@ -63,6 +70,18 @@ class AdminUbsControllerTest {
         verify(ordersAdminsPageService).getParametersForOrdersTable("35467585763t4sfgchjfuyetf");
     }
 
+    @Test
+    void getTableParametersWithResolvedPrincipal() throws Exception {
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken("test@gmail.com", null);
+        authentication.setDetails(new UserPrincipalVO("test@gmail.com", "35467585763t4sfgchjfuyetf", true));
+        mockMvc.perform(get(management + "/tableParams")
+            .principal(authentication))
+            .andExpect(status().isOk());
+        verify(ordersAdminsPageService).getParametersForOrdersTable("35467585763t4sfgchjfuyetf");
+        verifyNoInteractions(userRemoteClient);
+    }
+
     @Test
     void saveNewValueFromOrdersTableTest() throws Exception {
         RequestToChangeOrdersDataDto dto = ModelUtils.getRequestToChangeOrdersDataDTO();
@@ -140,4 +159,21 @@ class AdminUbsControllerTest {
             .content(json))
             .andExpect(status().isOk());
     }
+
+    @Test
+    void invalidateUserPrincipalCacheTest() throws Exception {
+        mockMvc.perform(delete(management + "/user-principal-cache")
+            .param("email", "test@gmail.com")
+            .principal(principal))
+            .andExpect(status().isOk());
+        verify(userPrincipalCacheService).invalidate("test@gmail.com");
+    }
+
+    @Test
+    void invalidateAllUserPrincipalCacheTest() throws Exception {
+        mockMvc.perform(delete(management + "/user-principal-cache")
+            .principal(principal))
+            .andExpect(status().isOk());
+        verify(userPrincipalCacheService).invalidateAll();
+    }
 }
@@ -7,12 +7,16 @@ import greencity.configuration.SecurityConfig;
 import greencity.converters.UserArgumentResolver;
 import greencity.dto.notification.AddNotificationTemplateWithPlatformsDto;
 import greencity.dto.notification.NotificationTemplateWithPlatformsUpdateDto;
+import greencity.dto.notification.NotificationChannelStatsDto;
+import greencity.dto.notification.NotificationUserCacheStatsDto;
 import greencity.exception.handler.CustomExceptionHandler;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
 import greencity.exceptions.notification.IncorrectTemplateException;
 import greencity.exceptions.notification.TemplateDeleteException;
 import greencity.service.notification.NotificationTemplateService;
+import greencity.service.notification.NotificationChannelDispatcher;
+import greencity.service.notification.NotificationUserCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +42,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -51,6 +56,10 @@ class ManagementNotificationControllerTest {
     ManagementNotificationController notificationController;
     @Mock
     NotificationTemplateService notificationTemplateService;
+    @Mock
+    NotificationUserCacheService notificationUserCacheService;
+    @Mock
+    NotificationChannelDispatcher notificationChannelDispatcher;
     private final ErrorAttributes errorAttributes = new DefaultErrorAttributes();
     private final Principal principal = getUuid();
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -213,4 +222,57 @@ class ManagementNotificationControllerTest {
 
         verify(notificationTemplateService).removeNotificationTemplate(any());
     }
+
+    @Test
+    void getUserCacheStatsTest() throws Exception {
+        when(notificationUserCacheService.getStats()).thenReturn(NotificationUserCacheStatsDto.builder()
+            .size(1)
+            .maxSize(10000)
+            .hitCount(3)
+            .missCount(1)
+            .hitRate(0.75)
+            .build());
+
+        mockMvc.perform(get(url + "/user-cache/stats")
+            .principal(principal))
+            .andExpect(status().isOk());
+
+        verify(notificationUserCacheService).getStats();
+    }
+
+    @Test
+    void getChannelStatsTest() throws Exception {
+        when(notificationChannelDispatcher.getStats()).thenReturn(List.of(NotificationChannelStatsDto.builder()
+            .channel("viber")
+            .queueSize(12)
+            .queueCapacity(10000)
+            .sentCount(40)
+            .averageSendLatencyMillis(120.5)
+            .build()));
+
+        mockMvc.perform(get(url + "/channels/stats")
+            .principal(principal))
+            .andExpect(status().isOk());
+
+        verify(notificationChannelDispatcher).getStats();
+    }
+
+    @Test
+    void invalidateUserCacheTest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete(url + "/user-cache")
+            .param("email", "user@email.com")
+            .principal(principal))
+            .andExpect(status().isOk());
+
+        verify(notificationUserCacheService).invalidate("user@email.com");
+    }
+
+    @Test
+    void invalidateWholeUserCacheTest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete(url + "/user-cache")
+            .principal(principal))
+            .andExpect(status().isOk());
+
+        verify(notificationUserCacheService).invalidateAll();
+    }
 }
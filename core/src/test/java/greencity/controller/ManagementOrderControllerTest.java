@@ -13,14 +13,18 @@ import greencity.dto.payment.ManualPaymentRequestDto;
 import greencity.dto.user.AddBonusesToUserDto;
 import greencity.dto.user.AddingPointsToUserDto;
 import greencity.dto.violation.ViolationDetailInfoDto;
+import greencity.enums.OrderExportFormat;
 import greencity.filters.CertificateFilterCriteria;
 import greencity.filters.CertificatePage;
+import greencity.filters.OrderPage;
+import greencity.filters.OrderSearchCriteria;
 import greencity.service.ubs.CertificateService;
 import greencity.service.ubs.CoordinateService;
 import greencity.service.ubs.UBSClientService;
 import greencity.service.ubs.UBSManagementService;
 import greencity.service.ubs.ViolationService;
 import greencity.service.ubs.manager.BigOrderTableServiceView;
+import java.io.OutputStream;
 import java.security.Principal;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,8 +33,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
@@ -45,7 +52,12 @@ import static greencity.ModelUtils.getRequestDto;
 import static greencity.ModelUtils.getUpdateOrderPageAdminDto;
 import static greencity.ModelUtils.getUuid;
 import static greencity.ModelUtils.getViolationDetailInfoDto;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,6 +68,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -407,6 +421,57 @@ class ManagementOrderControllerTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    void getOrdersByCursor() throws Exception {
+        this.mockMvc.perform(get(ubsLink + "/bigOrderTable/cursor")
+            .param("cursor", "abc")
+            .principal(principal))
+            .andExpect(status().isOk());
+
+        verify(bigOrderTableServiceView).getOrdersAfter(
+            new OrderPage().setCursor("abc"), new OrderSearchCriteria(), principal.getName());
+    }
+
+    @Test
+    void exportOrders() throws Exception {
+        this.mockMvc.perform(get(ubsLink + "/bigOrderTable/export")
+            .param("format", "XLSX")
+            .param("sortBy", "orderDate")
+            .principal(principal))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.xlsx\""))
+            .andExpect(content().contentType(OrderExportFormat.XLSX.getContentType()));
+
+        verify(bigOrderTableServiceView).exportOrders(eq(new OrderPage().setSortBy("orderDate")),
+            eq(new OrderSearchCriteria()), eq(principal.getName()), eq(OrderExportFormat.XLSX),
+            any(OutputStream.class));
+    }
+
+    @Test
+    void exportOrdersResetsResponseWhenExportFailsBeforeCommitTest() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        OrderPage orderPage = new OrderPage();
+        OrderSearchCriteria orderSearchCriteria = new OrderSearchCriteria();
+        doThrow(new QueryTimeoutException("Timeout")).when(bigOrderTableServiceView).exportOrders(eq(orderPage),
+            eq(orderSearchCriteria), eq(principal.getName()), eq(OrderExportFormat.XLSX), any(OutputStream.class));
+
+        assertThrows(QueryTimeoutException.class, () -> managementOrderController.exportOrders(orderPage,
+            orderSearchCriteria, OrderExportFormat.XLSX, principal, response));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        assertNull(response.getContentType());
+    }
+
+    @Test
+    void rebuildOrdersTable() throws Exception {
+        when(bigOrderTableServiceView.rebuildOrderTable()).thenReturn(12L);
+
+        this.mockMvc.perform(post(ubsLink + "/bigOrderTable/rebuild"))
+            .andExpect(status().isOk());
+
+        verify(bigOrderTableServiceView).rebuildOrderTable();
+    }
+
     @Test
     void getOrderBagsInfo() throws Exception {
         this.mockMvc.perform(get(ubsLink + "/getOrderBagsInfo" + "/{id}", 1L))
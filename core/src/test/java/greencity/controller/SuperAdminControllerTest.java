@@ -30,6 +30,9 @@ import greencity.exceptions.service.ServiceAlreadyExistsException;
 import greencity.exceptions.tariff.TariffAlreadyExistsException;
 import greencity.filters.TariffsInfoFilterCriteria;
 import greencity.service.SuperAdminService;
+import greencity.service.locations.LocationCacheService;
+import greencity.service.ubs.ReferenceDataCacheService;
+import greencity.service.ubs.TariffRepricingService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -82,6 +85,15 @@ class SuperAdminControllerTest {
     @Mock
     SuperAdminService superAdminService;
 
+    @Mock
+    LocationCacheService locationCacheService;
+
+    @Mock
+    ReferenceDataCacheService referenceDataCacheService;
+
+    @Mock
+    TariffRepricingService tariffRepricingService;
+
     @Mock
     private Validator mockValidator;
 
@@ -229,6 +241,14 @@ class SuperAdminControllerTest {
         verifyNoMoreInteractions(superAdminService, userRemoteClient);
     }
 
+    @Test
+    void getTariffServiceRepricing() throws Exception {
+        mockMvc.perform(get(ubsLink + "/editTariffService/{id}/repricing", 1))
+            .andExpect(status().isOk());
+
+        verify(tariffRepricingService).getLatestJob(1);
+    }
+
     @Test
     void editTariffServiceNotFoundException() throws Exception {
         TariffServiceDto dto = ModelUtils.getTariffServiceDto();
@@ -1034,4 +1054,28 @@ class SuperAdminControllerTest {
         mockMvc.perform(patch(ubsLink + "/deactivateCourier/{id}", 1L)).andExpect(status().isOk());
         verify(superAdminService).deactivateCourier(1L);
     }
+
+    @Test
+    void getLocationCacheStatsTest() throws Exception {
+        mockMvc.perform(get(ubsLink + "/location-cache/stats")).andExpect(status().isOk());
+        verify(locationCacheService).getStats();
+    }
+
+    @Test
+    void invalidateLocationCacheTest() throws Exception {
+        mockMvc.perform(delete(ubsLink + "/location-cache")).andExpect(status().isOk());
+        verify(locationCacheService).invalidateAll();
+    }
+
+    @Test
+    void getReferenceDataCacheStatsTest() throws Exception {
+        mockMvc.perform(get(ubsLink + "/reference-data-cache/stats")).andExpect(status().isOk());
+        verify(referenceDataCacheService).getStats();
+    }
+
+    @Test
+    void invalidateReferenceDataCacheTest() throws Exception {
+        mockMvc.perform(delete(ubsLink + "/reference-data-cache")).andExpect(status().isOk());
+        verify(referenceDataCacheService).invalidateAll();
+    }
 }
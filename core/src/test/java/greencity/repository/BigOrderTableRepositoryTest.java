@@ -9,7 +9,9 @@ import greencity.enums.OrderPaymentStatusSortingTranslation;
 import greencity.enums.OrderStatus;
 import greencity.enums.OrderStatusSortingTranslation;
 import greencity.enums.PaymentStatus;
+import greencity.enums.TotalCountMode;
 import greencity.filters.DateFilter;
+import greencity.filters.OrderCursor;
 import greencity.filters.OrderPage;
 import greencity.filters.OrderSearchCriteria;
 import org.junit.jupiter.api.Assertions;
@@ -20,6 +22,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.chrono.ChronoLocalDate;
 import java.util.ArrayList;
@@ -35,6 +41,8 @@ import java.util.stream.Collectors;
 class BigOrderTableRepositoryTest extends IntegrationTestBase {
     @Autowired
     private BigOrderTableRepository bigOrderTableRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
     private static final String USER_LANGUAGE_ENG = "eng";
     private static final String USER_LANGUAGE_UA = "ua";
     private static final List<Long> TARIFFS_ID_LIST = Collections.singletonList(1L);
@@ -366,6 +374,47 @@ class BigOrderTableRepositoryTest extends IntegrationTestBase {
         Assertions.assertEquals(expectedValue, actualValue);
     }
 
+    @Test
+    void get_All_Orders_Search_by_Email_And_Certificate_Code_DESC() {
+        var filter = new OrderSearchCriteria().setSearch(new String[] {"MIGNOTEKKU@", "1212-1212"});
+        var expectedValue = ModelUtils.getAllBOTViewsDESC().stream()
+            .filter(order -> order.getClientEmail().equals("mignotekku@vusra.com")
+                || order.getOrderCertificateCode() != null && order.getOrderCertificateCode().contains("1212-1212"))
+            .collect(Collectors.toList());
+        var actualValue =
+            bigOrderTableRepository
+                .findAll(ORDER_PAGE_PAGE_NUMBER_0_PAGE_SIZE_12_DESC, filter, TARIFFS_ID_LIST, USER_LANGUAGE_ENG)
+                .getContent();
+        Assertions.assertEquals(expectedValue, actualValue);
+    }
+
+    @Test
+    void get_All_Orders_Search_Treats_Wildcards_Literally() {
+        var filter = new OrderSearchCriteria().setSearch(new String[] {"%", "_"});
+        var actualValue =
+            bigOrderTableRepository
+                .findAll(ORDER_PAGE_PAGE_NUMBER_0_PAGE_SIZE_12_DESC, filter, TARIFFS_ID_LIST, USER_LANGUAGE_ENG);
+        Assertions.assertTrue(actualValue.getContent().isEmpty());
+        Assertions.assertEquals(0, actualValue.getTotalElements());
+    }
+
+    @Test
+    void get_All_Orders_Search_Sort_By_Relevance_DESC() {
+        var orderPage = new OrderPage().setPageSize(12).setSortBy(OrderPage.RELEVANCE);
+        var filter = new OrderSearchCriteria().setSearch(new String[] {"Abu Dabi", "Odessa"});
+        var actualValue =
+            bigOrderTableRepository.findAll(orderPage, filter, TARIFFS_ID_LIST, USER_LANGUAGE_ENG).getContent();
+        Assertions.assertEquals(List.of(82L, 84L), actualValue.stream().map(BigOrderTableViews::getId).toList());
+    }
+
+    @Test
+    void get_All_Orders_Sort_By_Relevance_Without_Search_Sorts_By_Id() {
+        var orderPage = new OrderPage().setPageSize(12).setSortBy(OrderPage.RELEVANCE);
+        var actualValue = bigOrderTableRepository
+            .findAll(orderPage, DEFAULT_ORDER_SEARCH_CRITERIA, TARIFFS_ID_LIST, USER_LANGUAGE_ENG).getContent();
+        Assertions.assertEquals(ModelUtils.getAllBOTViewsDESC(), actualValue);
+    }
+
     @Test
     void get_All_Orders_Combination_Filter_DESC() {
         var filter = new OrderSearchCriteria()
@@ -468,6 +517,139 @@ class BigOrderTableRepositoryTest extends IntegrationTestBase {
         Assertions.assertTrue(isListCorrectlySorted);
     }
 
+    @Test
+    void get_Orders_By_Cursor_Sort_By_Id_ASC() {
+        var orderPage = new OrderPage().setPageSize(5).setSortBy("id").setSortDirection(Sort.Direction.ASC);
+
+        var actualValue = getAllPagesByCursor(orderPage, USER_LANGUAGE_ENG);
+
+        Assertions.assertEquals(ModelUtils.getAllBOTViewsASC(), actualValue);
+    }
+
+    @Test
+    void get_Orders_By_Cursor_Sort_By_Payment_Date_DESC() {
+        var orderPage =
+            new OrderPage().setPageSize(3).setSortBy("paymentDate").setSortDirection(Sort.Direction.DESC);
+        var expectedValue = ModelUtils.getAllBOTViewsASC().stream()
+            .sorted(Comparator.comparing(BigOrderTableViews::getPaymentDate,
+                Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+                .thenComparing(BigOrderTableViews::getId)
+                .reversed())
+            .toList();
+
+        var actualValue = getAllPagesByCursor(orderPage, USER_LANGUAGE_ENG);
+
+        Assertions.assertEquals(expectedValue, actualValue);
+    }
+
+    @Test
+    void get_Orders_By_Cursor_Sort_By_OrderStatus_UA_Localization_ASC() {
+        var orderPage = new OrderPage().setPageSize(2).setSortBy("orderStatus").setSortDirection(Sort.Direction.ASC);
+        var expectedValue = ModelUtils.getAllBOTViewsASC().stream()
+            .sorted(orderStatusTranslationComparator(false).thenComparing(BigOrderTableViews::getId))
+            .toList();
+
+        var actualValue = getAllPagesByCursor(orderPage, USER_LANGUAGE_UA);
+
+        Assertions.assertEquals(expectedValue, actualValue);
+    }
+
+    @Test
+    void get_Orders_By_Cursor_With_Non_Date_Value_For_Date_Sort_Throws_DateTimeException() {
+        var orderPage = new OrderPage().setPageSize(3).setSortBy("orderDate").setSortDirection(Sort.Direction.DESC);
+        var cursor = new OrderCursor("orderDate", Sort.Direction.DESC, 5L, "not-a-date");
+
+        Assertions.assertThrows(DateTimeException.class, () -> bigOrderTableRepository.findAllAfter(orderPage,
+            cursor, DEFAULT_ORDER_SEARCH_CRITERIA, TARIFFS_ID_LIST, USER_LANGUAGE_ENG));
+    }
+
+    @Test
+    void get_Orders_By_Cursor_Exact_Count_Only_On_First_Page() {
+        var orderPage = new OrderPage().setPageSize(5).setCountMode(TotalCountMode.EXACT);
+
+        var firstPage = bigOrderTableRepository.findAllAfter(orderPage, null, DEFAULT_ORDER_SEARCH_CRITERIA,
+            TARIFFS_ID_LIST, USER_LANGUAGE_ENG);
+        var secondPage = bigOrderTableRepository.findAllAfter(orderPage,
+            OrderCursor.decode(firstPage.getNextCursor()), DEFAULT_ORDER_SEARCH_CRITERIA, TARIFFS_ID_LIST,
+            USER_LANGUAGE_ENG);
+
+        Assertions.assertEquals(12L, firstPage.getTotalElements());
+        Assertions.assertFalse(firstPage.isApproximateTotal());
+        Assertions.assertNull(secondPage.getTotalElements());
+    }
+
+    @Test
+    void get_Orders_By_Cursor_Without_Count() {
+        var orderPage = new OrderPage().setPageSize(5).setCountMode(TotalCountMode.NONE);
+
+        var page = bigOrderTableRepository.findAllAfter(orderPage, null, DEFAULT_ORDER_SEARCH_CRITERIA,
+            TARIFFS_ID_LIST, USER_LANGUAGE_ENG);
+
+        Assertions.assertNull(page.getTotalElements());
+        Assertions.assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void get_Orders_By_Cursor_Approximate_Count_Falls_Back_To_Exact_With_Filters() {
+        var orderPage = new OrderPage().setPageSize(5).setCountMode(TotalCountMode.APPROXIMATE);
+        var filter = new OrderSearchCriteria().setOrderStatus(new OrderStatus[] {OrderStatus.FORMED});
+        var expectedValue = ModelUtils.getAllBOTViewsASC().stream()
+            .filter(a -> a.getOrderStatus().equals(OrderStatus.FORMED.name()))
+            .count();
+
+        var page = bigOrderTableRepository.findAllAfter(orderPage, null, filter, TARIFFS_ID_LIST,
+            USER_LANGUAGE_ENG);
+
+        Assertions.assertEquals(expectedValue, page.getTotalElements());
+        Assertions.assertFalse(page.isApproximateTotal());
+    }
+
+    @Test
+    void stream_All_Orders_Matches_Unpaged_Query_ASC() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        var actualValue = transactionTemplate.execute(status -> {
+            try (var orders = bigOrderTableRepository.streamAll(DEFAULT_ORDER_PAGE_ASC,
+                DEFAULT_ORDER_SEARCH_CRITERIA, TARIFFS_ID_LIST, USER_LANGUAGE_UA, 2)) {
+                return orders.toList();
+            }
+        });
+
+        Assertions.assertEquals(ModelUtils.getAllBOTViewsASC(), actualValue);
+    }
+
+    @Test
+    void stream_All_Orders_Filter_By_Order_Status_Is_Formed_DESC() {
+        var searchCriteria = new OrderSearchCriteria().setOrderStatus(new OrderStatus[] {OrderStatus.FORMED});
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        var actualValue = transactionTemplate.execute(status -> {
+            try (var orders = bigOrderTableRepository.streamAll(DEFAULT_ORDER_PAGE_DESC, searchCriteria,
+                TARIFFS_ID_LIST, USER_LANGUAGE_ENG, 2)) {
+                return orders.toList();
+            }
+        });
+
+        var expectedValue = ModelUtils.getAllBOTViewsDESC().stream()
+            .filter(a -> a.getOrderStatus().equals(OrderStatus.FORMED.name()))
+            .collect(Collectors.toList());
+        Assertions.assertEquals(expectedValue, actualValue);
+    }
+
+    private List<BigOrderTableViews> getAllPagesByCursor(OrderPage orderPage, String userLanguage) {
+        var result = new ArrayList<BigOrderTableViews>();
+        OrderCursor cursor = null;
+        do {
+            var page = bigOrderTableRepository.findAllAfter(orderPage, cursor, DEFAULT_ORDER_SEARCH_CRITERIA,
+                TARIFFS_ID_LIST, userLanguage);
+            Assertions.assertTrue(page.getContent().size() <= orderPage.getPageSize());
+            result.addAll(page.getContent());
+            cursor = page.getNextCursor() == null ? null : OrderCursor.decode(page.getNextCursor());
+        } while (cursor != null);
+        return result;
+    }
+
     private Comparator<BigOrderTableViews> orderStatusTranslationComparator(boolean descending) {
         Comparator<BigOrderTableViews> comparator = Comparator.comparingInt(
             view -> OrderStatusSortingTranslation.valueOf(view.getOrderStatus()).getSortOrder());
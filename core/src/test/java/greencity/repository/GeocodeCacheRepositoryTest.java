@@ -0,0 +1,67 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.UbsApplication;
+import greencity.entity.coords.Coordinates;
+import greencity.entity.coords.GeocodeCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+
+@Sql(scripts = "/sqlFiles/geocodeCache/insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sqlFiles/geocodeCache/delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = UbsApplication.class)
+class GeocodeCacheRepositoryTest extends IntegrationTestBase {
+    @Autowired
+    private GeocodeCacheRepository geocodeCacheRepository;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertIfAbsent_Keeps_First_Result() {
+        geocodeCacheRepository.insertIfAbsent("city:ukraine,kyiv:en", "{\"placeId\":\"first\"}");
+        geocodeCacheRepository.insertIfAbsent("city:ukraine,kyiv:en", "{\"placeId\":\"second\"}");
+
+        GeocodeCache cached = geocodeCacheRepository.findByCacheKey("city:ukraine,kyiv:en").orElseThrow();
+        Assertions.assertEquals("{\"placeId\":\"first\"}", cached.getResult());
+        Assertions.assertNotNull(cached.getCreatedAt());
+        Assertions.assertTrue(geocodeCacheRepository.findByCacheKey("city:ukraine,kyiv:uk").isEmpty());
+    }
+
+    @Test
+    void findCitiesOfAddressesWithoutCoordinates_Returns_Cities_In_Batches() {
+        Assertions.assertEquals(List.of("Bucha"),
+            addressRepository.findCitiesOfAddressesWithoutCoordinates("", PageRequest.of(0, 1)));
+        Assertions.assertEquals(List.of("Irpin"),
+            addressRepository.findCitiesOfAddressesWithoutCoordinates("Bucha", PageRequest.of(0, 1)));
+        Assertions.assertEquals(List.of(),
+            addressRepository.findCitiesOfAddressesWithoutCoordinates("Irpin", PageRequest.of(0, 1)));
+    }
+
+    @Test
+    void updateMissingCoordinatesByCityEn_Updates_Only_Addresses_Without_Coordinates() {
+        Assertions.assertEquals(2, addressRepository.updateMissingCoordinatesByCityEn("Bucha", 50.54, 30.21));
+        Assertions.assertEquals(1, addressRepository.updateMissingCoordinatesByCityEn("Irpin", 50.52, 30.25));
+        Assertions.assertEquals(0, addressRepository.updateMissingCoordinatesByCityEn("Kyiv", 1, 1));
+        entityManager.clear();
+
+        Assertions.assertEquals(new Coordinates(50.54, 30.21),
+            addressRepository.findById(9003L).orElseThrow().getCoordinates());
+        Assertions.assertEquals(new Coordinates(50.52, 30.25),
+            addressRepository.findById(9004L).orElseThrow().getCoordinates());
+        Assertions.assertEquals(new Coordinates(50.4465095, 30.510173),
+            addressRepository.findById(9001L).orElseThrow().getCoordinates());
+        Assertions.assertEquals(List.of(),
+            addressRepository.findCitiesOfAddressesWithoutCoordinates("", PageRequest.of(0, 10)));
+    }
+}
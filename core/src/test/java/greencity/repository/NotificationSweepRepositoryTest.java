@@ -0,0 +1,96 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.UbsApplication;
+import greencity.entity.notifications.UserNotification;
+import greencity.entity.order.Order;
+import greencity.entity.user.User;
+import greencity.enums.EventCode;
+import greencity.enums.NotificationType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Sql(scripts = "/sqlFiles/bigOrderTableRepository/insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sqlFiles/bigOrderTableRepository/delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = UbsApplication.class)
+class NotificationSweepRepositoryTest extends IntegrationTestBase {
+    @Autowired
+    private NotificationSweepRepository notificationSweepRepository;
+    @Autowired
+    private UserNotificationBatchRepository userNotificationBatchRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private static final LocalDateTime NOTIFICATION_TIME = LocalDateTime.of(2022, 2, 1, 10, 30);
+
+    @Test
+    void findLastNotificationTimes_Returns_Latest_Time_Of_Given_Types() {
+        userNotificationBatchRepository.saveAll(List.of(
+            createNotification(83L, NotificationType.UNPAID_PACKAGE, NOTIFICATION_TIME),
+            createNotification(83L, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER, NOTIFICATION_TIME.plusDays(2)),
+            createNotification(83L, NotificationType.UNPAID_ORDER, NOTIFICATION_TIME.plusDays(5)),
+            createNotification(84L, NotificationType.UNPAID_ORDER, NOTIFICATION_TIME)));
+
+        var lastNotificationTimes = notificationSweepRepository.findLastNotificationTimes(List.of(83L, 84L, 85L),
+            List.of(NotificationType.UNPAID_PACKAGE, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER));
+
+        Assertions.assertEquals(Map.of(83L, NOTIFICATION_TIME.plusDays(2)), lastNotificationTimes);
+    }
+
+    @Test
+    void findPaidAmounts_Sums_Only_Paid_Payments() {
+        var paidAmounts = notificationSweepRepository.findPaidAmounts(List.of(82L, 83L, 87L, 90L));
+
+        Assertions.assertEquals(Map.of(82L, 60000L, 83L, 45000L, 87L, 10000L), paidAmounts);
+    }
+
+    @Test
+    void findCertificatePoints_Sums_Points_Of_Order_Certificates() {
+        var certificatePoints = notificationSweepRepository.findCertificatePoints(List.of(83L, 86L, 87L, 90L));
+
+        Assertions.assertEquals(Map.of(86L, 500L, 87L, 1900L, 90L, 2000L), certificatePoints);
+    }
+
+    @Test
+    void countEvents_Counts_Events_With_Given_Codes_By_Order() {
+        jdbcTemplate.update("INSERT INTO events (order_id, event_date, event_name, author, code) VALUES "
+            + "(83, now(), 'first', 'author', 'ORDER_CONFIRMED'), (83, now(), 'second', 'author', 'ORDER_DONE'), "
+            + "(83, now(), 'third', 'author', 'ORDER_ON_THE_ROUTE'), (84, now(), 'fourth', 'author', 'ORDER_DONE'), "
+            + "(85, now(), 'fifth', 'author', 'ORDER_CONFIRMED')");
+
+        var eventCounts = notificationSweepRepository.countEvents(List.of(83L, 84L),
+            List.of(EventCode.ORDER_CONFIRMED, EventCode.ORDER_ON_THE_ROUTE));
+
+        Assertions.assertEquals(Map.of(83L, 2L), eventCounts);
+    }
+
+    @Test
+    void finders_Return_Empty_Maps_For_Empty_Batch() {
+        Assertions.assertTrue(notificationSweepRepository
+            .findLastNotificationTimes(Collections.emptyList(), List.of(NotificationType.UNPAID_ORDER)).isEmpty());
+        Assertions.assertTrue(notificationSweepRepository.findPaidAmounts(Collections.emptyList()).isEmpty());
+        Assertions.assertTrue(notificationSweepRepository.findCertificatePoints(Collections.emptyList()).isEmpty());
+        Assertions.assertTrue(notificationSweepRepository
+            .countEvents(Collections.emptyList(), List.of(EventCode.ORDER_CONFIRMED)).isEmpty());
+    }
+
+    private UserNotification createNotification(Long orderId, NotificationType notificationType,
+        LocalDateTime notificationTime) {
+        var notification = new UserNotification();
+        notification.setUser(User.builder().id(345L).build());
+        notification.setOrder(Order.builder().id(orderId).build());
+        notification.setNotificationType(notificationType);
+        notification.setNotificationTime(notificationTime);
+        return notification;
+    }
+}
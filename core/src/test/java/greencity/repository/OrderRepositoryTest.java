@@ -0,0 +1,180 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.UbsApplication;
+import greencity.entity.order.Order;
+import greencity.enums.EventCode;
+import greencity.enums.OrderPaymentStatus;
+import greencity.enums.OrderStatus;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Sql(scripts = "/sqlFiles/bigOrderTableRepository/insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sqlFiles/bigOrderTableRepository/delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = UbsApplication.class)
+class OrderRepositoryTest extends IntegrationTestBase {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderBagRepository orderBagRepository;
+    @Autowired
+    private BagRepository bagRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional
+    void lockOrders_Locks_Only_Free_Expired_Or_Own_Orders() {
+        var locked = orderRepository.lockOrders(List.of(82L, 83L, 999L), 2L, NOW, NOW.minusMinutes(5));
+        Assertions.assertEquals(Set.of(82L, 83L), new HashSet<>(locked));
+
+        // order 84 is locked by employee 10 without a lease time
+        Assertions.assertEquals(List.of(),
+            orderRepository.lockOrders(List.of(82L, 84L), 3L, NOW.plusMinutes(1), NOW.minusMinutes(4)));
+        Assertions.assertEquals(List.of(82L),
+            orderRepository.lockOrders(List.of(82L), 2L, NOW.plusMinutes(1), NOW.minusMinutes(4)));
+        Assertions.assertEquals(List.of(83L),
+            orderRepository.lockOrders(List.of(83L), 3L, NOW.plusMinutes(6), NOW.plusMinutes(1)));
+    }
+
+    @Test
+    @Transactional
+    void findLockedOrderIds_Skips_Expired_Locks() {
+        orderRepository.lockOrders(List.of(82L), 2L, NOW, NOW.minusMinutes(5));
+        orderRepository.lockOrders(List.of(83L), 2L, NOW.minusMinutes(10), NOW.minusMinutes(15));
+
+        Assertions.assertEquals(Set.of(82L, 84L),
+            new HashSet<>(orderRepository.findLockedOrderIds(List.of(82L, 83L, 84L, 85L), NOW.minusMinutes(5))));
+    }
+
+    @Test
+    @Transactional
+    void unlockOrders_Unlocks_Only_Orders_Of_Employee() {
+        orderRepository.lockOrders(List.of(82L, 83L), 2L, NOW, NOW.minusMinutes(5));
+
+        Assertions.assertEquals(List.of(), orderRepository.unlockOrders(List.of(82L, 84L), 3L));
+        Assertions.assertEquals(Set.of(82L, 83L),
+            new HashSet<>(orderRepository.unlockOrders(List.of(82L, 83L, 84L), 2L)));
+        Assertions.assertEquals(Set.of(84L),
+            new HashSet<>(orderRepository.findLockedOrderIds(List.of(82L, 83L, 84L), NOW.minusMinutes(5))));
+    }
+
+    @Test
+    @Transactional
+    void findOrderForStatusPage_Fetches_Order_Graph() {
+        Order order = orderRepository.findOrderForStatusPage(82L).orElseThrow();
+
+        Assertions.assertTrue(Hibernate.isInitialized(order.getUser()));
+        Assertions.assertTrue(Hibernate.isInitialized(order.getUbsUser()));
+        Assertions.assertTrue(Hibernate.isInitialized(order.getTariffsInfo()));
+        Assertions.assertTrue(Hibernate.isInitialized(order.getOrderBags()));
+        Assertions.assertEquals(3, order.getOrderBags().size());
+        Assertions.assertTrue(orderRepository.findOrderForStatusPage(999L).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void lockUnpaidOrderIdsByBagId_Returns_Chunks_In_Order_Of_Ids() {
+        Assertions.assertEquals(List.of(84L, 85L), orderRepository.lockUnpaidOrderIdsByBagId(2, 0L, 2));
+        Assertions.assertEquals(List.of(89L), orderRepository.lockUnpaidOrderIdsByBagId(2, 85L, 2));
+        Assertions.assertEquals(List.of(), orderRepository.lockUnpaidOrderIdsByBagId(2, 89L, 2));
+    }
+
+    @Test
+    @Transactional
+    void updateSumTotalAmountWithoutDiscounts_Uses_Actual_Quantities_And_Bag_Prices() {
+        List<Long> ids = List.of(84L, 87L, 89L, 90L);
+        for (int bagId = 1; bagId <= 3; bagId++) {
+            orderBagRepository.updateBagDataByOrderIds(bagId, ids);
+        }
+        long first = bagRepository.findById(1).orElseThrow().getFullPrice();
+        long second = bagRepository.findById(2).orElseThrow().getFullPrice();
+        long third = bagRepository.findById(3).orElseThrow().getFullPrice();
+
+        Assertions.assertEquals(4, orderRepository.updateSumTotalAmountWithoutDiscounts(ids));
+
+        Assertions.assertEquals(4 * second, getSumTotalAmountWithoutDiscounts(84L));
+        Assertions.assertEquals(5 * (first + second + third), getSumTotalAmountWithoutDiscounts(87L));
+        Assertions.assertEquals(2 * first + second + third, getSumTotalAmountWithoutDiscounts(89L));
+        Assertions.assertEquals(6 * first + 8 * second + 6 * third, getSumTotalAmountWithoutDiscounts(90L));
+        Assertions.assertEquals(600L, getSumTotalAmountWithoutDiscounts(85L));
+    }
+
+    @Test
+    @Transactional
+    void findAllWithEventCodesWithoutEventCodes_Returns_Orders_With_Only_Given_Events() {
+        insertEvents(82L, EventCode.ADD_VIOLATION);
+        insertEvents(83L, EventCode.ADD_VIOLATION, EventCode.CHANGES_VIOLATION);
+        insertEvents(84L, EventCode.ADD_VIOLATION, EventCode.ADD_VIOLATION, EventCode.ORDER_FORMED);
+        insertEvents(85L, EventCode.DELETE_VIOLATION);
+
+        var orders = orderRepository.findAllWithEventCodesWithoutEventCodes(List.of(EventCode.ADD_VIOLATION),
+            List.of(EventCode.CHANGES_VIOLATION, EventCode.DELETE_VIOLATION));
+
+        Assertions.assertEquals(List.of(82L, 84L), getSortedIds(orders));
+        Assertions.assertFalse(Hibernate.isInitialized(orders.getFirst().getEvents()));
+        Assertions.assertEquals(List.of(85L),
+            getSortedIds(orderRepository.findAllWithEventCodes(List.of(EventCode.DELETE_VIOLATION))));
+    }
+
+    @Test
+    @Transactional
+    void findAllByOrderStatusWithoutEventCodes_Skips_Orders_With_Excluded_Events() {
+        insertEvents(84L, EventCode.ORDER_FORMED, EventCode.ORDER_CONFIRMED);
+        insertEvents(85L, EventCode.ORDER_FORMED);
+
+        var orders = orderRepository.findAllByOrderStatusWithoutEventCodes(OrderStatus.FORMED,
+            List.of(EventCode.ORDER_ADJUSTMENT, EventCode.ORDER_CONFIRMED));
+
+        Assertions.assertEquals(List.of(85L, 89L, 91L, 92L), getSortedIds(orders));
+    }
+
+    @Test
+    @Transactional
+    void findAllByEventCount_Counts_Only_Events_With_Given_Codes() {
+        List<EventCode> codes = List.of(EventCode.ORDER_ADJUSTMENT, EventCode.ORDER_CONFIRMED,
+            EventCode.ORDER_ON_THE_ROUTE, EventCode.ORDER_NOT_TAKEN_OUT);
+        jdbcTemplate.update("UPDATE orders SET order_status = 'DONE' WHERE id IN (84, 85)");
+        insertEvents(84L, EventCode.ORDER_FORMED, EventCode.ORDER_ADJUSTMENT, EventCode.ORDER_CONFIRMED,
+            EventCode.ORDER_ON_THE_ROUTE);
+        insertEvents(85L, EventCode.ORDER_CONFIRMED);
+
+        Assertions.assertEquals(List.of(84L), getSortedIds(orderRepository
+            .findAllByPaymentStatusesAndOrderStatusesWithEventCount(
+                List.of(OrderPaymentStatus.UNPAID, OrderPaymentStatus.HALF_PAID),
+                List.of(OrderStatus.DONE, OrderStatus.CANCELED), codes, 3L)));
+        Assertions.assertEquals(List.of(85L, 89L), getSortedIds(orderRepository
+            .findAllByOrderPaymentStatusWithoutEventCount(OrderPaymentStatus.UNPAID,
+                List.of(OrderStatus.DONE, OrderStatus.CANCELED), codes, 3L)));
+    }
+
+    private void insertEvents(Long orderId, EventCode... codes) {
+        for (EventCode code : codes) {
+            jdbcTemplate.update("INSERT INTO events (order_id, event_date, event_name, author, code) "
+                + "VALUES (?, now(), ?, 'author', ?)", orderId, code.name(), code.name());
+        }
+    }
+
+    private List<Long> getSortedIds(List<Order> orders) {
+        return orders.stream().map(Order::getId).sorted().toList();
+    }
+
+    private Long getSumTotalAmountWithoutDiscounts(Long orderId) {
+        return orderRepository.findById(orderId).orElseThrow().getSumTotalAmountWithoutDiscounts();
+    }
+}
@@ -0,0 +1,63 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.UbsApplication;
+import greencity.entity.order.PaymentCallback;
+import greencity.enums.PaymentCallbackStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = UbsApplication.class)
+class PaymentCallbackRepositoryTest extends IntegrationTestBase {
+    @Autowired
+    private PaymentCallbackRepository paymentCallbackRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertIfAbsent_Skips_Repeated_Callback() {
+        List<Long> approved = paymentCallbackRepository.insertIfAbsent("9001_1", "Approved", 9001L, "{}");
+        List<Long> repeated = paymentCallbackRepository.insertIfAbsent("9001_1", "Approved", 9001L, "{}");
+        List<Long> declined = paymentCallbackRepository.insertIfAbsent("9001_1", "Declined", 9001L, "{}");
+
+        Assertions.assertEquals(1, approved.size());
+        Assertions.assertEquals(List.of(), repeated);
+        Assertions.assertEquals(1, declined.size());
+        PaymentCallback callback = paymentCallbackRepository.findById(approved.getFirst()).orElseThrow();
+        Assertions.assertEquals(PaymentCallbackStatus.NEW, callback.getStatus());
+        Assertions.assertEquals(0, callback.getAttempts());
+        Assertions.assertNotNull(callback.getReceivedAt());
+    }
+
+    @Test
+    void lockPending_Returns_Only_Callbacks_To_Apply() {
+        Long pendingId = paymentCallbackRepository.insertIfAbsent("9001_1", "Approved", 9001L, "{}").getFirst();
+        Long processedId = paymentCallbackRepository.insertIfAbsent("9001_2", "Approved", 9001L, "{}").getFirst();
+        Long exhaustedId = paymentCallbackRepository.insertIfAbsent("9001_3", "Approved", 9001L, "{}").getFirst();
+        PaymentCallback processed = paymentCallbackRepository.findById(processedId).orElseThrow();
+        processed.setStatus(PaymentCallbackStatus.PROCESSED);
+        PaymentCallback exhausted = paymentCallbackRepository.findById(exhaustedId).orElseThrow();
+        exhausted.setStatus(PaymentCallbackStatus.FAILED);
+        exhausted.setAttempts(5);
+        entityManager.flush();
+        entityManager.clear();
+
+        Assertions.assertTrue(paymentCallbackRepository.lockPending(pendingId, 5).isPresent());
+        Assertions.assertTrue(paymentCallbackRepository.lockPending(processedId, 5).isEmpty());
+        Assertions.assertTrue(paymentCallbackRepository.lockPending(exhaustedId, 5).isEmpty());
+        Assertions.assertEquals(List.of(pendingId),
+            paymentCallbackRepository.findPending(LocalDateTime.now().plusMinutes(1), 5, 10).stream()
+                .map(PaymentCallback::getId)
+                .toList());
+    }
+}
@@ -0,0 +1,90 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.UbsApplication;
+import greencity.entity.notifications.NotificationParameter;
+import greencity.entity.notifications.UserNotification;
+import greencity.entity.order.Order;
+import greencity.entity.user.User;
+import greencity.enums.NotificationType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Sql(scripts = "/sqlFiles/bigOrderTableRepository/insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sqlFiles/bigOrderTableRepository/delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = UbsApplication.class)
+class UserNotificationBatchRepositoryTest extends IntegrationTestBase {
+    @Autowired
+    private UserNotificationBatchRepository userNotificationBatchRepository;
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+    private static final LocalDateTime NOTIFICATION_TIME = LocalDateTime.of(2022, 2, 1, 10, 30);
+
+    @Test
+    void saveAll_Inserts_Notifications_With_Parameters() {
+        var orderNotification = createNotification(User.builder().id(345L).build(), Order.builder().id(83L).build(),
+            NotificationType.UNPAID_ORDER, Map.of("orderNumber", "83", "amountToPay", "10.00"));
+        var customNotification = createNotification(User.builder().id(6L).build(), null,
+            NotificationType.CUSTOM, Map.of());
+        customNotification.setTemplateId(7L);
+
+        userNotificationBatchRepository.saveAll(List.of(orderNotification, customNotification));
+
+        Assertions.assertNotNull(orderNotification.getId());
+        Assertions.assertNotNull(customNotification.getId());
+        Assertions.assertNotEquals(orderNotification.getId(), customNotification.getId());
+
+        var savedOrderNotification = userNotificationRepository.findById(orderNotification.getId()).orElseThrow();
+        Assertions.assertEquals(NotificationType.UNPAID_ORDER, savedOrderNotification.getNotificationType());
+        Assertions.assertEquals(345L, savedOrderNotification.getUser().getId());
+        Assertions.assertEquals(83L, savedOrderNotification.getOrder().getId());
+        Assertions.assertEquals(NOTIFICATION_TIME, savedOrderNotification.getNotificationTime());
+        Assertions.assertFalse(savedOrderNotification.isRead());
+        Assertions.assertEquals(Set.of("orderNumber=83", "amountToPay=10.00"),
+            savedOrderNotification.getParameters().stream()
+                .map(parameter -> parameter.getKey() + "=" + parameter.getValue())
+                .collect(Collectors.toSet()));
+
+        var savedCustomNotification = userNotificationRepository.findById(customNotification.getId()).orElseThrow();
+        Assertions.assertNull(savedCustomNotification.getOrder());
+        Assertions.assertEquals(7L, savedCustomNotification.getTemplateId());
+        Assertions.assertTrue(savedCustomNotification.getParameters().isEmpty());
+    }
+
+    @Test
+    void saveAll_Does_Nothing_For_Empty_List() {
+        long count = userNotificationRepository.count();
+
+        userNotificationBatchRepository.saveAll(List.of());
+
+        Assertions.assertEquals(count, userNotificationRepository.count());
+    }
+
+    private UserNotification createNotification(User user, Order order, NotificationType notificationType,
+        Map<String, String> parameters) {
+        var notification = new UserNotification();
+        notification.setUser(user);
+        notification.setOrder(order);
+        notification.setNotificationType(notificationType);
+        notification.setNotificationTime(NOTIFICATION_TIME);
+        notification.setParameters(parameters.entrySet().stream()
+            .map(e -> NotificationParameter.builder()
+                .key(e.getKey())
+                .value(e.getValue())
+                .userNotification(notification)
+                .build())
+            .collect(Collectors.toSet()));
+        return notification;
+    }
+}
@@ -0,0 +1,83 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.UbsApplication;
+import greencity.dto.UserTableRowDto;
+import greencity.enums.SortingOrder;
+import greencity.filters.CustomerPage;
+import greencity.filters.UserFilterCriteria;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Sql(scripts = "/sqlFiles/userTableRepo/insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sqlFiles/userTableRepo/delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = UbsApplication.class)
+class UserTableRepoTest extends IntegrationTestBase {
+    private static final long EMPLOYEE_ID = 9001L;
+    private static final long EMPLOYEE_OF_ALL_TARIFFS_ID = 1L;
+
+    @Autowired
+    private UserTableRepo userTableRepo;
+
+    @Test
+    void findAll_Returns_Users_With_Orders_In_Employee_Tariffs() {
+        Page<UserTableRowDto> page = userTableRepo.findAll(new UserFilterCriteria(), "number_of_orders",
+            SortingOrder.DESC, new CustomerPage(0, 10), EMPLOYEE_ID);
+
+        Assertions.assertEquals(2, page.getTotalElements());
+        Assertions.assertEquals(List.of(9003L, 9001L), page.getContent().stream().map(UserTableRowDto::getId).toList());
+        UserTableRowDto ivan = page.getContent().get(1);
+        Assertions.assertEquals(2L, ivan.getNumberOfOrders());
+        Assertions.assertEquals(LocalDateTime.of(2024, 3, 5, 10, 0), ivan.getLastOrderDate());
+        Assertions.assertEquals("Ivanov", ivan.getRecipientSurname());
+        Assertions.assertEquals(10, ivan.getCurrentPoints());
+        UserTableRowDto olena = page.getContent().getFirst();
+        Assertions.assertEquals(2L, olena.getNumberOfOrders());
+        Assertions.assertEquals(LocalDateTime.of(2024, 4, 1, 10, 0), olena.getLastOrderDate());
+    }
+
+    @Test
+    void findAll_Counts_All_Matching_Users_In_Database() {
+        Page<UserTableRowDto> page = userTableRepo.findAll(new UserFilterCriteria(), "orderDate",
+            SortingOrder.ASC, new CustomerPage(1, 2), EMPLOYEE_OF_ALL_TARIFFS_ID);
+
+        Assertions.assertEquals(3, page.getTotalElements());
+        Assertions.assertEquals(2, page.getTotalPages());
+        Assertions.assertEquals(List.of(9003L), page.getContent().stream().map(UserTableRowDto::getId).toList());
+    }
+
+    @Test
+    void findAll_Filters_By_Aggregates() {
+        UserFilterCriteria criteria = UserFilterCriteria.builder()
+            .numberOfOrders(new String[] {"2"})
+            .orderDate(new String[] {"2024-01-01", "2024-03-31"})
+            .build();
+
+        Page<UserTableRowDto> page = userTableRepo.findAll(criteria, null, SortingOrder.ASC,
+            new CustomerPage(0, 1), EMPLOYEE_OF_ALL_TARIFFS_ID);
+
+        Assertions.assertEquals(1, page.getTotalElements());
+        Assertions.assertEquals(List.of(9001L), page.getContent().stream().map(UserTableRowDto::getId).toList());
+    }
+
+    @Test
+    void findAll_Searches_Users() {
+        UserFilterCriteria criteria = UserFilterCriteria.builder()
+            .search("olena")
+            .build();
+
+        Page<UserTableRowDto> page = userTableRepo.findAll(criteria, "recipientEmail", SortingOrder.ASC,
+            new CustomerPage(0, 10), EMPLOYEE_OF_ALL_TARIFFS_ID);
+
+        Assertions.assertEquals(List.of(9003L), page.getContent().stream().map(UserTableRowDto::getId).toList());
+    }
+}
@@ -3,14 +3,12 @@ package greencity.security.filters;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Optional;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -23,10 +21,13 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import greencity.client.UserRemoteClient;
-import greencity.dto.user.UserVO;
+import org.springframework.security.core.context.SecurityContextHolder;
+import greencity.dto.user.UserPrincipalVO;
 import greencity.security.JwtTool;
+import greencity.service.user.UserPrincipalCacheService;
 import io.jsonwebtoken.ExpiredJwtException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -43,7 +44,7 @@ class AccessTokenAuthenticationFilterTest {
     @Mock
     ProviderManager providerManager;
     @Mock
-    UserRemoteClient userRemoteClient;
+    UserPrincipalCacheService userPrincipalCacheService;
 
     HttpServletRequest request = new MockHttpServletRequest();
 
@@ -64,22 +65,37 @@ class AccessTokenAuthenticationFilterTest {
     @AfterEach
     void restoreSystemOutStream() {
         System.setOut(systemOut);
+        SecurityContextHolder.clearContext();
     }
 
     @Test
-    @Disabled
     void doFilterInternalTest() throws IOException, ServletException {
+        UserPrincipalVO user = new UserPrincipalVO("test@mail.com", "uuid", true);
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn("SuperSecretAccessToken");
         when(providerManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(userRemoteClient.findNotDeactivatedByEmail("test@mail.com"))
-            .thenReturn(Optional.of(UserVO.builder().id(1L).build()));
+        when(userPrincipalCacheService.getPrincipal("test@mail.com")).thenReturn(user);
 
         authenticationFilter.doFilterInternal(request, response, chain);
 
+        assertEquals(user, SecurityContextHolder.getContext().getAuthentication().getDetails());
         verify(jwtTool).getTokenFromHttpServletRequest(request);
         verify(providerManager).authenticate(any());
-        verify(userRemoteClient).findNotDeactivatedByEmail("test@mail.com");
+        verify(userPrincipalCacheService).getPrincipal("test@mail.com");
+    }
+
+    @Test
+    void doFilterInternalDeactivatedUserTest() throws IOException, ServletException {
+        when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn("SuperSecretAccessToken");
+        when(providerManager.authenticate(any()))
+            .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
+        when(userPrincipalCacheService.getPrincipal("test@mail.com"))
+            .thenReturn(new UserPrincipalVO("test@mail.com", null, false));
+
+        authenticationFilter.doFilterInternal(request, response, chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userPrincipalCacheService).getPrincipal("test@mail.com");
     }
 
     @Test
@@ -100,13 +116,12 @@ class AccessTokenAuthenticationFilterTest {
     }
 
     @Test
-    @Disabled
     void doFilterInternalAccessDeniedTest() throws IOException, ServletException {
         String token = "SuperSecretAccessToken";
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn(token);
         when(providerManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(userRemoteClient.findNotDeactivatedByEmail("test@mail.com")).thenThrow(RuntimeException.class);
+        when(userPrincipalCacheService.getPrincipal("test@mail.com")).thenThrow(RuntimeException.class);
 
         authenticationFilter.doFilterInternal(request, response, chain);
 
@@ -114,6 +129,6 @@ class AccessTokenAuthenticationFilterTest {
 
         verify(jwtTool).getTokenFromHttpServletRequest(request);
         verify(providerManager).authenticate(any());
-        verify(userRemoteClient).findNotDeactivatedByEmail("test@mail.com");
+        verify(userPrincipalCacheService).getPrincipal("test@mail.com");
     }
 }
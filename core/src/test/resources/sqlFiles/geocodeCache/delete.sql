@@ -0,0 +1,3 @@
+delete from geocode_cache;
+delete from address where id between 9001 and 9005;
+delete from users where id = 9001;
@@ -0,0 +1,16 @@
+INSERT INTO public.users (id, current_points, uuid, violations, recipient_name, recipient_surname, recipient_email, recipient_phone,
+                          last_order_location, date_of_registration)
+VALUES (9001, 0, 'a3669bb0-842d-11ec-a8a3-0242ac120002', 0, 'Ivan', 'Ivanov', 'ivan@gmail.com', '+380981099667', 1, null);
+
+INSERT INTO public.address (id, city, address_comment, latitude, longitude, district, entrance_number, house_corpus,
+                            house_number, street, actual, user_id, status, region, city_en, region_en, street_en, district_en)
+VALUES (9001, 'Київ', '', 50.4465095, 30.510173, 'Шевченківський', '2', '44', '3', 'Богдана Хмельницького вулиця', true, 9001,
+        'IN_ORDER', 'Київська область', 'Kyiv', 'Kyiv region', 'Bohdana Khmelnytskoho Street', 'Shevchenkivskyi'),
+       (9002, 'Буча', '', 0, 0, 'Бучанський', '1', '1', '1', 'Вокзальна вулиця', false, 9001,
+        'NEW', 'Київська область', 'Bucha', 'Kyiv region', 'Vokzalna Street', 'Buchanskyi'),
+       (9003, 'Буча', '', 0, 0, 'Бучанський', '1', '1', '2', 'Вокзальна вулиця', false, 9001,
+        'IN_ORDER', 'Київська область', 'Bucha', 'Kyiv region', 'Vokzalna Street', 'Buchanskyi'),
+       (9004, 'Ірпінь', '', null, null, 'Бучанський', '1', '1', '3', 'Соборна вулиця', false, 9001,
+        'NEW', 'Київська область', 'Irpin', 'Kyiv region', 'Soborna Street', 'Buchanskyi'),
+       (9005, 'Бровари', '', 0, 0, 'Броварський', '1', '1', '4', 'Київська вулиця', false, 9001,
+        'DELETED', 'Київська область', 'Brovary', 'Kyiv region', 'Kyivska Street', 'Brovarskyi');
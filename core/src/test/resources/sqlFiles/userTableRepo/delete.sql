@@ -0,0 +1,4 @@
+delete from orders where id between 9001 and 9005;
+delete from tariff_infos_receiving_employee_mapping where employee_id = 9001;
+delete from employees where id = 9001;
+delete from users where id between 9001 and 9004;
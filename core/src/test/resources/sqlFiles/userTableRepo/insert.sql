@@ -0,0 +1,19 @@
+INSERT INTO public.users (id, current_points, uuid, violations, recipient_name, recipient_surname, recipient_email, recipient_phone,
+                          date_of_registration)
+VALUES (9001, 10, 'b3669bb0-842d-11ec-a8a3-0242ac120001', 0, 'Ivan', 'Ivanov', 'ivan@gmail.com', '981099667', '2022-01-05'),
+       (9002, 20, 'b3669bb0-842d-11ec-a8a3-0242ac120002', 1, 'Petro', 'Petrov', 'petro@gmail.com', '+380981099668', '2022-02-05'),
+       (9003, 30, 'b3669bb0-842d-11ec-a8a3-0242ac120003', 2, 'Olena', 'Shevchenko', 'olena@gmail.com', '+380981099669', '2022-03-05'),
+       (9004, 40, 'b3669bb0-842d-11ec-a8a3-0242ac120004', 0, 'Taras', 'Bondar', 'taras@gmail.com', '+380981099670', '2022-04-05');
+
+INSERT INTO public.employees (id, first_name, last_name, phone_number, email, status)
+VALUES (9001, 'Anna', 'Koval', '+380981099671', 'anna@gmail.com', 'ACTIVE');
+
+INSERT INTO public.tariff_infos_receiving_employee_mapping (employee_id, tariffs_info_id)
+VALUES (9001, 1);
+
+INSERT INTO public.orders (id, order_status, users_id, tariffs_info_id, order_date)
+VALUES (9001, 'FORMED', 9001, 1, '2024-01-10 10:00:00'),
+       (9002, 'FORMED', 9001, 1, '2024-03-05 10:00:00'),
+       (9003, 'FORMED', 9002, 2, '2024-02-01 10:00:00'),
+       (9004, 'FORMED', 9003, 2, '2024-04-01 10:00:00'),
+       (9005, 'FORMED', 9003, 1, '2024-01-20 10:00:00');
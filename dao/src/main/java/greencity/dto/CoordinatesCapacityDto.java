@@ -0,0 +1,16 @@
+package greencity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoordinatesCapacityDto {
+    private Double latitude;
+    private Double longitude;
+    private Long capacity;
+}
@@ -0,0 +1,25 @@
+package greencity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTableRowDto {
+    private Long id;
+    private String recipientName;
+    private String recipientSurname;
+    private String recipientEmail;
+    private String recipientPhone;
+    private Integer violations;
+    private Integer currentPoints;
+    private LocalDate dateOfRegistration;
+    private Long numberOfOrders;
+    private LocalDateTime lastOrderDate;
+}
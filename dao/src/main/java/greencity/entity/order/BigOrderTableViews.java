@@ -3,10 +3,13 @@ package greencity.entity.order;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDate;
 
 @Data
@@ -62,4 +65,8 @@ public class BigOrderTableViews {
     private Boolean isBlocked;
     private String blockedBy;
     private Long tariffsInfoId;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Column(insertable = false, updatable = false)
+    private String searchText;
 }
@@ -1,7 +1,10 @@
 package greencity.entity.order;
 
+import greencity.enums.EventCode;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
@@ -41,6 +44,10 @@ public class Event {
     @Column(name = "author_eng", nullable = false)
     private String authorNameEng;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "code", nullable = false)
+    private EventCode code;
+
     @ManyToOne
     private Order order;
 }
@@ -0,0 +1,38 @@
+package greencity.enums;
+
+public enum EventCode {
+    ORDER_FORMED,
+    ORDER_ADJUSTMENT,
+    ORDER_CONFIRMED,
+    ORDER_ON_THE_ROUTE,
+    ORDER_DONE,
+    ORDER_NOT_TAKEN_OUT,
+    ORDER_CANCELLED,
+    ORDER_BROUGHT_IT_HIMSELF,
+    ORDER_PAID,
+    ORDER_HALF_PAID,
+    ASSIGN_DRIVER,
+    ASSIGN_LOGIEST,
+    ASSIGN_CALL_MANAGER,
+    ASSIGN_CALL_PILOT,
+    UPDATE_MANAGER_CALL,
+    UPDATE_MANAGER_LOGIEST,
+    UPDATE_MANAGER_CALL_PILOT,
+    UPDATE_MANAGER_DRIVER,
+    ADD_VIOLATION,
+    CHANGES_VIOLATION,
+    DELETE_VIOLATION,
+    ADDED_BONUSES,
+    CHANGED_SENDER,
+    ADD_ADMIN_COMMENT,
+    ADD_PAYMENT_SYSTEM,
+    ADD_PAYMENT_MANUALLY,
+    UPDATE_PAYMENT_MANUALLY,
+    DELETE_PAYMENT_MANUALLY,
+    ADD_NEW_ECO_NUMBER,
+    DELETED_ECO_NUMBER,
+    UPDATE_DATE_EXPORT,
+    SET_DATE_EXPORT,
+    UPDATE_MIX_WASTE,
+    OTHER
+}
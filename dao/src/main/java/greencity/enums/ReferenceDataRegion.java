@@ -0,0 +1,9 @@
+package greencity.enums;
+
+public enum ReferenceDataRegion {
+    ACTIVE_BAGS_BY_TARIFF,
+    SERVICE_BY_TARIFF,
+    POSITIONS,
+    EMPLOYEES_BY_POSITION,
+    ORDER_STATUS_TRANSLATIONS
+}
@@ -0,0 +1,7 @@
+package greencity.enums;
+
+public enum TariffRepricingJobStatus {
+    NEW,
+    DONE,
+    FAILED
+}
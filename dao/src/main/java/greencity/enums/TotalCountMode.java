@@ -0,0 +1,9 @@
+package greencity.enums;
+
+/**
+ * Defines how the total number of elements is calculated for cursor based
+ * pages.
+ */
+public enum TotalCountMode {
+    NONE, APPROXIMATE, EXACT
+}
@@ -0,0 +1,71 @@
+package greencity.filters;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Sort;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in the big order table used for keyset pagination. It holds
+ * the sort key and the id of the last returned row, together with the sorting
+ * that produced them, so that a cursor can not be reused with another sorting.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class OrderCursor {
+    private static final String SEPARATOR = ":";
+    private static final String NULL_MARKER = "n";
+    private static final String VALUE_MARKER = "v";
+    private static final int PARTS_COUNT = 4;
+
+    private final String sortBy;
+    private final Sort.Direction sortDirection;
+    private final Long id;
+    private final String sortValue;
+
+    /**
+     * Method encodes cursor into url safe string.
+     *
+     * @return encoded cursor
+     */
+    public String encode() {
+        String value = sortValue == null ? NULL_MARKER : VALUE_MARKER + sortValue;
+        String raw = String.join(SEPARATOR, sortBy, sortDirection.name(), String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method decodes cursor which was previously created by {@link #encode()}.
+     *
+     * @param cursor encoded cursor
+     * @return {@link OrderCursor}
+     * @throws IllegalArgumentException if cursor is malformed
+     */
+    public static OrderCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split(SEPARATOR, PARTS_COUNT);
+        if (parts.length != PARTS_COUNT || parts[0].isEmpty() || parts[3].isEmpty()) {
+            throw new IllegalArgumentException("Malformed order cursor: " + cursor);
+        }
+        String value = parts[3].startsWith(VALUE_MARKER) ? parts[3].substring(VALUE_MARKER.length()) : null;
+        if (value == null && !NULL_MARKER.equals(parts[3])) {
+            throw new IllegalArgumentException("Malformed order cursor: " + cursor);
+        }
+        return new OrderCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), value);
+    }
+
+    /**
+     * Method checks that cursor was created for the given sorting.
+     *
+     * @param orderPage requested page
+     * @return true if cursor can be used for the page
+     */
+    public boolean matches(OrderPage orderPage) {
+        return sortBy.equals(orderPage.getSortBy()) && sortDirection == orderPage.getSortDirection();
+    }
+}
@@ -1,12 +1,20 @@
 package greencity.filters;
 
+import greencity.enums.TotalCountMode;
 import lombok.Data;
 import org.springframework.data.domain.Sort;
 
 @Data
 public class OrderPage {
+    /**
+     * Sorting by how well orders match the search words, best matches first for
+     * descending direction.
+     */
+    public static final String RELEVANCE = "relevance";
     private int pageNumber = 0;
     private int pageSize = 10;
     private Sort.Direction sortDirection = Sort.Direction.DESC;
     private String sortBy = "id";
+    private String cursor;
+    private TotalCountMode countMode = TotalCountMode.APPROXIMATE;
 }
@@ -1,10 +1,14 @@
 package greencity.repository;
 
+import greencity.dto.CoordinatesCapacityDto;
 import greencity.entity.coords.Coordinates;
 import greencity.entity.user.ubs.Address;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -40,20 +44,23 @@ public interface AddressRepository extends CrudRepository<Address, Long> {
     Set<Coordinates> undeliveredOrdersCoordsWithCapacityLimit(long maxCapacity);
 
     /**
-     * Method returns amount of litres to be delivered in 1 or same address orders.
+     * Method returns amount of litres to be delivered to every coordinates of
+     * undelivered orders, so that capacities of all the coordinates are loaded with
+     * one query.
      *
-     * @return {@link Integer}.
+     * @return list of {@link CoordinatesCapacityDto}.
      */
-    @Query("select sum(bags * b.capacity) "
+    @Query("select new greencity.dto.CoordinatesCapacityDto("
+        + "a.coordinates.latitude, a.coordinates.longitude, sum(bags * b.capacity)) "
         + "from UBSuser u "
         + "join Address a on a.id = u.orderAddress.id "
         + "join Order o on u = o.ubsUser "
         + "join o.amountOfBagsOrdered bags "
         + "join Bag b on key(bags) = b.id "
         + "where o.orderPaymentStatus = 'PAID' "
-        + "and a.coordinates.latitude  > :latitude - 0.000001 and a.coordinates.latitude  < :latitude + 0.000001 "
-        + "and a.coordinates.longitude > :longitude - 0.000001 and a.coordinates.longitude < :longitude + 0.000001 ")
-    int capacity(double latitude, double longitude);
+        + "and a.coordinates is not null "
+        + "group by a.coordinates.latitude, a.coordinates.longitude")
+    List<CoordinatesCapacityDto> undeliveredOrdersCoordsCapacities();
 
     /**
      * Method returns list of not deleted {@link Address} addresses for current
@@ -113,4 +120,35 @@ public interface AddressRepository extends CrudRepository<Address, Long> {
         value = "SELECT a FROM Address  a WHERE a.id IN (SELECT MIN(ad.id) "
             + "FROM Address  ad WHERE ad.region = a.region)")
     List<Address> findDistinctRegions();
-}
\ No newline at end of file
+
+    /**
+     * Method returns english names of the cities that have not deleted addresses
+     * without coordinates, ordered by name and following the given city.
+     *
+     * @param afterCity english name of the last city of the previous batch.
+     * @param pageable  {@link Pageable} with the size of the batch.
+     * @return list of english names of the cities.
+     */
+    @Query("select distinct a.cityEn from Address a "
+        + "where a.cityEn > :afterCity and a.addressStatus <> greencity.enums.AddressStatus.DELETED "
+        + "and (a.coordinates.latitude is null "
+        + "or (a.coordinates.latitude = 0 and a.coordinates.longitude = 0)) "
+        + "order by a.cityEn")
+    List<String> findCitiesOfAddressesWithoutCoordinates(String afterCity, Pageable pageable);
+
+    /**
+     * Method sets the given coordinates to all addresses of the city that have no
+     * coordinates yet.
+     *
+     * @param cityEn    english name of the city.
+     * @param latitude  latitude of the city.
+     * @param longitude longitude of the city.
+     * @return number of updated addresses.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Address a set a.coordinates.latitude = :latitude, a.coordinates.longitude = :longitude "
+        + "where a.cityEn = :cityEn and (a.coordinates.latitude is null "
+        + "or (a.coordinates.latitude = 0 and a.coordinates.longitude = 0))")
+    int updateMissingCoordinatesByCityEn(String cityEn, double latitude, double longitude);
+}
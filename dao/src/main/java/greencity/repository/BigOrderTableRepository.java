@@ -1,16 +1,21 @@
 package greencity.repository;
 
+import greencity.dto.CursorPageDto;
 import greencity.entity.order.BigOrderTableViews;
 import greencity.enums.OrderPaymentStatusSortingTranslation;
 import greencity.enums.OrderStatusSortingTranslation;
 import greencity.enums.SortingTranslation;
+import greencity.filters.OrderCursor;
 import greencity.filters.OrderPage;
 import greencity.filters.OrderSearchCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -18,10 +23,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Repository
@@ -33,6 +43,15 @@ public class BigOrderTableRepository {
     private static final String ORDER_STATUS = "orderStatus";
     private static final String ORDER_PAYMENT_STATUS = "orderPaymentStatus";
     private static final String UKRAINIAN_LANGUAGE = "ua";
+    private static final String ID = "id";
+    private static final String TARIFFS_ORDERS_ESTIMATE = """
+        SELECT CAST(f.val AS bigint), f.freq * c.reltuples
+        FROM pg_stats s
+        CROSS JOIN LATERAL unnest(CAST(CAST(s.most_common_vals AS text) AS bigint[]), s.most_common_freqs)
+            AS f(val, freq)
+        JOIN pg_class c ON c.oid = to_regclass(s.schemaname || '.' || s.tablename)
+        WHERE s.tablename = 'big_order_table' AND s.attname = 'tariffs_info_id'
+        """;
 
     /**
      * Constructor to initialize EntityManager and CriteriaBuilder.
@@ -60,7 +79,7 @@ public class BigOrderTableRepository {
         var predicate = getPredicate(searchCriteria, orderRoot, tariffsInfoIds);
 
         criteriaQuery.select(orderRoot).where(predicate);
-        sort(orderPage, criteriaQuery, orderRoot, userLanguage);
+        sort(orderPage, searchCriteria, criteriaQuery, orderRoot, userLanguage);
 
         var typedQuery = entityManager.createQuery(criteriaQuery);
         typedQuery.setFirstResult(orderPage.getPageNumber() * orderPage.getPageSize());
@@ -75,6 +94,221 @@ public class BigOrderTableRepository {
         return new PageImpl<>(resultList, pageable, ordersCount);
     }
 
+    /**
+     * Method returns the page of BigOrderTableViews which follows the given cursor.
+     * Rows are sorted by the requested column and then by id, and the page is found
+     * with a seek predicate instead of OFFSET, so deep pages cost as much as the
+     * first one. Total count is calculated only for the first page and according to
+     * {@link OrderPage#getCountMode()}.
+     *
+     * @param cursor position of the last row of the previous page, null for the
+     *               first page
+     * @return {@link CursorPageDto}
+     * @throws java.time.DateTimeException if the sort value of the cursor is not a
+     *                                     date while the sort key is
+     * @throws NumberFormatException       if the sort value of the cursor is not a
+     *                                     number while the sort key is
+     */
+    public CursorPageDto<BigOrderTableViews> findAllAfter(OrderPage orderPage, OrderCursor cursor,
+        OrderSearchCriteria searchCriteria, List<Long> tariffsInfoIds, String userLanguage) {
+        var criteriaQuery = criteriaBuilder.createQuery(BigOrderTableViews.class);
+        var orderRoot = criteriaQuery.from(BigOrderTableViews.class);
+        var sortKey = getSortKey(orderPage, orderRoot, userLanguage);
+        var id = orderRoot.<Long>get(ID);
+
+        var predicates = new ArrayList<Predicate>();
+        predicates.add(getPredicate(searchCriteria, orderRoot, tariffsInfoIds));
+        if (nonNull(cursor)) {
+            predicates.add(getSeekPredicate(orderPage.getSortDirection(), sortKey, id,
+                parseSortValue(getSortKeyType(orderPage, orderRoot, userLanguage), cursor.getSortValue()),
+                cursor.getId()));
+        }
+        criteriaQuery.select(orderRoot).where(predicates.toArray(Predicate[]::new));
+        if (orderPage.getSortDirection() == Sort.Direction.ASC) {
+            criteriaQuery.orderBy(criteriaBuilder.asc(sortKey), criteriaBuilder.asc(id));
+        } else {
+            criteriaQuery.orderBy(criteriaBuilder.desc(sortKey), criteriaBuilder.desc(id));
+        }
+
+        var resultList = entityManager.createQuery(criteriaQuery)
+            .setMaxResults(orderPage.getPageSize() + 1)
+            .getResultList();
+        var hasNext = resultList.size() > orderPage.getPageSize();
+        var content = hasNext ? resultList.subList(0, orderPage.getPageSize()) : resultList;
+        var nextCursor = hasNext
+            ? createCursor(orderPage, content.get(content.size() - 1), userLanguage).encode()
+            : null;
+
+        var page = CursorPageDto.<BigOrderTableViews>builder()
+            .content(new ArrayList<>(content))
+            .nextCursor(nextCursor)
+            .build();
+        if (isNull(cursor)) {
+            setTotalElements(page, orderPage, searchCriteria, tariffsInfoIds);
+        }
+        return page;
+    }
+
+    /**
+     * Method returns all BigOrderTableViews matching the search criteria in the
+     * requested order as a forward-only stream. Rows are fetched from the database
+     * cursor by {@code fetchSize} and detached once read, so the memory used does
+     * not depend on the number of rows. PostgreSQL uses the cursor only inside a
+     * transaction, and the stream must be closed by the caller.
+     *
+     * @param fetchSize number of rows fetched from the cursor at once
+     * @return {@link Stream} of {@link BigOrderTableViews}
+     */
+    public Stream<BigOrderTableViews> streamAll(OrderPage orderPage, OrderSearchCriteria searchCriteria,
+        List<Long> tariffsInfoIds, String userLanguage, int fetchSize) {
+        var criteriaQuery = criteriaBuilder.createQuery(BigOrderTableViews.class);
+        var orderRoot = criteriaQuery.from(BigOrderTableViews.class);
+
+        criteriaQuery.select(orderRoot).where(getPredicate(searchCriteria, orderRoot, tariffsInfoIds));
+        sort(orderPage, searchCriteria, criteriaQuery, orderRoot, userLanguage);
+
+        return entityManager.createQuery(criteriaQuery)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()
+            .map(row -> {
+                entityManager.detach(row);
+                return row;
+            });
+    }
+
+    /**
+     * Method fully rebuilds the big_order_table read model from
+     * big_order_table_view. Rows are normally kept up to date by database triggers,
+     * so this is only needed after bulk imports or manual fixes.
+     *
+     * @return number of rows in the rebuilt table
+     */
+    public long rebuild() {
+        return ((Number) entityManager.createNativeQuery("SELECT rebuild_big_order_table()")
+            .getSingleResult()).longValue();
+    }
+
+    private void setTotalElements(CursorPageDto<BigOrderTableViews> page, OrderPage orderPage,
+        OrderSearchCriteria searchCriteria, List<Long> tariffsInfoIds) {
+        switch (orderPage.getCountMode()) {
+            case EXACT:
+                page.setTotalElements(getOrdersCount(searchCriteria, tariffsInfoIds));
+                break;
+            case APPROXIMATE:
+                var estimate = hasNoFilters(searchCriteria) ? estimateOrdersCount(tariffsInfoIds) : null;
+                page.setApproximateTotal(nonNull(estimate));
+                page.setTotalElements(nonNull(estimate) ? estimate : getOrdersCount(searchCriteria, tariffsInfoIds));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean hasNoFilters(OrderSearchCriteria sc) {
+        return isNull(sc.getSearch())
+            && orderFilterDataProvider.getFiltersEnum().values().stream().allMatch(f -> isNull(f.apply(sc)))
+            && orderFilterDataProvider.getFiltersString().values().stream().allMatch(f -> isNull(f.apply(sc)))
+            && orderFilterDataProvider.getFiltersDateFilter().values().stream().allMatch(f -> isNull(f.apply(sc)))
+            && orderFilterDataProvider.getFiltersLong().values().stream().allMatch(f -> isNull(f.apply(sc)));
+    }
+
+    /**
+     * Estimates the number of orders of the given tariffs from the planner
+     * statistics of big_order_table. Returns null when statistics do not cover
+     * every tariff, so that the caller can fall back to the exact count.
+     */
+    @SuppressWarnings("unchecked")
+    private Long estimateOrdersCount(List<Long> tariffsInfoIds) {
+        List<Object[]> rows = entityManager.createNativeQuery(TARIFFS_ORDERS_ESTIMATE).getResultList();
+        Map<Long, Double> estimates = rows.stream()
+            .collect(Collectors.toMap(r -> ((Number) r[0]).longValue(), r -> ((Number) r[1]).doubleValue()));
+        if (tariffsInfoIds.isEmpty() || !estimates.keySet().containsAll(tariffsInfoIds)) {
+            return null;
+        }
+        return Math.round(tariffsInfoIds.stream().distinct().mapToDouble(estimates::get).sum());
+    }
+
+    private Expression<?> getSortKey(OrderPage orderPage, Root<BigOrderTableViews> root, String userLanguage) {
+        if (UKRAINIAN_LANGUAGE.equals(userLanguage) && ORDER_STATUS.equals(orderPage.getSortBy())) {
+            return getSortOrderExpression(orderPage, root, OrderStatusSortingTranslation.class);
+        }
+        if (UKRAINIAN_LANGUAGE.equals(userLanguage) && ORDER_PAYMENT_STATUS.equals(orderPage.getSortBy())) {
+            return getSortOrderExpression(orderPage, root, OrderPaymentStatusSortingTranslation.class);
+        }
+        return root.get(orderPage.getSortBy());
+    }
+
+    private Class<?> getSortKeyType(OrderPage orderPage, Root<BigOrderTableViews> root, String userLanguage) {
+        return isLocalizedStatusSorting(orderPage, userLanguage)
+            ? Integer.class
+            : root.get(orderPage.getSortBy()).getJavaType();
+    }
+
+    private boolean isLocalizedStatusSorting(OrderPage orderPage, String userLanguage) {
+        return UKRAINIAN_LANGUAGE.equals(userLanguage)
+            && (ORDER_STATUS.equals(orderPage.getSortBy()) || ORDER_PAYMENT_STATUS.equals(orderPage.getSortBy()));
+    }
+
+    private OrderCursor createCursor(OrderPage orderPage, BigOrderTableViews last, String userLanguage) {
+        Object sortValue;
+        if (UKRAINIAN_LANGUAGE.equals(userLanguage) && ORDER_STATUS.equals(orderPage.getSortBy())) {
+            sortValue = getSortOrder(last.getOrderStatus(), OrderStatusSortingTranslation.class);
+        } else if (UKRAINIAN_LANGUAGE.equals(userLanguage) && ORDER_PAYMENT_STATUS.equals(orderPage.getSortBy())) {
+            sortValue = getSortOrder(last.getOrderPaymentStatus(), OrderPaymentStatusSortingTranslation.class);
+        } else {
+            sortValue = new BeanWrapperImpl(last).getPropertyValue(orderPage.getSortBy());
+        }
+        return new OrderCursor(orderPage.getSortBy(), orderPage.getSortDirection(), last.getId(),
+            nonNull(sortValue) ? sortValue.toString() : null);
+    }
+
+    private Comparable<?> parseSortValue(Class<?> type, String value) {
+        if (isNull(value)) {
+            return null;
+        }
+        if (LocalDate.class.equals(type)) {
+            return LocalDate.parse(value);
+        }
+        if (Long.class.equals(type)) {
+            return Long.valueOf(value);
+        }
+        if (Integer.class.equals(type)) {
+            return Integer.valueOf(value);
+        }
+        if (Boolean.class.equals(type)) {
+            return Boolean.valueOf(value);
+        }
+        return value;
+    }
+
+    /**
+     * Builds predicate selecting rows that follow (sortValue, lastId) in the
+     * requested order. PostgreSQL puts nulls last for ascending and first for
+     * descending order, so null sort keys are handled accordingly.
+     */
+    private Predicate getSeekPredicate(Sort.Direction direction, Expression<?> sortKey, Path<Long> id,
+        Comparable<?> sortValue, Long lastId) {
+        var ascending = direction == Sort.Direction.ASC;
+        var idAfter = ascending ? criteriaBuilder.greaterThan(id, lastId) : criteriaBuilder.lessThan(id, lastId);
+        if (isNull(sortValue)) {
+            var sameKey = criteriaBuilder.and(criteriaBuilder.isNull(sortKey), idAfter);
+            return ascending ? sameKey : criteriaBuilder.or(sameKey, criteriaBuilder.isNotNull(sortKey));
+        }
+        var keyAfter = compare(sortKey, sortValue, ascending);
+        var sameKey = criteriaBuilder.and(criteriaBuilder.equal(sortKey, sortValue), idAfter);
+        return ascending
+            ? criteriaBuilder.or(keyAfter, sameKey, criteriaBuilder.isNull(sortKey))
+            : criteriaBuilder.or(keyAfter, sameKey);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate compare(Expression sortKey, Comparable sortValue, boolean ascending) {
+        return ascending
+            ? criteriaBuilder.greaterThan(sortKey, sortValue)
+            : criteriaBuilder.lessThan(sortKey, sortValue);
+    }
+
     private Predicate getPredicate(OrderSearchCriteria sc, Root<BigOrderTableViews> orderRoot,
         List<Long> tariffsInfoIds) {
         var predicates = new ArrayList<Predicate>();
@@ -138,16 +372,32 @@ public class BigOrderTableRepository {
         predicates.add(criteriaPredicate.filter(tariffsInfoIds, orderRoot, "tariffsInfoId"));
     }
 
-    private void sort(OrderPage orderPage, CriteriaQuery<BigOrderTableViews> cq, Root<BigOrderTableViews> root,
-        String userLanguage) {
-        if (UKRAINIAN_LANGUAGE.equals(userLanguage)
-            && (ORDER_STATUS.equals(orderPage.getSortBy()) || ORDER_PAYMENT_STATUS.equals(orderPage.getSortBy()))) {
+    private void sort(OrderPage orderPage, OrderSearchCriteria searchCriteria, CriteriaQuery<BigOrderTableViews> cq,
+        Root<BigOrderTableViews> root, String userLanguage) {
+        if (OrderPage.RELEVANCE.equals(orderPage.getSortBy())) {
+            applySortingByRelevance(orderPage, searchCriteria, cq, root);
+        } else if (isLocalizedStatusSorting(orderPage, userLanguage)) {
             applySortingForUkrainianLocalization(orderPage, cq, root);
         } else {
             applySortingCriteria(orderPage, cq, root.get(orderPage.getSortBy()));
         }
     }
 
+    private void applySortingByRelevance(OrderPage orderPage, OrderSearchCriteria searchCriteria,
+        CriteriaQuery<BigOrderTableViews> cq, Root<BigOrderTableViews> root) {
+        var id = root.<Long>get(ID);
+        if (isNull(searchCriteria.getSearch())) {
+            applySortingCriteria(orderPage, cq, id);
+            return;
+        }
+        var rank = criteriaPredicate.searchRank(searchCriteria.getSearch(), root);
+        if (orderPage.getSortDirection() == Sort.Direction.ASC) {
+            cq.orderBy(criteriaBuilder.asc(rank), criteriaBuilder.asc(id));
+        } else {
+            cq.orderBy(criteriaBuilder.desc(rank), criteriaBuilder.desc(id));
+        }
+    }
+
     private long getOrdersCount(OrderSearchCriteria searchCriteria, List<Long> tariffsInfoIds) {
         var countQuery = criteriaBuilder.createQuery(Long.class);
         var countOrderRoot = countQuery.from(BigOrderTableViews.class);
@@ -188,6 +438,13 @@ public class BigOrderTableRepository {
         CriteriaQuery<BigOrderTableViews> cq,
         Root<BigOrderTableViews> root,
         Class<T> enumClass) {
+        applySortingCriteria(orderPage, cq, getSortOrderExpression(orderPage, root, enumClass));
+    }
+
+    private <T extends Enum<T> & SortingTranslation<T>> Expression<Integer> getSortOrderExpression(
+        OrderPage orderPage,
+        Root<BigOrderTableViews> root,
+        Class<T> enumClass) {
         T[] enumConstants = enumClass.getEnumConstants();
         Set<T> sortOrderList = enumConstants[0].getSortedTranslations();
         T otherStatus = enumConstants[0].getOtherStatus();
@@ -199,7 +456,15 @@ public class BigOrderTableRepository {
             criteriaBuilder.equal(root.get(orderPage.getSortBy()), status.name()),
             status.getSortOrder()));
 
-        Expression<Integer> sortOrder = selectCase.otherwise(otherwiseExpression);
-        applySortingCriteria(orderPage, cq, sortOrder);
+        return selectCase.otherwise(otherwiseExpression);
+    }
+
+    private <T extends Enum<T> & SortingTranslation<T>> int getSortOrder(String status, Class<T> enumClass) {
+        T[] enumConstants = enumClass.getEnumConstants();
+        return enumConstants[0].getSortedTranslations().stream()
+            .filter(translation -> translation.name().equals(status))
+            .findFirst()
+            .orElse(enumConstants[0].getOtherStatus())
+            .getSortOrder();
     }
-}
\ No newline at end of file
+}
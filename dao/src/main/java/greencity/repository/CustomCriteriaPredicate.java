@@ -1,22 +1,24 @@
 package greencity.repository;
 
-import greencity.entity.order.BigOrderTableViews;
 import greencity.filters.DateFilter;
 import org.springframework.stereotype.Component;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 @Component
 public class CustomCriteriaPredicate {
+    private static final String SEARCH_TEXT = "searchText";
+    private static final char LIKE_ESCAPE = '\\';
     private final CriteriaBuilder criteriaBuilder;
 
     /**
@@ -77,18 +79,44 @@ public class CustomCriteriaPredicate {
         return criteriaBuilder.or(predicateList.toArray(new Predicate[0]));
     }
 
+    /**
+     * Builds predicate matching orders whose search text contains any of the search
+     * words. Search text is a lower-cased generated column of big_order_table with
+     * ids, names, phones, emails, addresses and certificate codes of the order, and
+     * it has a trigram index, so substring search does not scan the whole table.
+     */
     Predicate search(String[] searchWords, Root<?> root) {
-        var fields = BigOrderTableViews.class.getDeclaredFields();
-        var listPredicates = new ArrayList<Predicate>();
+        var searchText = root.<String>get(SEARCH_TEXT);
+        var predicates = normalize(searchWords)
+            .map(word -> criteriaBuilder.like(searchText, "%" + escapeLike(word) + "%", LIKE_ESCAPE))
+            .toArray(Predicate[]::new);
+        return predicates.length == 0 ? criteriaBuilder.conjunction() : criteriaBuilder.or(predicates);
+    }
 
-        for (String searchWord : searchWords) {
-            Arrays.stream(fields)
-                .map(Field::getName)
-                .map(root::get)
-                .map(path -> criteriaBuilder.upper(path.as(String.class)))
-                .map(expression -> criteriaBuilder.like(expression, "%" + searchWord.toUpperCase() + "%"))
-                .forEach(listPredicates::add);
-        }
-        return criteriaBuilder.or(listPredicates.toArray(Predicate[]::new));
+    /**
+     * Builds expression ranking how well the search text of an order matches the
+     * search words, as the sum of trigram word similarities. Greater is better.
+     */
+    Expression<Float> searchRank(String[] searchWords, Root<?> root) {
+        var searchText = root.<String>get(SEARCH_TEXT);
+        return normalize(searchWords)
+            .map(word -> criteriaBuilder.function("word_similarity", Float.class,
+                criteriaBuilder.literal(word), searchText))
+            .reduce(criteriaBuilder::sum)
+            .orElseGet(() -> criteriaBuilder.literal(0F));
+    }
+
+    private Stream<String> normalize(String[] searchWords) {
+        return Arrays.stream(searchWords)
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(word -> !word.isEmpty())
+            .map(String::toLowerCase);
+    }
+
+    private String escapeLike(String word) {
+        return word.replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,6 +23,14 @@ public interface EmployeeOrderPositionRepository extends CrudRepository<Employee
      */
     List<EmployeeOrderPosition> findAllByOrderId(Long orderId);
 
+    /**
+     * Method finds employeeOrderPosition entities of all the given orders.
+     *
+     * @param orderIds {@link Collection} of orders ids.
+     * @return {@link List} of {@link EmployeeOrderPosition}
+     */
+    List<EmployeeOrderPosition> findAllByOrderIdIn(Collection<Long> orderIds);
+
     /**
      * Method update OrderEmployeePosition.
      *
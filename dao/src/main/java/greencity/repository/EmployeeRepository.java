@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -53,6 +54,19 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     List<Employee> findAllByEmployeePositionId(Long positionId);
 
+    /**
+     * Method returns all employees who work with the tariff together with their
+     * positions.
+     *
+     * @param tariffsInfoId id of the tariff.
+     * @return list of {@link Employee}.
+     */
+    @Query("SELECT DISTINCT e FROM Employee e "
+        + "JOIN FETCH e.employeePosition "
+        + "JOIN e.tariffInfos t "
+        + "WHERE t.id = :tariffsInfoId")
+    List<Employee> findAllWithPositionsByTariffsInfoId(@Param("tariffsInfoId") Long tariffsInfoId);
+
     /**
      * Method find employee by his email.
      *
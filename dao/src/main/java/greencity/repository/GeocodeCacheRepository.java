@@ -0,0 +1,34 @@
+package greencity.repository;
+
+import greencity.entity.coords.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Optional;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, Long> {
+    /**
+     * Method finds the cached geocoding result by its key.
+     *
+     * @param cacheKey normalized key of the geocoding request.
+     * @return {@link Optional} of {@link GeocodeCache}.
+     */
+    Optional<GeocodeCache> findByCacheKey(String cacheKey);
+
+    /**
+     * Method stores the geocoding result unless a result with the same key has
+     * already been stored, so that concurrent requests of the same place do not
+     * fail the current transaction.
+     *
+     * @param cacheKey normalized key of the geocoding request.
+     * @param result   geocoding result serialized to JSON.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO geocode_cache (cache_key, result) VALUES (:cacheKey, :result) "
+        + "ON CONFLICT (cache_key) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(String cacheKey, String result);
+}
@@ -0,0 +1,120 @@
+package greencity.repository;
+
+import greencity.enums.EventCode;
+import greencity.enums.NotificationType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class NotificationSweepRepository {
+    private static final String ORDER_IDS = "orderIds";
+    private static final String LAST_NOTIFICATION_TIMES = "SELECT order_id, max(notification_time) AS last_time "
+        + "FROM user_notifications "
+        + "WHERE order_id IN (:orderIds) AND notification_type IN (:types) "
+        + "GROUP BY order_id";
+    private static final String PAID_AMOUNTS = "SELECT order_id, sum(amount) AS paid_amount "
+        + "FROM payment "
+        + "WHERE order_id IN (:orderIds) AND payment_status = 'PAID' "
+        + "GROUP BY order_id";
+    private static final String CERTIFICATE_POINTS = "SELECT order_id, sum(points) AS points "
+        + "FROM certificate "
+        + "WHERE order_id IN (:orderIds) "
+        + "GROUP BY order_id";
+    private static final String EVENT_COUNTS = "SELECT order_id, count(*) AS events "
+        + "FROM events "
+        + "WHERE order_id IN (:orderIds) AND code IN (:codes) "
+        + "GROUP BY order_id";
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor to initialize NamedParameterJdbcTemplate.
+     */
+    public NotificationSweepRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Method returns time of the last notification of the given types for every
+     * order of the batch. Orders without such notifications are absent in the
+     * result.
+     *
+     * @param orderIds ids of the orders
+     * @param types    types of the notifications
+     * @return {@link Map} of order id to the last notification time
+     */
+    public Map<Long, LocalDateTime> findLastNotificationTimes(Collection<Long> orderIds,
+        Collection<NotificationType> types) {
+        Map<Long, LocalDateTime> result = new HashMap<>();
+        if (orderIds.isEmpty() || types.isEmpty()) {
+            return result;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource(ORDER_IDS, orderIds)
+            .addValue("types", types.stream().map(NotificationType::name).toList());
+        jdbcTemplate.query(LAST_NOTIFICATION_TIMES, params, rs -> {
+            Timestamp lastTime = rs.getTimestamp("last_time");
+            result.put(rs.getLong("order_id"), lastTime.toLocalDateTime());
+        });
+        return result;
+    }
+
+    /**
+     * Method returns sum of the paid payments in coins for every order of the
+     * batch. Orders without paid payments are absent in the result.
+     *
+     * @param orderIds ids of the orders
+     * @return {@link Map} of order id to the paid amount
+     */
+    public Map<Long, Long> findPaidAmounts(Collection<Long> orderIds) {
+        return querySums(PAID_AMOUNTS, "paid_amount", orderIds);
+    }
+
+    /**
+     * Method returns sum of the points of certificates applied to every order of
+     * the batch. Orders without certificates are absent in the result.
+     *
+     * @param orderIds ids of the orders
+     * @return {@link Map} of order id to the certificates points
+     */
+    public Map<Long, Long> findCertificatePoints(Collection<Long> orderIds) {
+        return querySums(CERTIFICATE_POINTS, "points", orderIds);
+    }
+
+    /**
+     * Method returns number of the events with the given codes of every order of
+     * the batch. Orders without such events are absent in the result.
+     *
+     * @param orderIds ids of the orders
+     * @param codes    codes of the events
+     * @return {@link Map} of order id to the number of the events
+     */
+    public Map<Long, Long> countEvents(Collection<Long> orderIds, Collection<EventCode> codes) {
+        Map<Long, Long> result = new HashMap<>();
+        if (orderIds.isEmpty() || codes.isEmpty()) {
+            return result;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource(ORDER_IDS, orderIds)
+            .addValue("codes", codes.stream().map(EventCode::name).toList());
+        jdbcTemplate.query(EVENT_COUNTS, params, rs -> {
+            result.put(rs.getLong("order_id"), rs.getLong("events"));
+        });
+        return result;
+    }
+
+    private Map<Long, Long> querySums(String sql, String column, Collection<Long> orderIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (orderIds.isEmpty()) {
+            return result;
+        }
+        jdbcTemplate.query(sql, new MapSqlParameterSource(ORDER_IDS, orderIds),
+            rs -> {
+                result.put(rs.getLong("order_id"), rs.getLong(column));
+            });
+        return result;
+    }
+}
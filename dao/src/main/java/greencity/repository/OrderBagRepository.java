@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,22 +46,29 @@ public interface OrderBagRepository extends JpaRepository<OrderBag, Long> {
     List<OrderBag> findOrderBagsByOrderId(@Param("orderId") Long id);
 
     /**
-     * method updates the bag data of OrderBag for all unpaid orders.
+     * Retrieves a list of order bags of all the given orders.
+     *
+     * @param ids the IDs of the orders
+     * @return a list of order bags matching the order IDs
+     */
+    @Query(value = "SELECT OBM.* FROM ORDER_BAG_MAPPING as OBM "
+        + "where OBM.ORDER_ID IN (:orderIds)", nativeQuery = true)
+    List<OrderBag> findOrderBagsByOrderIds(@Param("orderIds") Collection<Long> ids);
+
+    /**
+     * method copies the current capacity, full price and names of the bag to the
+     * OrderBags of the given orders.
      *
      * @param bagId    {@link Integer} bag id
-     * @param capacity {@link Integer} bag capacity
-     * @param price    {@link Long} bag full price in coins
-     * @param name     {@link String} bag name
-     * @param nameEng  {@link String} bag english name
-     * @author Oksana Spodaryk
+     * @param orderIds ids of the orders
+     * @return number of the updated OrderBags
      */
-    @Transactional
     @Modifying
     @Query(value = "update order_bag_mapping obm "
-        + "set capacity = :capacity, price = :price, name = :name, name_eng = :nameEng "
-        + "from orders o "
-        + "where o.id = obm.order_id and obm.bag_id = :bagId and o.order_payment_status = 'UNPAID'", nativeQuery = true)
-    void updateAllByBagIdForUnpaidOrders(Integer bagId, Integer capacity, Long price, String name, String nameEng);
+        + "set capacity = b.capacity, price = b.full_price, name = b.name, name_eng = b.name_eng "
+        + "from bag b "
+        + "where b.id = obm.bag_id and obm.bag_id = :bagId and obm.order_id in (:orderIds)", nativeQuery = true)
+    int updateBagDataByOrderIds(@Param("bagId") Integer bagId, @Param("orderIds") Collection<Long> orderIds);
 
     /**
      * Method returns OrderBags quantity by bag id and order id. It prioritizes the
@@ -1,9 +1,12 @@
 package greencity.repository;
 
+import greencity.enums.EventCode;
 import greencity.enums.OrderPaymentStatus;
 import greencity.entity.order.Order;
 import greencity.entity.user.User;
 import greencity.enums.OrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,6 +59,26 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         + "ORDER BY BAG_ID", nativeQuery = true)
     Optional<Order> getOrderDetails(@Param(value = "OrderId") Long id);
 
+    /**
+     * Method returns {@link Order} together with its user, recipient, address,
+     * tariff with courier, receiving station and ordered bags, which are shown on
+     * the order page of the admin.
+     *
+     * @param id id of the order.
+     * @return {@link Optional} of {@link Order}.
+     */
+    @Query("SELECT DISTINCT o FROM Order o "
+        + "LEFT JOIN FETCH o.user "
+        + "LEFT JOIN FETCH o.ubsUser u "
+        + "LEFT JOIN FETCH u.orderAddress "
+        + "LEFT JOIN FETCH o.tariffsInfo t "
+        + "LEFT JOIN FETCH t.courier "
+        + "LEFT JOIN FETCH o.receivingStation "
+        + "LEFT JOIN FETCH o.orderBags ob "
+        + "LEFT JOIN FETCH ob.bag "
+        + "WHERE o.id = :id")
+    Optional<Order> findOrderForStatusPage(@Param("id") Long id);
+
     /**
      * Method return {@link List} of {@link Order} done by {@link User}.
      *
@@ -72,17 +96,68 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findAllByOrderPaymentStatus(OrderPaymentStatus orderPaymentStatus);
 
     /**
-     * Method sets employee_id and makes blocked_status 'true' for all not blocked
-     * orders.
+     * Method sets employee_id and makes blocked_status 'true' for all orders which
+     * are not blocked or whose lock has expired.
      *
+     * @param id             id of the employee.
+     * @param blockedAt      time of the lock.
+     * @param expirationTime locks set before this time are expired.
      * @author Liubomyr Pater.
      */
     @Modifying
     @Query(
         value = "UPDATE ORDERS SET EMPLOYEE_ID = :employee_id,"
-            + "BLOCKED = TRUE, BLOCKED_AT = :blocked_at WHERE BLOCKED = FALSE",
+            + "BLOCKED = TRUE, BLOCKED_AT = :blocked_at "
+            + "WHERE BLOCKED = FALSE OR BLOCKED_AT < :expiration_time",
         nativeQuery = true)
-    void setBlockedEmployeeForAllOrders(@Param("employee_id") Long id, @Param("blocked_at") LocalDateTime blockedAt);
+    void setBlockedEmployeeForAllOrders(@Param("employee_id") Long id, @Param("blocked_at") LocalDateTime blockedAt,
+        @Param("expiration_time") LocalDateTime expirationTime);
+
+    /**
+     * Method locks the orders for the employee with one conditional update. An
+     * order is locked when it is not blocked, when its lock has expired or when it
+     * is already locked by the same employee, whose lock is then prolonged.
+     *
+     * @param ids            ids of the orders.
+     * @param employeeId     id of the employee.
+     * @param blockedAt      time of the lock.
+     * @param expirationTime locks set before this time are expired.
+     * @return ids of the orders locked by the employee.
+     */
+    @Transactional
+    @Query(nativeQuery = true,
+        value = "UPDATE orders SET blocked = TRUE, employee_id = :employeeId, blocked_at = :blockedAt "
+            + "WHERE id IN (:ids) "
+            + "AND (blocked = FALSE OR employee_id = :employeeId OR blocked_at < :expirationTime) "
+            + "RETURNING id")
+    List<Long> lockOrders(@Param("ids") Collection<Long> ids, @Param("employeeId") Long employeeId,
+        @Param("blockedAt") LocalDateTime blockedAt, @Param("expirationTime") LocalDateTime expirationTime);
+
+    /**
+     * Method unlocks the orders locked by the employee with one conditional update.
+     *
+     * @param ids        ids of the orders.
+     * @param employeeId id of the employee.
+     * @return ids of the unlocked orders.
+     */
+    @Transactional
+    @Query(nativeQuery = true,
+        value = "UPDATE orders SET blocked = FALSE, employee_id = NULL, blocked_at = NULL "
+            + "WHERE id IN (:ids) AND blocked = TRUE AND employee_id = :employeeId "
+            + "RETURNING id")
+    List<Long> unlockOrders(@Param("ids") Collection<Long> ids, @Param("employeeId") Long employeeId);
+
+    /**
+     * Method returns ids of the given orders whose lock has not expired.
+     *
+     * @param ids            ids of the orders.
+     * @param expirationTime locks set before this time are expired.
+     * @return ids of the locked orders.
+     */
+    @Query("select o.id from Order o where o.id in :ids and o.blocked = true "
+        + "and (o.blockedAt is null or o.blockedAt >= :expirationTime)")
+    List<Long> findLockedOrderIds(@Param("ids") Collection<Long> ids,
+        @Param("expirationTime") LocalDateTime expirationTime);
 
     /**
      * Method unblocks all orders. Needs some improvement.
@@ -171,22 +246,56 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         @Param("currentDate") LocalDate currentDate);
 
     /**
-     * method returns all unpaid orders that contain a bag with id.
+     * Method returns the next chunk of ids of the unpaid orders that contain a bag
+     * with id and locks the rows of these orders until the end of the current
+     * transaction. Rows are locked in the order of ids, so that the chunk does not
+     * deadlock with other changes of the same orders.
+     *
+     * @param bagId        id of the bag.
+     * @param afterOrderId id of the last order of the previous chunk.
+     * @param limit        maximum number of orders in the chunk.
+     * @return list of ids of the orders.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT o.id FROM orders o "
+            + "WHERE o.order_payment_status = 'UNPAID' AND o.id > :afterOrderId "
+            + "AND EXISTS (SELECT 1 FROM order_bag_mapping obm WHERE obm.order_id = o.id AND obm.bag_id = :bagId) "
+            + "ORDER BY o.id LIMIT :limit "
+            + "FOR UPDATE OF o")
+    List<Long> lockUnpaidOrderIdsByBagId(@Param("bagId") Integer bagId, @Param("afterOrderId") Long afterOrderId,
+        @Param("limit") int limit);
+
+    /**
+     * Method recalculates the sum of the orders without discounts from the prices
+     * of their bags. The exported quantities of the bags are used if all the bags
+     * of the order have them, then the confirmed quantities, then the amounts
+     * ordered by the user.
+     *
+     * @param ids ids of the orders.
+     * @return number of the updated orders.
      */
-    @Query(value = "select o from Order o "
-        + "join fetch OrderBag obm on o.id = obm.order.id "
-        + "join fetch Bag b on obm.bag.id = b.id "
-        + "where obm.bag.id = :bagId and o.orderPaymentStatus = 'UNPAID'")
-    List<Order> findAllUnpaidOrdersByBagId(Integer bagId);
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "UPDATE orders o SET sum_total_amount_without_discounts = s.total "
+            + "FROM (SELECT obm.order_id, CASE "
+            + "WHEN bool_and(obm.exported_quantity IS NOT NULL) THEN SUM(obm.exported_quantity * obm.price) "
+            + "WHEN bool_and(obm.confirmed_quantity IS NOT NULL) THEN SUM(obm.confirmed_quantity * obm.price) "
+            + "ELSE SUM(obm.amount * obm.price) END AS total "
+            + "FROM order_bag_mapping obm WHERE obm.order_id IN (:ids) GROUP BY obm.order_id) s "
+            + "WHERE o.id = s.order_id")
+    int updateSumTotalAmountWithoutDiscounts(@Param("ids") Collection<Long> ids);
 
     /**
-     * method returns all unpaid orders that contain a bag with id.
+     * Method returns the unpaid orders with the given ids together with their
+     * users.
+     *
+     * @param ids ids of the orders.
+     * @return list of {@link Order}.
      */
-    @Query(value = "select o from Order o "
+    @Query("select o from Order o "
         + "join fetch o.ubsUser "
-        + "join fetch OrderBag obm on o.id = obm.order.id "
-        + "where obm.bag.id = :bagId and o.orderPaymentStatus = 'UNPAID'")
-    List<Order> findAllUnpaidOrdersWithUsersByBagId(Integer bagId);
+        + "where o.id in :ids and o.orderPaymentStatus = 'UNPAID'")
+    List<Order> findAllUnpaidWithUsersByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * method returns all orders that contain a bag with id.
@@ -206,54 +315,88 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findAllByOrderStatusAndOrderPaymentStatus(OrderStatus orderStatus, OrderPaymentStatus paymentStatus);
 
     /**
-     * Method retrieves orders by order status join events.
+     * Method retrieves orders which have at least one event with one of the given
+     * codes. Events of the orders are not loaded.
      *
-     * @param orderStatus - status of the order.
+     * @param codes - codes of the events.
      */
     @Query("select o from Order o "
-        + "left join fetch o.events e WHERE o.orderStatus = :orderStatus")
-    List<Order> findAllByOrderStatusWithEvents(@Param("orderStatus") OrderStatus orderStatus);
+        + "where exists (select e.id from Event e where e.order = o and e.code in (:codes))")
+    List<Order> findAllWithEventCodes(@Param("codes") Collection<EventCode> codes);
 
     /**
-     * Method retrieves orders by event names join events.
+     * Method retrieves orders which have at least one event with one of the given
+     * codes and no events with the excluded codes. Events of the orders are not
+     * loaded.
      *
-     * @param eventNames - names of events which are related to the order.
+     * @param codes         - codes of the events which the order has.
+     * @param excludedCodes - codes of the events which the order does not have.
      */
     @Query("select o from Order o "
-        + "inner join fetch o.events e WHERE e.eventName IN (:eventNames)")
-    List<Order> findAllWithEventsByEventNames(@Param("eventNames") String... eventNames);
+        + "where exists (select e.id from Event e where e.order = o and e.code in (:codes)) "
+        + "and not exists (select e.id from Event e where e.order = o and e.code in (:excludedCodes))")
+    List<Order> findAllWithEventCodesWithoutEventCodes(@Param("codes") Collection<EventCode> codes,
+        @Param("excludedCodes") Collection<EventCode> excludedCodes);
 
     /**
-     * Method retrieves orders by order payment status join events.
+     * Method retrieves orders with the order status which have no events with the
+     * excluded codes. Events of the orders are not loaded.
      *
-     * @param orderStatus - payment status of the orders.
+     * @param orderStatus   - status of the order.
+     * @param excludedCodes - codes of the events which the order does not have.
      */
-    @Query("select o from Order o "
-        + "left join fetch o.events e WHERE o.orderPaymentStatus = :orderStatus")
-    List<Order> findAllByOrderPaymentStatusWithEvents(@Param("orderStatus") OrderPaymentStatus orderStatus);
+    @Query("select o from Order o where o.orderStatus = :orderStatus "
+        + "and not exists (select e.id from Event e where e.order = o and e.code in (:excludedCodes))")
+    List<Order> findAllByOrderStatusWithoutEventCodes(@Param("orderStatus") OrderStatus orderStatus,
+        @Param("excludedCodes") Collection<EventCode> excludedCodes);
 
     /**
-     * Method retrieves orders by order payment statuses and order statuses join
-     * events.
+     * Method retrieves orders by order payment statuses and order statuses which
+     * have exactly the given number of events with the given codes. Events of the
+     * orders are not loaded.
      *
      * @param paymentStatuses - list of payment statues of the order.
      * @param orderStatuses   - list of order statues.
+     * @param codes           - codes of the counted events.
+     * @param eventCount      - number of the counted events.
      */
     @Query("select o from Order o "
-        + "inner join fetch o.events e "
-        + "WHERE o.orderStatus in (:orderStatuses) AND o.orderPaymentStatus in (:paymentStatuses)")
-    List<Order> findAllByPaymentStatusesAndOrderStatuses(
+        + "where o.orderStatus in (:orderStatuses) and o.orderPaymentStatus in (:paymentStatuses) "
+        + "and (select count(e) from Event e where e.order = o and e.code in (:codes)) = :eventCount")
+    List<Order> findAllByPaymentStatusesAndOrderStatusesWithEventCount(
         @Param("paymentStatuses") List<OrderPaymentStatus> paymentStatuses,
-        @Param("orderStatuses") List<OrderStatus> orderStatuses);
+        @Param("orderStatuses") List<OrderStatus> orderStatuses,
+        @Param("codes") Collection<EventCode> codes,
+        @Param("eventCount") long eventCount);
 
     /**
-     * Method to unblock orders that have been blocked for more than 5 minutes.
+     * Method retrieves orders by order payment status except the orders with the
+     * given order statuses which have exactly the given number of events with the
+     * given codes. Events of the orders are not loaded.
      *
-     * @param expirationTime the cutoff time for unblocking orders.
+     * @param paymentStatus - payment status of the orders.
+     * @param orderStatuses - list of order statuses of the excluded orders.
+     * @param codes         - codes of the counted events.
+     * @param eventCount    - number of the counted events of the excluded orders.
      */
-    @Modifying
-    @Transactional
-    @Query("UPDATE Order o SET o.blocked = false, o.blockedByEmployee = NULL,"
-        + "o.blockedAt = NULL WHERE o.blockedAt < :expirationTime")
-    void unlockExpiredOrders(@Param("expirationTime") LocalDateTime expirationTime);
-}
\ No newline at end of file
+    @Query("select o from Order o where o.orderPaymentStatus = :paymentStatus "
+        + "and (o.orderStatus not in (:orderStatuses) "
+        + "or (select count(e) from Event e where e.order = o and e.code in (:codes)) <> :eventCount)")
+    List<Order> findAllByOrderPaymentStatusWithoutEventCount(
+        @Param("paymentStatus") OrderPaymentStatus paymentStatus,
+        @Param("orderStatuses") List<OrderStatus> orderStatuses,
+        @Param("codes") Collection<EventCode> codes,
+        @Param("eventCount") long eventCount);
+
+    /**
+     * Method returns orders with the given ids and locks their rows until the end
+     * of the current transaction. Rows are locked in the order of ids, so that
+     * concurrent changes of overlapping sets of orders do not deadlock.
+     *
+     * @param ids ids of the orders.
+     * @return list of {@link Order}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id in :ids order by o.id")
+    List<Order> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,65 @@
+package greencity.repository;
+
+import greencity.entity.order.PaymentCallback;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PaymentCallbackRepository extends JpaRepository<PaymentCallback, Long> {
+    /**
+     * Method stores the payment callback unless the callback with the same order
+     * reference and transaction status has already been stored, so that the
+     * callbacks repeated by the payment system are applied only once.
+     *
+     * @param orderReference    order reference of the payment.
+     * @param transactionStatus status of the transaction.
+     * @param orderId           id of the paid order.
+     * @param payload           callback serialized to JSON.
+     * @return id of the stored callback, or empty list if it is a repeated one.
+     */
+    @Transactional
+    @Query(nativeQuery = true,
+        value = "INSERT INTO payment_callback_inbox (order_reference, transaction_status, order_id, payload) "
+            + "VALUES (:orderReference, :transactionStatus, :orderId, :payload) "
+            + "ON CONFLICT (order_reference, transaction_status) DO NOTHING "
+            + "RETURNING id")
+    List<Long> insertIfAbsent(@Param("orderReference") String orderReference,
+        @Param("transactionStatus") String transactionStatus, @Param("orderId") Long orderId,
+        @Param("payload") String payload);
+
+    /**
+     * Method locks the callback that still has to be applied. The callback locked
+     * by another worker is skipped, so that it is applied only by one of them.
+     *
+     * @param id          id of the callback.
+     * @param maxAttempts maximum number of attempts to apply the callback.
+     * @return {@link Optional} of {@link PaymentCallback}.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT * FROM payment_callback_inbox "
+            + "WHERE id = :id AND status <> 'PROCESSED' AND attempts < :maxAttempts "
+            + "FOR UPDATE SKIP LOCKED")
+    Optional<PaymentCallback> lockPending(@Param("id") Long id, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Method returns the oldest callbacks that still have to be applied and were
+     * received before the given time.
+     *
+     * @param receivedBefore time before which the callbacks were received.
+     * @param maxAttempts    maximum number of attempts to apply the callback.
+     * @param limit          maximum number of callbacks.
+     * @return list of {@link PaymentCallback}.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT * FROM payment_callback_inbox "
+            + "WHERE status <> 'PROCESSED' AND attempts < :maxAttempts AND received_at < :receivedBefore "
+            + "ORDER BY received_at, id LIMIT :limit")
+    List<PaymentCallback> findPending(@Param("receivedBefore") LocalDateTime receivedBefore,
+        @Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+}
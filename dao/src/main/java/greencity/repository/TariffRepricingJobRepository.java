@@ -0,0 +1,52 @@
+package greencity.repository;
+
+import greencity.entity.order.TariffRepricingJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TariffRepricingJobRepository extends JpaRepository<TariffRepricingJob, Long> {
+    /**
+     * Method locks the repricing job that has not been finished. The job locked by
+     * another worker is skipped, so that each chunk of the job is processed only
+     * once.
+     *
+     * @param id          id of the job.
+     * @param maxAttempts maximum number of attempts to finish the job.
+     * @return {@link Optional} of {@link TariffRepricingJob}.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT * FROM tariff_repricing_job "
+            + "WHERE id = :id AND status <> 'DONE' AND attempts < :maxAttempts "
+            + "FOR UPDATE SKIP LOCKED")
+    Optional<TariffRepricingJob> lockPending(@Param("id") Long id, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Method returns the oldest repricing jobs that have not been finished and have
+     * not made progress since the given time.
+     *
+     * @param updatedBefore time before which the jobs were updated last.
+     * @param maxAttempts   maximum number of attempts to finish the job.
+     * @param limit         maximum number of jobs.
+     * @return list of {@link TariffRepricingJob}.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT * FROM tariff_repricing_job "
+            + "WHERE status <> 'DONE' AND attempts < :maxAttempts AND updated_at < :updatedBefore "
+            + "ORDER BY updated_at, id LIMIT :limit")
+    List<TariffRepricingJob> findPending(@Param("updatedBefore") LocalDateTime updatedBefore,
+        @Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    /**
+     * Method returns the latest repricing job of the bag.
+     *
+     * @param bagId id of the bag.
+     * @return {@link Optional} of {@link TariffRepricingJob}.
+     */
+    Optional<TariffRepricingJob> findFirstByBagIdOrderByIdDesc(Integer bagId);
+}
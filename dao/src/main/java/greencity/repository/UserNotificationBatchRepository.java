@@ -0,0 +1,66 @@
+package greencity.repository;
+
+import greencity.entity.notifications.NotificationParameter;
+import greencity.entity.notifications.UserNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Types;
+import java.util.List;
+import static java.util.Objects.isNull;
+
+@Repository
+public class UserNotificationBatchRepository {
+    private static final String NEXT_NOTIFICATION_IDS =
+        "SELECT nextval(pg_get_serial_sequence('user_notifications', 'id')) FROM generate_series(1, ?)";
+    private static final String INSERT_NOTIFICATION = "INSERT INTO user_notifications "
+        + "(id, read, order_id, users_id, notification_type, template_id, notification_time) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PARAMETER =
+        "INSERT INTO notification_parameters (notification_id, key, value) VALUES (?, ?, ?)";
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor to initialize JdbcTemplate.
+     */
+    public UserNotificationBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Method inserts notifications and their parameters with two JDBC batches. Ids
+     * are reserved from the identity sequence up front, so they are set to the
+     * given notifications, which stay detached from the persistence context.
+     *
+     * @param notifications list of new {@link UserNotification} with parameters
+     */
+    public void saveAll(List<UserNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_NOTIFICATION_IDS, Long.class, notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            notifications.get(i).setId(ids.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, notifications, notifications.size(), (ps, notification) -> {
+            ps.setLong(1, notification.getId());
+            ps.setBoolean(2, notification.isRead());
+            ps.setObject(3, isNull(notification.getOrder()) ? null : notification.getOrder().getId(), Types.BIGINT);
+            ps.setLong(4, notification.getUser().getId());
+            ps.setString(5, notification.getNotificationType().name());
+            ps.setObject(6, notification.getTemplateId(), Types.BIGINT);
+            ps.setObject(7, notification.getNotificationTime());
+        });
+
+        List<NotificationParameter> parameters = notifications.stream()
+            .filter(notification -> !isNull(notification.getParameters()))
+            .flatMap(notification -> notification.getParameters().stream())
+            .toList();
+        if (!parameters.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PARAMETER, parameters, parameters.size(), (ps, parameter) -> {
+                ps.setLong(1, parameter.getUserNotification().getId());
+                ps.setString(2, parameter.getKey());
+                ps.setString(3, parameter.getValue());
+            });
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package greencity.repository;
 
+import greencity.dto.UserTableRowDto;
 import greencity.enums.SortingOrder;
+import greencity.entity.order.Order;
+import greencity.entity.order.TariffsInfo;
 import greencity.entity.user.User;
+import greencity.entity.user.employee.Employee;
 import greencity.filters.CustomerPage;
 import greencity.filters.UserFilterCriteria;
+import jakarta.persistence.criteria.AbstractQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
@@ -11,11 +16,12 @@ import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -23,13 +29,13 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import static java.util.Objects.nonNull;
 
 @Repository
 public class UserTableRepo {
     private final EntityManager entityManager;
     private final CriteriaBuilder criteriaBuilder;
+    private static final String ID = "id";
     private static final String ORDERS = "orders";
     private static final String ORDER_DATE = "orderDate";
     private static final String DATE_OF_REGISTRATION = "dateOfRegistration";
@@ -50,38 +56,80 @@ public class UserTableRepo {
     }
 
     /**
-     * Finds list of User who have made at least one order.
+     * Finds the users who have made at least one order and have at least one order
+     * in the tariffs of the given employee, together with the number and the date
+     * of their last order. The tariffs are checked with a join in the database and
+     * the total number of users is counted there as well.
      *
-     * @return {@link Page} of {@link User}.
+     * @return {@link Page} of {@link UserTableRowDto}.
      * @author - Stepan Tehlivets.
      */
-
-    public Page<User> findAll(UserFilterCriteria userFilterCriteria, String column,
-        SortingOrder sortingOrder, CustomerPage page, List<Long> usId) {
-        CriteriaQuery<User> criteriaQuery = criteriaBuilder.createQuery(User.class);
+    public Page<UserTableRowDto> findAll(UserFilterCriteria userFilterCriteria, String column,
+        SortingOrder sortingOrder, CustomerPage page, Long employeeId) {
+        CriteriaQuery<UserTableRowDto> criteriaQuery = criteriaBuilder.createQuery(UserTableRowDto.class);
         Root<User> userRoot = criteriaQuery.from(User.class);
-        userRoot.join(ORDERS, JoinType.INNER);
-        criteriaQuery.groupBy(userRoot.get("id"));
-        setOrder(column, sortingOrder, criteriaQuery, userRoot);
-        if (userFilterCriteria != null) {
-            Predicate predicateWhere = getPredicateForWhereAnd(userFilterCriteria, userRoot);
-            Predicate predicateWhere2 = getPredicateForWhereOr(userRoot, usId);
-            Predicate predicateHaving = getPredicateForHaving(userFilterCriteria, userRoot);
-            criteriaQuery.where(predicateWhere, predicateWhere2);
-            criteriaQuery.having(predicateHaving);
-        }
+        Join<User, Order> orderJoin = userRoot.join(ORDERS, JoinType.INNER);
+        criteriaQuery.select(criteriaBuilder.construct(UserTableRowDto.class,
+            userRoot.get(ID),
+            userRoot.get(RECIPIENT_NAME),
+            userRoot.get("recipientSurname"),
+            userRoot.get(RECIPIENT_EMAIL),
+            userRoot.get(RECIPIENT_PHONE),
+            userRoot.get(VIOLATIONS),
+            userRoot.get(POINTS),
+            userRoot.get(DATE_OF_REGISTRATION),
+            criteriaBuilder.count(orderJoin),
+            criteriaBuilder.max(orderJoin.get(ORDER_DATE))));
+        filter(criteriaQuery, userFilterCriteria, employeeId, userRoot, orderJoin);
+        setOrder(column, sortingOrder, criteriaQuery, userRoot, orderJoin);
 
-        TypedQuery<User> typedQuery = entityManager.createQuery(criteriaQuery);
-        long usersCount = typedQuery.getResultList().size();
+        TypedQuery<UserTableRowDto> typedQuery = entityManager.createQuery(criteriaQuery);
         typedQuery.setFirstResult(page.getPageNumber() * page.getPageSize());
         typedQuery.setMaxResults(page.getPageSize());
 
         Sort sort = Sort.by(Sort.Direction.valueOf(sortingOrder.toString()), RECIPIENT_PHONE);
         Pageable pageable = PageRequest.of(page.getPageNumber(), page.getPageSize(), sort);
 
-        List<User> resultList = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+            () -> count(userFilterCriteria, employeeId));
+    }
+
+    private long count(UserFilterCriteria userFilterCriteria, Long employeeId) {
+        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+        Root<User> countRoot = countQuery.from(User.class);
+        Subquery<Long> matchingUsers = countQuery.subquery(Long.class);
+        Root<User> userRoot = matchingUsers.from(User.class);
+        Join<User, Order> orderJoin = userRoot.join(ORDERS, JoinType.INNER);
+        matchingUsers.select(userRoot.get(ID));
+        filter(matchingUsers, userFilterCriteria, employeeId, userRoot, orderJoin);
+        countQuery.select(criteriaBuilder.count(countRoot))
+            .where(countRoot.get(ID).in(matchingUsers));
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    private void filter(AbstractQuery<?> query, UserFilterCriteria userFilterCriteria, Long employeeId,
+        Root<User> userRoot, Join<User, Order> orderJoin) {
+        query.groupBy(userRoot.get(ID));
+        Predicate tariffsPredicate = getPredicateForEmployeeTariffs(query, userRoot, employeeId);
+        if (userFilterCriteria != null) {
+            query.where(tariffsPredicate, getPredicateForWhereAnd(userFilterCriteria, userRoot));
+            query.having(getPredicateForHaving(userFilterCriteria, userRoot, orderJoin));
+        } else {
+            query.where(tariffsPredicate);
+        }
+    }
 
-        return new PageImpl<>(resultList, pageable, usersCount);
+    private Predicate getPredicateForEmployeeTariffs(AbstractQuery<?> query, Root<User> userRoot,
+        Long employeeId) {
+        Subquery<Long> employeeOrders = query.subquery(Long.class);
+        Root<Order> orderRoot = employeeOrders.from(Order.class);
+        Root<Employee> employeeRoot = employeeOrders.from(Employee.class);
+        Join<Employee, TariffsInfo> tariffsInfoJoin = employeeRoot.join("tariffInfos", JoinType.INNER);
+        employeeOrders.select(orderRoot.get(ID))
+            .where(criteriaBuilder.equal(orderRoot.get("user"), userRoot),
+                criteriaBuilder.equal(orderRoot.get("tariffsInfo"), tariffsInfoJoin),
+                criteriaBuilder.equal(employeeRoot.get(ID), employeeId));
+        return criteriaBuilder.exists(employeeOrders);
     }
 
     private Predicate getPredicateForWhereAnd(UserFilterCriteria us, Root<User> userRoot) {
@@ -98,91 +146,71 @@ public class UserTableRepo {
         return criteriaBuilder.and(predicateList.toArray(new Predicate[0]));
     }
 
-    private Predicate getPredicateForWhereOr(Root<User> userRoot, List<Long> usId) {
-        List<Predicate> predicateList = new ArrayList<>();
-        predicateList.addAll(userTariffsInfoFiltering(usId, userRoot));
-        return criteriaBuilder.or(predicateList.toArray(new Predicate[0]));
-    }
-
-    private void searchUsers(UserFilterCriteria us, Root<User> userRoot, List<Predicate> predicateList) {
-        Optional<Join<User, ?>> orderJoin = userRoot.getJoins().stream().findFirst();
-        if (orderJoin.isPresent()) {
-            Expression<Long> expression = criteriaBuilder.count(orderJoin.get().get("user"));
-            Predicate predicate = criteriaBuilder.or(
-                criteriaBuilder.like((userRoot.get(DATE_OF_REGISTRATION)).as(String.class),
-                    anyMatch(us.getSearch())),
-                criteriaBuilder.like(
-                    criteriaBuilder.max(orderJoin.get().get(ORDER_DATE)).as(String.class),
-                    anyMatch(us.getSearch())),
-                criteriaBuilder.like((userRoot.get(VIOLATIONS).as(String.class)),
-                    anyMatch(us.getSearch())),
-                criteriaBuilder.like(criteriaBuilder.upper(userRoot.get(RECIPIENT_NAME)),
-                    anyMatch(us.getSearch())),
-                criteriaBuilder.like(criteriaBuilder.upper(userRoot.get(RECIPIENT_EMAIL)),
-                    anyMatch(us.getSearch())),
-                criteriaBuilder.like((userRoot.get(RECIPIENT_PHONE)),
-                    anyMatch(us.getSearch())),
-                criteriaBuilder.like(expression.as(String.class),
-                    anyMatch(us.getSearch())),
-                criteriaBuilder.like((userRoot.get(POINTS).as(String.class)),
-                    anyMatch(us.getSearch())));
-            predicateList.add(predicate);
-        }
+    private void searchUsers(UserFilterCriteria us, Root<User> userRoot, Join<User, Order> orderJoin,
+        List<Predicate> predicateList) {
+        Expression<Long> expression = criteriaBuilder.count(orderJoin);
+        Predicate predicate = criteriaBuilder.or(
+            criteriaBuilder.like((userRoot.get(DATE_OF_REGISTRATION)).as(String.class),
+                anyMatch(us.getSearch())),
+            criteriaBuilder.like(
+                criteriaBuilder.max(orderJoin.get(ORDER_DATE)).as(String.class),
+                anyMatch(us.getSearch())),
+            criteriaBuilder.like((userRoot.get(VIOLATIONS).as(String.class)),
+                anyMatch(us.getSearch())),
+            criteriaBuilder.like(criteriaBuilder.upper(userRoot.get(RECIPIENT_NAME)),
+                anyMatch(us.getSearch())),
+            criteriaBuilder.like(criteriaBuilder.upper(userRoot.get(RECIPIENT_EMAIL)),
+                anyMatch(us.getSearch())),
+            criteriaBuilder.like((userRoot.get(RECIPIENT_PHONE)),
+                anyMatch(us.getSearch())),
+            criteriaBuilder.like(expression.as(String.class),
+                anyMatch(us.getSearch())),
+            criteriaBuilder.like((userRoot.get(POINTS).as(String.class)),
+                anyMatch(us.getSearch())));
+        predicateList.add(predicate);
     }
 
-    private Predicate getPredicateForHaving(UserFilterCriteria us, Root<User> userRoot) {
+    private Predicate getPredicateForHaving(UserFilterCriteria us, Root<User> userRoot,
+        Join<User, Order> orderJoin) {
         List<Predicate> predicateList = new ArrayList<>();
 
         if (nonNull(us.getOrderDate())) {
             DateTimeFormatter df = DateTimeFormatter.ofPattern(DATE_FORMAT);
-            Optional<Join<User, ?>> orderJoin = userRoot.getJoins().stream().findFirst();
+            Expression<LocalDate> lastOrderDate = criteriaBuilder.max(orderJoin.get(ORDER_DATE)).as(LocalDate.class);
             if (us.getOrderDate().length == 1) {
                 LocalDate number = LocalDate.parse(us.getOrderDate()[0], df);
-                orderJoin.ifPresent(userJoin -> predicateList.add(criteriaBuilder.greaterThanOrEqualTo(
-                    criteriaBuilder.max(userJoin.get(ORDER_DATE)).as(LocalDate.class),
-                    number)));
+                predicateList.add(criteriaBuilder.greaterThanOrEqualTo(lastOrderDate, number));
             } else if (us.getOrderDate()[0].equals("0")) {
                 LocalDate number = LocalDate.parse(us.getOrderDate()[1], df);
-                orderJoin.ifPresent(userJoin -> predicateList.add(criteriaBuilder
-                    .lessThanOrEqualTo(criteriaBuilder.max(userJoin.get(ORDER_DATE)).as(LocalDate.class), number)));
+                predicateList.add(criteriaBuilder.lessThanOrEqualTo(lastOrderDate, number));
             } else {
                 LocalDate number1 = LocalDate.parse(us.getOrderDate()[0], df);
                 LocalDate number2 = LocalDate.parse(us.getOrderDate()[1], df);
-                if (orderJoin.isPresent()) {
-                    orderJoin.ifPresent(userJoin -> predicateList.add(criteriaBuilder.greaterThanOrEqualTo(
-                        criteriaBuilder.max(userJoin.get(ORDER_DATE)).as(LocalDate.class),
-                        number1)));
-                    orderJoin.ifPresent(userJoin -> predicateList.add(criteriaBuilder.lessThanOrEqualTo(
-                        criteriaBuilder.max(userJoin.get(ORDER_DATE)).as(LocalDate.class), number2)));
-                }
+                predicateList.add(criteriaBuilder.greaterThanOrEqualTo(lastOrderDate, number1));
+                predicateList.add(criteriaBuilder.lessThanOrEqualTo(lastOrderDate, number2));
             }
         }
         if (nonNull(us.getNumberOfOrders())) {
-            predicateList.add(userOrdersFiltering(us.getNumberOfOrders(), userRoot));
+            predicateList.add(userOrdersFiltering(us.getNumberOfOrders(), orderJoin));
         }
 
         if (nonNull(us.getSearch())) {
-            searchUsers(us, userRoot, predicateList);
+            searchUsers(us, userRoot, orderJoin, predicateList);
         }
 
         return criteriaBuilder.and(predicateList.toArray(new Predicate[0]));
     }
 
-    private void setOrder(String column, SortingOrder sortingOrder, CriteriaQuery<User> criteriaQuery,
-        Root<User> userRoot) {
+    private void setOrder(String column, SortingOrder sortingOrder, CriteriaQuery<UserTableRowDto> criteriaQuery,
+        Root<User> userRoot, Join<User, Order> orderJoin) {
         Expression<?> sortBy = userRoot.get(RECIPIENT_NAME);
-        Optional<Join<User, ?>> first = userRoot.getJoins().stream().findFirst();
         if (nonNull(column)) {
             switch (column) {
                 case ORDER_DATE:
-                    if (first.isPresent()) {
-                        sortBy = criteriaBuilder.max(first.get().get(ORDER_DATE));
-                    }
+                    sortBy = criteriaBuilder.max(orderJoin.get(ORDER_DATE));
                     break;
                 case "number_of_orders":
-                    if (first.isPresent()) {
-                        sortBy = criteriaBuilder.count(first.get().get("user"));
-                    }
+                    sortBy = criteriaBuilder.count(orderJoin);
                     break;
                 case "clientName":
                     sortBy = userRoot.get(RECIPIENT_NAME);
@@ -193,20 +221,12 @@ public class UserTableRepo {
             }
         }
         if (sortingOrder.equals(SortingOrder.DESC)) {
-            criteriaQuery.orderBy(criteriaBuilder.desc(sortBy));
+            criteriaQuery.orderBy(criteriaBuilder.desc(sortBy), criteriaBuilder.desc(userRoot.get(ID)));
         } else {
-            criteriaQuery.orderBy(criteriaBuilder.asc(sortBy));
+            criteriaQuery.orderBy(criteriaBuilder.asc(sortBy), criteriaBuilder.asc(userRoot.get(ID)));
         }
     }
 
-    private List<Predicate> userTariffsInfoFiltering(List<Long> usId, Root<User> userRoot) {
-        List<Predicate> predicateList = new ArrayList<>();
-        for (Long id : usId) {
-            predicateList.add(criteriaBuilder.equal(userRoot.get("id"), id));
-        }
-        return predicateList;
-    }
-
     private Predicate userRegistrationDateFiltering(String[] dates, Root<User> userRoot) {
         DateTimeFormatter df = DateTimeFormatter.ofPattern(DATE_FORMAT);
         if (dates.length == 1) {
@@ -247,12 +267,8 @@ public class UserTableRepo {
         }
     }
 
-    private Predicate userOrdersFiltering(String[] bonuses, Root<User> userRoot) {
-        Optional<Join<User, ?>> orderJoin = userRoot.getJoins().stream().findFirst();
-        Expression<Long> expression = null;
-        if (orderJoin.isPresent()) {
-            expression = criteriaBuilder.count(orderJoin.get().get("user"));
-        }
+    private Predicate userOrdersFiltering(String[] bonuses, Join<User, Order> orderJoin) {
+        Expression<Long> expression = criteriaBuilder.count(orderJoin);
         if (bonuses.length == 1) {
             long number = Integer.parseInt(bonuses[0]);
             return criteriaBuilder.greaterThanOrEqualTo(expression, number);
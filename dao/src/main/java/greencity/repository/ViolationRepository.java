@@ -4,6 +4,8 @@ import greencity.entity.user.Violation;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ViolationRepository extends CrudRepository<Violation, Long> {
@@ -49,4 +51,15 @@ public interface ViolationRepository extends CrudRepository<Violation, Long> {
         + " where v.order_id = :orderId"
         + " and v.violation_status = 'ACTIVE'", nativeQuery = true)
     Optional<Violation> findActiveViolationByOrderId(@Param(value = "orderId") Long orderId);
+
+    /**
+     * Method returns active violations of all the given orders.
+     *
+     * @param orderIds ids of the orders.
+     * @return list of {@link Violation} .
+     */
+    @Query(value = "select * from violations_description_mapping v"
+        + " where v.order_id in (:orderIds)"
+        + " and v.violation_status = 'ACTIVE'", nativeQuery = true)
+    List<Violation> findActiveViolationsByOrderIds(@Param(value = "orderIds") Collection<Long> orderIds);
 }
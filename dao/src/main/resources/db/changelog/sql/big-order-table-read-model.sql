@@ -0,0 +1,258 @@
+-- big_order_table becomes a denormalized read model of the former view.
+-- The view is kept as big_order_table_view and is the single source of truth
+-- for a row; triggers on the source tables refresh only the affected orders.
+
+ALTER VIEW big_order_table RENAME TO big_order_table_view;
+
+CREATE TABLE big_order_table AS
+SELECT *
+FROM big_order_table_view;
+
+ALTER TABLE big_order_table
+    ADD CONSTRAINT big_order_table_pk PRIMARY KEY (id);
+
+CREATE INDEX big_order_table_tariffs_info_id_idx ON big_order_table (tariffs_info_id, id);
+CREATE INDEX big_order_table_order_date_idx ON big_order_table (order_date);
+CREATE INDEX big_order_table_payment_date_idx ON big_order_table (payment_date);
+CREATE INDEX big_order_table_date_of_export_idx ON big_order_table (date_of_export);
+CREATE INDEX big_order_table_order_status_idx ON big_order_table (order_status);
+CREATE INDEX big_order_table_order_payment_status_idx ON big_order_table (order_payment_status);
+CREATE INDEX big_order_table_receiving_station_id_idx ON big_order_table (receiving_station_id);
+CREATE INDEX big_order_table_responsible_caller_id_idx ON big_order_table (responsible_caller_id);
+CREATE INDEX big_order_table_responsible_driver_id_idx ON big_order_table (responsible_driver_id);
+CREATE INDEX big_order_table_responsible_logic_man_id_idx ON big_order_table (responsible_logic_man_id);
+CREATE INDEX big_order_table_responsible_navigator_id_idx ON big_order_table (responsible_navigator_id);
+CREATE INDEX big_order_table_region_idx ON big_order_table (upper(region));
+CREATE INDEX big_order_table_city_idx ON big_order_table (upper(city));
+CREATE INDEX big_order_table_district_idx ON big_order_table (upper(district));
+CREATE INDEX big_order_table_region_en_idx ON big_order_table (upper(region_en));
+CREATE INDEX big_order_table_city_en_idx ON big_order_table (upper(city_en));
+CREATE INDEX big_order_table_district_en_idx ON big_order_table (upper(district_en));
+
+CREATE OR REPLACE FUNCTION refresh_big_order_table(order_ids bigint[]) RETURNS void AS $$
+BEGIN
+    IF order_ids IS NULL OR cardinality(order_ids) = 0 THEN
+        RETURN;
+    END IF;
+
+    DELETE FROM big_order_table bot
+    WHERE bot.id = ANY (order_ids)
+      AND NOT EXISTS (SELECT 1 FROM orders o WHERE o.id = bot.id);
+
+    INSERT INTO big_order_table
+    SELECT *
+    FROM big_order_table_view v
+    WHERE v.id = ANY (order_ids)
+    ON CONFLICT (id) DO UPDATE SET
+        order_status = EXCLUDED.order_status,
+        order_payment_status = EXCLUDED.order_payment_status,
+        order_date = EXCLUDED.order_date,
+        payment_date = EXCLUDED.payment_date,
+        client_name = EXCLUDED.client_name,
+        client_phone_number = EXCLUDED.client_phone_number,
+        client_email = EXCLUDED.client_email,
+        sender_name = EXCLUDED.sender_name,
+        sender_phone = EXCLUDED.sender_phone,
+        sender_email = EXCLUDED.sender_email,
+        violations_amount = EXCLUDED.violations_amount,
+        region = EXCLUDED.region,
+        city = EXCLUDED.city,
+        district = EXCLUDED.district,
+        address = EXCLUDED.address,
+        comment_to_address_for_client = EXCLUDED.comment_to_address_for_client,
+        bag_amount = EXCLUDED.bag_amount,
+        total_order_sum = EXCLUDED.total_order_sum,
+        order_certificate_code = EXCLUDED.order_certificate_code,
+        general_discount = EXCLUDED.general_discount,
+        amount_due = EXCLUDED.amount_due,
+        comment_for_order_by_client = EXCLUDED.comment_for_order_by_client,
+        total_payment = EXCLUDED.total_payment,
+        date_of_export = EXCLUDED.date_of_export,
+        time_of_export = EXCLUDED.time_of_export,
+        id_order_from_shop = EXCLUDED.id_order_from_shop,
+        receiving_station = EXCLUDED.receiving_station,
+        receiving_station_id = EXCLUDED.receiving_station_id,
+        responsible_logic_man = EXCLUDED.responsible_logic_man,
+        responsible_logic_man_id = EXCLUDED.responsible_logic_man_id,
+        responsible_driver = EXCLUDED.responsible_driver,
+        responsible_driver_id = EXCLUDED.responsible_driver_id,
+        responsible_caller = EXCLUDED.responsible_caller,
+        responsible_caller_id = EXCLUDED.responsible_caller_id,
+        responsible_navigator = EXCLUDED.responsible_navigator,
+        responsible_navigator_id = EXCLUDED.responsible_navigator_id,
+        is_blocked = EXCLUDED.is_blocked,
+        blocked_by = EXCLUDED.blocked_by,
+        region_en = EXCLUDED.region_en,
+        city_en = EXCLUDED.city_en,
+        district_en = EXCLUDED.district_en,
+        address_en = EXCLUDED.address_en,
+        tariffs_info_id = EXCLUDED.tariffs_info_id,
+        comment_for_order_by_admin = EXCLUDED.comment_for_order_by_admin;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION rebuild_big_order_table() RETURNS bigint AS $$
+DECLARE
+    rows_count bigint;
+BEGIN
+    DELETE FROM big_order_table;
+
+    INSERT INTO big_order_table
+    SELECT *
+    FROM big_order_table_view;
+
+    GET DIAGNOSTICS rows_count = ROW_COUNT;
+    RETURN rows_count;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_orders_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM big_order_table WHERE id = OLD.id;
+    ELSE
+        PERFORM refresh_big_order_table(ARRAY [NEW.id]);
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_order_child_change() RETURNS TRIGGER AS $$
+DECLARE
+    order_column text := TG_ARGV[0];
+    old_order_id bigint;
+    new_order_id bigint;
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        old_order_id := (to_jsonb(OLD) ->> order_column)::bigint;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        new_order_id := (to_jsonb(NEW) ->> order_column)::bigint;
+    END IF;
+
+    IF old_order_id IS DISTINCT FROM new_order_id THEN
+        PERFORM refresh_big_order_table(array_remove(ARRAY [old_order_id, new_order_id], NULL));
+    ELSE
+        PERFORM refresh_big_order_table(ARRAY [new_order_id]);
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_ubs_user_change() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_big_order_table(ARRAY(SELECT o.id FROM orders o WHERE o.ubs_user_id = NEW.id));
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_user_change() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_big_order_table(ARRAY(SELECT o.id FROM orders o WHERE o.users_id = NEW.id));
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_employee_change() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_big_order_table(ARRAY(
+        SELECT o.id FROM orders o WHERE o.employee_id = NEW.id
+        UNION
+        SELECT eop.order_id FROM employee_order_position eop WHERE eop.employee_id = NEW.id));
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_receiving_station_change() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_big_order_table(ARRAY(SELECT o.id FROM orders o WHERE o.receiving_station_id = NEW.id));
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_bag_change() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_big_order_table(ARRAY(
+        SELECT DISTINCT obm.order_id FROM order_bag_mapping obm WHERE obm.bag_id = NEW.id));
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION big_order_table_on_truncate() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_TABLE_NAME = 'orders' THEN
+        TRUNCATE big_order_table;
+    ELSE
+        PERFORM rebuild_big_order_table();
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER big_order_table_orders_change
+    AFTER INSERT OR UPDATE OR DELETE ON orders
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_orders_change();
+
+CREATE TRIGGER big_order_table_payment_change
+    AFTER INSERT OR UPDATE OR DELETE ON payment
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_order_child_change('order_id');
+
+CREATE TRIGGER big_order_table_certificate_change
+    AFTER INSERT OR UPDATE OR DELETE ON certificate
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_order_child_change('order_id');
+
+CREATE TRIGGER big_order_table_order_bag_mapping_change
+    AFTER INSERT OR UPDATE OR DELETE ON order_bag_mapping
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_order_child_change('order_id');
+
+CREATE TRIGGER big_order_table_employee_order_position_change
+    AFTER INSERT OR UPDATE OR DELETE ON employee_order_position
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_order_child_change('order_id');
+
+CREATE TRIGGER big_order_table_order_additional_change
+    AFTER INSERT OR UPDATE OR DELETE ON order_additional
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_order_child_change('orders_id');
+
+CREATE TRIGGER big_order_table_ubs_user_change
+    AFTER UPDATE ON ubs_user
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_ubs_user_change();
+
+CREATE TRIGGER big_order_table_order_address_change
+    AFTER INSERT OR UPDATE ON order_address
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_ubs_user_change();
+
+CREATE TRIGGER big_order_table_users_change
+    AFTER UPDATE OF violations ON users
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_user_change();
+
+CREATE TRIGGER big_order_table_employees_change
+    AFTER UPDATE OF first_name, last_name ON employees
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_employee_change();
+
+CREATE TRIGGER big_order_table_receiving_stations_change
+    AFTER UPDATE OF name ON receiving_stations
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_receiving_station_change();
+
+CREATE TRIGGER big_order_table_bag_change
+    AFTER UPDATE OF capacity ON bag
+    FOR EACH ROW EXECUTE PROCEDURE big_order_table_on_bag_change();
+
+CREATE TRIGGER big_order_table_orders_truncate
+    AFTER TRUNCATE ON orders
+    FOR EACH STATEMENT EXECUTE PROCEDURE big_order_table_on_truncate();
+
+CREATE TRIGGER big_order_table_payment_truncate
+    AFTER TRUNCATE ON payment
+    FOR EACH STATEMENT EXECUTE PROCEDURE big_order_table_on_truncate();
+
+CREATE TRIGGER big_order_table_certificate_truncate
+    AFTER TRUNCATE ON certificate
+    FOR EACH STATEMENT EXECUTE PROCEDURE big_order_table_on_truncate();
+
+CREATE TRIGGER big_order_table_order_bag_mapping_truncate
+    AFTER TRUNCATE ON order_bag_mapping
+    FOR EACH STATEMENT EXECUTE PROCEDURE big_order_table_on_truncate();
+
+CREATE TRIGGER big_order_table_employee_order_position_truncate
+    AFTER TRUNCATE ON employee_order_position
+    FOR EACH STATEMENT EXECUTE PROCEDURE big_order_table_on_truncate();
@@ -0,0 +1,23 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE big_order_table
+    ADD COLUMN search_text text GENERATED ALWAYS AS (lower(
+        id::text || E'\n' ||
+        coalesce(id_order_from_shop, '') || E'\n' ||
+        coalesce(client_name, '') || E'\n' ||
+        coalesce(client_phone_number, '') || E'\n' ||
+        coalesce(client_email, '') || E'\n' ||
+        coalesce(sender_name, '') || E'\n' ||
+        coalesce(sender_phone, '') || E'\n' ||
+        coalesce(sender_email, '') || E'\n' ||
+        coalesce(region, '') || E'\n' ||
+        coalesce(city, '') || E'\n' ||
+        coalesce(district, '') || E'\n' ||
+        coalesce(address, '') || E'\n' ||
+        coalesce(region_en, '') || E'\n' ||
+        coalesce(city_en, '') || E'\n' ||
+        coalesce(district_en, '') || E'\n' ||
+        coalesce(address_en, '') || E'\n' ||
+        coalesce(order_certificate_code, ''))) STORED;
+
+CREATE INDEX big_order_table_search_text_idx ON big_order_table USING gin (search_text gin_trgm_ops);
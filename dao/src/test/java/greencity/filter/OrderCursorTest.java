@@ -0,0 +1,55 @@
+package greencity.filter;
+
+import greencity.filters.OrderCursor;
+import greencity.filters.OrderPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderCursorTest {
+    @Test
+    void encodeAndDecodeTest() {
+        var cursor = new OrderCursor("clientName", Sort.Direction.ASC, 15L, "Іван: Петренко");
+
+        var decoded = OrderCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void encodeAndDecodeNullValueTest() {
+        var cursor = new OrderCursor("paymentDate", Sort.Direction.DESC, 3L, null);
+
+        var decoded = OrderCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertNull(decoded.getSortValue());
+    }
+
+    @Test
+    void encodeAndDecodeEmptyValueTest() {
+        var cursor = new OrderCursor("city", Sort.Direction.DESC, 3L, "");
+
+        assertEquals("", OrderCursor.decode(cursor.encode()).getSortValue());
+    }
+
+    @Test
+    void decodeMalformedCursorTest() {
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("aWQ6REVTQw"));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("aWQ6REVTQzoxOng"));
+    }
+
+    @Test
+    void matchesTest() {
+        var cursor = new OrderCursor("id", Sort.Direction.DESC, 1L, "1");
+
+        assertTrue(cursor.matches(new OrderPage()));
+        assertFalse(cursor.matches(new OrderPage().setSortDirection(Sort.Direction.ASC)));
+        assertFalse(cursor.matches(new OrderPage().setSortBy("orderDate")));
+    }
+}
@@ -170,6 +170,12 @@ public final class ErrorMessage {
         "This template does not contain messages for all platforms: ";
     public static final String PREDEFINED_NOTIFICATION_CANNOT_BE_DELETED =
         "Predefined notification template cannot be deleted.";
+    public static final String INVALID_ORDER_CURSOR = "Cursor is malformed or was created for another sorting: ";
+    public static final String RELEVANCE_SORTING_IS_NOT_SUPPORTED_BY_CURSOR =
+        "Sorting by relevance is not supported for cursor pagination";
+    public static final String TARIFF_REPRICING_JOB_NOT_FOUND = "Tariff repricing job not found for bag with id: ";
+    public static final String OUTBOUND_CONCURRENCY_LIMIT_EXCEEDED =
+        "Too many concurrent calls to the remote destination: ";
 
     /**
      * Constructor.
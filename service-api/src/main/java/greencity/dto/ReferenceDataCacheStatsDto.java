@@ -0,0 +1,22 @@
+package greencity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReferenceDataCacheStatsDto {
+    private String name;
+    private long version;
+    private int size;
+    private long ttlSeconds;
+    private long hitCount;
+    private long missCount;
+    private long invalidationCount;
+    private double hitRate;
+    private long oldestEntryAgeSeconds;
+}
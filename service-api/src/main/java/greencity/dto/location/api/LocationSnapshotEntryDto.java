@@ -0,0 +1,27 @@
+package greencity.dto.location.api;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Location of the KATOTTG hierarchy as it is stored in the snapshot file, with
+ * the same fields as in the responses of the location API.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LocationSnapshotEntryDto {
+    private String code;
+    @JsonProperty("parent_id")
+    private String parentId;
+    private int level;
+    private String name;
+    @JsonProperty("name_en")
+    private String nameEn;
+}
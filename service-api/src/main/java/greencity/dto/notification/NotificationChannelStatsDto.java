@@ -0,0 +1,25 @@
+package greencity.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationChannelStatsDto {
+    private String channel;
+    private int queueSize;
+    private int queueCapacity;
+    private int activeCount;
+    private int concurrency;
+    private double permitsPerSecond;
+    private long sentCount;
+    private long retriedCount;
+    private long failedCount;
+    private long callerRunsCount;
+    private double averageSendLatencyMillis;
+    private long maxSendLatencyMillis;
+}
@@ -0,0 +1,26 @@
+package greencity.dto.service;
+
+import greencity.enums.TariffRepricingJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TariffRepricingJobDto {
+    private Long id;
+    private Integer bagId;
+    private boolean priceChanged;
+    private TariffRepricingJobStatus status;
+    private long lastOrderId;
+    private int processedOrders;
+    private int attempts;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -2,13 +2,11 @@ package greencity.service.locations;
 
 import greencity.dto.location.api.LocationDto;
 import greencity.exceptions.NotFoundException;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.stereotype.Service;
 import java.net.URI;
 import java.util.List;
 
 @Service
-@EnableCaching
 public interface LocationApiService {
     /**
      * Retrieves all districts in a city by the city's name. There's a special case
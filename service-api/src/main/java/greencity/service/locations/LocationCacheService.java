@@ -0,0 +1,20 @@
+package greencity.service.locations;
+
+import greencity.dto.location.api.LocationCacheStatsDto;
+import java.util.List;
+
+public interface LocationCacheService {
+    /**
+     * Method returns size, hit, miss and eviction statistics of every cache region
+     * used by {@link LocationApiService}.
+     *
+     * @return list of {@link LocationCacheStatsDto}.
+     */
+    List<LocationCacheStatsDto> getStats();
+
+    /**
+     * Method removes all entries from every cache region used by
+     * {@link LocationApiService}.
+     */
+    void invalidateAll();
+}
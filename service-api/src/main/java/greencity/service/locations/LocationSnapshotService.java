@@ -0,0 +1,55 @@
+package greencity.service.locations;
+
+import greencity.dto.location.api.LocationDto;
+import java.util.List;
+import java.util.Optional;
+
+public interface LocationSnapshotService {
+    /**
+     * Retrieves all locations of the level from the snapshot.
+     *
+     * @param level The hierarchical level of the locations.
+     * @return A list of LocationDto, or empty {@link Optional} when no snapshot is
+     *         loaded.
+     */
+    Optional<List<LocationDto>> getLocationDataByLevel(int level);
+
+    /**
+     * Retrieves locations of the level with the given Ukrainian or English name
+     * from the snapshot. Quotes in the name are normalized the same way as in the
+     * snapshot.
+     *
+     * @param level The hierarchical level of the locations.
+     * @param name  The name of the location.
+     * @return A list of LocationDto, or empty {@link Optional} when no snapshot is
+     *         loaded.
+     */
+    Optional<List<LocationDto>> getLocationDataByName(int level, String name);
+
+    /**
+     * Retrieves locations of the level which belong to the given upper location
+     * from the snapshot.
+     *
+     * @param level   The hierarchical level of the locations.
+     * @param upperId The code of the upper location.
+     * @return A list of LocationDto, or empty {@link Optional} when no snapshot is
+     *         loaded.
+     */
+    Optional<List<LocationDto>> getLocationDataByUpperId(int level, String upperId);
+
+    /**
+     * Retrieves the location of the level with the given code from the snapshot.
+     *
+     * @param level The hierarchical level of the location.
+     * @param code  The code of the location.
+     * @return The LocationDto, or empty {@link Optional} when no snapshot is loaded
+     *         or the snapshot has no such location.
+     */
+    Optional<LocationDto> getLocationDataByCode(int level, String code);
+
+    /**
+     * Loads the snapshot from the configured file when it has changed since the
+     * last load. The previous snapshot is kept when the file cannot be read.
+     */
+    void refresh();
+}
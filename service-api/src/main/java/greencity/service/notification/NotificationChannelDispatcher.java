@@ -0,0 +1,26 @@
+package greencity.service.notification;
+
+import greencity.dto.notification.NotificationChannelStatsDto;
+import greencity.entity.notifications.UserNotification;
+import java.util.List;
+
+public interface NotificationChannelDispatcher {
+    /**
+     * Method puts the notification into the queue of every notification provider.
+     * Every provider sends it independently of the others, so a slow or failing
+     * provider does not delay the rest.
+     *
+     * @param notification              {@link UserNotification} notification to
+     *                                  send.
+     * @param monthsOfAccountInactivity number of months of the account inactivity.
+     */
+    void dispatch(UserNotification notification, long monthsOfAccountInactivity);
+
+    /**
+     * Method returns queue depth, send latency and delivery statistics of every
+     * channel.
+     *
+     * @return list of {@link NotificationChannelStatsDto}.
+     */
+    List<NotificationChannelStatsDto> getStats();
+}
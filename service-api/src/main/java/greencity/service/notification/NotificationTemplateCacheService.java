@@ -0,0 +1,45 @@
+package greencity.service.notification;
+
+import greencity.dto.notification.NotificationDto;
+import greencity.entity.notifications.UserNotification;
+import greencity.enums.NotificationReceiverType;
+
+public interface NotificationTemplateCacheService {
+    /**
+     * Method renders title and body of the notification for the given receiver type
+     * and language. The template of the notification is loaded from the database
+     * and compiled only when it is absent in the cache or its entry has expired.
+     *
+     * @param notification              {@link UserNotification} notification to
+     *                                  render.
+     * @param language                  {@link String} language code.
+     * @param receiverType              {@link NotificationReceiverType} platform of
+     *                                  the template.
+     * @param monthsOfAccountInactivity months of inactivity of the user's account.
+     * @return {@link NotificationDto} with rendered title and body.
+     */
+    NotificationDto createNotificationDto(UserNotification notification, String language,
+        NotificationReceiverType receiverType, long monthsOfAccountInactivity);
+
+    /**
+     * Method returns title of the notification template for the given receiver type
+     * and language.
+     *
+     * @param notification {@link UserNotification} notification.
+     * @param language     {@link String} language code.
+     * @param receiverType {@link NotificationReceiverType} platform of the
+     *                     template.
+     * @return {@link String} title.
+     */
+    String getTitle(UserNotification notification, String language, NotificationReceiverType receiverType);
+
+    /**
+     * Method removes the template with the given id from the cache for all receiver
+     * types. When called inside a transaction, the template is removed once more
+     * after the commit, so that the old version read by a concurrent request is not
+     * kept.
+     *
+     * @param templateId {@link Long} id of the template.
+     */
+    void evict(Long templateId);
+}
@@ -0,0 +1,46 @@
+package greencity.service.notification;
+
+import greencity.dto.notification.NotificationUserCacheStatsDto;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface NotificationUserCacheService {
+    /**
+     * Method returns language code of the user with the given email. The user is
+     * loaded from the user service only when it is absent in the cache or its entry
+     * has expired.
+     *
+     * @param email {@link String} user's email.
+     * @return {@link Optional} of language code, empty when the user is deactivated
+     *         or does not exist.
+     */
+    Optional<String> getLanguageCode(String email);
+
+    /**
+     * Method loads into the cache all the given users which are absent in it or
+     * whose entries have expired, so that notification providers sending to them do
+     * not call the user service one by one.
+     *
+     * @param emails {@link Collection} of users' emails.
+     */
+    void prefetch(Collection<String> emails);
+
+    /**
+     * Method removes the user with the given email from the cache.
+     *
+     * @param email {@link String} user's email.
+     */
+    void invalidate(String email);
+
+    /**
+     * Method removes all users from the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Method returns hit, miss and eviction statistics of the cache.
+     *
+     * @return {@link NotificationUserCacheStatsDto}.
+     */
+    NotificationUserCacheStatsDto getStats();
+}
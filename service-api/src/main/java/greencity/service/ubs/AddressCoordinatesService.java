@@ -0,0 +1,12 @@
+package greencity.service.ubs;
+
+public interface AddressCoordinatesService {
+    /**
+     * Method sets the coordinates of their city to the addresses that have no
+     * coordinates, resolving every city once through the geocode cache, so that
+     * placing an order does not wait for the geocoding of its address.
+     *
+     * @return number of updated addresses.
+     */
+    int backfillMissingCoordinates();
+}
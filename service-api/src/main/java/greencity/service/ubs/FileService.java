@@ -1,6 +1,7 @@
 package greencity.service.ubs;
 
 import org.springframework.web.multipart.MultipartFile;
+import java.util.List;
 
 public interface FileService {
     /**
@@ -12,7 +13,17 @@ public interface FileService {
     String upload(MultipartFile multipartFile);
 
     /**
-     * Delete file from Azure Cloud Storage.
+     * Upload files concurrently and wait until all of them are saved. When one of
+     * the files can not be saved, the files that have been saved are deleted.
+     *
+     * @param multipartFiles image files to save.
+     * @return public image urls in the order of the files.
+     */
+    List<String> uploadAll(List<MultipartFile> multipartFiles);
+
+    /**
+     * Delete file from Azure Cloud Storage. The file is deleted in the background
+     * after the current transaction is committed.
      *
      * @param path {@link String}
      */
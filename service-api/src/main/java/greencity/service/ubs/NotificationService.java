@@ -7,6 +7,7 @@ import greencity.entity.order.Order;
 import greencity.entity.user.Violation;
 import greencity.enums.UserCategory;
 import org.springframework.data.domain.Pageable;
+import java.util.List;
 
 public interface NotificationService {
     /**
@@ -155,9 +156,11 @@ public interface NotificationService {
      * Method that creates notification for unpaid orders which tariff price was
      * increased.
      *
+     * @param orderIds ids of the orders repriced after the price of the bag was
+     *                 changed.
      * @author Denys Ryhal
      */
-    void notifyAllOrdersWithIncreasedTariffPrice(Integer bagId);
+    void notifyOrdersWithIncreasedTariffPrice(List<Long> orderIds);
 
     /**
      * Method sends messages by e-mail/notification that order is unpaid.
@@ -2,11 +2,17 @@ package greencity.service.ubs;
 
 import greencity.entity.order.Order;
 import greencity.entity.user.employee.Employee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface OrderLockService {
     /**
-     * Locks the order for editing by a specific employee. If the lock is not
-     * released within the specified duration, it will be automatically unlocked.
+     * Locks the order for editing by a specific employee. The lock is a lease: if
+     * it is not released or renewed within the specified duration, it expires and
+     * the order can be locked by another employee. The lock is taken with a
+     * conditional update, so only one employee gets it even when several instances
+     * of the application try at the same time.
      *
      * @param order    the order to lock.
      * @param employee the employee who locks the order.
@@ -14,15 +20,54 @@ public interface OrderLockService {
     void lockOrder(Order order, Employee employee);
 
     /**
-     * Unlocks the order, allowing it to be edited again.
+     * Locks the orders for editing by a specific employee with one conditional
+     * update. Orders which are locked by the same employee get their lease renewed.
+     *
+     * @param orderIds ids of the orders to lock.
+     * @param employee the employee who locks the orders.
+     * @return ids of the orders locked by the employee.
+     */
+    List<Long> lockOrders(Collection<Long> orderIds, Employee employee);
+
+    /**
+     * Locks all the orders which are not locked or whose lock has expired for a
+     * specific employee.
+     *
+     * @param employee the employee who locks the orders.
+     */
+    void lockAllOrders(Employee employee);
+
+    /**
+     * Unlocks the order, allowing it to be edited again. The change is written
+     * together with the other changes of the order.
      *
      * @param order order to unlock.
      */
     void unlockOrder(Order order);
 
     /**
-     * Periodically checks and unlocks orders that have been locked for longer than
-     * the specified duration.
+     * Unlocks the orders locked by a specific employee with one conditional update.
+     *
+     * @param orderIds ids of the orders to unlock.
+     * @param employee the employee who locked the orders.
+     * @return ids of the unlocked orders.
+     */
+    List<Long> unlockOrders(Collection<Long> orderIds, Employee employee);
+
+    /**
+     * Checks whether the order is locked and its lock has not expired.
+     *
+     * @param order the order to check.
+     * @return {@code true} if the order is locked.
+     */
+    boolean isLocked(Order order);
+
+    /**
+     * Returns ids of the given orders which are locked and whose lock has not
+     * expired.
+     *
+     * @param orderIds ids of the orders to check.
+     * @return ids of the locked orders.
      */
-    void checkLockOrders();
+    Set<Long> getLockedOrderIds(Collection<Long> orderIds);
 }
@@ -0,0 +1,33 @@
+package greencity.service.ubs;
+
+import greencity.dto.payment.PaymentResponseDto;
+
+public interface PaymentCallbackService {
+    /**
+     * Method stores the payment callback in the inbox and hands it over to the
+     * worker of the order after the current transaction is committed. The callback
+     * repeated by the payment system is not stored again.
+     *
+     * @param response {@link PaymentResponseDto} received from the payment system.
+     * @param orderId  id of the paid order.
+     * @return {@code true} if the callback is received for the first time.
+     */
+    boolean receive(PaymentResponseDto response, Long orderId);
+
+    /**
+     * Method applies the stored payment callback to the order, unless it has
+     * already been applied.
+     *
+     * @param callbackId id of the stored callback.
+     * @return {@code true} if the callback has been applied.
+     */
+    boolean process(Long callbackId);
+
+    /**
+     * Method hands over to the workers the payment callbacks that have not been
+     * applied in time.
+     *
+     * @return number of the handed over callbacks.
+     */
+    int retryPending();
+}
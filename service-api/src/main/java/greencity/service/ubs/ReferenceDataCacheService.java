@@ -0,0 +1,78 @@
+package greencity.service.ubs;
+
+import greencity.dto.ReferenceDataCacheStatsDto;
+import greencity.entity.order.Bag;
+import greencity.entity.order.OrderStatusTranslation;
+import greencity.entity.order.Service;
+import greencity.entity.user.employee.Employee;
+import greencity.entity.user.employee.Position;
+import greencity.enums.ReferenceDataRegion;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache of small and rarely changed tables read on hot paths. The returned
+ * entities are shared between requests and must not be modified.
+ */
+public interface ReferenceDataCacheService {
+    /**
+     * Method returns active bags of the tariff.
+     *
+     * @param tariffsInfoId {@link Long} id of the tariff.
+     * @return unmodifiable {@link List} of {@link Bag}.
+     */
+    List<Bag> getActiveBagsByTariffsInfoId(Long tariffsInfoId);
+
+    /**
+     * Method returns the service of the tariff.
+     *
+     * @param tariffsInfoId {@link Long} id of the tariff.
+     * @return {@link Optional} of {@link Service}.
+     */
+    Optional<Service> getServiceByTariffsInfoId(Long tariffsInfoId);
+
+    /**
+     * Method returns all positions of employees.
+     *
+     * @return unmodifiable {@link List} of {@link Position}.
+     */
+    List<Position> getPositions();
+
+    /**
+     * Method returns employees that hold the position.
+     *
+     * @param positionId {@link Long} id of the position.
+     * @return unmodifiable {@link List} of {@link Employee}.
+     */
+    List<Employee> getEmployeesByPositionId(Long positionId);
+
+    /**
+     * Method returns translation of the order status.
+     *
+     * @param id {@link Long} id of the translation.
+     * @return {@link Optional} of {@link OrderStatusTranslation}.
+     */
+    Optional<OrderStatusTranslation> getOrderStatusTranslationById(Long id);
+
+    /**
+     * Method replaces the snapshot of the region with a new empty version. When
+     * called inside a transaction, the region is invalidated once more after the
+     * commit, so that the old data read by a concurrent request is not kept.
+     *
+     * @param region {@link ReferenceDataRegion} region to invalidate.
+     */
+    void invalidate(ReferenceDataRegion region);
+
+    /**
+     * Method invalidates every region of the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Method returns version, size, hit rate and staleness of every region of the
+     * cache.
+     *
+     * @return list of {@link ReferenceDataCacheStatsDto}.
+     */
+    List<ReferenceDataCacheStatsDto> getStats();
+}
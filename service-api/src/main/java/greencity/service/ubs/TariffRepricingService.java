@@ -0,0 +1,43 @@
+package greencity.service.ubs;
+
+import greencity.dto.service.TariffRepricingJobDto;
+
+public interface TariffRepricingService {
+    /**
+     * Method stores the repricing job of the unpaid orders that contain the bag and
+     * hands it over to the worker after the current transaction is committed. The
+     * job copies the current data of the bag to the orders and, if the price of the
+     * bag has been changed, recalculates the sums of the orders and notifies their
+     * users.
+     *
+     * @param bagId        id of the edited bag.
+     * @param priceChanged whether the price of the bag has been changed.
+     * @return id of the stored job.
+     */
+    Long enqueue(Integer bagId, boolean priceChanged);
+
+    /**
+     * Method processes the repricing job chunk by chunk, each chunk in its own
+     * transaction, until all the unpaid orders that contain the bag are updated.
+     *
+     * @param jobId id of the job.
+     * @return {@code true} if the job has been finished.
+     */
+    boolean process(Long jobId);
+
+    /**
+     * Method hands over to the worker the repricing jobs that have not been
+     * finished in time.
+     *
+     * @return number of the handed over jobs.
+     */
+    int retryPending();
+
+    /**
+     * Method returns the progress of the latest repricing job of the bag.
+     *
+     * @param bagId id of the bag.
+     * @return {@link TariffRepricingJobDto}.
+     */
+    TariffRepricingJobDto getLatestJob(Integer bagId);
+}
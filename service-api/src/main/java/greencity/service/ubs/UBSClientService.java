@@ -33,6 +33,7 @@ import greencity.dto.user.UserPointsAndAllBagsDto;
 import greencity.dto.user.UserProfileCreateDto;
 import greencity.dto.user.UserProfileDto;
 import greencity.dto.user.UserProfileUpdateDto;
+import greencity.entity.order.Order;
 import greencity.entity.user.User;
 import greencity.enums.OrderStatus;
 import org.springframework.data.domain.Pageable;
@@ -43,7 +44,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 public interface UBSClientService {
     /**
-     * Validates the payment response received from the payment gateway.
+     * Validates the payment response received from the payment gateway and stores
+     * it to be applied to the order in the background.
      *
      * @param response The payment response data.
      * @return An object representing the validated payment response.
@@ -51,6 +53,15 @@ public interface UBSClientService {
     @Transactional
     PaymentResponseWayForPay validatePayment(PaymentResponseDto response);
 
+    /**
+     * Applies the payment response received from the payment gateway to the paid
+     * order.
+     *
+     * @param response The payment response data.
+     */
+    @Transactional
+    void applyPaymentCallback(PaymentResponseDto response);
+
     /**
      * Methods returns all available for order bags and current user's bonus points.
      *
@@ -187,6 +198,15 @@ public interface UBSClientService {
      */
     UserInfoDto getUserAndUserUbsAndViolationsInfoByOrderId(Long orderId, String uuid);
 
+    /**
+     * Method returns info about user, ubsUser and user violations of the loaded
+     * order.
+     *
+     * @param order {@link Order} with its user and ubsUser.
+     * @return {@link UserInfoDto};
+     */
+    UserInfoDto getUserAndUserUbsAndViolationsInfo(Order order);
+
     /**
      * Method updates ubs_user information order in order.
      *
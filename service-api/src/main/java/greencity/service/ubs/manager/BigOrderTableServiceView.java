@@ -1,10 +1,13 @@
 package greencity.service.ubs.manager;
 
+import greencity.dto.CursorPageDto;
 import greencity.dto.order.BigOrderTableDTO;
 import greencity.dto.table.CustomTableViewDto;
+import greencity.enums.OrderExportFormat;
 import greencity.filters.OrderPage;
 import greencity.filters.OrderSearchCriteria;
 import org.springframework.data.domain.Page;
+import java.io.OutputStream;
 
 public interface BigOrderTableServiceView {
     /**
@@ -17,6 +20,32 @@ public interface BigOrderTableServiceView {
      */
     Page<BigOrderTableDTO> getOrders(OrderPage orderPage, OrderSearchCriteria searchCriteria, String email);
 
+    /**
+     * Method returns order's data from big order table using keyset pagination. The
+     * page starts right after {@link OrderPage#getCursor()}, or at the beginning
+     * when the cursor is empty.
+     *
+     * @param orderPage      used to formed sorting, page size and cursor
+     * @param searchCriteria used to formed filtering and searching
+     * @return {@link CursorPageDto} of {@link BigOrderTableDTO}
+     */
+    CursorPageDto<BigOrderTableDTO> getOrdersAfter(OrderPage orderPage, OrderSearchCriteria searchCriteria,
+        String email);
+
+    /**
+     * Method writes all orders matching the search criteria to the output stream in
+     * the requested order, reading them from the database cursor, so the export
+     * takes the same memory whatever the number of orders. Titles and addresses are
+     * in the language of the employee.
+     *
+     * @param orderPage      used to formed sorting
+     * @param searchCriteria used to formed filtering and searching
+     * @param format         {@link OrderExportFormat} of the document
+     * @param outputStream   {@link OutputStream} to write the document to
+     */
+    void exportOrders(OrderPage orderPage, OrderSearchCriteria searchCriteria, String email,
+        OrderExportFormat format, OutputStream outputStream);
+
     /**
      * Method save or update view of Orders table.
      *
@@ -30,4 +59,11 @@ public interface BigOrderTableServiceView {
      * @author Sikhovskiy Rostyslav
      */
     CustomTableViewDto getCustomTableParameters(String uuid);
+
+    /**
+     * Method rebuilds big order table from its source view.
+     *
+     * @return number of orders in the rebuilt table
+     */
+    long rebuildOrderTable();
 }
@@ -0,0 +1,30 @@
+package greencity.service.user;
+
+import greencity.dto.user.UserPrincipalVO;
+
+public interface UserPrincipalCacheService {
+    /**
+     * Method returns uuid and activity of the user with the given email. The user
+     * is loaded from the user service only when it is absent in the cache or its
+     * entry has expired. Deactivated and unknown users are cached as well, for a
+     * shorter time.
+     *
+     * @param email {@link String} user's email.
+     * @return {@link UserPrincipalVO}, which is not active and has no uuid when the
+     *         user is deactivated or does not exist.
+     */
+    UserPrincipalVO getPrincipal(String email);
+
+    /**
+     * Method removes the user with the given email from the cache, so that the next
+     * request of the user loads it from the user service.
+     *
+     * @param email {@link String} user's email.
+     */
+    void invalidate(String email);
+
+    /**
+     * Method removes all users from the cache.
+     */
+    void invalidateAll();
+}
@@ -2,14 +2,22 @@ package greencity.util;
 
 import greencity.dto.payment.PaymentRequestDto;
 import greencity.dto.payment.PaymentResponseWayForPay;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
 import java.util.StringJoiner;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import lombok.ToString;
-import org.apache.commons.codec.digest.HmacUtils;
+import org.apache.commons.codec.binary.Hex;
 import org.springframework.stereotype.Component;
 
 @Component
 @ToString
 public class EncryptionUtil {
+    private static final String HMAC_MD5 = "HmacMD5";
+    private static final ThreadLocal<Mac> HMAC_MD5_MAC = ThreadLocal.withInitial(EncryptionUtil::createMac);
+
     /**
      * Method forms encrypted signature based on order details.
      *
@@ -29,7 +37,7 @@ public class EncryptionUtil {
         dto.getProductCount().forEach(count -> stringJoiner.add(count.toString()));
         dto.getProductPrice().forEach(price -> stringJoiner.add(price.toString()));
 
-        return new HmacUtils("HmacMD5", password).hmacHex(stringJoiner.toString());
+        return hmacMd5Hex(stringJoiner.toString(), password);
     }
 
     /**
@@ -50,7 +58,28 @@ public class EncryptionUtil {
         stringJoiner.add(dto.getOrderReference())
             .add((dto.getStatus()))
             .add(dto.getTime());
-        String hmacMD5 = new HmacUtils("HmacMD5", password).hmacHex(stringJoiner.toString());
-        return hmacMD5;
+        return hmacMd5Hex(stringJoiner.toString(), password);
+    }
+
+    /**
+     * Forms the HMAC-MD5 of the message with the {@link Mac} of the current thread,
+     * so that the algorithm is not looked up for every signature.
+     */
+    private static String hmacMd5Hex(String message, String password) {
+        Mac mac = HMAC_MD5_MAC.get();
+        try {
+            mac.init(new SecretKeySpec(password.getBytes(StandardCharsets.UTF_8), HMAC_MD5));
+        } catch (InvalidKeyException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return Hex.encodeHexString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Mac createMac() {
+        try {
+            return Mac.getInstance(HMAC_MD5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -77,4 +77,21 @@ class EncryptionUtilTest {
 
         assertEquals(expectedSignature, signature);
     }
+
+    @Test
+    void testFormResponseSignatureWithDifferentPasswords() {
+        PaymentResponseWayForPay dto = PaymentResponseWayForPay.builder()
+            .orderReference("order456")
+            .status("accept")
+            .time("2023-07-19T12:00:00")
+            .build();
+        String message = "order456;accept;2023-07-19T12:00:00";
+
+        assertEquals(new HmacUtils("HmacMD5", "first").hmacHex(message),
+            encryptionUtil.formResponseSignature(dto, "first"));
+        assertEquals(new HmacUtils("HmacMD5", "second").hmacHex(message),
+            encryptionUtil.formResponseSignature(dto, "second"));
+        assertEquals(new HmacUtils("HmacMD5", "first").hmacHex(message),
+            encryptionUtil.formResponseSignature(dto, "first"));
+    }
 }
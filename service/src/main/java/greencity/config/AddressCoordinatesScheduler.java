@@ -0,0 +1,30 @@
+package greencity.config;
+
+import greencity.service.ubs.AddressCoordinatesService;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@NoArgsConstructor
+public class AddressCoordinatesScheduler {
+    @Autowired
+    private AddressCoordinatesService addressCoordinatesService;
+
+    /**
+     * Method sets the coordinates to the addresses that were saved without them.
+     */
+    @Scheduled(fixedDelayString = "${greencity.geocoding.backfill-interval}",
+        initialDelayString = "${greencity.geocoding.backfill-interval}")
+    public void backfillMissingCoordinates() {
+        int updated = addressCoordinatesService.backfillMissingCoordinates();
+        if (updated > 0) {
+            log.info("Set coordinates to {} addresses", updated);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package greencity.config;
+
+import greencity.dto.CacheStatsDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link org.springframework.cache.Cache} bounded by the number of entries, in
+ * which the least recently used entry is evicted when the size is exceeded and
+ * every entry expires after the given time to live, unless it is put with a
+ * time to live of its own.
+ */
+public class BoundedCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<Object, Entry> entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param name    name of the cache.
+     * @param maxSize maximum number of entries.
+     * @param ttl     time after which an entry expires.
+     * @param clock   {@link Clock} to check the expiration.
+     */
+    public BoundedCache(String name, int maxSize, Duration ttl, Clock clock) {
+        super(true);
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                boolean evict = size() > maxSize;
+                if (evict) {
+                    evictionCount.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.getExpiresAt().isAfter(clock.instant())) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.getValue();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, ttl);
+    }
+
+    /**
+     * Puts the value which expires after the given time instead of the time to live
+     * of the cache.
+     *
+     * @param key   key of the value.
+     * @param value value to cache.
+     * @param ttl   time after which the value expires.
+     */
+    public void put(Object key, Object value, Duration ttl) {
+        Entry entry = new Entry(toStoreValue(value), clock.instant().plus(ttl));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns size, hit, miss and eviction statistics of the cache.
+     *
+     * @return {@link CacheStatsDto}.
+     */
+    public CacheStatsDto getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        return CacheStatsDto.builder()
+            .name(name)
+            .size(size)
+            .maxSize(maxSize)
+            .ttlSeconds(ttl.toSeconds())
+            .hitCount(hits)
+            .missCount(misses)
+            .evictionCount(evictionCount.sum())
+            .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+            .build();
+    }
+
+    /**
+     * Cached value and the time when it expires.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Object value;
+        private final Instant expiresAt;
+    }
+}
@@ -0,0 +1,35 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.file-storage", ignoreUnknownFields = false)
+public class FileStorageConfigProp {
+    /**
+     * Storage of the uploaded files, {@code azure} or {@code local}.
+     */
+    private String type = "azure";
+    /**
+     * Number of files uploaded or deleted concurrently.
+     */
+    private int parallelism = 4;
+    /**
+     * Size of the blocks in which a file is streamed to Azure.
+     */
+    private DataSize blockSize = DataSize.ofMegabytes(4);
+    /**
+     * Directory of the files when the local storage is used.
+     */
+    private String localRoot = "uploads";
+    /**
+     * Url under which the directory of the local storage is served. The file urls
+     * are returned when it is empty.
+     */
+    private String localPublicUrl = "";
+}
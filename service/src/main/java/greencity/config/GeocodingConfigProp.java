@@ -0,0 +1,23 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.geocoding", ignoreUnknownFields = false)
+public class GeocodingConfigProp {
+    /**
+     * Number of cities read with one query by the backfill of the missing address
+     * coordinates.
+     */
+    private int backfillBatchSize = 100;
+    /**
+     * Interval between the runs of the backfill of the missing address coordinates.
+     */
+    private Duration backfillInterval = Duration.ofHours(1);
+}
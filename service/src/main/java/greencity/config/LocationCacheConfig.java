@@ -0,0 +1,39 @@
+package greencity.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Collections;
+
+@Configuration
+@EnableCaching
+public class LocationCacheConfig {
+    /**
+     * Cache manager which creates a {@link BoundedCache} for every region on first
+     * use, with the size and time to live configured for the region.
+     *
+     * @return {@link CacheManager}
+     */
+    @Bean
+    public CacheManager cacheManager(LocationCacheConfigProp locationCacheConfigProp,
+        @Qualifier("kyivZonedClock") Clock clock) {
+        return new AbstractCacheManager() {
+            @Override
+            protected Collection<? extends Cache> loadCaches() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            protected Cache getMissingCache(String name) {
+                LocationCacheConfigProp.Policy policy = locationCacheConfigProp.getPolicy(name);
+                return new BoundedCache(name, policy.getMaxSize(), policy.getTtl(), clock);
+            }
+        };
+    }
+}
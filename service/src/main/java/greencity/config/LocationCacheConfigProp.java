@@ -0,0 +1,51 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.location-cache", ignoreUnknownFields = false)
+public class LocationCacheConfigProp {
+    /**
+     * Maximum number of entries kept in a region without its own policy. The least
+     * recently used entry is evicted when the limit is exceeded.
+     */
+    private int maxSize = 1000;
+    /**
+     * Time after which an entry of a region without its own policy is loaded from
+     * the location API again.
+     */
+    private Duration ttl = Duration.ofHours(24);
+    /**
+     * Policies of the regions, by the name of the region.
+     */
+    private Map<String, Policy> regions = new HashMap<>();
+
+    /**
+     * Returns the policy of the region, which falls back to the default size and
+     * time to live.
+     *
+     * @param name name of the region.
+     * @return {@link Policy} of the region.
+     */
+    public Policy getPolicy(String name) {
+        Policy policy = regions.getOrDefault(name, new Policy());
+        return new Policy()
+            .setMaxSize(policy.getMaxSize() != null ? policy.getMaxSize() : maxSize)
+            .setTtl(policy.getTtl() != null ? policy.getTtl() : ttl);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Integer maxSize;
+        private Duration ttl;
+    }
+}
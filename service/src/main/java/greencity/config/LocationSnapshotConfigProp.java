@@ -0,0 +1,24 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.location-snapshot", ignoreUnknownFields = false)
+public class LocationSnapshotConfigProp {
+    /**
+     * Location of the JSON file with the KATOTTG hierarchy, for example
+     * {@code file:/data/katottg.json.gz}. The location API is used directly when it
+     * is empty.
+     */
+    private String path = "";
+    /**
+     * Interval between the checks of the file for changes.
+     */
+    private Duration refreshInterval = Duration.ofHours(6);
+}
@@ -0,0 +1,28 @@
+package greencity.config;
+
+import greencity.service.locations.LocationSnapshotService;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@NoArgsConstructor
+public class LocationSnapshotScheduler {
+    @Autowired
+    private LocationSnapshotService locationSnapshotService;
+
+    /**
+     * Method loads the location hierarchy snapshot on startup and reloads it in the
+     * background when its file changes.
+     */
+    @Scheduled(fixedDelayString = "${greencity.location-snapshot.refresh-interval}", initialDelay = 0)
+    public void refreshLocationSnapshot() {
+        log.debug("Checking the location hierarchy snapshot for changes");
+        locationSnapshotService.refresh();
+    }
+}
@@ -0,0 +1,23 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.notification", ignoreUnknownFields = false)
+public class NotificationBatchConfigProp {
+    /**
+     * Number of notifications persisted with one JDBC batch and dispatched to the
+     * providers as one task.
+     */
+    private int batchSize = 500;
+    /**
+     * Number of notification chunks put into the queues of the providers
+     * concurrently.
+     */
+    private int dispatchParallelism = 4;
+}
@@ -0,0 +1,63 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.notification-channel", ignoreUnknownFields = false)
+public class NotificationChannelConfigProp {
+    /**
+     * Settings of the channels by the name of the notification provider:
+     * {@code email}, {@code telegram} or {@code viber}.
+     */
+    private Map<String, Channel> channels = new HashMap<>();
+
+    /**
+     * Method to get the settings of the channel, or the default settings when the
+     * channel is not configured.
+     *
+     * @param name name of the notification provider
+     * @return {@link Channel}
+     */
+    public Channel getChannel(String name) {
+        return channels.getOrDefault(name, new Channel());
+    }
+
+    @Getter
+    @Setter
+    public static class Channel {
+        /**
+         * Number of notifications waiting to be sent by the channel. Notifications
+         * which do not fit are sent by the thread which dispatches them.
+         */
+        private int queueCapacity = 10000;
+        /**
+         * Number of notifications sent by the channel concurrently.
+         */
+        private int concurrency = 2;
+        /**
+         * Number of notifications sent by the channel per second, not limited when it
+         * is zero.
+         */
+        private double permitsPerSecond = 0;
+        /**
+         * Maximum number of attempts to send a notification.
+         */
+        private int maxAttempts = 3;
+        /**
+         * Delay before the second attempt to send a notification.
+         */
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        /**
+         * Factor by which the delay grows with every next attempt.
+         */
+        private double backoffMultiplier = 2;
+    }
+}
@@ -0,0 +1,24 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.notification-user-cache", ignoreUnknownFields = false)
+public class NotificationUserCacheConfigProp {
+    /**
+     * Maximum number of users kept in the cache. The least recently used user is
+     * evicted when the limit is exceeded.
+     */
+    private int maxSize = 10000;
+    /**
+     * Time after which the cached language and deactivation state of a user are
+     * loaded from the user service again.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,18 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.order-export", ignoreUnknownFields = false)
+public class OrderExportConfigProp {
+    /**
+     * Number of orders read from the database cursor at once while the orders table
+     * is exported.
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,32 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.outbound", ignoreUnknownFields = false)
+public class OutboundConcurrencyConfigProp {
+    /**
+     * Number of concurrent calls to a remote destination which has no limit of its
+     * own.
+     */
+    private int defaultLimit = 50;
+    /**
+     * Number of concurrent calls by the name of the remote destination: the name of
+     * the Feign client, the host of a {@code RestTemplate} call,
+     * {@code google-geocoding} or {@code azure-blob}.
+     */
+    private Map<String, Integer> limits = new HashMap<>();
+    /**
+     * Time for which a call waits for a free slot of its destination before it
+     * fails.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
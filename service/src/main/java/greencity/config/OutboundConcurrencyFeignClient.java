@@ -0,0 +1,39 @@
+package greencity.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import greencity.exceptions.http.RemoteServerUnavailableException;
+import java.io.IOException;
+
+/**
+ * Client of the Feign clients which holds a slot of the Feign client in
+ * {@link OutboundConcurrencyLimiter} for every request until its response
+ * arrives. A request for which no slot is freed in time fails as a failed
+ * connection, so it is handled by the fallback of the Feign client.
+ */
+public class OutboundConcurrencyFeignClient implements Client {
+    private final Client delegate;
+    private final OutboundConcurrencyLimiter outboundConcurrencyLimiter;
+
+    /**
+     * Constructor.
+     */
+    public OutboundConcurrencyFeignClient(Client delegate, OutboundConcurrencyLimiter outboundConcurrencyLimiter) {
+        this.delegate = delegate;
+        this.outboundConcurrencyLimiter = outboundConcurrencyLimiter;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        OutboundConcurrencyLimiter.Permit permit;
+        try {
+            permit = outboundConcurrencyLimiter.acquire(request.requestTemplate().feignTarget().name());
+        } catch (RemoteServerUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        try (permit) {
+            return delegate.execute(request, options);
+        }
+    }
+}
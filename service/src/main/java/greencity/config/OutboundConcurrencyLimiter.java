@@ -0,0 +1,91 @@
+package greencity.config;
+
+import greencity.constant.ErrorMessage;
+import greencity.exceptions.http.RemoteServerUnavailableException;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of concurrent calls to every remote destination, so the
+ * outbound calls are bounded by what the destination can take rather than by
+ * the size of the pool of the calling threads. A call waits for a free slot of
+ * its destination at most for the acquire timeout and then fails with
+ * {@link RemoteServerUnavailableException}.
+ */
+@Component
+public class OutboundConcurrencyLimiter {
+    private final OutboundConcurrencyConfigProp outboundConcurrencyConfigProp;
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     */
+    public OutboundConcurrencyLimiter(OutboundConcurrencyConfigProp outboundConcurrencyConfigProp) {
+        this.outboundConcurrencyConfigProp = outboundConcurrencyConfigProp;
+    }
+
+    /**
+     * Method to take a slot of the destination for one call. The slot is given back
+     * when the returned permit is closed.
+     *
+     * @param destination name of the remote destination
+     * @return {@link Permit}
+     * @throws RemoteServerUnavailableException if no slot is freed during the
+     *                                          acquire timeout
+     */
+    public Permit acquire(String destination) {
+        Semaphore semaphore = semaphores.computeIfAbsent(destination, key -> new Semaphore(getLimit(key), true));
+        try {
+            if (!semaphore.tryAcquire(outboundConcurrencyConfigProp.getAcquireTimeout().toNanos(),
+                TimeUnit.NANOSECONDS)) {
+                throw new RemoteServerUnavailableException(
+                    ErrorMessage.OUTBOUND_CONCURRENCY_LIMIT_EXCEEDED + destination);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RemoteServerUnavailableException(
+                ErrorMessage.OUTBOUND_CONCURRENCY_LIMIT_EXCEEDED + destination, e);
+        }
+        return new Permit(semaphore);
+    }
+
+    /**
+     * Method to get the number of free slots of the destination.
+     *
+     * @param destination name of the remote destination
+     * @return number of free slots
+     */
+    public int getAvailableSlots(String destination) {
+        Semaphore semaphore = semaphores.get(destination);
+        return semaphore == null ? getLimit(destination) : semaphore.availablePermits();
+    }
+
+    private int getLimit(String destination) {
+        return outboundConcurrencyConfigProp.getLimits()
+            .getOrDefault(destination, outboundConcurrencyConfigProp.getDefaultLimit());
+    }
+
+    /**
+     * Slot of a destination taken by one call. Closing it more than once gives the
+     * slot back only once.
+     */
+    public static final class Permit implements AutoCloseable {
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.payment-callback", ignoreUnknownFields = false)
+public class PaymentCallbackConfigProp {
+    /**
+     * Number of workers applying the payment callbacks. The callbacks of one order
+     * are always applied by the same worker.
+     */
+    private int workers = 4;
+    /**
+     * Maximum number of attempts to apply a payment callback.
+     */
+    private int maxAttempts = 5;
+    /**
+     * Number of payment callbacks read with one query by the retry of the callbacks
+     * that have not been applied.
+     */
+    private int retryBatchSize = 100;
+    /**
+     * Interval between the retries of the payment callbacks that have not been
+     * applied.
+     */
+    private Duration retryInterval = Duration.ofMinutes(1);
+}
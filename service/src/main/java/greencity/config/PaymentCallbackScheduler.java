@@ -0,0 +1,30 @@
+package greencity.config;
+
+import greencity.service.ubs.PaymentCallbackService;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@NoArgsConstructor
+public class PaymentCallbackScheduler {
+    @Autowired
+    private PaymentCallbackService paymentCallbackService;
+
+    /**
+     * Method retries the payment callbacks that have not been applied in time.
+     */
+    @Scheduled(fixedDelayString = "${greencity.payment-callback.retry-interval}",
+        initialDelayString = "${greencity.payment-callback.retry-interval}")
+    public void retryPendingCallbacks() {
+        int retried = paymentCallbackService.retryPending();
+        if (retried > 0) {
+            log.info("Retried {} payment callbacks", retried);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.reference-data-cache", ignoreUnknownFields = false)
+public class ReferenceDataCacheConfigProp {
+    /**
+     * Time after which cached reference data is loaded from the database again, so
+     * that edits made through another instance of the application are picked up.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,32 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.tariff-repricing", ignoreUnknownFields = false)
+public class TariffRepricingConfigProp {
+    /**
+     * Number of orders updated in one transaction of the repricing job.
+     */
+    private int batchSize = 500;
+    /**
+     * Maximum number of attempts to finish a repricing job.
+     */
+    private int maxAttempts = 5;
+    /**
+     * Number of repricing jobs read with one query by the retry of the jobs that
+     * have not been finished.
+     */
+    private int retryBatchSize = 20;
+    /**
+     * Interval between the retries of the repricing jobs that have not been
+     * finished.
+     */
+    private Duration retryInterval = Duration.ofMinutes(5);
+}
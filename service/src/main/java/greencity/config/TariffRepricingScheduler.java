@@ -0,0 +1,30 @@
+package greencity.config;
+
+import greencity.service.ubs.TariffRepricingService;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@NoArgsConstructor
+public class TariffRepricingScheduler {
+    @Autowired
+    private TariffRepricingService tariffRepricingService;
+
+    /**
+     * Method retries the repricing jobs that have not been finished in time.
+     */
+    @Scheduled(fixedDelayString = "${greencity.tariff-repricing.retry-interval}",
+        initialDelayString = "${greencity.tariff-repricing.retry-interval}")
+    public void retryPendingJobs() {
+        int retried = tariffRepricingService.retryPending();
+        if (retried > 0) {
+            log.info("Retried {} tariff repricing jobs", retried);
+        }
+    }
+}
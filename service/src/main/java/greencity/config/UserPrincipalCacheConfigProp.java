@@ -0,0 +1,28 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.user-principal-cache", ignoreUnknownFields = false)
+public class UserPrincipalCacheConfigProp {
+    /**
+     * Maximum number of users kept in the cache. The least recently used user is
+     * evicted when the limit is exceeded.
+     */
+    private int maxSize = 10000;
+    /**
+     * Time after which an active user is loaded from the user service again.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+    /**
+     * Time after which a deactivated or unknown user is loaded from the user
+     * service again.
+     */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+}
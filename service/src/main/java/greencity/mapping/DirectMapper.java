@@ -0,0 +1,44 @@
+package greencity.mapping;
+
+import org.modelmapper.AbstractConverter;
+import org.modelmapper.ModelMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link AbstractConverter} which can also be called directly. It is registered
+ * in {@link ModelMapper} like every other converter, so {@code ModelMapper.map}
+ * keeps working for it, while list endpoints call {@link #map(Object)} and skip
+ * the lookup of the type map and the mapping context that {@code ModelMapper}
+ * creates for every row.
+ *
+ * @param <S> source type.
+ * @param <D> destination type.
+ */
+public abstract class DirectMapper<S, D> extends AbstractConverter<S, D> {
+    /**
+     * Method maps the source, or returns {@code null} for a {@code null} source as
+     * {@link ModelMapper} does.
+     *
+     * @param source source to map.
+     * @return mapped destination.
+     */
+    public D map(S source) {
+        return source == null ? null : convert(source);
+    }
+
+    /**
+     * Method maps every source of the collection keeping their order.
+     *
+     * @param sources {@link Collection} of sources.
+     * @return {@link List} of mapped destinations.
+     */
+    public List<D> mapAll(Collection<? extends S> sources) {
+        List<D> destinations = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            destinations.add(map(source));
+        }
+        return destinations;
+    }
+}
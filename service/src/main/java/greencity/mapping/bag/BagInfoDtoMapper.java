@@ -3,12 +3,12 @@ package greencity.mapping.bag;
 import greencity.constant.AppConstant;
 import greencity.dto.bag.BagInfoDto;
 import greencity.entity.order.Bag;
-import org.modelmapper.AbstractConverter;
+import greencity.mapping.DirectMapper;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 
 @Component
-public class BagInfoDtoMapper extends AbstractConverter<Bag, BagInfoDto> {
+public class BagInfoDtoMapper extends DirectMapper<Bag, BagInfoDto> {
     @Override
     protected BagInfoDto convert(Bag bag) {
         return BagInfoDto.builder()
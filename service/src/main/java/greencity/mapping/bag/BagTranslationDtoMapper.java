@@ -3,12 +3,12 @@ package greencity.mapping.bag;
 import greencity.constant.AppConstant;
 import greencity.dto.bag.BagTranslationDto;
 import greencity.entity.order.Bag;
-import org.modelmapper.AbstractConverter;
+import greencity.mapping.DirectMapper;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 
 @Component
-public class BagTranslationDtoMapper extends AbstractConverter<Bag, BagTranslationDto> {
+public class BagTranslationDtoMapper extends DirectMapper<Bag, BagTranslationDto> {
     @Override
     protected BagTranslationDto convert(Bag source) {
         return BagTranslationDto.builder()
@@ -4,14 +4,14 @@ import greencity.constant.AppConstant;
 import greencity.dto.order.BigOrderTableDTO;
 import greencity.dto.order.SenderLocation;
 import greencity.entity.order.BigOrderTableViews;
-import org.modelmapper.AbstractConverter;
+import greencity.mapping.DirectMapper;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import static java.util.Objects.nonNull;
 
 @Component
-public class BigOrderTableDtoMapper extends AbstractConverter<BigOrderTableViews, BigOrderTableDTO> {
+public class BigOrderTableDtoMapper extends DirectMapper<BigOrderTableViews, BigOrderTableDTO> {
     @Override
     protected BigOrderTableDTO convert(BigOrderTableViews bigViews) {
         return new BigOrderTableDTO()
@@ -0,0 +1,49 @@
+package greencity.mapping.order;
+
+import greencity.dto.order.OrderDto;
+import greencity.entity.coords.Coordinates;
+import greencity.entity.order.Order;
+import greencity.entity.user.ubs.OrderAddress;
+import greencity.entity.user.ubs.UBSuser;
+import greencity.mapping.DirectMapper;
+import org.springframework.stereotype.Component;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Class that maps {@link Order} into {@link OrderDto} with the recipient and
+ * the address of the order.
+ */
+@Component
+public class OrderToOrderDtoMapper extends DirectMapper<Order, OrderDto> {
+    /**
+     * Method convert {@link Order} to {@link OrderDto}.
+     *
+     * @return {@link OrderDto}
+     */
+    @Override
+    protected OrderDto convert(Order order) {
+        OrderDto orderDto = new OrderDto();
+        UBSuser ubsUser = order.getUbsUser();
+        if (ubsUser == null) {
+            return orderDto;
+        }
+        orderDto.setFirstName(ubsUser.getFirstName());
+        orderDto.setLastName(ubsUser.getLastName());
+        orderDto.setPhoneNumber(ubsUser.getPhoneNumber());
+        OrderAddress address = ubsUser.getOrderAddress();
+        if (address != null) {
+            orderDto.setAddress(Stream.of(address.getCity(), address.getStreet(), address.getHouseNumber())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(", ")));
+            orderDto.setAddressComment(address.getAddressComment());
+            Coordinates coordinates = address.getCoordinates();
+            if (coordinates != null) {
+                orderDto.setLatitude(coordinates.getLatitude());
+                orderDto.setLongitude(coordinates.getLongitude());
+            }
+        }
+        return orderDto;
+    }
+}
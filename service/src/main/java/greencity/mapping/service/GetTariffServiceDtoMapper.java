@@ -3,12 +3,12 @@ package greencity.mapping.service;
 import greencity.constant.AppConstant;
 import greencity.dto.service.GetTariffServiceDto;
 import greencity.entity.order.Bag;
-import org.modelmapper.AbstractConverter;
+import greencity.mapping.DirectMapper;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 
 @Component
-public class GetTariffServiceDtoMapper extends AbstractConverter<Bag, GetTariffServiceDto> {
+public class GetTariffServiceDtoMapper extends DirectMapper<Bag, GetTariffServiceDto> {
     @Override
     protected GetTariffServiceDto convert(Bag source) {
         return GetTariffServiceDto.builder()
@@ -0,0 +1,26 @@
+package greencity.mapping.service;
+
+import greencity.dto.service.TariffRepricingJobDto;
+import greencity.entity.order.TariffRepricingJob;
+import greencity.mapping.DirectMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TariffRepricingJobDtoMapper extends DirectMapper<TariffRepricingJob, TariffRepricingJobDto> {
+    @Override
+    protected TariffRepricingJobDto convert(TariffRepricingJob source) {
+        return TariffRepricingJobDto.builder()
+            .id(source.getId())
+            .bagId(source.getBagId())
+            .priceChanged(source.isPriceChanged())
+            .status(source.getStatus())
+            .lastOrderId(source.getLastOrderId())
+            .processedOrders(source.getProcessedOrders())
+            .attempts(source.getAttempts())
+            .error(source.getError())
+            .createdAt(source.getCreatedAt())
+            .updatedAt(source.getUpdatedAt())
+            .finishedAt(source.getFinishedAt())
+            .build();
+    }
+}
@@ -9,12 +9,12 @@ import greencity.dto.tariff.GetTariffsInfoDto;
 import greencity.entity.order.TariffsInfo;
 import greencity.entity.user.Region;
 import greencity.enums.LocationStatus;
-import org.modelmapper.AbstractConverter;
+import greencity.mapping.DirectMapper;
 import org.springframework.stereotype.Component;
 import java.util.stream.Collectors;
 
 @Component
-public class GetTariffsInfoDtoMapper extends AbstractConverter<TariffsInfo, GetTariffsInfoDto> {
+public class GetTariffsInfoDtoMapper extends DirectMapper<TariffsInfo, GetTariffsInfoDto> {
     @Override
     protected GetTariffsInfoDto convert(TariffsInfo source) {
         Region region = source.getTariffLocations() != null
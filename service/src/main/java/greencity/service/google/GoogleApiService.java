@@ -1,40 +1,58 @@
 package greencity.service.google;
 
+import com.google.gson.Gson;
 import com.google.maps.GeoApiContext;
 import com.google.maps.GeocodingApi;
 import com.google.maps.errors.ApiException;
 import com.google.maps.errors.InvalidRequestException;
 import com.google.maps.model.GeocodingResult;
+import greencity.config.OutboundConcurrencyLimiter;
 import greencity.constant.ErrorMessage;
+import greencity.entity.coords.GeocodeCache;
 import greencity.exceptions.NotFoundException;
 import greencity.exceptions.api.GoogleApiException;
+import greencity.repository.GeocodeCacheRepository;
 import lombok.extern.slf4j.Slf4j;
 import lombok.Data;
 import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 
 @Service
 @Data
 @Slf4j
 public class GoogleApiService {
     private final GeoApiContext context;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final OutboundConcurrencyLimiter outboundConcurrencyLimiter;
     private static final List<Locale> locales = List.of(new Locale("uk"), new Locale("en"));
+    private static final Gson GSON = new Gson();
+    private static final String DESTINATION = "google-geocoding";
 
     /**
-     * Send request to the Google and receive response with geocoding.
+     * Send request to the Google and receive response with geocoding. Results are
+     * stored in the geocode cache, so the same place is requested only once.
      *
      * @param placeId - place id
      * @return GeocodingResults - return result from geocoding service
      */
     public GeocodingResult getResultFromGeoCode(String placeId, Integer langCode) {
-        try {
+        String language = locales.get(langCode).getLanguage();
+        String cacheKey = "place:" + placeId.trim() + ":" + language;
+        Optional<GeocodingResult> cached = findCachedResult(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        try (OutboundConcurrencyLimiter.Permit permit = outboundConcurrencyLimiter.acquire(DESTINATION)) {
             GeocodingResult[] results = GeocodingApi.newRequest(context)
-                .place(placeId).language(locales.get(langCode).getLanguage()).await();
-            return results[0];
+                .place(placeId).language(language).await();
+            return cacheResult(cacheKey, results[0]);
         } catch (IOException | InterruptedException | ApiException e) {
-            Thread.currentThread().interrupt();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             if (e instanceof InvalidRequestException) {
                 throw new NotFoundException(ErrorMessage.NOT_FOUND_ADDRESS_BY_PLACE_ID + placeId);
             }
@@ -43,7 +61,9 @@ public class GoogleApiService {
     }
 
     /**
-     * Send request to the Google Api and receive GeocodingResult.
+     * Send request to the Google Api and receive GeocodingResult. Results are
+     * stored in the geocode cache, so the same city is requested only once for each
+     * language.
      *
      * @param countryName - name of country to search by google api
      * @param cityName    - name of city to search by google api
@@ -52,13 +72,20 @@ public class GoogleApiService {
      */
     public GeocodingResult getGeocodingResultByCityAndCountryAndLocale(String countryName, String cityName,
         String lang) {
-        try {
+        String cacheKey = getCityCacheKey(countryName, cityName, lang);
+        Optional<GeocodingResult> cached = findCachedResult(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        try (OutboundConcurrencyLimiter.Permit permit = outboundConcurrencyLimiter.acquire(DESTINATION)) {
             GeocodingResult[] results = GeocodingApi.geocode(context, cityName + ", " + countryName)
                 .language(lang)
                 .await();
-            return results[0];
+            return cacheResult(cacheKey, results[0]);
         } catch (IOException | InterruptedException | ApiException e) {
-            Thread.currentThread().interrupt();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             log.error("Occurred error during the call on google API, "
                 + "in method getCoordinatesByGoogleMapsGeocoding, reason: {}", e.getMessage());
             if (e instanceof InvalidRequestException) {
@@ -68,4 +95,25 @@ public class GoogleApiService {
             throw new GoogleApiException(e.getMessage());
         }
     }
+
+    private Optional<GeocodingResult> findCachedResult(String cacheKey) {
+        return geocodeCacheRepository.findByCacheKey(cacheKey)
+            .map(GeocodeCache::getResult)
+            .map(result -> GSON.fromJson(result, GeocodingResult.class));
+    }
+
+    private GeocodingResult cacheResult(String cacheKey, GeocodingResult result) {
+        if (result != null) {
+            geocodeCacheRepository.insertIfAbsent(cacheKey, GSON.toJson(result));
+        }
+        return result;
+    }
+
+    private static String getCityCacheKey(String countryName, String cityName, String lang) {
+        return "city:" + normalize(countryName) + "," + normalize(cityName) + ":" + lang;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
 }
@@ -6,7 +6,7 @@ import greencity.enums.LocationDivision;
 import greencity.exceptions.NotFoundException;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
@@ -18,7 +18,6 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,7 +25,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.cache.annotation.Cacheable;
 
 @Service
-@EnableCaching
 public class LocationApiServiceImpl implements LocationApiService {
     private static final String API_URL = "https://directory.org.ua/api/katottg";
     private static final int DEFAULT_PAGE_SIZE = 125;
@@ -46,15 +44,27 @@ public class LocationApiServiceImpl implements LocationApiService {
         .locationNameMap(Map.of(NAME, NAME_KYIV_UA, NAME_EN, NAME_KYIV_EN))
         .build();
     private final RestTemplate restTemplate;
+    private final LocationSnapshotService locationSnapshotService;
+    /**
+     * Proxy of this service, so that the calls between the methods go through the
+     * cache as well.
+     */
+    @Lazy
+    @Autowired
+    private LocationApiService self;
 
     /**
      * Constructor for the LocationApiService class.
      *
-     * @param restTemplate An instance of RestTemplate for making HTTP requests.
+     * @param restTemplate            An instance of RestTemplate for making HTTP
+     *                                requests.
+     * @param locationSnapshotService The local snapshot of the location hierarchy,
+     *                                which is used before the location API.
      */
     @Autowired
-    public LocationApiServiceImpl(RestTemplate restTemplate) {
+    public LocationApiServiceImpl(RestTemplate restTemplate, LocationSnapshotService locationSnapshotService) {
         this.restTemplate = restTemplate;
+        this.locationSnapshotService = locationSnapshotService;
     }
 
     /**
@@ -68,13 +78,13 @@ public class LocationApiServiceImpl implements LocationApiService {
         cityName = removeWordCity(cityName);
         if (cityName.equals(KYIV.getLocationNameMap().get(NAME))
             || cityName.equals(KYIV.getLocationNameMap().get(NAME_EN))) {
-            return getAllDistrictsInCityByCityID(KYIV.getId());
+            return self.getAllDistrictsInCityByCityID(KYIV.getId());
         }
 
-        List<LocationDto> cities = getCitiesByName(regionName, cityName);
+        List<LocationDto> cities = self.getCitiesByName(regionName, cityName);
         LocationDto city = getCityInRegion(regionName, cities);
         String cityId = city.getId();
-        List<LocationDto> allDistricts = getAllDistrictsInCityByCityID(cityId);
+        List<LocationDto> allDistricts = self.getAllDistrictsInCityByCityID(cityId);
         if (allDistricts.isEmpty()) {
             return List.of(city);
         }
@@ -98,21 +108,19 @@ public class LocationApiServiceImpl implements LocationApiService {
     @Override
     @Cacheable(value = "cityList", key = "#regionName + '_' + #cityName ")
     public List<LocationDto> getCitiesByName(String regionName, String cityName) {
-        List<LocationDto> allCities = getLocationDataByName(LocationDivision.CITY.getLevelId(), cityName);
+        List<LocationDto> allCities = self.getLocationDataByName(LocationDivision.CITY.getLevelId(), cityName);
         if (allCities.isEmpty()) {
-            allCities.add(getCityByNameFromRegionSide(regionName, cityName));
-            return allCities;
+            return List.of(self.getCityByNameFromRegionSide(regionName, cityName));
         }
         return allCities.stream()
             .filter(location -> location.getLocationNameMap().containsValue(cityName))
-            .collect(Collectors.toList());
+            .toList();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "locationByName", key = "#locations.size() + '_' + #locationName")
     public LocationDto findLocationByName(List<LocationDto> locations, String locationName) {
         return locations.stream()
             .filter(location -> location.getLocationNameMap().containsValue(locationName))
@@ -126,14 +134,14 @@ public class LocationApiServiceImpl implements LocationApiService {
     @Override
     @Cacheable(value = "cityByNameFromRegionSide", key = "#regionName + '_' + #cityName ")
     public LocationDto getCityByNameFromRegionSide(String regionName, String cityName) {
-        LocationDto region = getRegionByName(regionName);
-        List<LocationDto> districts = getAllDistrictInTheRegionsById(region.getId());
+        LocationDto region = self.getRegionByName(regionName);
+        List<LocationDto> districts = self.getAllDistrictInTheRegionsById(region.getId());
         List<LocationDto> localCommunities = districts.stream()
-            .flatMap(district -> getAllLocalCommunitiesById(district.getId()).stream())
+            .flatMap(district -> self.getAllLocalCommunitiesById(district.getId()).stream())
             .toList();
         List<LocationDto> cities = localCommunities.stream()
-            .flatMap(community -> getAllCitiesById(community.getId()).stream())
-            .collect(Collectors.toList());
+            .flatMap(community -> self.getAllCitiesById(community.getId()).stream())
+            .toList();
         if (cities.isEmpty()) {
             throw new NotFoundException(ErrorMessage.CITY_NOT_FOUND + cityName);
         }
@@ -148,12 +156,12 @@ public class LocationApiServiceImpl implements LocationApiService {
     public LocationDto getRegionByName(String regionName) {
         List<LocationDto> allRegions;
         try {
-            allRegions = getLocationDataByName(LocationDivision.REGION.getLevelId(), regionName);
+            allRegions = self.getLocationDataByName(LocationDivision.REGION.getLevelId(), regionName);
             if (allRegions.isEmpty()) {
-                allRegions = getAllRegions();
+                allRegions = self.getAllRegions();
             }
         } catch (NotFoundException e) {
-            allRegions = getAllRegions();
+            allRegions = self.getAllRegions();
         }
 
         return allRegions.stream()
@@ -166,9 +174,8 @@ public class LocationApiServiceImpl implements LocationApiService {
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "cityInRegion", key = "#regionName +'_'+#cities.size()")
     public LocationDto getCityInRegion(String regionName, List<LocationDto> cities) {
-        LocationDto region = getRegionByName(regionName);
+        LocationDto region = self.getRegionByName(regionName);
         String regionID = region.getId();
         return cities.stream()
             .filter(city -> {
@@ -176,9 +183,9 @@ public class LocationApiServiceImpl implements LocationApiService {
                     return true;
                 }
                 LocationDto localCommunity =
-                    getLocationDataByCode(LocationDivision.LOCAL_COMMUNITY.getLevelId(), city.getParentId());
-                LocationDto districtRegion = getLocationDataByCode(LocationDivision.DISTRICT_IN_REGION.getLevelId(),
-                    localCommunity.getParentId());
+                    self.getLocationDataByCode(LocationDivision.LOCAL_COMMUNITY.getLevelId(), city.getParentId());
+                LocationDto districtRegion = self.getLocationDataByCode(
+                    LocationDivision.DISTRICT_IN_REGION.getLevelId(), localCommunity.getParentId());
                 return districtRegion.getParentId().equals(regionID);
             })
             .findFirst()
@@ -189,45 +196,40 @@ public class LocationApiServiceImpl implements LocationApiService {
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "allRegions", key = "allRegions")
     public List<LocationDto> getAllRegions() {
-        return getLocationDataByLevel(LocationDivision.REGION.getLevelId());
+        return self.getLocationDataByLevel(LocationDivision.REGION.getLevelId());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "allCitiesById", key = "#upperId")
     public List<LocationDto> getAllCitiesById(String upperId) {
-        return getLocationDataByUpperId(LocationDivision.CITY.getLevelId(), upperId);
+        return self.getLocationDataByUpperId(LocationDivision.CITY.getLevelId(), upperId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "allDistrictInTheRegionsById", key = "#upperId")
     public List<LocationDto> getAllDistrictInTheRegionsById(String upperId) {
-        return getLocationDataByUpperId(LocationDivision.DISTRICT_IN_REGION.getLevelId(), upperId);
+        return self.getLocationDataByUpperId(LocationDivision.DISTRICT_IN_REGION.getLevelId(), upperId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "allLocalCommunitiesById", key = "#upperId")
     public List<LocationDto> getAllLocalCommunitiesById(String upperId) {
-        return getLocationDataByUpperId(LocationDivision.LOCAL_COMMUNITY.getLevelId(), upperId);
+        return self.getLocationDataByUpperId(LocationDivision.LOCAL_COMMUNITY.getLevelId(), upperId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "allDistrictsInCityByCityID", key = "#upperId")
     public List<LocationDto> getAllDistrictsInCityByCityID(String upperId) {
-        return getLocationDataByUpperId(LocationDivision.DISTRICT_IN_CITY.getLevelId(), upperId);
+        return self.getLocationDataByUpperId(LocationDivision.DISTRICT_IN_CITY.getLevelId(), upperId);
     }
 
     /**
@@ -236,6 +238,10 @@ public class LocationApiServiceImpl implements LocationApiService {
     @Override
     @Cacheable(value = "locationDataByCode", key = "#level+'_'+#code")
     public LocationDto getLocationDataByCode(int level, String code) {
+        Optional<LocationDto> snapshotLocation = locationSnapshotService.getLocationDataByCode(level, code);
+        if (snapshotLocation.isPresent()) {
+            return snapshotLocation.get();
+        }
         UriComponentsBuilder builder = buildUrl()
             .queryParam(CODE, code)
             .queryParam(LEVEL, level);
@@ -253,6 +259,10 @@ public class LocationApiServiceImpl implements LocationApiService {
     @Override
     @Cacheable(value = "locationDataByLevel", key = "#level")
     public List<LocationDto> getLocationDataByLevel(int level) {
+        Optional<List<LocationDto>> snapshotLocations = locationSnapshotService.getLocationDataByLevel(level);
+        if (snapshotLocations.isPresent()) {
+            return snapshotLocations.get();
+        }
         UriComponentsBuilder builder = buildUrl().queryParam(LEVEL, level);
         return getResultFromUrl(builder.build().encode().toUri());
     }
@@ -270,6 +280,10 @@ public class LocationApiServiceImpl implements LocationApiService {
     @Override
     @Cacheable(value = "locationDataByName", key = "#level+'_'+#name")
     public List<LocationDto> getLocationDataByName(int level, String name) {
+        Optional<List<LocationDto>> snapshotLocations = locationSnapshotService.getLocationDataByName(level, name);
+        if (snapshotLocations.isPresent()) {
+            return snapshotLocations.get();
+        }
         UriComponentsBuilder builder = buildUrl()
             .queryParam(NAME, name)
             .queryParam(LEVEL, level);
@@ -280,7 +294,6 @@ public class LocationApiServiceImpl implements LocationApiService {
      * {@inheritDoc}
      */
     @Override
-    @Cacheable(value = "resultFromUrl", key = "#url")
     public List<LocationDto> getResultFromUrl(URI url) {
         ParameterizedTypeReference<Map<String, Object>> typeRef =
             new ParameterizedTypeReference<>() {
@@ -297,7 +310,7 @@ public class LocationApiServiceImpl implements LocationApiService {
             .orElseThrow(() -> new NotFoundException(ErrorMessage.NOT_FOUND_LOCATION_BY_URL + url))
             .stream()
             .map(this::mapToLocationDto)
-            .collect(Collectors.toList());
+            .toList();
     }
 
     /**
@@ -306,6 +319,11 @@ public class LocationApiServiceImpl implements LocationApiService {
     @Override
     @Cacheable(value = "locationDataByUpperId", key = "#level+'_'+#upperId")
     public List<LocationDto> getLocationDataByUpperId(int level, String upperId) {
+        Optional<List<LocationDto>> snapshotLocations =
+            locationSnapshotService.getLocationDataByUpperId(level, upperId);
+        if (snapshotLocations.isPresent()) {
+            return snapshotLocations.get();
+        }
         UriComponentsBuilder builder = buildUrl().queryParam(LEVEL, level)
             .queryParam(PARENT, upperId);
         return getResultFromUrl(builder.build().encode().toUri());
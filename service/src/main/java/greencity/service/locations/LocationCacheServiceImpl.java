@@ -0,0 +1,55 @@
+package greencity.service.locations;
+
+import greencity.config.BoundedCache;
+import greencity.dto.CacheStatsDto;
+import greencity.dto.location.api.LocationCacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class LocationCacheServiceImpl implements LocationCacheService {
+    private final CacheManager cacheManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LocationCacheStatsDto> getStats() {
+        return cacheManager.getCacheNames().stream()
+            .map(cacheManager::getCache)
+            .filter(BoundedCache.class::isInstance)
+            .map(cache -> toLocationCacheStats(((BoundedCache) cache).getStats()))
+            .sorted(Comparator.comparing(LocationCacheStatsDto::getName))
+            .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        cacheManager.getCacheNames().stream()
+            .map(cacheManager::getCache)
+            .filter(Objects::nonNull)
+            .forEach(Cache::clear);
+    }
+
+    private LocationCacheStatsDto toLocationCacheStats(CacheStatsDto stats) {
+        return LocationCacheStatsDto.builder()
+            .name(stats.getName())
+            .size(stats.getSize())
+            .maxSize(stats.getMaxSize())
+            .ttlSeconds(stats.getTtlSeconds())
+            .hitCount(stats.getHitCount())
+            .missCount(stats.getMissCount())
+            .evictionCount(stats.getEvictionCount())
+            .hitRate(stats.getHitRate())
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+package greencity.service.locations;
+
+import greencity.dto.location.api.LocationDto;
+import greencity.dto.location.api.LocationSnapshotEntryDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable KATOTTG hierarchy with indices by code, by level, by upper location
+ * and by name, so that the lookups of {@link LocationApiServiceImpl} are served
+ * from memory. Names are kept with the quotes normalized the same way as the
+ * names searched by the service.
+ */
+final class LocationHierarchySnapshot {
+    private static final String NAME = "name";
+    private static final String NAME_EN = "name_en";
+
+    private final Map<String, LocationDto> byCode = new HashMap<>();
+    private final Map<String, Integer> levelByCode = new HashMap<>();
+    private final Map<Integer, List<LocationDto>> byLevel = new HashMap<>();
+    private final Map<String, List<LocationDto>> byUpperId = new HashMap<>();
+    private final Map<String, List<LocationDto>> byName = new HashMap<>();
+
+    /**
+     * Builds the hierarchy of the given locations.
+     *
+     * @param entries collection of {@link LocationSnapshotEntryDto}.
+     */
+    LocationHierarchySnapshot(Collection<LocationSnapshotEntryDto> entries) {
+        Map<Integer, List<LocationDto>> levels = new HashMap<>();
+        Map<String, List<LocationDto>> children = new HashMap<>();
+        Map<String, List<LocationDto>> names = new HashMap<>();
+        for (LocationSnapshotEntryDto entry : entries) {
+            String name = normalize(entry.getName());
+            String nameEn = normalize(entry.getNameEn());
+            Map<String, String> nameMap = new HashMap<>();
+            nameMap.put(NAME, name);
+            nameMap.put(NAME_EN, nameEn);
+            LocationDto location = LocationDto.builder()
+                .id(entry.getCode())
+                .parentId(entry.getParentId())
+                .locationNameMap(Collections.unmodifiableMap(nameMap))
+                .build();
+            byCode.put(entry.getCode(), location);
+            levelByCode.put(entry.getCode(), entry.getLevel());
+            levels.computeIfAbsent(entry.getLevel(), level -> new ArrayList<>()).add(location);
+            if (entry.getParentId() != null) {
+                children.computeIfAbsent(key(entry.getLevel(), entry.getParentId()), key -> new ArrayList<>())
+                    .add(location);
+            }
+            if (name != null) {
+                names.computeIfAbsent(key(entry.getLevel(), name), key -> new ArrayList<>()).add(location);
+            }
+            if (nameEn != null && !nameEn.equals(name)) {
+                names.computeIfAbsent(key(entry.getLevel(), nameEn), key -> new ArrayList<>()).add(location);
+            }
+        }
+        levels.forEach((level, locations) -> byLevel.put(level, List.copyOf(locations)));
+        children.forEach((key, locations) -> byUpperId.put(key, List.copyOf(locations)));
+        names.forEach((key, locations) -> byName.put(key, List.copyOf(locations)));
+    }
+
+    /**
+     * Returns the number of locations in the hierarchy.
+     *
+     * @return number of locations.
+     */
+    int size() {
+        return byCode.size();
+    }
+
+    List<LocationDto> getByLevel(int level) {
+        return byLevel.getOrDefault(level, List.of());
+    }
+
+    List<LocationDto> getByName(int level, String name) {
+        return name == null ? List.of() : byName.getOrDefault(key(level, normalize(name)), List.of());
+    }
+
+    List<LocationDto> getByUpperId(int level, String upperId) {
+        return byUpperId.getOrDefault(key(level, upperId), List.of());
+    }
+
+    LocationDto getByCode(int level, String code) {
+        return Objects.equals(levelByCode.get(code), level) ? byCode.get(code) : null;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? null : LocationApiServiceImpl.replaceAllQuotes(name.trim());
+    }
+
+    private static String key(int level, String value) {
+        return level + "_" + value;
+    }
+}
@@ -0,0 +1,107 @@
+package greencity.service.locations;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.config.LocationSnapshotConfigProp;
+import greencity.dto.location.api.LocationDto;
+import greencity.dto.location.api.LocationSnapshotEntryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+@Service
+@Slf4j
+public class LocationSnapshotServiceImpl implements LocationSnapshotService {
+    private static final String GZIP_EXTENSION = ".gz";
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final LocationSnapshotConfigProp locationSnapshotConfigProp;
+    private final LocationCacheService locationCacheService;
+    private volatile LocationHierarchySnapshot snapshot;
+    private volatile long snapshotLastModified;
+
+    /**
+     * Constructor.
+     */
+    public LocationSnapshotServiceImpl(ResourceLoader resourceLoader, ObjectMapper objectMapper,
+        LocationSnapshotConfigProp locationSnapshotConfigProp, LocationCacheService locationCacheService) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.locationSnapshotConfigProp = locationSnapshotConfigProp;
+        this.locationCacheService = locationCacheService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<List<LocationDto>> getLocationDataByLevel(int level) {
+        return Optional.ofNullable(snapshot).map(current -> current.getByLevel(level));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<List<LocationDto>> getLocationDataByName(int level, String name) {
+        return Optional.ofNullable(snapshot).map(current -> current.getByName(level, name));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<List<LocationDto>> getLocationDataByUpperId(int level, String upperId) {
+        return Optional.ofNullable(snapshot).map(current -> current.getByUpperId(level, upperId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<LocationDto> getLocationDataByCode(int level, String code) {
+        return Optional.ofNullable(snapshot).map(current -> current.getByCode(level, code));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void refresh() {
+        String path = locationSnapshotConfigProp.getPath();
+        if (StringUtils.isBlank(path)) {
+            return;
+        }
+        Resource resource = resourceLoader.getResource(path);
+        try {
+            long lastModified = resource.lastModified();
+            if (snapshot != null && lastModified == snapshotLastModified) {
+                return;
+            }
+            LocationHierarchySnapshot loaded = new LocationHierarchySnapshot(read(resource, path));
+            snapshot = loaded;
+            snapshotLastModified = lastModified;
+            locationCacheService.invalidateAll();
+            log.info("Loaded location hierarchy snapshot with {} locations from {}", loaded.size(), path);
+        } catch (IOException | RuntimeException e) {
+            log.error("Unable to load location hierarchy snapshot from {}: {}", path, e.getMessage());
+        }
+    }
+
+    private List<LocationSnapshotEntryDto> read(Resource resource, String path) throws IOException {
+        try (InputStream resourceStream = resource.getInputStream();
+            InputStream inputStream = path.endsWith(GZIP_EXTENSION)
+                ? new GZIPInputStream(resourceStream)
+                : resourceStream) {
+            return objectMapper.readValue(inputStream, new TypeReference<>() {
+            });
+        }
+    }
+}
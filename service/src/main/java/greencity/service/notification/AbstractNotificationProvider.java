@@ -1,23 +1,21 @@
 package greencity.service.notification;
 
-import greencity.client.UserRemoteClient;
 import greencity.constant.ErrorMessage;
 import greencity.dto.notification.NotificationDto;
-import greencity.dto.user.UserVO;
 import greencity.entity.notifications.UserNotification;
 import greencity.entity.user.User;
 import greencity.enums.NotificationReceiverType;
 import greencity.exceptions.user.UserNotFoundException;
-import greencity.repository.NotificationTemplateRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import jakarta.annotation.PostConstruct;
+import java.util.Locale;
 
 @RequiredArgsConstructor
 @Getter
 public abstract class AbstractNotificationProvider {
-    private final UserRemoteClient userRemoteClient;
-    private final NotificationTemplateRepository templateRepository;
+    private final NotificationUserCacheService notificationUserCacheService;
+    private final NotificationTemplateCacheService notificationTemplateCacheService;
     private final NotificationReceiverType notificationType;
 
     /**
@@ -36,6 +34,16 @@ public abstract class AbstractNotificationProvider {
      */
     public abstract boolean isEnabled(User user);
 
+    /**
+     * Returns the name of the channel through which the provider sends the
+     * notifications. It is the key of the settings of the channel.
+     *
+     * @return name of the channel
+     */
+    public String getChannelName() {
+        return notificationType.name().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Creates a notification and sends it to the user if the user has this provider
      * enabled.
@@ -68,11 +76,10 @@ public abstract class AbstractNotificationProvider {
         UserNotification notification,
         NotificationReceiverType receiverType,
         long monthsOfAccountInactivity) {
-        UserVO userVO = userRemoteClient.findNotDeactivatedByEmail(notification.getUser().getRecipientEmail())
+        String languageCode = notificationUserCacheService.getLanguageCode(notification.getUser().getRecipientEmail())
             .orElseThrow(() -> new UserNotFoundException(
                 ErrorMessage.USER_WITH_THIS_EMAIL_DOES_NOT_EXIST + notification.getUser().getRecipientEmail()));
-        return NotificationServiceImpl
-            .createNotificationDto(notification, userVO.getLanguageVO().getCode(), receiverType, templateRepository,
-                monthsOfAccountInactivity);
+        return notificationTemplateCacheService
+            .createNotificationDto(notification, languageCode, receiverType, monthsOfAccountInactivity);
     }
 }
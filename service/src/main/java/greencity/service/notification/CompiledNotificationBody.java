@@ -0,0 +1,108 @@
+package greencity.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Notification body split once into literal text and {@code ${name}}
+ * placeholders, so that rendering only concatenates the parts. Placeholders
+ * follow the default syntax of {@code StringSubstitutor}: a doubled dollar sign
+ * escapes a placeholder, {@code ${name:-default}} declares a default value and
+ * unknown placeholders are left as is. Literal text containing {@code %} is
+ * formatted with the months of account inactivity, as the whole body used to
+ * be.
+ */
+final class CompiledNotificationBody {
+    private static final String PREFIX = "${";
+    private static final String ESCAPED_PREFIX = "$${";
+    private static final String SUFFIX = "}";
+    private static final String DEFAULT_DELIMITER = ":-";
+
+    private final List<Part> parts;
+
+    private CompiledNotificationBody(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * Splits the body into literal and placeholder parts.
+     *
+     * @param body {@link String} body of the notification template.
+     * @return {@link CompiledNotificationBody}.
+     */
+    static CompiledNotificationBody compile(String body) {
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < body.length()) {
+            if (body.startsWith(ESCAPED_PREFIX, position)) {
+                literal.append(PREFIX);
+                position += ESCAPED_PREFIX.length();
+                continue;
+            }
+            int end = body.startsWith(PREFIX, position) ? body.indexOf(SUFFIX, position + PREFIX.length()) : -1;
+            if (end < 0) {
+                literal.append(body.charAt(position++));
+                continue;
+            }
+            addLiteral(parts, literal);
+            parts.add(placeholder(body.substring(position, end + 1)));
+            position = end + 1;
+        }
+        addLiteral(parts, literal);
+        return new CompiledNotificationBody(List.copyOf(parts));
+    }
+
+    /**
+     * Renders the body with the given parameters.
+     *
+     * @param values                    {@link Map} of parameter values by key.
+     * @param monthsOfAccountInactivity months of inactivity of the user's account.
+     * @return {@link String} rendered body.
+     */
+    String render(Map<String, String> values, long monthsOfAccountInactivity) {
+        StringBuilder result = new StringBuilder();
+        for (Part part : parts) {
+            result.append(part.render(values, monthsOfAccountInactivity));
+        }
+        return result.toString();
+    }
+
+    private static void addLiteral(List<Part> parts, StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            String text = literal.toString();
+            parts.add(new Part(text, null, null, text.indexOf('%') >= 0));
+            literal.setLength(0);
+        }
+    }
+
+    private static Part placeholder(String text) {
+        String name = text.substring(PREFIX.length(), text.length() - SUFFIX.length());
+        int delimiter = name.indexOf(DEFAULT_DELIMITER);
+        return delimiter < 0
+            ? new Part(text, name, null, false)
+            : new Part(text, name.substring(0, delimiter),
+                name.substring(delimiter + DEFAULT_DELIMITER.length()), false);
+    }
+
+    @RequiredArgsConstructor
+    private static class Part {
+        private final String text;
+        private final String key;
+        private final String defaultValue;
+        private final boolean formatted;
+
+        private String render(Map<String, String> values, long monthsOfAccountInactivity) {
+            if (key == null) {
+                return formatted ? String.format(text, monthsOfAccountInactivity) : text;
+            }
+            String value = values.get(key);
+            if (value != null) {
+                return value;
+            }
+            return defaultValue != null ? defaultValue : text;
+        }
+    }
+}
@@ -6,7 +6,6 @@ import greencity.dto.notification.NotificationDto;
 import greencity.entity.notifications.UserNotification;
 import greencity.entity.user.User;
 import greencity.enums.NotificationReceiverType;
-import greencity.repository.NotificationTemplateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.util.Objects;
@@ -22,8 +21,9 @@ public class EmailService extends AbstractNotificationProvider {
      * Constructor with super() call.
      */
     @Autowired
-    public EmailService(UserRemoteClient userRemoteClient, NotificationTemplateRepository templateRepository) {
-        super(userRemoteClient, templateRepository, notificationType);
+    public EmailService(UserRemoteClient userRemoteClient, NotificationUserCacheService notificationUserCacheService,
+        NotificationTemplateCacheService notificationTemplateCacheService) {
+        super(notificationUserCacheService, notificationTemplateCacheService, notificationType);
         this.userRemoteClient = userRemoteClient;
     }
 
@@ -0,0 +1,240 @@
+package greencity.service.notification;
+
+import greencity.config.NotificationChannelConfigProp;
+import greencity.dto.notification.NotificationChannelStatsDto;
+import greencity.entity.notifications.UserNotification;
+import greencity.exceptions.BadRequestException;
+import greencity.exceptions.NotFoundException;
+import greencity.exceptions.user.UserNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Every notification provider is a channel with its own bounded queue, workers
+ * and rate of sending, so the providers send the same notification
+ * independently of each other. A notification which does not fit into the full
+ * queue is sent by the thread which dispatches it, which slows the producer
+ * down instead of losing the notification. A failed notification is put back
+ * into the queue of its channel after a delay which grows with every attempt,
+ * and waits for another delay while the queue is full, while the notifications
+ * which cannot succeed, such as those of the users who do not exist, are not
+ * retried.
+ */
+@Slf4j
+@Service
+public class NotificationChannelDispatcherImpl implements NotificationChannelDispatcher {
+    private static final List<Class<? extends RuntimeException>> NOT_RETRYABLE_EXCEPTIONS =
+        List.of(UserNotFoundException.class, NotFoundException.class, BadRequestException.class);
+
+    private final List<Channel> channels;
+    private final ScheduledExecutorService retryScheduler;
+
+    /**
+     * Constructor to start the workers of the channel of every provider.
+     */
+    public NotificationChannelDispatcherImpl(List<? extends AbstractNotificationProvider> notificationProviders,
+        NotificationChannelConfigProp notificationChannelConfigProp) {
+        this.channels = notificationProviders.stream()
+            .map(provider -> new Channel(provider,
+                notificationChannelConfigProp.getChannel(provider.getChannelName())))
+            .toList();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("notification-retry")
+            .daemon(true)
+            .factory());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispatch(UserNotification notification, long monthsOfAccountInactivity) {
+        channels.forEach(channel -> channel.submit(new Delivery(notification, monthsOfAccountInactivity, 1)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<NotificationChannelStatsDto> getStats() {
+        return channels.stream()
+            .map(Channel::getStats)
+            .toList();
+    }
+
+    /**
+     * Stops the workers and the retries of all the channels.
+     */
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        channels.forEach(channel -> channel.getWorkers().shutdown());
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        return NOT_RETRYABLE_EXCEPTIONS.stream().noneMatch(type -> type.isInstance(e));
+    }
+
+    /**
+     * Queue, workers, rate limiter and statistics of one notification provider.
+     */
+    @Getter
+    private class Channel {
+        private final AbstractNotificationProvider provider;
+        private final NotificationChannelConfigProp.Channel settings;
+        private final ThreadPoolExecutor workers;
+        private final RateLimiter rateLimiter;
+        private final LongAdder sentCount = new LongAdder();
+        private final LongAdder retriedCount = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder callerRunsCount = new LongAdder();
+        private final LongAdder sendLatencyNanos = new LongAdder();
+        private final AtomicLong maxSendLatencyNanos = new AtomicLong();
+
+        Channel(AbstractNotificationProvider provider, NotificationChannelConfigProp.Channel settings) {
+            this.provider = provider;
+            this.settings = settings;
+            this.workers = new ThreadPoolExecutor(settings.getConcurrency(), settings.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                Thread.ofPlatform().name("notification-" + provider.getChannelName() + "-", 0).factory());
+            this.rateLimiter = new RateLimiter(settings.getPermitsPerSecond());
+        }
+
+        void submit(Delivery delivery) {
+            try {
+                workers.execute(() -> send(delivery));
+            } catch (RejectedExecutionException e) {
+                if (workers.isShutdown()) {
+                    fail(delivery, e);
+                    return;
+                }
+                callerRunsCount.increment();
+                send(delivery);
+            }
+        }
+
+        void retry(Delivery delivery, long delay) {
+            try {
+                retryScheduler.schedule(() -> {
+                    try {
+                        workers.execute(() -> send(delivery));
+                    } catch (RejectedExecutionException e) {
+                        if (workers.isShutdown()) {
+                            fail(delivery, e);
+                        } else {
+                            retry(delivery, delay);
+                        }
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                fail(delivery, e);
+            }
+        }
+
+        void send(Delivery delivery) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                provider.sendNotification(delivery.getNotification(), provider.getNotificationType(),
+                    delivery.getMonthsOfAccountInactivity());
+                sentCount.increment();
+            } catch (RuntimeException e) {
+                retryOrFail(delivery, e);
+            } finally {
+                long latency = System.nanoTime() - start;
+                sendLatencyNanos.add(latency);
+                maxSendLatencyNanos.accumulateAndGet(latency, Math::max);
+            }
+        }
+
+        void retryOrFail(Delivery delivery, RuntimeException e) {
+            if (delivery.getAttempt() < settings.getMaxAttempts() && isRetryable(e)) {
+                retriedCount.increment();
+                retry(delivery.next(), (long) (settings.getInitialBackoff().toMillis()
+                    * Math.pow(settings.getBackoffMultiplier(), delivery.getAttempt() - 1.0)));
+                return;
+            }
+            fail(delivery, e);
+        }
+
+        void fail(Delivery delivery, RuntimeException e) {
+            failedCount.increment();
+            log.error("Unable to send notification {} via {} after {} attempts: {}",
+                delivery.getNotification().getId(), provider.getChannelName(), delivery.getAttempt(),
+                e.getMessage());
+        }
+
+        NotificationChannelStatsDto getStats() {
+            long attempts = sentCount.sum() + retriedCount.sum() + failedCount.sum();
+            return NotificationChannelStatsDto.builder()
+                .channel(provider.getChannelName())
+                .queueSize(workers.getQueue().size())
+                .queueCapacity(settings.getQueueCapacity())
+                .activeCount(workers.getActiveCount())
+                .concurrency(settings.getConcurrency())
+                .permitsPerSecond(settings.getPermitsPerSecond())
+                .sentCount(sentCount.sum())
+                .retriedCount(retriedCount.sum())
+                .failedCount(failedCount.sum())
+                .callerRunsCount(callerRunsCount.sum())
+                .averageSendLatencyMillis(attempts == 0 ? 0 : sendLatencyNanos.sum() / 1_000_000.0 / attempts)
+                .maxSendLatencyMillis(TimeUnit.NANOSECONDS.toMillis(maxSendLatencyNanos.get()))
+                .build();
+        }
+    }
+
+    /**
+     * Spaces the sends of a channel evenly by the interval of its rate. Every
+     * caller reserves the next free slot and waits until it comes.
+     */
+    private static class RateLimiter {
+        private final long intervalNanos;
+        private final AtomicLong nextSlotNanos = new AtomicLong(System.nanoTime());
+
+        RateLimiter(double permitsPerSecond) {
+            this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        }
+
+        void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            long slot = Math.max(now,
+                nextSlotNanos.getAndAccumulate(now, (next, current) -> Math.max(next, current) + intervalNanos));
+            TimeUnit.NANOSECONDS.sleep(slot - now);
+        }
+    }
+
+    /**
+     * Notification sent by a channel and the number of its attempt.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Delivery {
+        private final UserNotification notification;
+        private final long monthsOfAccountInactivity;
+        private final int attempt;
+
+        Delivery next() {
+            return new Delivery(notification, monthsOfAccountInactivity, attempt + 1);
+        }
+    }
+}
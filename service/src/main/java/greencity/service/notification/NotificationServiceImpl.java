@@ -1,24 +1,22 @@
 package greencity.service.notification;
 
 import greencity.config.InternalUrlConfigProp;
+import greencity.config.NotificationBatchConfigProp;
 import greencity.constant.AppConstant;
-import greencity.constant.OrderHistory;
 import greencity.dto.notification.InactiveAccountDto;
 import greencity.dto.notification.NotificationDto;
 import greencity.dto.notification.NotificationShortDto;
 import greencity.dto.pageble.PageableDto;
-import greencity.entity.notifications.NotificationPlatform;
 import greencity.entity.order.Bag;
 import greencity.entity.order.Order;
+import greencity.entity.order.OrderBag;
 import greencity.entity.order.Certificate;
-import greencity.entity.order.Event;
 import greencity.entity.order.Payment;
 import greencity.entity.notifications.NotificationParameter;
-import greencity.entity.notifications.NotificationTemplate;
 import greencity.entity.notifications.UserNotification;
 import greencity.entity.user.User;
 import greencity.entity.user.Violation;
-import greencity.enums.NotificationReceiverType;
+import greencity.enums.EventCode;
 import greencity.enums.NotificationType;
 import greencity.enums.OrderPaymentStatus;
 import greencity.enums.OrderStatus;
@@ -28,8 +26,9 @@ import greencity.exceptions.NotFoundException;
 import greencity.exceptions.http.AccessDeniedException;
 import greencity.filters.UserSpecification;
 import greencity.repository.NotificationParameterRepository;
-import greencity.repository.NotificationTemplateRepository;
+import greencity.repository.NotificationSweepRepository;
 import greencity.repository.OrderRepository;
+import greencity.repository.UserNotificationBatchRepository;
 import greencity.repository.UserNotificationRepository;
 import greencity.repository.UserRepository;
 import greencity.repository.ViolationRepository;
@@ -37,10 +36,11 @@ import greencity.service.ubs.NotificationService;
 import greencity.service.ubs.OrderBagService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.text.StringSubstitutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -56,7 +56,6 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -68,17 +67,16 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import static greencity.constant.ErrorMessage.BAG_NOT_FOUND;
 import static greencity.constant.ErrorMessage.NOTIFICATION_DOES_NOT_BELONG_TO_USER;
 import static greencity.constant.ErrorMessage.NOTIFICATION_DOES_NOT_EXIST;
 import static greencity.constant.ErrorMessage.VIOLATION_DOES_NOT_EXIST;
 import static greencity.enums.NotificationReceiverType.SITE;
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.toMap;
-import static greencity.constant.OrderHistory.ADD_VIOLATION;
-import static greencity.constant.OrderHistory.CHANGES_VIOLATION;
-import static greencity.constant.OrderHistory.DELETE_VIOLATION;
 
 @Service
 @Transactional
@@ -93,8 +91,8 @@ public class NotificationServiceImpl implements NotificationService {
     @Autowired
     @Qualifier("kyivZonedClock")
     private Clock clock;
-    private final List<? extends AbstractNotificationProvider> notificationProviders;
-    private final NotificationTemplateRepository templateRepository;
+    private final NotificationChannelDispatcher notificationChannelDispatcher;
+    private final NotificationTemplateCacheService notificationTemplateCacheService;
     @Autowired
     @Qualifier("singleThreadedExecutor")
     private ExecutorService executor;
@@ -109,25 +107,42 @@ public class NotificationServiceImpl implements NotificationService {
     private static final int MAX_NOTIFICATION_ORDER_AGE_MONTHS = 1;
     private static final int MIN_NOTIFICATION_ORDER_AGE_DAYS = 3;
     private static final int MAX_NOTIFICATIONS_PER_WEEK = 1;
+    private static final List<OrderStatus> DONE_OR_CANCELED_STATUSES = List.of(OrderStatus.DONE, OrderStatus.CANCELED);
+    private static final List<EventCode> DONE_OR_CANCELED_EVENT_CODES = List.of(EventCode.ORDER_ADJUSTMENT,
+        EventCode.ORDER_CONFIRMED, EventCode.ORDER_ON_THE_ROUTE, EventCode.ORDER_NOT_TAKEN_OUT);
+    private static final long DONE_OR_CANCELED_EVENT_COUNT = 3;
+    private static final List<EventCode> STATUS_CHANGED_EVENT_CODES =
+        List.of(EventCode.ORDER_ADJUSTMENT, EventCode.ORDER_CONFIRMED);
 
     @Autowired
     private final OrderBagService orderBagService;
+    private final UserNotificationBatchRepository userNotificationBatchRepository;
+    private final NotificationBatchConfigProp notificationBatchConfigProp;
+    private final NotificationSweepRepository notificationSweepRepository;
+    private final NotificationUserCacheService notificationUserCacheService;
+    @Autowired
+    @Qualifier("notificationDispatchExecutor")
+    private TaskExecutor notificationDispatchExecutor;
 
     /**
      * {@inheritDoc}
      */
     @Override
     public void notifyUnpaidOrders() {
-        for (Order order : orderRepository.findAllByOrderPaymentStatus(OrderPaymentStatus.UNPAID)) {
-            if (checkIfOrderNeedsNewNotification(order, NotificationType.UNPAID_ORDER)) {
-                UserNotification userNotification = new UserNotification();
-                userNotification.setUser(order.getUser());
-                Double amountToPay = getAmountToPay(order);
-                Set<NotificationParameter> notificationParameters =
-                    initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
-                fillAndSendNotification(notificationParameters, order, NotificationType.UNPAID_ORDER);
+        List<UserNotification> notifications = new ArrayList<>();
+        var orders = orderRepository.findAllByOrderPaymentStatus(OrderPaymentStatus.UNPAID);
+        for (List<Order> chunk : ListUtils.partition(orders, notificationBatchConfigProp.getBatchSize())) {
+            NotificationSweepBatch batch = loadSweepBatch(chunk, NotificationType.UNPAID_ORDER).build();
+            for (Order order : chunk) {
+                if (checkIfOrderNeedsNewNotification(order, batch)) {
+                    Double amountToPay = getAmountToPay(order, batch);
+                    Set<NotificationParameter> notificationParameters =
+                        initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
+                    notifications.add(createNotification(notificationParameters, order, NotificationType.UNPAID_ORDER));
+                }
             }
         }
+        saveAndSendInBatches(notifications, 0L);
     }
 
     private Set<NotificationParameter> initialiseNotificationParametersForUnpaidOrder(Order order,
@@ -171,14 +186,20 @@ public class NotificationServiceImpl implements NotificationService {
     public void notifyAllCourierItineraryFormed() {
         var orders =
             orderRepository.findAllByOrderStatusAndOrderPaymentStatus(OrderStatus.ADJUSTMENT, OrderPaymentStatus.PAID);
-        orders.forEach(order -> {
-            checkIfOrderNeedsNewNotification(order, NotificationType.COURIER_ITINERARY_FORMED);
-            notifyCourierItineraryFormed(order);
-        });
+        var notifications = orders.stream()
+            .map(order -> createNotification(getCourierItineraryFormedParameters(order), order,
+                NotificationType.COURIER_ITINERARY_FORMED))
+            .toList();
+        saveAndSendInBatches(notifications, 0L);
     }
 
     @Override
     public void notifyCourierItineraryFormed(Order order) {
+        fillAndSendNotification(getCourierItineraryFormedParameters(order), order,
+            NotificationType.COURIER_ITINERARY_FORMED);
+    }
+
+    private Set<NotificationParameter> getCourierItineraryFormedParameters(Order order) {
         Set<NotificationParameter> parameters = new HashSet<>();
         parameters.add(NotificationParameter.builder()
             .key("date")
@@ -203,7 +224,7 @@ public class NotificationServiceImpl implements NotificationService {
             .key(ORDER_NUMBER_KEY)
             .value(order.getId().toString())
             .build());
-        fillAndSendNotification(parameters, order, NotificationType.COURIER_ITINERARY_FORMED);
+        return parameters;
     }
 
     /**
@@ -213,32 +234,44 @@ public class NotificationServiceImpl implements NotificationService {
     public void notifyHalfPaidPackage(Order order) {
         Double amountToPay = getAmountToPay(order);
         Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
+        fillAndSendNotification(parameters, order,
+            getHalfPaidPackageNotificationType(order, () -> countEvents(order, DONE_OR_CANCELED_EVENT_CODES)));
+    }
+
+    private UserNotification createHalfPaidPackageNotification(Order order, NotificationSweepBatch batch) {
+        Double amountToPay = getAmountToPay(order, batch);
+        Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
+        return createNotification(parameters, order,
+            getHalfPaidPackageNotificationType(order, () -> batch.getEventCount(order.getId())));
+    }
 
+    private NotificationType getHalfPaidPackageNotificationType(Order order,
+        LongSupplier doneOrCanceledEventCount) {
         if (order.getOrderStatus() == OrderStatus.BROUGHT_IT_HIMSELF) {
-            fillAndSendNotification(parameters, order, NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF);
-        } else if ((order.getOrderStatus() == OrderStatus.DONE || order.getOrderStatus() == OrderStatus.CANCELED)
-            && order.getEvents().stream()
-                .map(Event::getEventName)
-                .filter(e -> e.equals(OrderHistory.ORDER_ADJUSTMENT) || e.equals(OrderHistory.ORDER_CONFIRMED)
-                    || e.equals(OrderHistory.ORDER_ON_THE_ROUTE) || e.equals(OrderHistory.ORDER_NOT_TAKEN_OUT))
-                .count() == 3) {
-            fillAndSendNotification(parameters, order, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
+            return NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF;
+        } else if (isDoneOrCanceled(order) && doneOrCanceledEventCount.getAsLong() == DONE_OR_CANCELED_EVENT_COUNT) {
+            return NotificationType.DONE_OR_CANCELED_UNPAID_ORDER;
         } else {
-            fillAndSendNotification(parameters, order, NotificationType.UNPAID_PACKAGE);
+            return NotificationType.UNPAID_PACKAGE;
         }
     }
 
     @Override
     @Async
-    public void notifyAllOrdersWithIncreasedTariffPrice(Integer bagId) {
-        var orders = orderRepository.findAllUnpaidOrdersWithUsersByBagId(bagId);
-        orders.forEach(this::notifyIncreasedTariffPrice);
+    public void notifyOrdersWithIncreasedTariffPrice(List<Long> orderIds) {
+        var orders = orderRepository.findAllUnpaidWithUsersByIdIn(orderIds);
+        List<UserNotification> notifications = new ArrayList<>();
+        for (List<Order> chunk : ListUtils.partition(orders, notificationBatchConfigProp.getBatchSize())) {
+            NotificationSweepBatch batch = loadSweepBatch(chunk).build();
+            chunk.forEach(order -> notifications.add(createIncreasedTariffPriceNotification(order, batch)));
+        }
+        saveAndSendInBatches(notifications, 0L);
     }
 
-    private void notifyIncreasedTariffPrice(Order order) {
-        Double amountToPay = getAmountToPay(order);
+    private UserNotification createIncreasedTariffPriceNotification(Order order, NotificationSweepBatch batch) {
+        Double amountToPay = getAmountToPay(order, batch);
         Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
-        fillAndSendNotification(parameters, order, NotificationType.TARIFF_PRICE_WAS_CHANGED);
+        return createNotification(parameters, order, NotificationType.TARIFF_PRICE_WAS_CHANGED);
     }
 
     @Override
@@ -247,16 +280,10 @@ public class NotificationServiceImpl implements NotificationService {
         Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
 
         if (order.getOrderStatus() == OrderStatus.BROUGHT_IT_HIMSELF
-            && order.getEvents().stream()
-                .map(Event::getEventName)
-                .noneMatch(e -> e.equals(OrderHistory.ORDER_ADJUSTMENT) || e.equals(OrderHistory.ORDER_CONFIRMED))) {
+            && countEvents(order, STATUS_CHANGED_EVENT_CODES) == 0) {
             fillAndSendNotification(parameters, order, NotificationType.ORDER_STATUS_CHANGED);
-        } else if ((order.getOrderStatus() == OrderStatus.DONE || order.getOrderStatus() == OrderStatus.CANCELED)
-            && order.getEvents().stream()
-                .map(Event::getEventName)
-                .filter(e -> e.equals(OrderHistory.ORDER_ADJUSTMENT) || e.equals(OrderHistory.ORDER_CONFIRMED)
-                    || e.equals(OrderHistory.ORDER_ON_THE_ROUTE) || e.equals(OrderHistory.ORDER_NOT_TAKEN_OUT))
-                .count() == 3) {
+        } else if (isDoneOrCanceled(order)
+            && countEvents(order, DONE_OR_CANCELED_EVENT_CODES) == DONE_OR_CANCELED_EVENT_COUNT) {
             fillAndSendNotification(parameters, order, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
         }
     }
@@ -274,7 +301,6 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     private Double getAmountToPay(Order order) {
-        long bonusesInCoins = order.getPointsToUse() == null ? 0L : order.getPointsToUse() * 100L;
         long certificatesInCoins = order.getCertificates() == null ? 0L
             : 100L * order.getCertificates().stream()
                 .map(Certificate::getPoints)
@@ -286,9 +312,6 @@ public class NotificationServiceImpl implements NotificationService {
                 .map(Payment::getAmount)
                 .reduce(0L, Long::sum);
 
-        long ubsCourierSumInCoins = order.getUbsCourierSum() == null ? 0L : order.getUbsCourierSum();
-        long writeStationSumInCoins = order.getWriteOffStationSum() == null ? 0L : order.getWriteOffStationSum();
-
         List<Bag> bagsType = orderBagService.findAllBagsByOrderId(order.getId());
         Map<Integer, Integer> bagsAmount;
         if (MapUtils.isNotEmpty(order.getExportedQuantity())) {
@@ -303,6 +326,38 @@ public class NotificationServiceImpl implements NotificationService {
             .map(entry -> entry.getValue() * getBagPrice(entry.getKey(), bagsType))
             .reduce(0L, Long::sum);
 
+        return calculateAmountToPay(order, totalPriceInCoins, certificatesInCoins, paidAmountInCoins);
+    }
+
+    private Double getAmountToPay(Order order, NotificationSweepBatch batch) {
+        long certificatesInCoins = 100L * batch.getCertificatePoints(order.getId());
+        long paidAmountInCoins = batch.getPaidAmount(order.getId());
+        long totalPriceInCoins = getBagsPriceInCoins(batch.getOrderBags(order.getId()));
+
+        return calculateAmountToPay(order, totalPriceInCoins, certificatesInCoins, paidAmountInCoins);
+    }
+
+    private long getBagsPriceInCoins(List<OrderBag> orderBags) {
+        Function<OrderBag, Integer> quantity;
+        if (orderBags.stream().anyMatch(orderBag -> orderBag.getExportedQuantity() != null)) {
+            quantity = OrderBag::getExportedQuantity;
+        } else if (orderBags.stream().anyMatch(orderBag -> orderBag.getConfirmedQuantity() != null)) {
+            quantity = OrderBag::getConfirmedQuantity;
+        } else {
+            quantity = OrderBag::getAmount;
+        }
+        return orderBags.stream()
+            .filter(orderBag -> quantity.apply(orderBag) != null)
+            .mapToLong(orderBag -> quantity.apply(orderBag) * orderBag.getPrice())
+            .sum();
+    }
+
+    private Double calculateAmountToPay(Order order, long totalPriceInCoins, long certificatesInCoins,
+        long paidAmountInCoins) {
+        long bonusesInCoins = order.getPointsToUse() == null ? 0L : order.getPointsToUse() * 100L;
+        long ubsCourierSumInCoins = order.getUbsCourierSum() == null ? 0L : order.getUbsCourierSum();
+        long writeStationSumInCoins = order.getWriteOffStationSum() == null ? 0L : order.getWriteOffStationSum();
+
         long unPaidAmountInCoins = totalPriceInCoins - bonusesInCoins - certificatesInCoins + ubsCourierSumInCoins
             + writeStationSumInCoins;
         return BigDecimal.valueOf(unPaidAmountInCoins - paidAmountInCoins)
@@ -323,22 +378,27 @@ public class NotificationServiceImpl implements NotificationService {
      */
     @Override
     public void notifyAllHalfPaidPackages() {
-        for (Order order : orderRepository.findAllByOrderPaymentStatus(OrderPaymentStatus.HALF_PAID)) {
-            Optional<UserNotification> lastNotification = userNotificationRepository
-                .findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(
-                    order.getId(),
-                    NotificationType.UNPAID_PACKAGE,
-                    NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF,
-                    NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
-            if (checkIfHalfPaidPackageNeedsNotification(order, lastNotification)) {
-                notifyHalfPaidPackage(order);
-            }
+        List<UserNotification> notifications = new ArrayList<>();
+        var orders = orderRepository.findAllByOrderPaymentStatus(OrderPaymentStatus.HALF_PAID);
+        for (List<Order> chunk : ListUtils.partition(orders, notificationBatchConfigProp.getBatchSize())) {
+            NotificationSweepBatch batch = loadSweepBatch(chunk,
+                NotificationType.UNPAID_PACKAGE,
+                NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF,
+                NotificationType.DONE_OR_CANCELED_UNPAID_ORDER)
+                .eventCounts(notificationSweepRepository.countEvents(
+                    getOrderIds(chunk.stream().filter(this::isDoneOrCanceled)), DONE_OR_CANCELED_EVENT_CODES))
+                .build();
+            chunk.stream()
+                .filter(order -> checkIfHalfPaidPackageNeedsNotification(order,
+                    batch.getLastNotificationTime(order.getId())))
+                .forEach(order -> notifications.add(createHalfPaidPackageNotification(order, batch)));
         }
+        saveAndSendInBatches(notifications, 0L);
     }
 
-    private boolean checkIfHalfPaidPackageNeedsNotification(Order order, Optional<UserNotification> lastNotification) {
-        return (lastNotification.isEmpty()
-            || lastNotification.get().getNotificationTime().isBefore(LocalDateTime.now(clock).minusWeeks(1)))
+    private boolean checkIfHalfPaidPackageNeedsNotification(Order order, Optional<LocalDateTime> lastNotificationTime) {
+        return (lastNotificationTime.isEmpty()
+            || lastNotificationTime.get().isBefore(LocalDateTime.now(clock).minusWeeks(1)))
             && order.getOrderDate().isAfter(LocalDateTime.now(clock).minusMonths(1));
     }
 
@@ -404,7 +464,8 @@ public class NotificationServiceImpl implements NotificationService {
     public void notifyAddViolation(Long orderId) {
         Violation violation = violationRepository.findActiveViolationByOrderId(orderId)
             .orElseThrow(() -> new NotFoundException(VIOLATION_DOES_NOT_EXIST));
-        createNewViolationParametersAndSend(orderId, violation);
+        fillAndSendNotification(getNewViolationParameters(orderId, violation), violation.getOrder(),
+            NotificationType.VIOLATION_THE_RULES);
     }
 
     /**
@@ -446,30 +507,21 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     private List<Order> getOrdersWithNewViolations() {
-        return orderRepository.findAllWithEventsByEventNames(ADD_VIOLATION, CHANGES_VIOLATION, DELETE_VIOLATION)
-            .stream()
-            .filter(order -> orderHasJustNewViolations(order.getEvents()))
-            .toList();
-    }
-
-    private boolean orderHasJustNewViolations(List<Event> events) {
-        var names = events.stream()
-            .map(Event::getEventName)
-            .toList();
-
-        return names.contains(ADD_VIOLATION)
-            && !names.contains(CHANGES_VIOLATION) && !names.contains(DELETE_VIOLATION);
+        return orderRepository.findAllWithEventCodesWithoutEventCodes(List.of(EventCode.ADD_VIOLATION),
+            List.of(EventCode.CHANGES_VIOLATION, EventCode.DELETE_VIOLATION));
     }
 
     private void notifyNewViolations(List<Order> orders) {
-        orders.forEach(order -> {
-            checkIfOrderNeedsNewNotification(order, NotificationType.VIOLATION_THE_RULES);
-            violationRepository.findActiveViolationByOrderId(order.getId())
-                .ifPresent(violation -> createNewViolationParametersAndSend(order.getId(), violation));
-        });
+        List<UserNotification> notifications = new ArrayList<>();
+        ListUtils.partition(getOrderIds(orders.stream()), notificationBatchConfigProp.getBatchSize())
+            .forEach(chunk -> violationRepository.findActiveViolationsByOrderIds(chunk).stream()
+                .map(violation -> createNotification(getNewViolationParameters(violation.getOrder().getId(), violation),
+                    violation.getOrder(), NotificationType.VIOLATION_THE_RULES))
+                .forEach(notifications::add));
+        saveAndSendInBatches(notifications, 0L);
     }
 
-    private void createNewViolationParametersAndSend(Long orderId, Violation violation) {
+    private Set<NotificationParameter> getNewViolationParameters(Long orderId, Violation violation) {
         Set<NotificationParameter> parameters = new HashSet<>();
         parameters.add(NotificationParameter.builder()
             .key(VIOLATION_DESCRIPTION)
@@ -479,12 +531,12 @@ public class NotificationServiceImpl implements NotificationService {
             .key(ORDER_NUMBER_KEY)
             .value(orderId.toString())
             .build());
-        fillAndSendNotification(parameters, violation.getOrder(), NotificationType.VIOLATION_THE_RULES);
+        return parameters;
     }
 
     @Override
     public void notifyAllCanceledViolations() {
-        var orders = orderRepository.findAllWithEventsByEventNames(DELETE_VIOLATION);
+        var orders = orderRepository.findAllWithEventCodes(List.of(EventCode.DELETE_VIOLATION));
         notifyViolations(orders, NotificationType.CANCELED_VIOLATION_THE_RULES_BY_THE_MANAGER);
     }
 
@@ -495,52 +547,30 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     private List<Order> getOrdersWithChangedViolations() {
-        return orderRepository.findAllWithEventsByEventNames(CHANGES_VIOLATION, DELETE_VIOLATION)
-            .stream()
-            .filter(o -> orderHasChangedViolations(o.getEvents()))
-            .toList();
-    }
-
-    private boolean orderHasChangedViolations(List<Event> events) {
-        var names = events.stream()
-            .map(Event::getEventName)
-            .toList();
-
-        return names.contains(CHANGES_VIOLATION) && !names.contains(DELETE_VIOLATION);
+        return orderRepository.findAllWithEventCodesWithoutEventCodes(List.of(EventCode.CHANGES_VIOLATION),
+            List.of(EventCode.DELETE_VIOLATION));
     }
 
     private void notifyViolations(List<Order> orders, NotificationType notificationType) {
-        orders.forEach(order -> {
-            checkIfOrderNeedsNewNotification(order, notificationType);
-            Set<NotificationParameter> parameters = new HashSet<>();
-            parameters.add(NotificationParameter.builder()
-                .key(ORDER_NUMBER_KEY)
-                .value(order.getId().toString())
-                .build());
-            fillAndSendNotification(parameters, order, notificationType);
-        });
+        var notifications = orders.stream()
+            .map(order -> {
+                Set<NotificationParameter> parameters = new HashSet<>();
+                parameters.add(NotificationParameter.builder()
+                    .key(ORDER_NUMBER_KEY)
+                    .value(order.getId().toString())
+                    .build());
+                return createNotification(parameters, order, notificationType);
+            })
+            .toList();
+        saveAndSendInBatches(notifications, 0L);
     }
 
     @Override
     public void notifyAllDoneOrCanceledUnpaidOrders() {
-        var orders = orderRepository.findAllByPaymentStatusesAndOrderStatuses(
-            List.of(OrderPaymentStatus.UNPAID, OrderPaymentStatus.HALF_PAID),
-            List.of(OrderStatus.DONE, OrderStatus.CANCELED));
-        orders.forEach(this::notifyDoneOrCanceledUnpaidOrder);
-    }
-
-    private void notifyDoneOrCanceledUnpaidOrder(Order order) {
-        if (checkByEventsOrderDoneOrCanceled(order)) {
-            notifyOrderWithStatus(order, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
-        }
-    }
-
-    private boolean checkByEventsOrderDoneOrCanceled(Order order) {
-        return order.getEvents().stream()
-            .map(Event::getEventName)
-            .filter(e -> e.equals(OrderHistory.ORDER_ADJUSTMENT) || e.equals(OrderHistory.ORDER_CONFIRMED)
-                || e.equals(OrderHistory.ORDER_ON_THE_ROUTE) || e.equals(OrderHistory.ORDER_NOT_TAKEN_OUT))
-            .count() == 3;
+        var orders = orderRepository.findAllByPaymentStatusesAndOrderStatusesWithEventCount(
+            List.of(OrderPaymentStatus.UNPAID, OrderPaymentStatus.HALF_PAID), DONE_OR_CANCELED_STATUSES,
+            DONE_OR_CANCELED_EVENT_CODES, DONE_OR_CANCELED_EVENT_COUNT);
+        notifyOrdersWithStatus(orders.stream(), NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
     }
 
     @Override
@@ -548,74 +578,83 @@ public class NotificationServiceImpl implements NotificationService {
         var orders = orderRepository.findAllByOrderStatusAndOrderPaymentStatus(
             OrderStatus.BROUGHT_IT_HIMSELF, OrderPaymentStatus.HALF_PAID);
 
-        orders.forEach(
-            order -> notifyOrderWithStatus(order, NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF));
+        notifyOrdersWithStatus(orders.stream(), NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF);
     }
 
     @Override
     public void notifyAllChangedOrderStatuses() {
-        var orders = orderRepository.findAllByOrderStatusWithEvents(OrderStatus.BROUGHT_IT_HIMSELF);
-        orders.forEach(order -> {
-            if (checkByEventsOrderStatusIsChanged(order)) {
-                notifyOrderWithStatus(order, NotificationType.ORDER_STATUS_CHANGED);
-            }
-        });
-    }
-
-    private boolean checkByEventsOrderStatusIsChanged(Order order) {
-        return order.getEvents().stream()
-            .map(Event::getEventName)
-            .noneMatch(e -> e.equals(OrderHistory.ORDER_ADJUSTMENT) || e.equals(OrderHistory.ORDER_CONFIRMED));
+        var orders = orderRepository.findAllByOrderStatusWithoutEventCodes(OrderStatus.BROUGHT_IT_HIMSELF,
+            STATUS_CHANGED_EVENT_CODES);
+        notifyOrdersWithStatus(orders.stream(), NotificationType.ORDER_STATUS_CHANGED);
     }
 
     @Override
     public void notifyUnpaidPackages() {
-        var orders = orderRepository.findAllByOrderPaymentStatusWithEvents(OrderPaymentStatus.HALF_PAID);
-        orders.forEach(this::notifyUnpaidPackage);
-    }
-
-    private void notifyUnpaidPackage(Order order) {
-        if (checkOrderWithUnpaidPackage(order)) {
-            notifyOrderWithStatus(order, NotificationType.UNPAID_PACKAGE);
-        }
-    }
-
-    private boolean checkOrderWithUnpaidPackage(Order order) {
-        return checkOrderIsNotBroughtByHimself(order) && checkOrderIsNotDoneOrCanceled(order);
+        var orders = orderRepository.findAllByOrderPaymentStatusWithoutEventCount(OrderPaymentStatus.HALF_PAID,
+            DONE_OR_CANCELED_STATUSES, DONE_OR_CANCELED_EVENT_CODES, DONE_OR_CANCELED_EVENT_COUNT);
+        notifyOrdersWithStatus(orders.stream().filter(this::checkOrderIsNotBroughtByHimself),
+            NotificationType.UNPAID_PACKAGE);
     }
 
     private boolean checkOrderIsNotBroughtByHimself(Order order) {
         return order.getOrderStatus() != OrderStatus.BROUGHT_IT_HIMSELF;
     }
 
-    private boolean checkOrderIsNotDoneOrCanceled(Order order) {
-        return !((order.getOrderStatus() == OrderStatus.DONE || order.getOrderStatus() == OrderStatus.CANCELED)
-            && checkByEventsOrderDoneOrCanceled(order));
+    private boolean isDoneOrCanceled(Order order) {
+        return order.getOrderStatus() == OrderStatus.DONE || order.getOrderStatus() == OrderStatus.CANCELED;
+    }
+
+    private long countEvents(Order order, List<EventCode> codes) {
+        return order.getEvents().stream()
+            .filter(event -> codes.contains(event.getCode()))
+            .count();
+    }
+
+    private void notifyOrdersWithStatus(Stream<Order> orders, NotificationType notificationType) {
+        List<UserNotification> notifications = new ArrayList<>();
+        for (List<Order> chunk : ListUtils.partition(orders.toList(), notificationBatchConfigProp.getBatchSize())) {
+            NotificationSweepBatch batch = loadSweepBatch(chunk).build();
+            chunk.forEach(order -> {
+                var amountToPay = getAmountToPay(order, batch);
+                var parameters = initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
+                notifications.add(createNotification(parameters, order, notificationType));
+            });
+        }
+        saveAndSendInBatches(notifications, 0L);
     }
 
-    private void notifyOrderWithStatus(Order order, NotificationType notificationType) {
-        checkIfOrderNeedsNewNotification(order, notificationType);
-        var amountToPay = getAmountToPay(order);
-        var parameters = initialiseNotificationParametersForUnpaidOrder(order, amountToPay);
-        fillAndSendNotification(parameters, order, notificationType);
+    /**
+     * Loads data of the given orders which is needed to evaluate them in memory
+     * with a few set-based queries: order bags, certificate points, paid amounts
+     * and, when notification types are given, time of the last notification of
+     * these types.
+     */
+    private NotificationSweepBatch.NotificationSweepBatchBuilder loadSweepBatch(List<Order> orders,
+        NotificationType... lastNotificationTypes) {
+        List<Long> orderIds = getOrderIds(orders.stream());
+        return NotificationSweepBatch.builder()
+            .lastNotificationTimes(
+                notificationSweepRepository.findLastNotificationTimes(orderIds, Arrays.asList(lastNotificationTypes)))
+            .orderBags(orderBagService.findAllOrderBagsByOrderIds(orderIds))
+            .paidAmounts(notificationSweepRepository.findPaidAmounts(orderIds))
+            .certificatePoints(notificationSweepRepository.findCertificatePoints(orderIds));
     }
 
-    private boolean checkIfOrderNeedsNewNotification(Order order, NotificationType notificationType) {
-        Optional<UserNotification> lastNotification = getLastOrderNotificationByType(order, notificationType);
-        return checkUserNeedNotification(lastNotification) && checkOrderNeedNotification(order);
+    private List<Long> getOrderIds(Stream<Order> orders) {
+        return orders.map(Order::getId).distinct().toList();
     }
 
-    private Optional<UserNotification> getLastOrderNotificationByType(Order order, NotificationType notificationType) {
-        return userNotificationRepository
-            .findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(order.getId(), notificationType);
+    private boolean checkIfOrderNeedsNewNotification(Order order, NotificationSweepBatch batch) {
+        return checkUserNeedNotification(batch.getLastNotificationTime(order.getId()))
+            && checkOrderNeedNotification(order);
     }
 
-    private boolean checkUserNeedNotification(Optional<UserNotification> lastNotification) {
+    private boolean checkUserNeedNotification(Optional<LocalDateTime> lastNotification) {
         if (lastNotification.isEmpty()) {
             return true;
         }
         LocalDateTime weekAgo = LocalDateTime.now(clock).minusWeeks(MAX_NOTIFICATIONS_PER_WEEK);
-        LocalDateTime lastNotificationTime = lastNotification.get().getNotificationTime();
+        LocalDateTime lastNotificationTime = lastNotification.get();
 
         return lastNotificationTime.isBefore(weekAgo) || lastNotificationTime.isEqual(weekAgo);
     }
@@ -629,18 +668,19 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public void notifyCustom(Long templateId, UserCategory userCategory) {
-        var users = userRepository.findAll(new UserSpecification(userCategory));
-        users.forEach(user -> fillAndSendCustomNotification(user, templateId));
+        var notifications = userRepository.findAll(new UserSpecification(userCategory)).stream()
+            .map(user -> createCustomNotification(user, templateId))
+            .toList();
+        saveAndSendInBatches(notifications, 0L);
     }
 
-    private void fillAndSendCustomNotification(User user, Long templateId) {
+    private UserNotification createCustomNotification(User user, Long templateId) {
         UserNotification userNotification = new UserNotification();
         userNotification.setNotificationType(NotificationType.CUSTOM);
         userNotification.setTemplateId(templateId);
         userNotification.setUser(user);
-        UserNotification created = userNotificationRepository.save(userNotification);
-        created.setParameters(new HashSet<>());
-        sendNotificationsForBotsAndEmail(created, 0L);
+        userNotification.setParameters(new HashSet<>());
+        return userNotification;
     }
 
     /**
@@ -683,10 +723,10 @@ public class NotificationServiceImpl implements NotificationService {
                 try {
                     List<User> users = future.get().getUsers();
                     Long monthsOfAccountInactivity = future.get().getMonths();
-                    users.forEach(user -> {
-                        UserNotification notification = initialiseNotificationForInactiveUser(user);
-                        sendNotificationsForBotsAndEmail(notification, monthsOfAccountInactivity);
-                    });
+                    List<UserNotification> notifications = users.stream()
+                        .map(this::initialiseNotificationForInactiveUser)
+                        .toList();
+                    saveAndSendInBatches(notifications, monthsOfAccountInactivity);
                 } catch (InterruptedException | ExecutionException e) {
                     log.error("Unable to send notification to user {}", e.getMessage());
                     Thread.currentThread().interrupt();
@@ -703,7 +743,7 @@ public class NotificationServiceImpl implements NotificationService {
         userNotification.setNotificationType(NotificationType.LETS_STAY_CONNECTED);
         userNotification.setUser(user);
         userNotification.setNotificationTime(LocalDateTime.now(clock));
-        return userNotificationRepository.save(userNotification);
+        return userNotification;
     }
 
     /**
@@ -783,7 +823,8 @@ public class NotificationServiceImpl implements NotificationService {
             notification.setRead(true);
         }
 
-        NotificationDto notificationDto = createNotificationDto(notification, language, SITE, templateRepository, 0L);
+        NotificationDto notificationDto = notificationTemplateCacheService
+            .createNotificationDto(notification, language, SITE, 0L);
 
         if (NotificationType.VIOLATION_THE_RULES.equals(notification.getNotificationType())) {
             NotificationParameter notificationParameter = notification.getParameters().stream()
@@ -799,18 +840,11 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     private NotificationShortDto createNotificationShortDto(UserNotification notification, String language) {
-        NotificationTemplate template = templateRepository
-            .findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-                notification.getNotificationType(), SITE)
-            .orElseThrow(() -> new NotFoundException("Template not found"));
-
         Long orderId = Objects.nonNull(notification.getOrder()) ? notification.getOrder().getId() : null;
 
         return NotificationShortDto.builder()
             .id(notification.getId())
-            .title(language.equals("ua")
-                ? template.getTitle()
-                : template.getTitleEng())
+            .title(notificationTemplateCacheService.getTitle(notification, language, SITE))
             .notificationTime(notification.getNotificationTime())
             .read(notification.isRead())
             .orderId(orderId)
@@ -818,60 +852,38 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     private void sendNotificationsForBotsAndEmail(UserNotification notification, long monthsOfAccountInactivity) {
-        executor.execute(() -> notificationProviders
-            .forEach(provider -> provider.sendNotification(notification, provider.getNotificationType(),
-                monthsOfAccountInactivity)));
+        notificationChannelDispatcher.dispatch(notification, monthsOfAccountInactivity);
     }
 
     /**
-     * Creating notification with parameters.
+     * Persists notifications with JDBC batches of the configured size and hands
+     * every persisted chunk to the dispatch executor. Recipients of a chunk are
+     * prefetched into the user cache before it is put into the queues of the
+     * providers, so every user is requested from the user service once for all the
+     * providers.
      */
-    public static NotificationDto createNotificationDto(UserNotification notification, String language,
-        NotificationReceiverType receiverType,
-        NotificationTemplateRepository templateRepository, long monthsOfAccountInactivity) {
-        NotificationTemplate template = getNotificationTemplate(notification, receiverType, templateRepository);
-
-        String templateBody = resolveTemplateBody(language, receiverType, template);
-        if (notification.getParameters() == null) {
-            notification.setParameters(Collections.emptySet());
-        }
-        Map<String, String> valuesMap = notification.getParameters().stream()
-            .collect(toMap(NotificationParameter::getKey, NotificationParameter::getValue));
-
-        StringSubstitutor sub = new StringSubstitutor(valuesMap);
-        String resultBody = sub.replace(String.format(templateBody, monthsOfAccountInactivity));
-        String title = language.equals("ua") ? template.getTitle() : template.getTitleEng();
-
-        return NotificationDto.builder().title(title)
-            .body(resultBody).build();
-    }
-
-    private static NotificationTemplate getNotificationTemplate(
-        UserNotification notification, NotificationReceiverType receiverType,
-        NotificationTemplateRepository templateRepository) {
-        Optional<NotificationTemplate> templateOptional =
-            notification.getNotificationType().equals(NotificationType.CUSTOM)
-                ? templateRepository.findNotificationTemplateByIdAndNotificationReceiverType(
-                    notification.getTemplateId(), receiverType)
-                : templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-                    notification.getNotificationType(), receiverType);
-
-        return templateOptional.orElseThrow(() -> new NotFoundException("Template not found"));
-    }
-
-    private static String resolveTemplateBody(String language, NotificationReceiverType receiverType,
-        NotificationTemplate notification) {
-        return language.equals("ua")
-            ? getNotificationPlatformByReceiverType(notification, receiverType).getBody()
-            : getNotificationPlatformByReceiverType(notification, receiverType).getBodyEng();
+    private void saveAndSendInBatches(List<UserNotification> notifications, long monthsOfAccountInactivity) {
+        ListUtils.partition(notifications, notificationBatchConfigProp.getBatchSize()).forEach(chunk -> {
+            userNotificationBatchRepository.saveAll(chunk);
+            notificationDispatchExecutor.execute(() -> {
+                notificationUserCacheService.prefetch(chunk.stream()
+                    .map(notification -> notification.getUser().getRecipientEmail())
+                    .toList());
+                chunk.forEach(notification -> notificationChannelDispatcher.dispatch(notification,
+                    monthsOfAccountInactivity));
+            });
+        });
     }
 
-    private static NotificationPlatform getNotificationPlatformByReceiverType(
-        NotificationTemplate template, NotificationReceiverType receiverType) {
-        return template.getNotificationPlatforms().stream()
-            .filter(platform -> platform.getNotificationReceiverType() == receiverType)
-            .findAny()
-            .orElseThrow();
+    private UserNotification createNotification(Set<NotificationParameter> parameters, Order order,
+        NotificationType notificationType) {
+        UserNotification userNotification = new UserNotification();
+        userNotification.setNotificationType(notificationType);
+        userNotification.setUser(order.getUser());
+        userNotification.setOrder(order);
+        parameters.forEach(parameter -> parameter.setUserNotification(userNotification));
+        userNotification.setParameters(new HashSet<>(parameters));
+        return userNotification;
     }
 
     private void fillAndSendNotification(Set<NotificationParameter> parameters, Order order,
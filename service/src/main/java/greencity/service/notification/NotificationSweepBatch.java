@@ -0,0 +1,49 @@
+package greencity.service.notification;
+
+import greencity.entity.order.OrderBag;
+import lombok.Builder;
+import lombok.Singular;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Data of a batch of orders which is needed by the scheduled notification
+ * sweeps. It is fetched with a few set-based queries, so eligibility and amount
+ * to pay of every order are evaluated in memory.
+ */
+@Builder
+class NotificationSweepBatch {
+    @Singular
+    private final Map<Long, LocalDateTime> lastNotificationTimes;
+    @Singular
+    private final Map<Long, List<OrderBag>> orderBags;
+    @Singular
+    private final Map<Long, Long> paidAmounts;
+    @Singular
+    private final Map<Long, Long> certificatePoints;
+    @Singular
+    private final Map<Long, Long> eventCounts;
+
+    Optional<LocalDateTime> getLastNotificationTime(Long orderId) {
+        return Optional.ofNullable(lastNotificationTimes.get(orderId));
+    }
+
+    List<OrderBag> getOrderBags(Long orderId) {
+        return orderBags.getOrDefault(orderId, Collections.emptyList());
+    }
+
+    long getPaidAmount(Long orderId) {
+        return paidAmounts.getOrDefault(orderId, 0L);
+    }
+
+    long getCertificatePoints(Long orderId) {
+        return certificatePoints.getOrDefault(orderId, 0L);
+    }
+
+    long getEventCount(Long orderId) {
+        return eventCounts.getOrDefault(orderId, 0L);
+    }
+}
@@ -0,0 +1,162 @@
+package greencity.service.notification;
+
+import greencity.config.NotificationTemplateCacheConfigProp;
+import greencity.dto.notification.NotificationDto;
+import greencity.entity.notifications.NotificationParameter;
+import greencity.entity.notifications.NotificationPlatform;
+import greencity.entity.notifications.NotificationTemplate;
+import greencity.entity.notifications.UserNotification;
+import greencity.enums.NotificationReceiverType;
+import greencity.enums.NotificationType;
+import greencity.exceptions.NotFoundException;
+import greencity.repository.NotificationTemplateRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import static java.util.stream.Collectors.toMap;
+
+@Service
+public class NotificationTemplateCacheServiceImpl implements NotificationTemplateCacheService {
+    private static final String UA_LANGUAGE = "ua";
+
+    private final NotificationTemplateRepository templateRepository;
+    private final NotificationTemplateCacheConfigProp notificationTemplateCacheConfigProp;
+    private final Clock clock;
+    private final ConcurrentMap<TemplateKey, CompiledTemplate> templates = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructor to initialize the cache of compiled notification templates.
+     */
+    public NotificationTemplateCacheServiceImpl(NotificationTemplateRepository templateRepository,
+        NotificationTemplateCacheConfigProp notificationTemplateCacheConfigProp,
+        @Qualifier("kyivZonedClock") Clock clock) {
+        this.templateRepository = templateRepository;
+        this.notificationTemplateCacheConfigProp = notificationTemplateCacheConfigProp;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NotificationDto createNotificationDto(UserNotification notification, String language,
+        NotificationReceiverType receiverType, long monthsOfAccountInactivity) {
+        CompiledTemplate template = getTemplate(notification, receiverType);
+        if (notification.getParameters() == null) {
+            notification.setParameters(Collections.emptySet());
+        }
+        Map<String, String> valuesMap = notification.getParameters().stream()
+            .collect(toMap(NotificationParameter::getKey, NotificationParameter::getValue));
+        CompiledNotificationBody body = UA_LANGUAGE.equals(language) ? template.getBody() : template.getBodyEng();
+
+        return NotificationDto.builder()
+            .title(UA_LANGUAGE.equals(language) ? template.getTitle() : template.getTitleEng())
+            .body(body.render(valuesMap, monthsOfAccountInactivity))
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getTitle(UserNotification notification, String language, NotificationReceiverType receiverType) {
+        CompiledTemplate template = getTemplate(notification, receiverType);
+        return UA_LANGUAGE.equals(language) ? template.getTitle() : template.getTitleEng();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Long templateId) {
+        remove(templateId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(templateId);
+                }
+            });
+        }
+    }
+
+    private void remove(Long templateId) {
+        generation.incrementAndGet();
+        templates.values().removeIf(template -> template.getTemplateId().equals(templateId));
+    }
+
+    private CompiledTemplate getTemplate(UserNotification notification, NotificationReceiverType receiverType) {
+        boolean custom = NotificationType.CUSTOM.equals(notification.getNotificationType());
+        TemplateKey key = new TemplateKey(notification.getNotificationType(),
+            custom ? notification.getTemplateId() : null, receiverType);
+        CompiledTemplate template = templates.get(key);
+        if (template != null && template.getExpiresAt().isAfter(clock.instant())) {
+            return template;
+        }
+        long loadedGeneration = generation.get();
+        Optional<NotificationTemplate> templateOptional = custom
+            ? templateRepository.findNotificationTemplateByIdAndNotificationReceiverType(
+                notification.getTemplateId(), receiverType)
+            : templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+                notification.getNotificationType(), receiverType);
+        CompiledTemplate compiled = compile(
+            templateOptional.orElseThrow(() -> new NotFoundException("Template not found")), receiverType);
+        if (generation.get() == loadedGeneration) {
+            templates.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    private CompiledTemplate compile(NotificationTemplate template, NotificationReceiverType receiverType) {
+        NotificationPlatform platform = template.getNotificationPlatforms().stream()
+            .filter(p -> p.getNotificationReceiverType() == receiverType)
+            .findAny()
+            .orElseThrow();
+        return new CompiledTemplate(
+            template.getId(),
+            template.getTitle(),
+            template.getTitleEng(),
+            CompiledNotificationBody.compile(platform.getBody()),
+            CompiledNotificationBody.compile(platform.getBodyEng()),
+            clock.instant().plus(notificationTemplateCacheConfigProp.getTtl()));
+    }
+
+    /**
+     * Template of a predefined notification type, or a custom template by id, for
+     * one receiver type.
+     */
+    @Value
+    private static class TemplateKey {
+        NotificationType notificationType;
+        Long templateId;
+        NotificationReceiverType receiverType;
+    }
+
+    /**
+     * Titles and compiled bodies of a template in both languages, and the time when
+     * it has to be loaded again.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class CompiledTemplate {
+        private final Long templateId;
+        private final String title;
+        private final String titleEng;
+        private final CompiledNotificationBody body;
+        private final CompiledNotificationBody bodyEng;
+        private final Instant expiresAt;
+    }
+}
@@ -39,6 +39,7 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
     private final NotificationPlanner notificationPlanner;
     private final ModelMapper modelMapper;
     private final NotificationPlanner planner;
+    private final NotificationTemplateCacheService notificationTemplateCacheService;
 
     /**
      * {@inheritDoc}
@@ -49,6 +50,7 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
         NotificationTemplate template = getById(id);
 
         updateNotificationTemplateFromDto(template, dto);
+        notificationTemplateCacheService.evict(id);
         restartNotificationSchedule(template.getNotificationType());
     }
 
@@ -134,6 +136,7 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
         notificationTemplate.setNotificationStatus(newStatus);
         notificationTemplate.getNotificationPlatforms()
             .forEach(platform -> platform.setNotificationStatus(newStatus));
+        notificationTemplateCacheService.evict(id);
     }
 
     private NotificationStatus getValidNotificationStatusByNameOrThrow(String status) {
@@ -184,6 +187,7 @@ public class NotificationTemplateServiceImpl implements NotificationTemplateServ
     public void removeNotificationTemplate(Long id) {
         checkTemplateIsCustom(id);
         removeTemplate(id);
+        notificationTemplateCacheService.evict(id);
         restartCustomNotificator();
     }
 
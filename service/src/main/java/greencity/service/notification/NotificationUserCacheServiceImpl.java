@@ -0,0 +1,117 @@
+package greencity.service.notification;
+
+import greencity.client.UserRemoteClient;
+import greencity.config.BoundedCache;
+import greencity.config.NotificationUserCacheConfigProp;
+import greencity.dto.CacheStatsDto;
+import greencity.dto.notification.NotificationUserCacheStatsDto;
+import greencity.dto.user.UserVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Service;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+public class NotificationUserCacheServiceImpl implements NotificationUserCacheService {
+    private final UserRemoteClient userRemoteClient;
+    private final BoundedCache users;
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    /**
+     * Constructor to initialize the cache bounded by the configured size. The least
+     * recently used user is evicted when the size is exceeded.
+     */
+    public NotificationUserCacheServiceImpl(UserRemoteClient userRemoteClient,
+        NotificationUserCacheConfigProp notificationUserCacheConfigProp,
+        @Qualifier("kyivZonedClock") Clock clock) {
+        this.userRemoteClient = userRemoteClient;
+        this.users = new BoundedCache("notificationUsers", notificationUserCacheConfigProp.getMaxSize(),
+            notificationUserCacheConfigProp.getTtl(), clock);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getLanguageCode(String email) {
+        Cache.ValueWrapper cachedLanguageCode = users.get(email);
+        if (cachedLanguageCode != null) {
+            return Optional.ofNullable((String) cachedLanguageCode.get());
+        }
+        return Optional.ofNullable(load(email));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prefetch(Collection<String> emails) {
+        emails.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .filter(email -> users.get(email) == null)
+            .forEach(email -> {
+                try {
+                    load(email);
+                } catch (RuntimeException e) {
+                    log.warn("Unable to prefetch user {} for notifications: {}", email, e.getMessage());
+                }
+            });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(String email) {
+        users.evict(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        users.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NotificationUserCacheStatsDto getStats() {
+        CacheStatsDto stats = users.getStats();
+        return NotificationUserCacheStatsDto.builder()
+            .size(stats.getSize())
+            .maxSize(stats.getMaxSize())
+            .hitCount(stats.getHitCount())
+            .missCount(stats.getMissCount())
+            .evictionCount(stats.getEvictionCount())
+            .loadFailureCount(loadFailureCount.sum())
+            .hitRate(stats.getHitRate())
+            .build();
+    }
+
+    /**
+     * Loads the language of the user, which is {@code null} for a deactivated or
+     * unknown user, and caches it.
+     */
+    private String load(String email) {
+        Optional<UserVO> user;
+        try {
+            user = userRemoteClient.findNotDeactivatedByEmail(email);
+        } catch (RuntimeException e) {
+            loadFailureCount.increment();
+            throw e;
+        }
+        String languageCode = user.map(userVO -> userVO.getLanguageVO().getCode()).orElse(null);
+        users.put(email, languageCode);
+        return languageCode;
+    }
+}
@@ -0,0 +1,102 @@
+package greencity.service.ubs;
+
+import greencity.constant.ErrorMessage;
+import greencity.exceptions.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Base of the {@link FileService} implementations, which uploads several files
+ * concurrently and deletes files in the background, so that neither is done one
+ * by one in the request thread.
+ */
+@Slf4j
+public abstract class AbstractFileService implements FileService {
+    private final TaskExecutor fileStorageExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param fileStorageExecutor {@link TaskExecutor} to upload and delete files.
+     */
+    protected AbstractFileService(TaskExecutor fileStorageExecutor) {
+        this.fileStorageExecutor = fileStorageExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> uploadAll(List<MultipartFile> multipartFiles) {
+        if (multipartFiles.size() <= 1) {
+            return multipartFiles.stream().map(this::upload).toList();
+        }
+        List<CompletableFuture<String>> uploads = multipartFiles.stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> upload(file), fileStorageExecutor))
+            .toList();
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            uploads.stream()
+                .filter(upload -> !upload.isCompletedExceptionally())
+                .forEach(upload -> deleteInBackground(fileName(upload.join())));
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        List<String> urls = new ArrayList<>(uploads.size());
+        uploads.forEach(upload -> urls.add(upload.join()));
+        return urls;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String url) {
+        String fileName = fileName(url);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteInBackground(fileName);
+                }
+            });
+        } else {
+            deleteInBackground(fileName);
+        }
+    }
+
+    /**
+     * Deletes the stored file.
+     *
+     * @param fileName name of the file.
+     */
+    protected abstract void deleteFile(String fileName);
+
+    private void deleteInBackground(String fileName) {
+        fileStorageExecutor.execute(() -> {
+            try {
+                deleteFile(fileName);
+            } catch (RuntimeException e) {
+                log.error("Unable to delete file {}: {}", fileName, e.getMessage());
+            }
+        });
+    }
+
+    private static String fileName(String url) {
+        try {
+            return Path.of(new URI(url).getPath()).getFileName().toString();
+        } catch (URISyntaxException | RuntimeException e) {
+            throw new BadRequestException(ErrorMessage.PARSING_URL_FAILED + url);
+        }
+    }
+}
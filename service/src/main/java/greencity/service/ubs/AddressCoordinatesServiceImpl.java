@@ -0,0 +1,57 @@
+package greencity.service.ubs;
+
+import com.google.maps.model.LatLng;
+import greencity.config.GeocodingConfigProp;
+import greencity.exceptions.NotFoundException;
+import greencity.exceptions.api.GoogleApiException;
+import greencity.repository.AddressRepository;
+import greencity.service.google.GoogleApiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AddressCoordinatesServiceImpl implements AddressCoordinatesService {
+    private static final String UKRAINE_EN = "Ukraine";
+    private static final String LANG_EN = "en";
+    private final AddressRepository addressRepository;
+    private final GoogleApiService googleApiService;
+    private final GeocodingConfigProp geocodingConfigProp;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int backfillMissingCoordinates() {
+        int batchSize = geocodingConfigProp.getBackfillBatchSize();
+        int updated = 0;
+        String afterCity = "";
+        List<String> cities;
+        do {
+            cities = addressRepository.findCitiesOfAddressesWithoutCoordinates(afterCity,
+                PageRequest.of(0, batchSize));
+            for (String city : cities) {
+                updated += backfillCity(city);
+            }
+            if (!cities.isEmpty()) {
+                afterCity = cities.getLast();
+            }
+        } while (cities.size() == batchSize);
+        return updated;
+    }
+
+    private int backfillCity(String cityEn) {
+        try {
+            LatLng location = googleApiService
+                .getGeocodingResultByCityAndCountryAndLocale(UKRAINE_EN, cityEn, LANG_EN).geometry.location;
+            return addressRepository.updateMissingCoordinatesByCityEn(cityEn, location.lat, location.lng);
+        } catch (NotFoundException | GoogleApiException e) {
+            log.warn("Unable to resolve coordinates of the city {}: {}", cityEn, e.getMessage());
+            return 0;
+        }
+    }
+}
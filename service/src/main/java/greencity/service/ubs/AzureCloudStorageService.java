@@ -2,36 +2,47 @@ package greencity.service.ubs;
 
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import greencity.config.FileStorageConfigProp;
+import greencity.config.OutboundConcurrencyLimiter;
 import greencity.constant.ErrorMessage;
-import greencity.exceptions.BadRequestException;
 import greencity.exceptions.image.FileNotSavedException;
-import lombok.Data;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Service
-@Data
-public class AzureCloudStorageService implements FileService {
+@ConditionalOnProperty(name = "greencity.file-storage.type", havingValue = "azure", matchIfMissing = true)
+public class AzureCloudStorageService extends AbstractFileService {
+    private static final String DESTINATION = "azure-blob";
     private final String connectionString;
     private final String containerName;
+    private final FileStorageConfigProp fileStorageConfigProp;
+    private final OutboundConcurrencyLimiter outboundConcurrencyLimiter;
+    private volatile BlobContainerClient containerClient;
 
     /**
      * Constructor with parameters.
      */
     @Autowired
-    public AzureCloudStorageService(@Autowired PropertyResolver propertyResolver) {
+    public AzureCloudStorageService(PropertyResolver propertyResolver, FileStorageConfigProp fileStorageConfigProp,
+        @Qualifier("fileStorageExecutor") TaskExecutor fileStorageExecutor,
+        OutboundConcurrencyLimiter outboundConcurrencyLimiter) {
+        super(fileStorageExecutor);
         this.connectionString = propertyResolver.getProperty("azure.connection.string");
         this.containerName = propertyResolver.getProperty("azure.container.name");
+        this.fileStorageConfigProp = fileStorageConfigProp;
+        this.outboundConcurrencyLimiter = outboundConcurrencyLimiter;
     }
 
     /**
@@ -42,31 +53,44 @@ public class AzureCloudStorageService implements FileService {
         final String blob = UUID.randomUUID().toString();
         BlobClient client = containerClient()
             .getBlobClient(blob + multipartFile.getOriginalFilename());
-        try {
-            client.upload(new BufferedInputStream(multipartFile.getInputStream()), multipartFile.getSize(), true);
+        ParallelTransferOptions transferOptions = new ParallelTransferOptions()
+            .setBlockSizeLong(fileStorageConfigProp.getBlockSize().toBytes())
+            .setMaxSingleUploadSizeLong(fileStorageConfigProp.getBlockSize().toBytes())
+            .setMaxConcurrency(1);
+        try (OutboundConcurrencyLimiter.Permit permit = outboundConcurrencyLimiter.acquire(DESTINATION);
+            InputStream inputStream = multipartFile.getInputStream()) {
+            client.uploadWithResponse(new BlobParallelUploadOptions(inputStream, multipartFile.getSize())
+                .setParallelTransferOptions(transferOptions)
+                .setHeaders(new BlobHttpHeaders().setContentType(multipartFile.getContentType())), null, null);
         } catch (IOException e) {
             throw new FileNotSavedException(ErrorMessage.FILE_NOT_SAVED);
         }
         return client.getBlobUrl();
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public void delete(String url) {
-        String fileName;
-        try {
-            fileName = Paths.get(new URI(url).getPath()).getFileName().toString();
-        } catch (URISyntaxException e) {
-            throw new BadRequestException(ErrorMessage.PARSING_URL_FAILED + url);
-        }
-        BlobClient client = containerClient().getBlobClient(fileName);
-        if (client.exists() != null && client.exists()) {
-            client.delete();
+    protected void deleteFile(String fileName) {
+        try (OutboundConcurrencyLimiter.Permit permit = outboundConcurrencyLimiter.acquire(DESTINATION)) {
+            containerClient().getBlobClient(fileName).deleteIfExists();
         }
     }
 
     private BlobContainerClient containerClient() {
-        BlobServiceClient serviceClient = new BlobServiceClientBuilder()
-            .connectionString(connectionString).buildClient();
-        return serviceClient.getBlobContainerClient(containerName);
+        BlobContainerClient client = containerClient;
+        if (client == null) {
+            synchronized (this) {
+                client = containerClient;
+                if (client == null) {
+                    client = new BlobServiceClientBuilder()
+                        .connectionString(connectionString).buildClient()
+                        .getBlobContainerClient(containerName);
+                    containerClient = client;
+                }
+            }
+        }
+        return client;
     }
 }
@@ -7,6 +7,7 @@ import greencity.entity.coords.Coordinates;
 import greencity.entity.order.Order;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
+import greencity.mapping.order.OrderToOrderDtoMapper;
 import greencity.repository.AddressRepository;
 import greencity.repository.OrderRepository;
 import lombok.Data;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -31,6 +33,7 @@ public class CoordinateServiceImpl implements CoordinateService {
     private final AddressRepository addressRepository;
     private final OrderRepository orderRepository;
     private final ModelMapper modelMapper;
+    private final OrderToOrderDtoMapper orderToOrderDtoMapper;
 
     /**
      * {@inheritDoc}
@@ -38,19 +41,16 @@ public class CoordinateServiceImpl implements CoordinateService {
     @Override
     public List<GroupedOrderDto> getAllUndeliveredOrdersWithLiters() {
         Set<Coordinates> allCoords = addressRepository.undeliveredOrdersCoords();
-        List<Order> allOrders = getAllUndeliveredOrders();
+        Map<Coordinates, List<Order>> ordersByCoordinates = getAllUndeliveredOrders().stream()
+            .collect(Collectors.groupingBy(o -> o.getUbsUser().getOrderAddress().getCoordinates()));
+        Map<Coordinates, Integer> capacities = getUndeliveredOrdersCapacities();
         List<GroupedOrderDto> allOrdersWithLitres = new ArrayList<>();
         for (Coordinates coordinates : allCoords) {
-            int currentCoordinatesCapacity =
-                addressRepository.capacity(coordinates.getLatitude(), coordinates.getLongitude());
-
-            List<OrderDto> currentCoordinatesOrders = allOrders.stream()
-                .filter(o -> o.getUbsUser().getOrderAddress().getCoordinates().equals(coordinates))
-                .map(o -> modelMapper.map(o, OrderDto.class))
-                .collect(Collectors.toList());
+            List<OrderDto> currentCoordinatesOrders =
+                orderToOrderDtoMapper.mapAll(ordersByCoordinates.getOrDefault(coordinates, List.of()));
 
             allOrdersWithLitres.add(GroupedOrderDto.builder()
-                .amountOfLitres(currentCoordinatesCapacity)
+                .amountOfLitres(capacities.getOrDefault(coordinates, 0))
                 .groupOfOrders(currentCoordinatesOrders)
                 .build());
         }
@@ -70,6 +70,19 @@ public class CoordinateServiceImpl implements CoordinateService {
         return allCoords;
     }
 
+    /**
+     * Method returns amount of litres to be delivered to every coordinates of
+     * undelivered orders.
+     *
+     * @return map of amount of litres by {@link Coordinates}.
+     */
+    private Map<Coordinates, Integer> getUndeliveredOrdersCapacities() {
+        return addressRepository.undeliveredOrdersCoordsCapacities().stream()
+            .collect(Collectors.toMap(
+                c -> new Coordinates(c.getLatitude(), c.getLongitude()),
+                c -> c.getCapacity().intValue()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -77,11 +90,13 @@ public class CoordinateServiceImpl implements CoordinateService {
     public List<GroupedOrderDto> getClusteredCoords(double distance, int litres) {
         checkIfSpecifiedLitresAndDistancesAreValid(distance, litres);
         Set<Coordinates> allCoords = addressRepository.undeliveredOrdersCoordsWithCapacityLimit(litres);
+        Map<Coordinates, Integer> capacities = getUndeliveredOrdersCapacities();
+        CoordinatesGridIndex index = new CoordinatesGridIndex(allCoords, distance);
         List<GroupedOrderDto> allClusters = new ArrayList<>();
 
         while (!allCoords.isEmpty()) {
             Optional<Coordinates> any = allCoords.stream().findAny();
-            mainBlockOfGetClusteredCoords(allCoords, distance, litres, any, allClusters);
+            mainBlockOfGetClusteredCoords(allCoords, index, capacities, distance, litres, any, allClusters);
         }
         return allClusters;
     }
@@ -101,25 +116,23 @@ public class CoordinateServiceImpl implements CoordinateService {
         }
     }
 
-    private void mainBlockOfGetClusteredCoords(Set<Coordinates> allCoords, double distance,
-        int litres, Optional<Coordinates> any, List<GroupedOrderDto> allClusters) {
+    private void mainBlockOfGetClusteredCoords(Set<Coordinates> allCoords, CoordinatesGridIndex index,
+        Map<Coordinates, Integer> capacities, double distance, int litres, Optional<Coordinates> any,
+        List<GroupedOrderDto> allClusters) {
         any.ifPresent(coordinates -> {
             Coordinates currentlyCoord = coordinates;
 
-            Set<Coordinates> closeRelatives = getCoordinateCloseRelatives(distance,
-                allCoords, currentlyCoord);
+            Set<Coordinates> closeRelatives = getCoordinateCloseRelatives(distance, index, currentlyCoord);
             Coordinates centralCoord = getNewCentralCoordinate(closeRelatives);
 
             while (!centralCoord.equals(currentlyCoord)) {
                 currentlyCoord = centralCoord;
-                closeRelatives = getCoordinateCloseRelatives(distance, allCoords, currentlyCoord);
+                closeRelatives = getCoordinateCloseRelatives(distance, index, currentlyCoord);
                 centralCoord = getNewCentralCoordinate(closeRelatives);
             }
             int amountOfLitresInCluster = 0;
             for (Coordinates current : closeRelatives) {
-                int currentCoordinatesCapacity =
-                    addressRepository.capacity(current.getLatitude(), current.getLongitude());
-                amountOfLitresInCluster += currentCoordinatesCapacity;
+                amountOfLitresInCluster += capacities.getOrDefault(current, 0);
             }
             if (amountOfLitresInCluster > litres) {
                 List<Coordinates> closeRelativesSorted = new ArrayList<>(closeRelatives);
@@ -128,14 +141,13 @@ public class CoordinateServiceImpl implements CoordinateService {
 
                 while (amountOfLitresInCluster > litres) {
                     Coordinates coordToBeDeleted = closeRelativesSorted.get(++indexOfCoordToBeDeleted);
-                    int anountOfLitresInCurrentOrder = addressRepository
-                        .capacity(coordToBeDeleted.getLatitude(), coordToBeDeleted.getLongitude());
-                    amountOfLitresInCluster -= anountOfLitresInCurrentOrder;
+                    amountOfLitresInCluster -= capacities.getOrDefault(coordToBeDeleted, 0);
                     closeRelatives.remove(coordToBeDeleted);
                 }
             }
             for (Coordinates grouped : closeRelatives) {
                 allCoords.remove(grouped);
+                index.remove(grouped);
             }
 
             getUndeliveredOrdersByGroupedCoordinates(closeRelatives,
@@ -147,59 +159,16 @@ public class CoordinateServiceImpl implements CoordinateService {
      * Method defines and returns all coordinates in certain radius.
      *
      * @param distance       - preferred distance for clusterization.
-     * @param allCoords      - list of {@link Coordinates} which shows all
-     *                       unclustered coordinates.
+     * @param index          - {@link CoordinatesGridIndex} of all unclustered
+     *                       coordinates.
      * @param currentlyCoord - {@link Coordinates} - chosen start coordinates.
      * @return set of {@link Coordinates} - start coordinates with it is
      *         distant @relatives.
      * @author Oleh Bilonizhka
      */
     private Set<Coordinates> getCoordinateCloseRelatives(double distance,
-        Set<Coordinates> allCoords, Coordinates currentlyCoord) {
-        Set<Coordinates> coordinateWithCloseRelativesList = new HashSet<>();
-
-        for (Coordinates checked : allCoords) {
-            if (distanceBetweenEarthCoordinates(currentlyCoord.getLatitude(), currentlyCoord.getLongitude(),
-                checked.getLatitude(), checked.getLongitude()) <= distance) {
-                coordinateWithCloseRelativesList.add(checked);
-            }
-        }
-
-        return coordinateWithCloseRelativesList;
-    }
-
-    /**
-     * Method to determine distance between 2 earth coordinates.
-     *
-     * @param lat1 {@link Double} - latitude of 1 coordinate.
-     * @param lon1 {@link Double} - longitude of 1 coordinate.
-     * @param lat2 {@link Double} - latitude of 2 coordinate.
-     * @param lon2 {@link Double} - longitude of 2 coordinate.
-     * @return {@link Integer} distance in meters.
-     */
-    private double distanceBetweenEarthCoordinates(double lat1, double lon1, double lat2, double lon2) {
-        double earthRadiusKm = 6371;
-
-        double radiansLatitude = degreesToRadians(lat2 - lat1);
-        double radiansLongitude = degreesToRadians(lon2 - lon1);
-
-        lat1 = degreesToRadians(lat1);
-        lat2 = degreesToRadians(lat2);
-
-        double a = Math.sin(radiansLatitude / 2) * Math.sin(radiansLatitude / 2)
-            + Math.sin(radiansLongitude / 2) * Math.sin(radiansLongitude / 2) * Math.cos(lat1) * Math.cos(lat2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return earthRadiusKm * c;
-    }
-
-    /**
-     * Method to convert degrees to radians.
-     *
-     * @param degrees {@link Double} degrees.
-     * @return {@link Double} radians.
-     */
-    private double degreesToRadians(double degrees) {
-        return degrees * Math.PI / 180;
+        CoordinatesGridIndex index, Coordinates currentlyCoord) {
+        return new HashSet<>(index.findWithin(currentlyCoord, distance));
     }
 
     /**
@@ -232,11 +201,9 @@ public class CoordinateServiceImpl implements CoordinateService {
      */
     private Comparator<Coordinates> getComparatorByDistanceFromCenter(Coordinates centralCoord) {
         return (o1, o2) -> {
-            Double o1Int = distanceBetweenEarthCoordinates(o1.getLatitude(), o1.getLongitude(),
-                centralCoord.getLatitude(), centralCoord.getLongitude()) * 1000;
+            Double o1Int = CoordinatesGridIndex.distance(o1, centralCoord) * 1000;
 
-            Double o2Int = distanceBetweenEarthCoordinates(o2.getLatitude(), o2.getLongitude(),
-                centralCoord.getLatitude(), centralCoord.getLongitude()) * 1000;
+            Double o2Int = CoordinatesGridIndex.distance(o2, centralCoord) * 1000;
 
             return o2Int.compareTo(o1Int);
         };
@@ -251,8 +218,7 @@ public class CoordinateServiceImpl implements CoordinateService {
             orderslist.addAll(orders);
         }
         GroupedOrderDto cluster = new GroupedOrderDto();
-        cluster.setGroupOfOrders(
-            orderslist.stream().map(order -> modelMapper.map(order, OrderDto.class)).collect(Collectors.toList()));
+        cluster.setGroupOfOrders(orderToOrderDtoMapper.mapAll(orderslist));
         cluster.setAmountOfLitres(amountOfLitresInCluster);
         allClusters.add(cluster);
     }
@@ -266,6 +232,7 @@ public class CoordinateServiceImpl implements CoordinateService {
         checkIfSpecifiedLitresAndDistancesAreValid(additionalDistance, litres);
 
         Set<Coordinates> allCoords = addressRepository.undeliveredOrdersCoords();
+        Map<Coordinates, Integer> capacities = getUndeliveredOrdersCapacities();
         Set<Coordinates> result = specified.stream()
             .map(c -> modelMapper.map(c, Coordinates.class)).collect(Collectors.toSet());
         for (Coordinates temp : result) {
@@ -279,19 +246,17 @@ public class CoordinateServiceImpl implements CoordinateService {
         int specifiedCoordsCapacity = 0;
         double newRadius = 0;
         for (Coordinates temp : result) {
-            double distanceFromCentralCoord = distanceBetweenEarthCoordinates(temp.getLatitude(), temp.getLongitude(),
-                centralCoord.getLatitude(), centralCoord.getLongitude());
+            double distanceFromCentralCoord = CoordinatesGridIndex.distance(temp, centralCoord);
             if (distanceFromCentralCoord > newRadius) {
                 newRadius = distanceFromCentralCoord;
             }
-            specifiedCoordsCapacity += addressRepository.capacity(temp.getLatitude(), temp.getLongitude());
+            specifiedCoordsCapacity += capacities.getOrDefault(temp, 0);
         }
         newRadius += additionalDistance;
 
         List<Coordinates> coordinatesInsideRadiusWithoutSpecifiedCoords = new ArrayList<>();
         for (Coordinates temp : allCoords) {
-            double distanceFromCentralCoord = distanceBetweenEarthCoordinates(temp.getLatitude(), temp.getLongitude(),
-                centralCoord.getLatitude(), centralCoord.getLongitude());
+            double distanceFromCentralCoord = CoordinatesGridIndex.distance(temp, centralCoord);
             if (distanceFromCentralCoord < newRadius) {
                 coordinatesInsideRadiusWithoutSpecifiedCoords.add(temp);
             }
@@ -304,7 +269,7 @@ public class CoordinateServiceImpl implements CoordinateService {
         int allCoordsCapacity = specifiedCoordsCapacity;
         for (int i = coordinatesInsideRadiusWithoutSpecifiedCoords.size() - 1; i > -1; i--) {
             Coordinates temp = coordinatesInsideRadiusWithoutSpecifiedCoords.get(i);
-            int capacity = addressRepository.capacity(temp.getLatitude(), temp.getLongitude());
+            int capacity = capacities.getOrDefault(temp, 0);
 
             if (fill >= amountOfLitresToFill) {
                 break;
@@ -0,0 +1,127 @@
+package greencity.service.ubs;
+
+import greencity.entity.coords.Coordinates;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid of coordinates with cells about the size of the search radius, so that
+ * coordinates around a point are looked up in the few neighbouring cells
+ * instead of among all the coordinates. The grid does not wrap around the
+ * antimeridian, which is never crossed by the served locations.
+ */
+final class CoordinatesGridIndex {
+    private static final double EARTH_RADIUS_KM = 6371;
+    private static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180;
+    private static final double MIN_CELL_SIZE_KM = 0.01;
+    private static final double MAX_LATITUDE = 89;
+    private static final double SPAN_MARGIN = 1.001;
+
+    private final double latitudeCellSize;
+    private final double longitudeCellSize;
+    private final Map<Long, List<Coordinates>> cells = new HashMap<>();
+
+    /**
+     * Builds the grid of the given coordinates.
+     *
+     * @param coordinates collection of {@link Coordinates} to index.
+     * @param cellSizeKm  preferred size of a cell in kilometers, usually the search
+     *                    radius.
+     */
+    CoordinatesGridIndex(Collection<Coordinates> coordinates, double cellSizeKm) {
+        double maxLatitude = coordinates.stream()
+            .mapToDouble(c -> Math.abs(c.getLatitude()))
+            .max()
+            .orElse(0);
+        latitudeCellSize = Math.max(cellSizeKm, MIN_CELL_SIZE_KM) / KM_PER_DEGREE;
+        longitudeCellSize = latitudeCellSize / Math.cos(Math.toRadians(Math.min(maxLatitude, MAX_LATITUDE)));
+        coordinates.forEach(c -> cells.computeIfAbsent(cellKey(c.getLatitude(), c.getLongitude()),
+            key -> new ArrayList<>()).add(c));
+    }
+
+    /**
+     * Returns indexed coordinates which are not farther from the center than the
+     * given radius.
+     *
+     * @param center   {@link Coordinates} center of the search.
+     * @param radiusKm radius of the search in kilometers.
+     * @return list of {@link Coordinates}.
+     */
+    List<Coordinates> findWithin(Coordinates center, double radiusKm) {
+        double latitudeSpan = radiusKm * SPAN_MARGIN / KM_PER_DEGREE;
+        double longitudeSpan = latitudeSpan
+            / Math.cos(Math.toRadians(Math.min(Math.abs(center.getLatitude()) + latitudeSpan, MAX_LATITUDE)));
+        int fromLatitudeCell = cell(center.getLatitude() - latitudeSpan, latitudeCellSize);
+        int toLatitudeCell = cell(center.getLatitude() + latitudeSpan, latitudeCellSize);
+        int fromLongitudeCell = cell(center.getLongitude() - longitudeSpan, longitudeCellSize);
+        int toLongitudeCell = cell(center.getLongitude() + longitudeSpan, longitudeCellSize);
+
+        List<Coordinates> result = new ArrayList<>();
+        for (int latitudeCell = fromLatitudeCell; latitudeCell <= toLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = fromLongitudeCell; longitudeCell <= toLongitudeCell; longitudeCell++) {
+                List<Coordinates> cellCoordinates = cells.get(cellKey(latitudeCell, longitudeCell));
+                if (cellCoordinates == null) {
+                    continue;
+                }
+                for (Coordinates checked : cellCoordinates) {
+                    if (distance(center, checked) <= radiusKm) {
+                        result.add(checked);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the coordinates from the grid.
+     *
+     * @param coordinates {@link Coordinates} to remove.
+     */
+    void remove(Coordinates coordinates) {
+        long key = cellKey(coordinates.getLatitude(), coordinates.getLongitude());
+        List<Coordinates> cellCoordinates = cells.get(key);
+        if (cellCoordinates != null && cellCoordinates.remove(coordinates) && cellCoordinates.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    /**
+     * Method to determine distance between 2 earth coordinates with the haversine
+     * formula.
+     *
+     * @param first  {@link Coordinates} first coordinates.
+     * @param second {@link Coordinates} second coordinates.
+     * @return distance in kilometers.
+     */
+    static double distance(Coordinates first, Coordinates second) {
+        double radiansLatitude = degreesToRadians(second.getLatitude() - first.getLatitude());
+        double radiansLongitude = degreesToRadians(second.getLongitude() - first.getLongitude());
+        double lat1 = degreesToRadians(first.getLatitude());
+        double lat2 = degreesToRadians(second.getLatitude());
+
+        double a = Math.sin(radiansLatitude / 2) * Math.sin(radiansLatitude / 2)
+            + Math.sin(radiansLongitude / 2) * Math.sin(radiansLongitude / 2) * Math.cos(lat1) * Math.cos(lat2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+
+    private static double degreesToRadians(double degrees) {
+        return degrees * Math.PI / 180;
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return cellKey(cell(latitude, latitudeCellSize), cell(longitude, longitudeCellSize));
+    }
+
+    private static long cellKey(int latitudeCell, int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xFFFFFFFFL);
+    }
+
+    private static int cell(double degrees, double cellSize) {
+        return (int) Math.floor(degrees / cellSize);
+    }
+}
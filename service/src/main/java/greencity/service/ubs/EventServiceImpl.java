@@ -4,10 +4,12 @@ import greencity.constant.OrderHistory;
 import greencity.entity.order.Event;
 import greencity.entity.order.Order;
 import greencity.entity.user.employee.Employee;
+import greencity.enums.EventCode;
 import greencity.exceptions.NotFoundException;
 import greencity.repository.EmployeeRepository;
 import greencity.repository.EventRepository;
 import lombok.Data;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.springframework.stereotype.Service;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
@@ -15,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -29,7 +32,9 @@ public class EventServiceImpl implements EventService {
     private final EmployeeRepository employeeRepository;
 
     /**
-     * This is method which collect's information about order history lifecycle.
+     * This is method which collect's information about order history lifecycle. The
+     * event is added to the events of the order without loading them, so the
+     * history of the order is not read on every save.
      *
      * @param eventName   String.
      * @param eventAuthor String.
@@ -46,10 +51,13 @@ public class EventServiceImpl implements EventService {
         event.setAuthorName(eventAuthor);
         event.setEventNameEng(getEventNameEng(eventName));
         event.setAuthorNameEng(getAuthorNameEng(eventAuthor));
+        event.setCode(getEventCode(eventName));
         getEventNameEngWithNumbers(eventName, event);
         getEventNameEngWithDate(eventName, event);
 
-        if (order.getEvents() != null) {
+        if (order.getEvents() instanceof PersistentCollection<?>) {
+            order.getEvents().add(event);
+        } else if (order.getEvents() != null) {
             List<Event> events = new ArrayList<>(order.getEvents());
             events.add(event);
             order.setEvents(events);
@@ -125,6 +133,63 @@ public class EventServiceImpl implements EventService {
         eventNameToEngMap.put(OrderHistory.DELETE_VIOLATION, OrderHistory.DELETE_VIOLATION_ENG);
     }
 
+    private static final Map<String, EventCode> eventNameToCodeMap = new HashMap<>();
+    private static final Map<String, EventCode> eventNamePrefixToCodeMap = new LinkedHashMap<>();
+
+    static {
+        eventNameToCodeMap.put(OrderHistory.ORDER_FORMED, EventCode.ORDER_FORMED);
+        eventNameToCodeMap.put(OrderHistory.ORDER_ADJUSTMENT, EventCode.ORDER_ADJUSTMENT);
+        eventNameToCodeMap.put(OrderHistory.ORDER_CONFIRMED, EventCode.ORDER_CONFIRMED);
+        eventNameToCodeMap.put(OrderHistory.ORDER_ON_THE_ROUTE, EventCode.ORDER_ON_THE_ROUTE);
+        eventNameToCodeMap.put(OrderHistory.ORDER_DONE, EventCode.ORDER_DONE);
+        eventNameToCodeMap.put(OrderHistory.ORDER_NOT_TAKEN_OUT, EventCode.ORDER_NOT_TAKEN_OUT);
+        eventNameToCodeMap.put(OrderHistory.ORDER_BROUGHT_IT_HIMSELF, EventCode.ORDER_BROUGHT_IT_HIMSELF);
+        eventNameToCodeMap.put(OrderHistory.ORDER_PAID, EventCode.ORDER_PAID);
+        eventNameToCodeMap.put(OrderHistory.ORDER_HALF_PAID, EventCode.ORDER_HALF_PAID);
+        eventNameToCodeMap.put(OrderHistory.ASSIGN_DRIVER, EventCode.ASSIGN_DRIVER);
+        eventNameToCodeMap.put(OrderHistory.ASSIGN_LOGIEST, EventCode.ASSIGN_LOGIEST);
+        eventNameToCodeMap.put(OrderHistory.ASSIGN_CALL_MANAGER, EventCode.ASSIGN_CALL_MANAGER);
+        eventNameToCodeMap.put(OrderHistory.ASSIGN_CALL_PILOT, EventCode.ASSIGN_CALL_PILOT);
+        eventNameToCodeMap.put(OrderHistory.UPDATE_MANAGER_CALL, EventCode.UPDATE_MANAGER_CALL);
+        eventNameToCodeMap.put(OrderHistory.UPDATE_MANAGER_LOGIEST, EventCode.UPDATE_MANAGER_LOGIEST);
+        eventNameToCodeMap.put(OrderHistory.UPDATE_MANAGER_CALL_PILOT, EventCode.UPDATE_MANAGER_CALL_PILOT);
+        eventNameToCodeMap.put(OrderHistory.UPDATE_MANAGER_DRIVER, EventCode.UPDATE_MANAGER_DRIVER);
+        eventNameToCodeMap.put(OrderHistory.ADD_VIOLATION, EventCode.ADD_VIOLATION);
+        eventNameToCodeMap.put(OrderHistory.CHANGES_VIOLATION, EventCode.CHANGES_VIOLATION);
+        eventNameToCodeMap.put(OrderHistory.DELETE_VIOLATION, EventCode.DELETE_VIOLATION);
+        eventNameToCodeMap.put(OrderHistory.ADDED_BONUSES, EventCode.ADDED_BONUSES);
+        eventNameToCodeMap.put(OrderHistory.CHANGED_SENDER, EventCode.CHANGED_SENDER);
+
+        eventNamePrefixToCodeMap.put(OrderHistory.ADD_PAYMENT_SYSTEM, EventCode.ADD_PAYMENT_SYSTEM);
+        eventNamePrefixToCodeMap.put(OrderHistory.DELETE_PAYMENT_MANUALLY, EventCode.DELETE_PAYMENT_MANUALLY);
+        eventNamePrefixToCodeMap.put(OrderHistory.UPDATE_PAYMENT_MANUALLY, EventCode.UPDATE_PAYMENT_MANUALLY);
+        eventNamePrefixToCodeMap.put(OrderHistory.ADD_PAYMENT_MANUALLY, EventCode.ADD_PAYMENT_MANUALLY);
+        eventNamePrefixToCodeMap.put(OrderHistory.ADD_NEW_ECO_NUMBER, EventCode.ADD_NEW_ECO_NUMBER);
+        eventNamePrefixToCodeMap.put(OrderHistory.DELETED_ECO_NUMBER, EventCode.DELETED_ECO_NUMBER);
+        eventNamePrefixToCodeMap.put(OrderHistory.UPDATE_DATE_EXPORT, EventCode.UPDATE_DATE_EXPORT);
+        eventNamePrefixToCodeMap.put(OrderHistory.SET_DATE_EXPORT, EventCode.SET_DATE_EXPORT);
+        eventNamePrefixToCodeMap.put(OrderHistory.UPDATE_MIX_WASTE, EventCode.UPDATE_MIX_WASTE);
+        eventNamePrefixToCodeMap.put(OrderHistory.ORDER_CANCELLED, EventCode.ORDER_CANCELLED);
+        eventNamePrefixToCodeMap.put(OrderHistory.ADD_ADMIN_COMMENT, EventCode.ADD_ADMIN_COMMENT);
+    }
+
+    /**
+     * Names of the events with numbers, dates or comments are matched by their
+     * constant beginning, the same way the codes of the existing events are filled
+     * in by the migration.
+     */
+    private static EventCode getEventCode(String eventName) {
+        EventCode code = eventNameToCodeMap.get(eventName);
+        if (code != null) {
+            return code;
+        }
+        return eventNamePrefixToCodeMap.entrySet().stream()
+            .filter(entry -> eventName.startsWith(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElse(EventCode.OTHER);
+    }
+
     private static String getEventNameEng(String eventName) {
         return eventNameToEngMap.getOrDefault(eventName, eventName);
     }
@@ -0,0 +1,72 @@
+package greencity.service.ubs;
+
+import greencity.config.FileStorageConfigProp;
+import greencity.constant.ErrorMessage;
+import greencity.exceptions.image.FileNotSavedException;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * {@link FileService} which keeps the files in a directory of the local file
+ * system instead of Azure, for example to run the application without a storage
+ * account.
+ */
+@Service
+@ConditionalOnProperty(name = "greencity.file-storage.type", havingValue = "local")
+public class LocalFileStorageService extends AbstractFileService {
+    private final Path root;
+    private final String publicUrl;
+
+    /**
+     * Constructor with parameters.
+     */
+    public LocalFileStorageService(FileStorageConfigProp fileStorageConfigProp,
+        @Qualifier("fileStorageExecutor") TaskExecutor fileStorageExecutor) {
+        super(fileStorageExecutor);
+        this.root = Path.of(fileStorageConfigProp.getLocalRoot()).toAbsolutePath().normalize();
+        this.publicUrl = StringUtils.removeEnd(fileStorageConfigProp.getLocalPublicUrl(), "/");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String upload(MultipartFile multipartFile) {
+        String fileName = UUID.randomUUID() + StringUtils.defaultString(multipartFile.getOriginalFilename())
+            .replaceAll("[^\\w.-]", "_");
+        Path target = root.resolve(fileName);
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            Files.createDirectories(root);
+            Files.copy(inputStream, target);
+        } catch (IOException e) {
+            throw new FileNotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        }
+        return StringUtils.isEmpty(publicUrl) ? target.toUri().toString() : publicUrl + "/" + fileName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void deleteFile(String fileName) {
+        Path target = root.resolve(fileName).normalize();
+        if (!target.getParent().equals(root)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
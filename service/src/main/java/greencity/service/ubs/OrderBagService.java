@@ -6,6 +6,7 @@ import greencity.exceptions.NotFoundException;
 import greencity.repository.OrderBagRepository;
 import lombok.Data;
 import org.springframework.stereotype.Service;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,22 @@ public class OrderBagService {
         return findAllBagsInOrderBagsList(orderBags);
     }
 
+    /**
+     * Finds order bags of all the given orders with a single query and groups them
+     * by order ID.
+     *
+     * @param ids The IDs of the orders to search for.
+     * @return A Map containing the order ID as the key and its OrderBag instances
+     *         as the value. Orders without bags are not included.
+     */
+    public Map<Long, List<OrderBag>> findAllOrderBagsByOrderIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return orderBagRepository.findOrderBagsByOrderIds(ids).stream()
+            .collect(Collectors.groupingBy(orderBag -> orderBag.getOrder().getId()));
+    }
+
     /**
      * Calculates the actual bags' amounts for the given list of OrderBags and
      * returns the result as a Map. This method checks the OrderBags in the input
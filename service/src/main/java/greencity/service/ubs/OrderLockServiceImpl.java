@@ -6,10 +6,14 @@ import greencity.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Component
 @Slf4j
@@ -20,18 +24,22 @@ public class OrderLockServiceImpl implements OrderLockService {
     private int lockDurationMinutes;
     private static final String REMOVE_LOCK_MESSAGE = "Remove lock from order with id: {}";
     private static final String SET_LOCK_MESSAGE = "Set lock to order with id: {}";
+    private static final String SET_LOCKS_MESSAGE = "Set lock of employee {} to orders with ids: {}";
+    private static final String REMOVE_LOCKS_MESSAGE = "Remove lock of employee {} from orders with ids: {}";
 
     /**
      * {@inheritDoc}
      */
     @Override
     @Transactional
-    public synchronized void lockOrder(Order order, Employee employee) {
-        if (!order.isBlocked()) {
+    public void lockOrder(Order order, Employee employee) {
+        LocalDateTime blockedAt = LocalDateTime.now();
+        List<Long> locked = orderRepository.lockOrders(List.of(order.getId()), employee.getId(), blockedAt,
+            blockedAt.minusMinutes(lockDurationMinutes));
+        if (!locked.isEmpty()) {
             order.setBlocked(true);
             order.setBlockedByEmployee(employee);
-            order.setBlockedAt(LocalDateTime.now());
-            orderRepository.save(order);
+            order.setBlockedAt(blockedAt);
             log.info(SET_LOCK_MESSAGE, order.getId());
         }
     }
@@ -41,7 +49,34 @@ public class OrderLockServiceImpl implements OrderLockService {
      */
     @Override
     @Transactional
-    public synchronized void unlockOrder(Order order) {
+    public List<Long> lockOrders(Collection<Long> orderIds, Employee employee) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        LocalDateTime blockedAt = LocalDateTime.now();
+        List<Long> locked = orderRepository.lockOrders(orderIds, employee.getId(), blockedAt,
+            blockedAt.minusMinutes(lockDurationMinutes));
+        log.info(SET_LOCKS_MESSAGE, employee.getId(), locked);
+        return locked;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void lockAllOrders(Employee employee) {
+        LocalDateTime blockedAt = LocalDateTime.now();
+        orderRepository.setBlockedEmployeeForAllOrders(employee.getId(), blockedAt,
+            blockedAt.minusMinutes(lockDurationMinutes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void unlockOrder(Order order) {
         order.setBlocked(false);
         order.setBlockedByEmployee(null);
         order.setBlockedAt(null);
@@ -53,12 +88,34 @@ public class OrderLockServiceImpl implements OrderLockService {
      * {@inheritDoc}
      */
     @Override
-    @Scheduled(fixedRate = 60000)
     @Transactional
-    public void checkLockOrders() {
-        LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(lockDurationMinutes);
-        log.info("Time: {}", expirationTime);
-        orderRepository.unlockExpiredOrders(expirationTime);
-        log.info("Unlock orders");
+    public List<Long> unlockOrders(Collection<Long> orderIds, Employee employee) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> unlocked = orderRepository.unlockOrders(orderIds, employee.getId());
+        log.info(REMOVE_LOCKS_MESSAGE, employee.getId(), unlocked);
+        return unlocked;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLocked(Order order) {
+        return order.isBlocked() && (order.getBlockedAt() == null
+            || !order.getBlockedAt().isBefore(LocalDateTime.now().minusMinutes(lockDurationMinutes)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Long> getLockedOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(orderRepository.findLockedOrderIds(orderIds,
+            LocalDateTime.now().minusMinutes(lockDurationMinutes)));
     }
 }
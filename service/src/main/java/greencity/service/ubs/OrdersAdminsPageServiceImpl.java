@@ -18,6 +18,7 @@ import greencity.entity.user.employee.Position;
 import greencity.entity.user.employee.ReceivingStation;
 import greencity.enums.CancellationReason;
 import greencity.enums.EditType;
+import greencity.enums.EventCode;
 import greencity.enums.OrderStatus;
 import greencity.enums.PaymentStatus;
 import greencity.entity.order.Certificate;
@@ -25,6 +26,7 @@ import greencity.entity.order.ChangeOfPoints;
 import greencity.entity.order.Order;
 import greencity.entity.order.Event;
 import greencity.entity.order.OrderPaymentStatusTranslation;
+import greencity.entity.order.OrderStatusTranslation;
 import greencity.entity.user.User;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
@@ -36,7 +38,6 @@ import greencity.repository.EmployeeOrderPositionRepository;
 import greencity.repository.EmployeeRepository;
 import greencity.repository.OrderPaymentStatusTranslationRepository;
 import greencity.repository.OrderRepository;
-import greencity.repository.OrderStatusTranslationRepository;
 import greencity.repository.PositionRepository;
 import greencity.repository.ReceivingStationRepository;
 import greencity.repository.TableColumnWidthForEmployeeRepository;
@@ -49,6 +50,10 @@ import org.apache.commons.lang3.EnumUtils;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -59,8 +64,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import static greencity.constant.ErrorMessage.DATE_OF_EXPORT_NOT_SPECIFIED_FOR_ORDER;
 import static greencity.constant.ErrorMessage.EMPLOYEE_DOESNT_EXIST;
@@ -87,7 +95,6 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
     private final ReceivingStationRepository receivingStationRepository;
     private final PositionRepository positionRepository;
     private final EmployeeOrderPositionRepository employeeOrderPositionRepository;
-    private final OrderStatusTranslationRepository orderStatusTranslationRepository;
     private final OrderPaymentStatusTranslationRepository orderPaymentStatusTranslationRepository;
     private final TableColumnWidthForEmployeeRepository tableColumnWidthForEmployeeRepository;
     private final UserRemoteClient userRemoteClient;
@@ -97,6 +104,8 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
     private final NotificationServiceImpl notificationService;
     private final SuperAdminService superAdminService;
     private final OrderLockService orderLockService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final PlatformTransactionManager transactionManager;
     private static final String ORDER_STATUS = "orderStatus";
     private static final String DATE_OF_EXPORT = "dateOfExport";
     private static final String RECEIVING = "receivingStation";
@@ -320,12 +329,15 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
         List<OptionForColumnDTO> optionForColumnDTOS = new ArrayList<>();
         OrderStatus[] orderStatuses = OrderStatus.values();
         for (OrderStatus o : orderStatuses) {
-            String ua = orderStatusTranslationRepository.getOrderStatusTranslationById((long) o.getNumValue())
-                .orElseThrow(() -> new EntityNotFoundException(ORDER_STATUS_NOT_FOUND)).getName();
-            String en = orderStatusTranslationRepository.getOrderStatusTranslationById((long) o.getNumValue())
-                .orElseThrow(() -> new EntityNotFoundException(ORDER_STATUS_NOT_FOUND)).getNameEng();
-            optionForColumnDTOS
-                .add(OptionForColumnDTO.builder().key(o.toString()).ua(ua).en(en).filtered(false).build());
+            OrderStatusTranslation translation =
+                referenceDataCacheService.getOrderStatusTranslationById((long) o.getNumValue())
+                    .orElseThrow(() -> new EntityNotFoundException(ORDER_STATUS_NOT_FOUND));
+            optionForColumnDTOS.add(OptionForColumnDTO.builder()
+                .key(o.toString())
+                .ua(translation.getName())
+                .en(translation.getNameEng())
+                .filtered(false)
+                .build());
         }
         return optionForColumnDTOS;
     }
@@ -374,7 +386,7 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
     }
 
     private List<OptionForColumnDTO> callerList() {
-        List<Employee> employeeList = employeeRepository.findAllByEmployeePositionId(2L);
+        List<Employee> employeeList = referenceDataCacheService.getEmployeesByPositionId(2L);
         List<OptionForColumnDTO> optionForColumnDTOS =
             includeItemsWithoutResponsiblePerson(WITHOUT_MANAGER_UA, WITHOUT_MANAGER_EN);
         for (Employee e : employeeList) {
@@ -384,7 +396,7 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
     }
 
     private List<OptionForColumnDTO> logicManList() {
-        List<Employee> employeeList = employeeRepository.findAllByEmployeePositionId(3L);
+        List<Employee> employeeList = referenceDataCacheService.getEmployeesByPositionId(3L);
         List<OptionForColumnDTO> optionForColumnDTOS =
             includeItemsWithoutResponsiblePerson(WITHOUT_LOGISTICIAN_UA, WITHOUT_LOGISTICIAN_EN);
         for (Employee e : employeeList) {
@@ -394,7 +406,7 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
     }
 
     private List<OptionForColumnDTO> navigatorList() {
-        List<Employee> employeeList = employeeRepository.findAllByEmployeePositionId(4L);
+        List<Employee> employeeList = referenceDataCacheService.getEmployeesByPositionId(4L);
         List<OptionForColumnDTO> optionForColumnDTOS =
             includeItemsWithoutResponsiblePerson(WITHOUT_NAVIGATOR_UA, WITHOUT_NAVIGATOR_EN);
         for (Employee e : employeeList) {
@@ -404,7 +416,7 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
     }
 
     private List<OptionForColumnDTO> driverList() {
-        List<Employee> employeeList = employeeRepository.findAllByEmployeePositionId(5L);
+        List<Employee> employeeList = referenceDataCacheService.getEmployeesByPositionId(5L);
         List<OptionForColumnDTO> optionForColumnDTOS =
             includeItemsWithoutResponsiblePerson(WITHOUT_DRIVER_UA, WITHOUT_DRIVER_EN);
         for (Employee e : employeeList) {
@@ -449,42 +461,29 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
 
     /* methods for changing order */
     @Override
-    public synchronized List<Long> orderStatusForDevelopStage(List<Long> ordersId, String updatedStatusValue,
+    public List<Long> orderStatusForDevelopStage(List<Long> ordersId, String updatedStatusValue,
         Employee employee) {
-        List<Long> unresolvedGoals = new ArrayList<>();
-        for (Long orderId : ordersId) {
-            try {
-                Order existedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-                if (isOrderBlockedByAnotherEmployee(existedOrder, employee.getId())) {
-                    throw new BadRequestException(ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                }
-                if (existedOrder.getOrderStatus().checkPossibleStatus(updatedStatusValue)) {
-                    existedOrder.setOrderStatus(OrderStatus.valueOf(updatedStatusValue));
-                    removePickUpDetailsAndResponsibleEmployees(existedOrder);
-                } else {
-                    throw new BadRequestException(
-                        "Such desired status isn't applicable with current status!");
-                }
-
-                if (existedOrder.getOrderStatus() == OrderStatus.CANCELED
-                    && (existedOrder.getPointsToUse() != 0 || !existedOrder.getCertificates().isEmpty())) {
-                    notificationService.notifyBonusesFromCanceledOrder(existedOrder);
-                    returnAllPointsFromOrder(existedOrder);
-                }
-
-                orderLockService.unlockOrder(existedOrder);
-
-                if (OrderStatus.BROUGHT_IT_HIMSELF == OrderStatus.valueOf(updatedStatusValue)) {
-                    eventService.save(OrderHistory.ORDER_BROUGHT_IT_HIMSELF,
-                        employee.getFirstName() + "  " + employee.getLastName(), existedOrder);
-                    notificationService.notifySelfPickupOrder(existedOrder);
-                }
-            } catch (Exception e) {
-                unresolvedGoals.add(orderId);
+        return changeOrders(ordersId, employee.getId(), existedOrder -> {
+            if (existedOrder.getOrderStatus().checkPossibleStatus(updatedStatusValue)) {
+                existedOrder.setOrderStatus(OrderStatus.valueOf(updatedStatusValue));
+                removePickUpDetailsAndResponsibleEmployees(existedOrder);
+            } else {
+                throw new BadRequestException(
+                    "Such desired status isn't applicable with current status!");
             }
-        }
-        return unresolvedGoals;
+
+            if (existedOrder.getOrderStatus() == OrderStatus.CANCELED
+                && (existedOrder.getPointsToUse() != 0 || !existedOrder.getCertificates().isEmpty())) {
+                notificationService.notifyBonusesFromCanceledOrder(existedOrder);
+                returnAllPointsFromOrder(existedOrder);
+            }
+
+            if (OrderStatus.BROUGHT_IT_HIMSELF == OrderStatus.valueOf(updatedStatusValue)) {
+                eventService.save(OrderHistory.ORDER_BROUGHT_IT_HIMSELF,
+                    employee.getFirstName() + "  " + employee.getLastName(), existedOrder);
+                notificationService.notifySelfPickupOrder(existedOrder);
+            }
+        });
     }
 
     private void returnAllPointsFromOrder(Order order) {
@@ -531,191 +530,135 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
         }
     }
 
-    private synchronized List<Long> cancellationReasonForDevelopStage(List<Long> ordersId, String value,
-        Long employeeId) {
-        List<Long> unresolvedGoals = new ArrayList<>();
-        if (EnumUtils.isValidEnum(CancellationReason.class, value)) {
-            for (Long orderId : ordersId) {
-                try {
-                    Order existedOrder = orderRepository.findById(orderId)
-                        .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-                    if (isOrderBlockedByAnotherEmployee(existedOrder, employeeId)) {
-                        throw new BadRequestException(
-                            ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                    }
-                    existedOrder.setCancellationReason(CancellationReason.valueOf(value));
-                    orderLockService.unlockOrder(existedOrder);
-                } catch (Exception e) {
-                    unresolvedGoals.add(orderId);
-                }
-            }
-        }
-        return unresolvedGoals;
-    }
-
-    private synchronized List<Long> cancellationCommentForDevelopStage(List<Long> ordersId, String value,
-        Employee employee) {
-        List<Long> unresolvedGoals = new ArrayList<>();
-        for (Long orderId : ordersId) {
-            try {
-                Order existedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-                if (isOrderBlockedByAnotherEmployee(existedOrder, employee.getId())) {
-                    throw new BadRequestException(ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                }
-                existedOrder.getEvents().add(Event.builder()
-                    .order(existedOrder)
-                    .eventDate(LocalDateTime.now())
-                    .authorName(employee.getFirstName() + "  " + employee.getLastName())
-                    .eventName(OrderHistory.ORDER_CANCELLED + "  " + value)
-                    .build());
-                existedOrder.setCancellationComment(value);
-                orderLockService.unlockOrder(existedOrder);
-            } catch (Exception e) {
-                unresolvedGoals.add(orderId);
-            }
-        }
-        return unresolvedGoals;
-    }
-
-    private synchronized List<Long> adminCommentForDevelopStage(List<Long> ordersId, String value, Employee employee) {
-        List<Long> unresolvedGoals = new ArrayList<>();
-        for (Long orderId : ordersId) {
-            try {
-                Order existedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-
-                if (isOrderBlockedByAnotherEmployee(existedOrder, employee.getId())) {
-                    throw new BadRequestException(ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                }
-
-                existedOrder.getEvents().add(Event.builder()
-                    .order(existedOrder)
-                    .eventDate(LocalDateTime.now())
-                    .authorName(employee.getFirstName() + "  " + employee.getLastName())
-                    .eventName(OrderHistory.ADD_ADMIN_COMMENT + "  " + value)
-                    .build());
-                existedOrder.setAdminComment(value);
-                orderLockService.unlockOrder(existedOrder);
-            } catch (Exception e) {
-                unresolvedGoals.add(orderId);
-            }
+    private List<Long> cancellationReasonForDevelopStage(List<Long> ordersId, String value, Long employeeId) {
+        if (!EnumUtils.isValidEnum(CancellationReason.class, value)) {
+            return new ArrayList<>();
         }
-        return unresolvedGoals;
+        return changeOrders(ordersId, employeeId,
+            existedOrder -> existedOrder.setCancellationReason(CancellationReason.valueOf(value)));
+    }
+
+    private List<Long> cancellationCommentForDevelopStage(List<Long> ordersId, String value, Employee employee) {
+        return changeOrders(ordersId, employee.getId(), existedOrder -> {
+            existedOrder.getEvents().add(Event.builder()
+                .order(existedOrder)
+                .eventDate(LocalDateTime.now())
+                .authorName(employee.getFirstName() + "  " + employee.getLastName())
+                .eventName(OrderHistory.ORDER_CANCELLED + "  " + value)
+                .code(EventCode.ORDER_CANCELLED)
+                .build());
+            existedOrder.setCancellationComment(value);
+        });
+    }
+
+    private List<Long> adminCommentForDevelopStage(List<Long> ordersId, String value, Employee employee) {
+        return changeOrders(ordersId, employee.getId(), existedOrder -> {
+            existedOrder.getEvents().add(Event.builder()
+                .order(existedOrder)
+                .eventDate(LocalDateTime.now())
+                .authorName(employee.getFirstName() + "  " + employee.getLastName())
+                .eventName(OrderHistory.ADD_ADMIN_COMMENT + "  " + value)
+                .code(EventCode.ADD_ADMIN_COMMENT)
+                .build());
+            existedOrder.setAdminComment(value);
+        });
     }
 
     @Override
-    public synchronized List<Long> dateOfExportForDevelopStage(List<Long> ordersId, String value, Long employeeId) {
+    public List<Long> dateOfExportForDevelopStage(List<Long> ordersId, String value, Long employeeId) {
         LocalDate date = LocalDate.parse(value.substring(0, 10), DateTimeFormatter.ISO_LOCAL_DATE);
-        List<Long> unresolvedGoals = new ArrayList<>();
-        for (Long orderId : ordersId) {
-            try {
-                Order existedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-                if (isOrderBlockedByAnotherEmployee(existedOrder, employeeId)) {
-                    throw new BadRequestException(ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                }
-                existedOrder.setDateOfExport(date);
-                if (existedOrder.getDeliverFrom() != null) {
-                    existedOrder.setDeliverFrom(LocalDateTime.of(date, existedOrder.getDeliverFrom().toLocalTime()));
-                }
-                if (existedOrder.getDeliverTo() != null) {
-                    existedOrder.setDeliverTo(LocalDateTime.of(date, existedOrder.getDeliverTo().toLocalTime()));
-                }
-                orderLockService.unlockOrder(existedOrder);
-            } catch (Exception e) {
-                unresolvedGoals.add(orderId);
+        return changeOrders(ordersId, employeeId, existedOrder -> {
+            existedOrder.setDateOfExport(date);
+            if (existedOrder.getDeliverFrom() != null) {
+                existedOrder.setDeliverFrom(LocalDateTime.of(date, existedOrder.getDeliverFrom().toLocalTime()));
             }
-        }
-        return unresolvedGoals;
+            if (existedOrder.getDeliverTo() != null) {
+                existedOrder.setDeliverTo(LocalDateTime.of(date, existedOrder.getDeliverTo().toLocalTime()));
+            }
+        });
     }
 
     @Override
-    public synchronized List<Long> timeOfExportForDevelopStage(List<Long> ordersId, String value, Long employeeId) {
+    public List<Long> timeOfExportForDevelopStage(List<Long> ordersId, String value, Long employeeId) {
         String from = value.substring(0, 5);
         String to = value.substring(6);
         LocalTime timeFrom = LocalTime.parse(from, DateTimeFormatter.ISO_TIME);
         LocalTime timeTo = LocalTime.parse(to, DateTimeFormatter.ISO_TIME);
-        List<Long> unresolvedGoals = new ArrayList<>();
-        for (Long orderId : ordersId) {
-            try {
-                Order existedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-                if (isOrderBlockedByAnotherEmployee(existedOrder, employeeId)) {
-                    throw new BadRequestException(ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                }
-                if (existedOrder.getDateOfExport() == null) {
-                    throw new IllegalStateException(DATE_OF_EXPORT_NOT_SPECIFIED_FOR_ORDER + existedOrder.getId());
-                }
-                existedOrder.setDeliverFrom(LocalDateTime.of(existedOrder.getDateOfExport(), timeFrom));
-                existedOrder.setDeliverTo(LocalDateTime.of(existedOrder.getDateOfExport(), timeTo));
-                orderLockService.unlockOrder(existedOrder);
-            } catch (Exception e) {
-                unresolvedGoals.add(orderId);
+        return changeOrders(ordersId, employeeId, existedOrder -> {
+            if (existedOrder.getDateOfExport() == null) {
+                throw new IllegalStateException(DATE_OF_EXPORT_NOT_SPECIFIED_FOR_ORDER + existedOrder.getId());
             }
-        }
-        return unresolvedGoals;
+            existedOrder.setDeliverFrom(LocalDateTime.of(existedOrder.getDateOfExport(), timeFrom));
+            existedOrder.setDeliverTo(LocalDateTime.of(existedOrder.getDateOfExport(), timeTo));
+        });
     }
 
     @Override
-    public synchronized List<Long> receivingStationForDevelopStage(List<Long> ordersId, String value, Long employeeId) {
+    public List<Long> receivingStationForDevelopStage(List<Long> ordersId, String value, Long employeeId) {
         ReceivingStation station = receivingStationRepository.getOne(Long.parseLong(value));
-        List<Long> unresolvedGoals = new ArrayList<>();
-        for (Long orderId : ordersId) {
-            try {
-                Order existedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-                if (isOrderBlockedByAnotherEmployee(existedOrder, employeeId)) {
-                    throw new BadRequestException(ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                }
-                existedOrder.setReceivingStation(station);
-                orderLockService.unlockOrder(existedOrder);
-            } catch (Exception e) {
-                unresolvedGoals.add(orderId);
-            }
-        }
-        return unresolvedGoals;
+        return changeOrders(ordersId, employeeId, existedOrder -> existedOrder.setReceivingStation(station));
     }
 
     @Override
-    public synchronized List<Long> responsibleEmployee(List<Long> ordersId, String employee, Long position,
-        String email) {
+    public List<Long> responsibleEmployee(List<Long> ordersId, String employee, Long position, String email) {
         Employee currentEmployee =
             employeeRepository.findByEmail(email).orElseThrow(() -> new NotFoundException(EMPLOYEE_DOESNT_EXIST));
         Employee existedEmployee = employeeRepository.findById(Long.parseLong(employee))
             .orElseThrow(() -> new NotFoundException(EMPLOYEE_DOESNT_EXIST));
         Position existedPosition = positionRepository.findById(position)
             .orElseThrow(() -> new NotFoundException(POSITION_NOT_FOUND_BY_ID));
+        String authorName = currentEmployee.getFirstName() + "  " + currentEmployee.getLastName();
+
+        return changeOrders(ordersId, currentEmployee.getId(), existedOrder -> {
+            List<EmployeeOrderPosition> orderPositions =
+                employeeOrderPositionRepository.findAllByOrderIdIn(Set.of(existedOrder.getId()));
+            List<EmployeeOrderPosition> samePositions = orderPositions.stream()
+                .filter(employeeOrderPosition -> existedPosition.getId()
+                    .equals(employeeOrderPosition.getPosition().getId()))
+                .toList();
+            final String historyChanges;
+
+            if (!samePositions.isEmpty()) {
+                samePositions.forEach(employeeOrderPosition -> employeeOrderPosition.setEmployee(existedEmployee));
+                historyChanges = eventService.changesWithResponsibleEmployee(existedPosition.getId(), Boolean.TRUE);
+            } else {
+                Set<EmployeeOrderPosition> positionSet = new HashSet<>(orderPositions);
+                positionSet.add(EmployeeOrderPosition.builder()
+                    .employee(existedEmployee).position(existedPosition)
+                    .order(existedOrder).build());
+                existedOrder.setEmployeeOrderPositions(positionSet);
+                historyChanges = eventService.changesWithResponsibleEmployee(existedPosition.getId(), Boolean.FALSE);
+            }
+            eventService.save(historyChanges, authorName, existedOrder);
+        });
+    }
+
+    /**
+     * Applies the change to every order that exists and is not blocked by another
+     * employee, and unlocks it. Every order is changed in a transaction of its own,
+     * in which its row is locked, so that concurrent changes of the same order wait
+     * for each other and a failure, including one of the notifications sent by the
+     * change, rolls back only the order that caused it.
+     *
+     * @return ids of the orders which could not be changed.
+     */
+    private List<Long> changeOrders(List<Long> ordersId, Long employeeId, Consumer<Order> change) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         List<Long> unresolvedGoals = new ArrayList<>();
-
         for (Long orderId : ordersId) {
             try {
-                Order existedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new NotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
-                if (isOrderBlockedByAnotherEmployee(existedOrder, currentEmployee.getId())) {
-                    throw new BadRequestException(ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
-                }
-                Boolean existedBefore =
-                    employeeOrderPositionRepository.existsByOrderAndPosition(existedOrder, existedPosition);
-                final String historyChanges;
-
-                if (existedBefore.equals(Boolean.TRUE)) {
-                    employeeOrderPositionRepository.update(existedOrder, existedEmployee, existedPosition);
-                    historyChanges = eventService.changesWithResponsibleEmployee(existedPosition.getId(), Boolean.TRUE);
-                } else {
-                    List<EmployeeOrderPosition> employeeOrderPositions =
-                        employeeOrderPositionRepository.findAllByOrderId(orderId);
-                    EmployeeOrderPosition newEmployeeOrderPosition = EmployeeOrderPosition.builder()
-                        .employee(existedEmployee).position(existedPosition)
-                        .order(existedOrder).build();
-                    employeeOrderPositions.add(newEmployeeOrderPosition);
-                    Set<EmployeeOrderPosition> positionSet = new HashSet<>(employeeOrderPositions);
-                    existedOrder.setEmployeeOrderPositions(positionSet);
-                    historyChanges =
-                        eventService.changesWithResponsibleEmployee(existedPosition.getId(), Boolean.FALSE);
-                }
-                orderLockService.unlockOrder(existedOrder);
-                eventService.saveEvent(historyChanges, email, existedOrder);
+                transactionTemplate.executeWithoutResult(status -> {
+                    Order existedOrder = orderRepository.findAllByIdInForUpdate(List.of(orderId)).stream()
+                        .findFirst()
+                        .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST));
+                    if (isOrderBlockedByAnotherEmployee(existedOrder, employeeId)) {
+                        throw new BadRequestException(
+                            ORDER_IS_BLOCKED + existedOrder.getBlockedByEmployee().getId());
+                    }
+                    change.accept(existedOrder);
+                    orderLockService.unlockOrder(existedOrder);
+                });
             } catch (Exception e) {
                 unresolvedGoals.add(orderId);
             }
@@ -724,54 +667,64 @@ public class OrdersAdminsPageServiceImpl implements OrdersAdminsPageService {
     }
 
     @Override
-    public synchronized List<BlockedOrderDto> requestToBlockOrder(String userUuid, List<Long> orders) {
+    @Transactional
+    public List<BlockedOrderDto> requestToBlockOrder(String userUuid, List<Long> orders) {
         String email = userRemoteClient.findByUuid(userUuid)
             .orElseThrow(() -> new EntityNotFoundException(USER_WITH_CURRENT_UUID_DOES_NOT_EXIST)).getEmail();
         Employee employee = employeeRepository.findByEmail(email)
             .orElseThrow(() -> new EntityNotFoundException(EMPLOYEE_NOT_FOUND));
-        List<BlockedOrderDto> blockedOrderDTOS = new ArrayList<>();
         if (orders.isEmpty()) {
-            orderRepository.setBlockedEmployeeForAllOrders(employee.getId(), LocalDateTime.now());
+            orderLockService.lockAllOrders(employee);
+            return new ArrayList<>();
+        }
+        Set<Long> lockedOrdersId = new HashSet<>(orderLockService.lockOrders(orders, employee));
+        List<Long> notLockedOrdersId = orders.stream()
+            .filter(orderId -> !lockedOrdersId.contains(orderId))
+            .distinct()
+            .toList();
+        if (notLockedOrdersId.isEmpty()) {
+            return new ArrayList<>();
         }
-        for (Long orderId : orders) {
-            Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + orderId));
-            if (order.isBlocked() && !order.getBlockedByEmployee().equals(employee)) {
+        Map<Long, Order> notLockedOrders = orderRepository.findAllById(notLockedOrdersId).stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<BlockedOrderDto> blockedOrderDTOS = new ArrayList<>();
+        for (Long orderId : notLockedOrdersId) {
+            Order order = notLockedOrders.get(orderId);
+            if (order == null) {
+                throw new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + orderId);
+            }
+            if (order.getBlockedByEmployee() != null) {
                 blockedOrderDTOS.add(BlockedOrderDto
                     .builder().orderId(orderId).userName(String.format("%s %s",
                         order.getBlockedByEmployee().getFirstName(), order.getBlockedByEmployee().getLastName()))
                     .build());
-            } else {
-                orderLockService.lockOrder(order, employee);
             }
         }
         return blockedOrderDTOS;
     }
 
     @Override
-    public synchronized List<Long> unblockOrder(String userUuid, List<Long> orders) {
+    @Transactional
+    public List<Long> unblockOrder(String userUuid, List<Long> orders) {
         String email = userRemoteClient.findByUuid(userUuid)
             .orElseThrow(() -> new EntityNotFoundException(USER_WITH_CURRENT_UUID_DOES_NOT_EXIST)).getEmail();
         Employee employee = employeeRepository.findByEmail(email)
             .orElseThrow(() -> new EntityNotFoundException(EMPLOYEE_NOT_FOUND));
         if (orders.isEmpty()) {
             orderRepository.unblockAllOrders(employee.getId());
+            return new ArrayList<>();
         }
-        List<Long> unblockedOrdersId = new ArrayList<>();
-        for (Long orderId : orders) {
-            Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new EntityNotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + orderId));
-            if (order.isBlocked() && order.getBlockedByEmployee().equals(employee)) {
-                orderLockService.unlockOrder(order);
-                unblockedOrdersId.add(order.getId());
-            }
-        }
-        return unblockedOrdersId;
+        Set<Long> unblockedOrdersId = new HashSet<>(orderLockService.unlockOrders(orders, employee));
+        return orders.stream()
+            .filter(unblockedOrdersId::contains)
+            .distinct()
+            .collect(Collectors.toList());
     }
 
     private boolean isOrderBlockedByAnotherEmployee(Order order, Long employeeId) {
         return order.getBlockedByEmployee() != null
-            && !Objects.equals(employeeId, order.getBlockedByEmployee().getId());
+            && !Objects.equals(employeeId, order.getBlockedByEmployee().getId())
+            && orderLockService.isLocked(order);
     }
 
     private List<OptionForColumnDTO> regionsList() {
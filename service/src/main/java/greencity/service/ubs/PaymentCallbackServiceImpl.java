@@ -0,0 +1,176 @@
+package greencity.service.ubs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.config.PaymentCallbackConfigProp;
+import greencity.dto.payment.PaymentResponseDto;
+import greencity.entity.order.PaymentCallback;
+import greencity.enums.PaymentCallbackStatus;
+import greencity.exceptions.BadRequestException;
+import greencity.repository.PaymentCallbackRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import static greencity.constant.ErrorMessage.PAYMENT_VALIDATION_ERROR;
+
+/**
+ * Inbox of the WayForPay callbacks. A callback is stored and acknowledged in
+ * the request thread and applied to the order by one of the single threaded
+ * workers, chosen by the id of the order, so that the callbacks of one order
+ * are applied one after another. The callback is marked as processed in the
+ * same transaction in which it is applied, so it is applied exactly once.
+ */
+@Slf4j
+@Service
+public class PaymentCallbackServiceImpl implements PaymentCallbackService {
+    private final PaymentCallbackRepository paymentCallbackRepository;
+    private final PaymentCallbackConfigProp paymentCallbackConfigProp;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService[] workers;
+
+    @Lazy
+    @Autowired
+    private UBSClientService ubsClientService;
+
+    /**
+     * Constructor.
+     */
+    public PaymentCallbackServiceImpl(PaymentCallbackRepository paymentCallbackRepository,
+        PaymentCallbackConfigProp paymentCallbackConfigProp, ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager) {
+        this.paymentCallbackRepository = paymentCallbackRepository;
+        this.paymentCallbackConfigProp = paymentCallbackConfigProp;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = new ExecutorService[Math.max(1, paymentCallbackConfigProp.getWorkers())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+                .name("payment-callback-" + i)
+                .daemon(true)
+                .factory());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean receive(PaymentResponseDto response, Long orderId) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException(PAYMENT_VALIDATION_ERROR);
+        }
+        List<Long> ids = paymentCallbackRepository.insertIfAbsent(response.getOrderReference(),
+            response.getTransactionStatus(), orderId, payload);
+        if (ids.isEmpty()) {
+            log.info("Payment callback {} with status {} has already been received",
+                response.getOrderReference(), response.getTransactionStatus());
+            return false;
+        }
+        Long callbackId = ids.getFirst();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(callbackId, orderId);
+                }
+            });
+        } else {
+            dispatch(callbackId, orderId);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Long callbackId) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> apply(callbackId)));
+        } catch (RuntimeException e) {
+            log.error("Unable to apply payment callback {}: {}", callbackId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> markFailed(callbackId, e));
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int retryPending() {
+        List<PaymentCallback> pending = paymentCallbackRepository.findPending(
+            LocalDateTime.now().minus(paymentCallbackConfigProp.getRetryInterval()),
+            paymentCallbackConfigProp.getMaxAttempts(), paymentCallbackConfigProp.getRetryBatchSize());
+        pending.forEach(callback -> dispatch(callback.getId(), callback.getOrderId()));
+        return pending.size();
+    }
+
+    /**
+     * Stops the workers.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+    }
+
+    private boolean apply(Long callbackId) {
+        PaymentCallback callback = paymentCallbackRepository
+            .lockPending(callbackId, paymentCallbackConfigProp.getMaxAttempts())
+            .orElse(null);
+        if (callback == null) {
+            return false;
+        }
+        ubsClientService.applyPaymentCallback(readPayload(callback));
+        callback.setStatus(PaymentCallbackStatus.PROCESSED);
+        callback.setAttempts(callback.getAttempts() + 1);
+        callback.setError(null);
+        callback.setProcessedAt(LocalDateTime.now());
+        paymentCallbackRepository.save(callback);
+        return true;
+    }
+
+    private void markFailed(Long callbackId, RuntimeException cause) {
+        paymentCallbackRepository.findById(callbackId)
+            .filter(callback -> callback.getStatus() != PaymentCallbackStatus.PROCESSED)
+            .ifPresent(callback -> {
+                callback.setStatus(PaymentCallbackStatus.FAILED);
+                callback.setAttempts(callback.getAttempts() + 1);
+                callback.setError(cause.getMessage());
+                paymentCallbackRepository.save(callback);
+            });
+    }
+
+    private PaymentResponseDto readPayload(PaymentCallback callback) {
+        try {
+            return objectMapper.readValue(callback.getPayload(), PaymentResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException(PAYMENT_VALIDATION_ERROR);
+        }
+    }
+
+    private void dispatch(Long callbackId, Long orderId) {
+        try {
+            workers[Math.floorMod(orderId.hashCode(), workers.length)].execute(() -> process(callbackId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Payment callback {} is left for the retry: {}", callbackId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package greencity.service.ubs;
+
+import greencity.config.ReferenceDataCacheConfigProp;
+import greencity.dto.ReferenceDataCacheStatsDto;
+import greencity.entity.order.Bag;
+import greencity.entity.order.OrderStatusTranslation;
+import greencity.entity.order.Service;
+import greencity.entity.user.employee.Employee;
+import greencity.entity.user.employee.Position;
+import greencity.enums.ReferenceDataRegion;
+import greencity.repository.BagRepository;
+import greencity.repository.EmployeeRepository;
+import greencity.repository.OrderStatusTranslationRepository;
+import greencity.repository.PositionRepository;
+import greencity.repository.ServiceRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Every region of the cache is an immutable snapshot with a version. Readers
+ * take the current snapshot without locking, a loaded entry is published as a
+ * copy of the snapshot only when its version has not changed since the load,
+ * and an invalidation replaces the snapshot with an empty one of the next
+ * version.
+ */
+@org.springframework.stereotype.Service
+public class ReferenceDataCacheServiceImpl implements ReferenceDataCacheService {
+    private static final String ALL = "ALL";
+
+    private final BagRepository bagRepository;
+    private final ServiceRepository serviceRepository;
+    private final PositionRepository positionRepository;
+    private final EmployeeRepository employeeRepository;
+    private final OrderStatusTranslationRepository orderStatusTranslationRepository;
+    private final ReferenceDataCacheConfigProp referenceDataCacheConfigProp;
+    private final Clock clock;
+    private final Map<ReferenceDataRegion, Region> regions = new EnumMap<>(ReferenceDataRegion.class);
+
+    /**
+     * Constructor to initialize an empty snapshot of every region.
+     */
+    public ReferenceDataCacheServiceImpl(BagRepository bagRepository, ServiceRepository serviceRepository,
+        PositionRepository positionRepository, EmployeeRepository employeeRepository,
+        OrderStatusTranslationRepository orderStatusTranslationRepository,
+        ReferenceDataCacheConfigProp referenceDataCacheConfigProp,
+        @Qualifier("kyivZonedClock") Clock clock) {
+        this.bagRepository = bagRepository;
+        this.serviceRepository = serviceRepository;
+        this.positionRepository = positionRepository;
+        this.employeeRepository = employeeRepository;
+        this.orderStatusTranslationRepository = orderStatusTranslationRepository;
+        this.referenceDataCacheConfigProp = referenceDataCacheConfigProp;
+        this.clock = clock;
+        Arrays.stream(ReferenceDataRegion.values())
+            .forEach(region -> regions.put(region, new Region(new Snapshot(0, Map.of()))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Bag> getActiveBagsByTariffsInfoId(Long tariffsInfoId) {
+        return get(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF, tariffsInfoId,
+            () -> List.copyOf(bagRepository.findAllActiveBagsByTariffsInfoId(tariffsInfoId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Service> getServiceByTariffsInfoId(Long tariffsInfoId) {
+        return get(ReferenceDataRegion.SERVICE_BY_TARIFF, tariffsInfoId,
+            () -> serviceRepository.findServiceByTariffsInfoId(tariffsInfoId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Position> getPositions() {
+        return get(ReferenceDataRegion.POSITIONS, ALL, () -> List.copyOf(positionRepository.findAll()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Employee> getEmployeesByPositionId(Long positionId) {
+        return get(ReferenceDataRegion.EMPLOYEES_BY_POSITION, positionId,
+            () -> List.copyOf(employeeRepository.findAllByEmployeePositionId(positionId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<OrderStatusTranslation> getOrderStatusTranslationById(Long id) {
+        return get(ReferenceDataRegion.ORDER_STATUS_TRANSLATIONS, id,
+            () -> orderStatusTranslationRepository.getOrderStatusTranslationById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(ReferenceDataRegion region) {
+        regions.get(region).clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    regions.get(region).clear();
+                }
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        Arrays.stream(ReferenceDataRegion.values()).forEach(this::invalidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ReferenceDataCacheStatsDto> getStats() {
+        Instant now = clock.instant();
+        return regions.entrySet().stream()
+            .map(entry -> entry.getValue().getStats(entry.getKey().name(), now))
+            .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(ReferenceDataRegion regionName, Object key, Supplier<T> loader) {
+        Region region = regions.get(regionName);
+        Snapshot snapshot = region.getSnapshot().get();
+        Entry entry = snapshot.getEntries().get(key);
+        Instant now = clock.instant();
+        if (entry != null && entry.getLoadedAt().plus(getTtl()).isAfter(now)) {
+            region.getHitCount().increment();
+            return (T) entry.getValue();
+        }
+        region.getMissCount().increment();
+        T value = loader.get();
+        region.publish(snapshot.getVersion(), key, new Entry(value, now));
+        return value;
+    }
+
+    private Duration getTtl() {
+        return referenceDataCacheConfigProp.getTtl();
+    }
+
+    /**
+     * Current snapshot of a region and its statistics.
+     */
+    @Getter
+    private class Region {
+        private final AtomicReference<Snapshot> snapshot;
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+        private final LongAdder invalidationCount = new LongAdder();
+
+        Region(Snapshot snapshot) {
+            this.snapshot = new AtomicReference<>(snapshot);
+        }
+
+        void publish(long version, Object key, Entry entry) {
+            Snapshot current = snapshot.get();
+            while (current.getVersion() == version) {
+                Map<Object, Entry> entries = new HashMap<>(current.getEntries());
+                entries.put(key, entry);
+                Snapshot updated = new Snapshot(version, Collections.unmodifiableMap(entries));
+                if (snapshot.compareAndSet(current, updated)) {
+                    return;
+                }
+                current = snapshot.get();
+            }
+        }
+
+        void clear() {
+            invalidationCount.increment();
+            snapshot.updateAndGet(current -> new Snapshot(current.getVersion() + 1, Map.of()));
+        }
+
+        ReferenceDataCacheStatsDto getStats(String name, Instant now) {
+            Snapshot current = snapshot.get();
+            long hits = hitCount.sum();
+            long misses = missCount.sum();
+            Instant oldest = current.getEntries().values().stream()
+                .map(Entry::getLoadedAt)
+                .min(Instant::compareTo)
+                .orElse(now);
+            return ReferenceDataCacheStatsDto.builder()
+                .name(name)
+                .version(current.getVersion())
+                .size(current.getEntries().size())
+                .ttlSeconds(getTtl().toSeconds())
+                .hitCount(hits)
+                .missCount(misses)
+                .invalidationCount(invalidationCount.sum())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .oldestEntryAgeSeconds(Duration.between(oldest, now).toSeconds())
+                .build();
+        }
+    }
+
+    /**
+     * Immutable entries of a region and the version of the region when they were
+     * loaded.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Snapshot {
+        private final long version;
+        private final Map<Object, Entry> entries;
+    }
+
+    /**
+     * Cached value and the time when it was loaded.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Object value;
+        private final Instant loadedAt;
+    }
+}
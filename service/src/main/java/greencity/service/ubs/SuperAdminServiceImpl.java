@@ -25,7 +25,6 @@ import greencity.dto.tariff.GetTariffsInfoDto;
 import greencity.dto.tariff.SetTariffLimitsDto;
 import greencity.entity.coords.Coordinates;
 import greencity.entity.order.Order;
-import greencity.entity.order.OrderBag;
 import greencity.entity.order.Bag;
 import greencity.entity.order.Courier;
 import greencity.entity.order.Service;
@@ -40,6 +39,7 @@ import greencity.enums.CourierLimit;
 import greencity.enums.OrderPaymentStatus;
 import greencity.enums.CourierStatus;
 import greencity.enums.LocationStatus;
+import greencity.enums.ReferenceDataRegion;
 import greencity.enums.StationStatus;
 import greencity.enums.TariffStatus;
 import greencity.exceptions.BadRequestException;
@@ -48,6 +48,8 @@ import greencity.exceptions.UnprocessableEntityException;
 import greencity.exceptions.courier.CourierAlreadyExists;
 import greencity.exceptions.service.ServiceAlreadyExistsException;
 import greencity.exceptions.tariff.TariffAlreadyExistsException;
+import greencity.mapping.service.GetTariffServiceDtoMapper;
+import greencity.mapping.tariff.GetTariffsInfoDtoMapper;
 import greencity.filters.TariffsInfoFilterCriteria;
 import greencity.filters.TariffsInfoSpecification;
 import greencity.repository.BagRepository;
@@ -124,11 +126,15 @@ public class SuperAdminServiceImpl implements SuperAdminService {
     private final OrderRepository orderRepository;
     private final OrderBagService orderBagService;
     private final OrderAddressRepository orderAddressRepository;
-    private final NotificationService notificationService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final TariffRepricingService tariffRepricingService;
+    private final GetTariffServiceDtoMapper getTariffServiceDtoMapper;
+    private final GetTariffsInfoDtoMapper getTariffsInfoDtoMapper;
 
     @Override
     public GetTariffServiceDto addTariffService(long tariffId, TariffServiceDto dto, String employeeUuid) {
         Bag bag = bagRepository.save(createBag(tariffId, dto, employeeUuid));
+        referenceDataCacheService.invalidate(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF);
         return modelMapper.map(bag, GetTariffServiceDto.class);
     }
 
@@ -145,10 +151,7 @@ public class SuperAdminServiceImpl implements SuperAdminService {
     @Override
     public List<GetTariffServiceDto> getTariffService(long tariffId) {
         if (tariffsInfoRepository.existsById(tariffId)) {
-            return bagRepository.findAllActiveBagsByTariffsInfoId(tariffId)
-                .stream()
-                .map(it -> modelMapper.map(it, GetTariffServiceDto.class))
-                .collect(Collectors.toList());
+            return getTariffServiceDtoMapper.mapAll(bagRepository.findAllActiveBagsByTariffsInfoId(tariffId));
         } else {
             throw new NotFoundException(ErrorMessage.TARIFF_NOT_FOUND + tariffId);
         }
@@ -166,6 +169,7 @@ public class SuperAdminServiceImpl implements SuperAdminService {
             deleteTariffsInfo(bag);
             orderRepository.findAllByBagId(bagId).forEach(order -> deleteBagFromOrder(order, bag));
         }
+        referenceDataCacheService.invalidate(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF);
     }
 
     private void deleteBagFromOrder(Order order, Bag bag) {
@@ -205,12 +209,10 @@ public class SuperAdminServiceImpl implements SuperAdminService {
         Bag bag = tryToFindBagById(bagId);
         boolean isPriceChanged = checkIsPriceOfTariffWasChanged(dto, bag);
         updateTariffService(dto, bag, employeeUuid);
-        updateOrdersBags(bagId, bag);
-
-        if (isPriceChanged) {
-            updateAmountToPay(bagId, bag);
-        }
-        return modelMapper.map(bagRepository.save(bag), GetTariffServiceDto.class);
+        Bag savedBag = bagRepository.save(bag);
+        tariffRepricingService.enqueue(bagId, isPriceChanged);
+        referenceDataCacheService.invalidate(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF);
+        return modelMapper.map(savedBag, GetTariffServiceDto.class);
     }
 
     private boolean checkIsPriceOfTariffWasChanged(TariffServiceDto dto, Bag bag) {
@@ -231,39 +233,6 @@ public class SuperAdminServiceImpl implements SuperAdminService {
         bag.setEditedBy(tryToFindEmployeeByUuid(employeeUuid));
     }
 
-    private void updateOrdersBags(Integer bagId, Bag bag) {
-        orderBagRepository.updateAllByBagIdForUnpaidOrders(
-            bagId, bag.getCapacity(), bag.getFullPrice(), bag.getName(), bag.getNameEng());
-    }
-
-    private void updateAmountToPay(Integer bagId, Bag bag) {
-        List<Order> orders = orderRepository.findAllUnpaidOrdersByBagId(bagId);
-        updateAmountToPayForOrders(orders, bag);
-        notificationService.notifyAllOrdersWithIncreasedTariffPrice(bagId);
-    }
-
-    private void updateAmountToPayForOrders(List<Order> orders, Bag bag) {
-        if (CollectionUtils.isNotEmpty(orders)) {
-            orders.forEach(it -> updateOrderSumToPay(it, bag));
-            orderRepository.saveAll(orders);
-        }
-    }
-
-    private void updateOrderSumToPay(Order order, Bag bag) {
-        Map<Integer, Integer> amount = orderBagService.getActualBagsAmountForOrder(order.getOrderBags());
-        Long sumToPayInCoins = order.getOrderBags().stream()
-            .map(orderBag -> amount.get(orderBag.getBag().getId()) * getBagPrice(orderBag, bag))
-            .reduce(0L, Long::sum);
-
-        order.setSumTotalAmountWithoutDiscounts(sumToPayInCoins);
-    }
-
-    private Long getBagPrice(OrderBag orderBag, Bag bag) {
-        return bag.getId().equals(orderBag.getBag().getId())
-            ? bag.getFullPrice()
-            : orderBag.getPrice();
-    }
-
     private Long convertBillsIntoCoins(Double bills) {
         return bills == null
             ? 0
@@ -285,6 +254,7 @@ public class SuperAdminServiceImpl implements SuperAdminService {
     @Override
     public GetServiceDto addService(Long tariffId, ServiceDto dto, String employeeUuid) {
         Service service = serviceRepository.save(createService(tariffId, dto, employeeUuid));
+        referenceDataCacheService.invalidate(ReferenceDataRegion.SERVICE_BY_TARIFF);
         return modelMapper.map(service, GetServiceDto.class);
     }
 
@@ -314,6 +284,7 @@ public class SuperAdminServiceImpl implements SuperAdminService {
     public void deleteService(long id) {
         Service service = tryToFindServiceById(id);
         serviceRepository.delete(service);
+        referenceDataCacheService.invalidate(ReferenceDataRegion.SERVICE_BY_TARIFF);
     }
 
     @Override
@@ -327,7 +298,9 @@ public class SuperAdminServiceImpl implements SuperAdminService {
         service.setDescriptionEng(dto.getDescriptionEng());
         service.setEditedAt(LocalDate.now());
         service.setEditedBy(employee);
-        return modelMapper.map(serviceRepository.save(service), GetServiceDto.class);
+        Service savedService = serviceRepository.save(service);
+        referenceDataCacheService.invalidate(ReferenceDataRegion.SERVICE_BY_TARIFF);
+        return modelMapper.map(savedService, GetServiceDto.class);
     }
 
     private Employee tryToFindEmployeeByUuid(String employeeUuid) {
@@ -504,7 +477,7 @@ public class SuperAdminServiceImpl implements SuperAdminService {
         List<TariffsInfo> tariffs = tariffsInfoRepository.findAll(new TariffsInfoSpecification(filterCriteria));
         return tariffs
             .stream()
-            .map(tariffsInfo -> modelMapper.map(tariffsInfo, GetTariffsInfoDto.class))
+            .map(getTariffsInfoDtoMapper::map)
             .sorted(Comparator.comparing(tariff -> tariff.getRegionDto().getNameUk()))
             .collect(Collectors.toList());
     }
@@ -0,0 +1,219 @@
+package greencity.service.ubs;
+
+import greencity.config.TariffRepricingConfigProp;
+import greencity.dto.service.TariffRepricingJobDto;
+import greencity.entity.order.TariffRepricingJob;
+import greencity.enums.TariffRepricingJobStatus;
+import greencity.exceptions.NotFoundException;
+import greencity.mapping.service.TariffRepricingJobDtoMapper;
+import greencity.repository.OrderBagRepository;
+import greencity.repository.OrderRepository;
+import greencity.repository.TariffRepricingJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import static greencity.constant.ErrorMessage.TARIFF_REPRICING_JOB_NOT_FOUND;
+
+/**
+ * Repricing of the unpaid orders after a bag of the tariff is edited. The job
+ * is stored in the transaction of the edit and processed by a single threaded
+ * worker after the edit is committed. Every chunk of orders is locked, updated
+ * with set-based queries and recorded as the progress of the job in its own
+ * short transaction, so the job holds the locks of only one chunk at a time and
+ * resumes from the last processed order after a failure. The users of the
+ * orders of a committed chunk are notified about the new price.
+ */
+@Slf4j
+@Service
+public class TariffRepricingServiceImpl implements TariffRepricingService {
+    private final TariffRepricingJobRepository tariffRepricingJobRepository;
+    private final OrderRepository orderRepository;
+    private final OrderBagRepository orderBagRepository;
+    private final NotificationService notificationService;
+    private final TariffRepricingJobDtoMapper tariffRepricingJobDtoMapper;
+    private final TariffRepricingConfigProp tariffRepricingConfigProp;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService worker;
+
+    /**
+     * Constructor.
+     */
+    public TariffRepricingServiceImpl(TariffRepricingJobRepository tariffRepricingJobRepository,
+        OrderRepository orderRepository, OrderBagRepository orderBagRepository,
+        NotificationService notificationService, TariffRepricingJobDtoMapper tariffRepricingJobDtoMapper,
+        TariffRepricingConfigProp tariffRepricingConfigProp, PlatformTransactionManager transactionManager) {
+        this.tariffRepricingJobRepository = tariffRepricingJobRepository;
+        this.orderRepository = orderRepository;
+        this.orderBagRepository = orderBagRepository;
+        this.notificationService = notificationService;
+        this.tariffRepricingJobDtoMapper = tariffRepricingJobDtoMapper;
+        this.tariffRepricingConfigProp = tariffRepricingConfigProp;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.worker = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+            .name("tariff-repricing")
+            .daemon(true)
+            .factory());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long enqueue(Integer bagId, boolean priceChanged) {
+        LocalDateTime now = LocalDateTime.now();
+        Long jobId = tariffRepricingJobRepository.save(TariffRepricingJob.builder()
+            .bagId(bagId)
+            .priceChanged(priceChanged)
+            .status(TariffRepricingJobStatus.NEW)
+            .createdAt(now)
+            .updatedAt(now)
+            .build()).getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(jobId);
+                }
+            });
+        } else {
+            dispatch(jobId);
+        }
+        return jobId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Long jobId) {
+        try {
+            Chunk chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> processChunk(jobId));
+                if (chunk == null) {
+                    return false;
+                }
+                notifyUsers(jobId, chunk);
+            } while (!chunk.isLast());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Unable to finish tariff repricing job {}: {}", jobId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> markFailed(jobId, e));
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int retryPending() {
+        List<TariffRepricingJob> pending = tariffRepricingJobRepository.findPending(
+            LocalDateTime.now().minus(tariffRepricingConfigProp.getRetryInterval()),
+            tariffRepricingConfigProp.getMaxAttempts(), tariffRepricingConfigProp.getRetryBatchSize());
+        pending.forEach(job -> dispatch(job.getId()));
+        return pending.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TariffRepricingJobDto getLatestJob(Integer bagId) {
+        return tariffRepricingJobRepository.findFirstByBagIdOrderByIdDesc(bagId)
+            .map(tariffRepricingJobDtoMapper::map)
+            .orElseThrow(() -> new NotFoundException(TARIFF_REPRICING_JOB_NOT_FOUND + bagId));
+    }
+
+    /**
+     * Stops the worker.
+     */
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    private Chunk processChunk(Long jobId) {
+        TariffRepricingJob job = tariffRepricingJobRepository
+            .lockPending(jobId, tariffRepricingConfigProp.getMaxAttempts())
+            .orElse(null);
+        if (job == null) {
+            return null;
+        }
+        int batchSize = tariffRepricingConfigProp.getBatchSize();
+        List<Long> orderIds = orderRepository.lockUnpaidOrderIdsByBagId(job.getBagId(), job.getLastOrderId(),
+            batchSize);
+        if (!orderIds.isEmpty()) {
+            orderBagRepository.updateBagDataByOrderIds(job.getBagId(), orderIds);
+            if (job.isPriceChanged()) {
+                orderRepository.updateSumTotalAmountWithoutDiscounts(orderIds);
+            }
+            job.setLastOrderId(orderIds.getLast());
+            job.setProcessedOrders(job.getProcessedOrders() + orderIds.size());
+        }
+        boolean last = orderIds.size() < batchSize;
+        LocalDateTime now = LocalDateTime.now();
+        if (last) {
+            job.setStatus(TariffRepricingJobStatus.DONE);
+            job.setError(null);
+            job.setFinishedAt(now);
+        }
+        job.setUpdatedAt(now);
+        tariffRepricingJobRepository.save(job);
+        return new Chunk(job.isPriceChanged() ? orderIds : List.of(), last);
+    }
+
+    private void notifyUsers(Long jobId, Chunk chunk) {
+        if (chunk.getOrderIds().isEmpty()) {
+            return;
+        }
+        try {
+            notificationService.notifyOrdersWithIncreasedTariffPrice(chunk.getOrderIds());
+        } catch (RuntimeException e) {
+            log.error("Unable to notify users of {} orders repriced by job {}: {}",
+                chunk.getOrderIds().size(), jobId, e.getMessage());
+        }
+    }
+
+    private void markFailed(Long jobId, RuntimeException cause) {
+        tariffRepricingJobRepository.findById(jobId)
+            .filter(job -> job.getStatus() != TariffRepricingJobStatus.DONE)
+            .ifPresent(job -> {
+                job.setStatus(TariffRepricingJobStatus.FAILED);
+                job.setAttempts(job.getAttempts() + 1);
+                job.setError(cause.getMessage());
+                job.setUpdatedAt(LocalDateTime.now());
+                tariffRepricingJobRepository.save(job);
+            });
+    }
+
+    private void dispatch(Long jobId) {
+        try {
+            worker.execute(() -> process(jobId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Tariff repricing job {} is left for the retry: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * Orders updated in one transaction of the job and whether they are the last
+     * ones.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Chunk {
+        private final List<Long> orderIds;
+        private final boolean last;
+    }
+}
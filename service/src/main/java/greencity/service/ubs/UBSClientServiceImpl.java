@@ -78,6 +78,7 @@ import greencity.exceptions.http.AccessDeniedException;
 import greencity.exceptions.user.UBSuserNotFoundException;
 import greencity.exceptions.user.UserNotFoundException;
 import greencity.exceptions.address.AddressNotWithinLocationAreaException;
+import greencity.mapping.bag.BagTranslationDtoMapper;
 import greencity.repository.AddressRepository;
 import greencity.repository.BagRepository;
 import greencity.repository.CertificateRepository;
@@ -102,6 +103,8 @@ import greencity.repository.ViberBotRepository;
 import greencity.service.DistanceCalculationUtils;
 import greencity.service.google.GoogleApiService;
 import greencity.service.locations.LocationApiService;
+import greencity.service.notification.NotificationUserCacheService;
+import greencity.service.user.UserPrincipalCacheService;
 import greencity.service.phone.UAPhoneNumberUtil;
 import greencity.util.Bot;
 import greencity.util.EncryptionUtil;
@@ -187,6 +190,11 @@ public class UBSClientServiceImpl implements UBSClientService {
     private final NotificationService notificationService;
     private final LiqPay liqPay;
     private final WayForPayClient wayForPayClient;
+    private final NotificationUserCacheService notificationUserCacheService;
+    private final UserPrincipalCacheService userPrincipalCacheService;
+    private final PaymentCallbackService paymentCallbackService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final BagTranslationDtoMapper bagTranslationDtoMapper;
 
     @Lazy
     @Autowired
@@ -203,6 +211,8 @@ public class UBSClientServiceImpl implements UBSClientService {
     private String wayForPaySecret;
     @Value("${greencity.wayforpay.merchant.domain.name}")
     private String merchantDomainName;
+    private static final ThreadLocal<MessageDigest> SHA_1_DIGEST =
+        ThreadLocal.withInitial(UBSClientServiceImpl::createSha1Digest);
     private static final String FAILED_STATUS = "failure";
     private static final String APPROVED_STATUS = "Approved";
     private static final String TELEGRAM_PART_1_OF_LINK = "https://telegram.me/";
@@ -233,12 +243,11 @@ public class UBSClientServiceImpl implements UBSClientService {
     @Override
     @Transactional
     public PaymentResponseWayForPay validatePayment(PaymentResponseDto response) {
-        Payment orderPayment = mapPayment(response);
-        String[] ids = response.getOrderReference().split("_");
-        Order order = orderRepository.findById(Long.valueOf(ids[0]))
-            .orElseThrow(() -> new BadRequestException(PAYMENT_VALIDATION_ERROR));
-        checkResponseStatusFailure(response, orderPayment, order);
-        checkOrderStatusApproved(response, orderPayment, order);
+        Long orderId = getPaidOrderId(response.getOrderReference());
+        if (!orderRepository.existsById(orderId)) {
+            throw new BadRequestException(PAYMENT_VALIDATION_ERROR);
+        }
+        paymentCallbackService.receive(response, orderId);
         PaymentResponseWayForPay accept = PaymentResponseWayForPay.builder()
             .orderReference(response.getOrderReference())
             .status("accept")
@@ -247,6 +256,31 @@ public class UBSClientServiceImpl implements UBSClientService {
         return accept;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void applyPaymentCallback(PaymentResponseDto response) {
+        Payment orderPayment = mapPayment(response);
+        Order order = orderRepository.findById(getPaidOrderId(response.getOrderReference()))
+            .orElseThrow(() -> new BadRequestException(PAYMENT_VALIDATION_ERROR));
+        checkResponseStatusFailure(response, orderPayment, order);
+        checkOrderStatusApproved(response, orderPayment, order);
+    }
+
+    private Long getPaidOrderId(String orderReference) {
+        if (orderReference == null || orderReference.indexOf('_') < 1) {
+            throw new BadRequestException(PAYMENT_VALIDATION_ERROR);
+        }
+        try {
+            Long.parseLong(orderReference.substring(orderReference.lastIndexOf('_') + 1));
+            return Long.valueOf(orderReference.substring(0, orderReference.indexOf('_')));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(PAYMENT_VALIDATION_ERROR);
+        }
+    }
+
     private Payment mapPayment(PaymentResponseDto response) {
         if (response.getFee() == null) {
             response.setFee("0");
@@ -288,15 +322,19 @@ public class UBSClientServiceImpl implements UBSClientService {
      */
     protected void checkSignature(String privateKey, String data, String receivedSignature) {
         String message = privateKey + data + privateKey;
+        byte[] signature = Base64.getEncoder()
+            .encode(SHA_1_DIGEST.get().digest(message.getBytes(StandardCharsets.UTF_8)));
+        if (receivedSignature == null
+            || !MessageDigest.isEqual(signature, receivedSignature.getBytes(StandardCharsets.UTF_8))) {
+            throw new WrongSignatureException(ErrorMessage.WRONG_SIGNATURE_USED);
+        }
+    }
+
+    private static MessageDigest createSha1Digest() {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-1"); // NOSONAR
-            byte[] messageDigest = md.digest(message.getBytes(StandardCharsets.UTF_8));
-            String signature = Base64.getEncoder().encodeToString(messageDigest);
-            if (!receivedSignature.equals(signature)) {
-                throw new WrongSignatureException(ErrorMessage.WRONG_SIGNATURE_USED);
-            }
+            return MessageDigest.getInstance("SHA-1"); // NOSONAR
         } catch (NoSuchAlgorithmException e) {
-            throw new WrongSignatureException(ErrorMessage.WRONG_SIGNATURE_USED);
+            throw new IllegalStateException(e);
         }
     }
 
@@ -395,7 +433,7 @@ public class UBSClientServiceImpl implements UBSClientService {
 
     private UserPointsAndAllBagsDto getUserPointsAndAllBagsDtoByTariffIdAndOrderIdAndUserPoints(Long tariffId,
         Integer userPoints, Long orderId) {
-        var bagTranslationDtoList = bagRepository.findAllActiveBagsByTariffsInfoId(tariffId).stream()
+        var bagTranslationDtoList = referenceDataCacheService.getActiveBagsByTariffsInfoId(tariffId).stream()
             .map(bag -> buildBagTranslationDto(orderId, bag))
             .collect(toList());
         return new UserPointsAndAllBagsDto(bagTranslationDtoList, userPoints);
@@ -403,9 +441,8 @@ public class UBSClientServiceImpl implements UBSClientService {
 
     private UserPointsAndAllBagsDto getUserPointsAndAllBagsDtoByTariffIdAndUserPoints(Long tariffId,
         Integer userPoints) {
-        var bagTranslationDtoList = bagRepository.findAllActiveBagsByTariffsInfoId(tariffId).stream()
-            .map(bag -> modelMapper.map(bag, BagTranslationDto.class))
-            .collect(toList());
+        var bagTranslationDtoList =
+            bagTranslationDtoMapper.mapAll(referenceDataCacheService.getActiveBagsByTariffsInfoId(tariffId));
         return new UserPointsAndAllBagsDto(bagTranslationDtoList, userPoints);
     }
 
@@ -555,8 +592,15 @@ public class UBSClientServiceImpl implements UBSClientService {
             .anyMatch(kyivTariffLocation -> kyivTariffLocation.getLocationName().equalsIgnoreCase(cityName));
     }
 
+    /**
+     * Sets the coordinates of the city to the address without them. The city is
+     * taken from the geocode cache and is requested from Google only when it is not
+     * cached yet, so the location area is never checked against coordinates which
+     * were not computed.
+     */
     private void checkAndCalculateAddressCoordinatesIfEmpty(Address address) {
-        if (address.getCoordinates().getLatitude() == 0.0 && address.getCoordinates().getLongitude() == 0.0) {
+        if (address.getCoordinates() == null
+            || address.getCoordinates().getLatitude() == 0.0 && address.getCoordinates().getLongitude() == 0.0) {
             LatLng latLng = googleApiService
                 .getGeocodingResultByCityAndCountryAndLocale(UKRAINE_EN, address.getCityEn(),
                     LANG_EN).geometry.location;
@@ -949,9 +993,9 @@ public class UBSClientServiceImpl implements UBSClientService {
     private OrdersDataForUserDto getOrdersData(Order order) {
         List<Payment> payments = order.getPayment();
         List<BagForUserDto> bagForUserDtos = bagForUserDtosBuilder(order);
-        OrderStatusTranslation orderStatusTranslation = orderStatusTranslationRepository
+        OrderStatusTranslation orderStatusTranslation = referenceDataCacheService
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue())
-            .orElse(orderStatusTranslationRepository.getOne(1L));
+            .orElseGet(() -> orderStatusTranslationRepository.getOne(1L));
         OrderPaymentStatusTranslation paymentStatusTranslation = orderPaymentStatusTranslationRepository
             .getById((long) order.getOrderPaymentStatus().getStatusValue());
 
@@ -1070,6 +1114,14 @@ public class UBSClientServiceImpl implements UBSClientService {
         if (!order.getUser().equals(user)) {
             throw new AccessDeniedException(CANNOT_ACCESS_PERSONAL_INFO);
         }
+        return getUserAndUserUbsAndViolationsInfo(order);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserInfoDto getUserAndUserUbsAndViolationsInfo(Order order) {
         UserInfoDto userInfoDto = UserInfoDto.builder()
             .customerName(order.getUser().getRecipientName())
             .customerSurName(order.getUser().getRecipientSurname())
@@ -1532,6 +1584,8 @@ public class UBSClientServiceImpl implements UBSClientService {
             throw new NotFoundException(USER_WITH_CURRENT_UUID_DOES_NOT_EXIST);
         }
         userRemoteClient.markUserDeactivated(currentUser.getUuid(), request);
+        notificationUserCacheService.invalidate(currentUser.getRecipientEmail());
+        userPrincipalCacheService.invalidate(currentUser.getRecipientEmail());
     }
 
     @Override
@@ -18,6 +18,7 @@ import greencity.entity.user.employee.Employee;
 import greencity.entity.user.employee.EmployeeFilterView;
 import greencity.entity.user.employee.Position;
 import greencity.enums.EmployeeStatus;
+import greencity.enums.ReferenceDataRegion;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
 import greencity.exceptions.UnprocessableEntityException;
@@ -56,6 +57,7 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
     private final ModelMapper modelMapper;
     private String defaultImagePath = AppConstant.DEFAULT_IMAGE;
     private final EmployeeCriteriaRepository employeeCriteriaRepository;
+    private final ReferenceDataCacheService referenceDataCacheService;
 
     /**
      * {@inheritDoc}
@@ -94,7 +96,9 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
             employee.setImagePath(defaultImagePath);
         }
         signUpEmployee(employee);
-        return modelMapper.map(employeeRepository.save(employee), EmployeeWithTariffsDto.class);
+        Employee savedEmployee = employeeRepository.save(employee);
+        referenceDataCacheService.invalidate(ReferenceDataRegion.EMPLOYEES_BY_POSITION);
+        return modelMapper.map(savedEmployee, EmployeeWithTariffsDto.class);
     }
 
     private Employee buildEmployeeFromEmployeeWithTariffsIdDto(EmployeeWithTariffsIdDto employeeWithTariffsIdDto) {
@@ -239,7 +243,9 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
             updatedEmployee.setImagePath(dto.getEmployeeDto().getImage());
         }
 
-        return modelMapper.map(employeeRepository.save(updatedEmployee), EmployeeWithTariffsDto.class);
+        Employee savedEmployee = employeeRepository.save(updatedEmployee);
+        referenceDataCacheService.invalidate(ReferenceDataRegion.EMPLOYEES_BY_POSITION);
+        return modelMapper.map(savedEmployee, EmployeeWithTariffsDto.class);
     }
 
     @Override
@@ -249,8 +255,9 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
             throw new NotFoundException(ErrorMessage.POSITION_NOT_FOUND_BY_ID + dto.getId());
         }
         if (!positionRepository.existsPositionByName(dto.getName())) {
-            Position position = modelMapper.map(dto, Position.class);
-            return modelMapper.map(positionRepository.save(position), PositionDto.class);
+            Position position = positionRepository.save(modelMapper.map(dto, Position.class));
+            referenceDataCacheService.invalidate(ReferenceDataRegion.POSITIONS);
+            return modelMapper.map(position, PositionDto.class);
         }
         throw new UnprocessableEntityException(ErrorMessage.CURRENT_POSITION_ALREADY_EXISTS + dto.getName());
     }
@@ -279,6 +286,7 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
                 throw new BadRequestException(ErrorMessage.EMPLOYEE_WITH_UUID_NOT_FOUND + employee.getUuid());
             }
             employeeRepository.save(employee);
+            referenceDataCacheService.invalidate(ReferenceDataRegion.EMPLOYEES_BY_POSITION);
         }
     }
 
@@ -298,6 +306,7 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
                 throw new BadRequestException(ErrorMessage.EMPLOYEE_WITH_UUID_NOT_FOUND + employee.getUuid());
             }
             employeeRepository.save(employee);
+            referenceDataCacheService.invalidate(ReferenceDataRegion.EMPLOYEES_BY_POSITION);
         }
     }
 
@@ -325,6 +334,7 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
     public PositionDto create(AddingPositionDto dto) {
         if (!positionRepository.existsPositionByName(dto.getName())) {
             Position position = positionRepository.save(buildPosition(dto));
+            referenceDataCacheService.invalidate(ReferenceDataRegion.POSITIONS);
             return modelMapper.map(position, PositionDto.class);
         }
         throw new UnprocessableEntityException(ErrorMessage.CURRENT_POSITION_ALREADY_EXISTS + dto.getName());
@@ -356,6 +366,7 @@ public class UBSManagementEmployeeServiceImpl implements UBSManagementEmployeeSe
             .orElseThrow(() -> new NotFoundException(ErrorMessage.POSITION_NOT_FOUND_BY_ID + id));
         if (position.getEmployees() == null || position.getEmployees().isEmpty()) {
             positionRepository.delete(position);
+            referenceDataCacheService.invalidate(ReferenceDataRegion.POSITIONS);
         } else {
             throw new UnprocessableEntityException(ErrorMessage.EMPLOYEES_ASSIGNED_POSITION);
         }
@@ -73,6 +73,7 @@ import greencity.enums.PaymentType;
 import greencity.enums.SortingOrder;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
+import greencity.mapping.bag.BagInfoDtoMapper;
 import greencity.repository.BagRepository;
 import greencity.repository.CertificateRepository;
 import greencity.repository.EmployeeOrderPositionRepository;
@@ -84,10 +85,8 @@ import greencity.repository.OrderPaymentStatusTranslationRepository;
 import greencity.repository.OrderRepository;
 import greencity.repository.OrderStatusTranslationRepository;
 import greencity.repository.PaymentRepository;
-import greencity.repository.PositionRepository;
 import greencity.repository.ReceivingStationRepository;
 import greencity.repository.RefundRepository;
-import greencity.repository.ServiceRepository;
 import greencity.repository.TariffsInfoRepository;
 import greencity.repository.UserRepository;
 import greencity.service.locations.LocationApiService;
@@ -104,11 +103,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -118,7 +120,10 @@ import org.apache.commons.lang.StringUtils;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -162,15 +167,15 @@ public class UBSManagementServiceImpl implements UBSManagementService {
     private final NotificationServiceImpl notificationService;
     private final FileService fileService;
     private final OrderStatusTranslationRepository orderStatusTranslationRepository;
-    private final PositionRepository positionRepository;
     private final EmployeeOrderPositionRepository employeeOrderPositionRepository;
     private final EventService eventService;
     private final OrderPaymentStatusTranslationRepository orderPaymentStatusTranslationRepository;
-    private final ServiceRepository serviceRepository;
     private final OrdersAdminsPageService ordersAdminsPageService;
     private final LocationApiService locationApiService;
     private final RefundRepository refundRepository;
     private final OrderLockService orderLockService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final BagInfoDtoMapper bagInfoDtoMapper;
     private static final String DEFAULT_IMAGE_PATH = AppConstant.DEFAULT_IMAGE;
     private static final List<String> ADMIN_POSITION_NAMES = List.of("Admin", "Super Admin");
     private final Set<OrderStatus> orderStatusesBeforeShipment =
@@ -185,6 +190,9 @@ public class UBSManagementServiceImpl implements UBSManagementService {
     private final OrderBagService orderBagService;
     @Autowired
     private final OrderBagRepository orderBagRepository;
+    @Autowired
+    @Qualifier("orderPageExecutor")
+    private final TaskExecutor orderPageExecutor;
 
     /**
      * Method gets all order payments, count paid amount, amount which user should
@@ -199,6 +207,10 @@ public class UBSManagementServiceImpl implements UBSManagementService {
     public PaymentTableInfoDto getPaymentInfo(long orderId, Double sumToPay) {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new NotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + orderId));
+        return getPaymentInfo(order, sumToPay);
+    }
+
+    private PaymentTableInfoDto getPaymentInfo(Order order, Double sumToPay) {
         Long sumToPayInCoins = convertBillsIntoCoins(sumToPay);
         Long paidAmountInCoins = calculatePaidAmount(order);
         Long overpaymentInCoins = calculateOverpayment(order, sumToPayInCoins);
@@ -327,31 +339,32 @@ public class UBSManagementServiceImpl implements UBSManagementService {
      */
     @Override
     public OrderStatusPageDto getOrderStatusData(Long orderId, String email) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findOrderForStatusPage(orderId)
             .orElseThrow(() -> new NotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + orderId));
         Employee employee = employeeRepository.findByEmail(email)
             .orElseThrow(() -> new NotFoundException(EMPLOYEE_NOT_FOUND));
-
-        checkAvailableOrderForEmployee(order, email);
-        CounterOrderDetailsDto prices = getPriceDetails(orderId);
-
-        var bagInfoDtoList = bagRepository.findAllActiveBagsByTariffsInfoId(order.getTariffsInfo().getId()).stream()
-            .map(bag -> modelMapper.map(bag, BagInfoDto.class))
-            .collect(Collectors.toList());
-
-        Long servicePriceInCoins = serviceRepository.findServiceByTariffsInfoId(order.getTariffsInfo().getId())
+        checkAvailableOrderForEmployee(order, employee.getId());
+
+        Long tariffsInfoId = order.getTariffsInfo().getId();
+        CompletableFuture<Map<PositionDto, List<EmployeeNameIdDto>>> allPositionsEmployees =
+            getAvailableEmployeesByPositionAsync(tariffsInfoId);
+        List<BagInfoDto> bagInfoDtoList =
+            bagInfoDtoMapper.mapAll(referenceDataCacheService.getActiveBagsByTariffsInfoId(tariffsInfoId));
+        Long servicePriceInCoins = referenceDataCacheService.getServiceByTariffsInfoId(tariffsInfoId)
             .map(it -> it.getPrice())
             .orElse(0L);
 
+        CounterOrderDetailsDto prices = getPriceDetails(order);
+        Double totalPrice = setTotalPrice(prices);
         var orderAddress = order.getUbsUser().getOrderAddress();
 
-        UserInfoDto userInfoDto =
-            ubsClientService.getUserAndUserUbsAndViolationsInfoByOrderId(orderId, order.getUser().getUuid());
+        UserInfoDto userInfoDto = ubsClientService.getUserAndUserUbsAndViolationsInfo(order);
         GeneralOrderInfo infoAboutStatusesAndDateFormed =
             getInfoAboutStatusesAndDateFormed(Optional.of(order));
         AddressExportDetailsDto addressDtoForAdminPage = getAddressDtoForAdminPage(orderAddress);
+        ExportDetailsDto exportDetailsDto = getOrderExportDetails(order);
 
-        if (!order.isBlocked() && checkEmployeePositionsIsAdmin(employee.getEmployeePosition())) {
+        if (checkEmployeePositionsIsAdmin(employee.getEmployeePosition())) {
             orderLockService.lockOrder(order, employee);
         }
 
@@ -361,8 +374,8 @@ public class UBSManagementServiceImpl implements UBSManagementService {
             .addressExportDetailsDto(addressDtoForAdminPage)
             .addressComment(orderAddress.getAddressComment())
             .bags(bagInfoDtoList)
-            .orderFullPrice(setTotalPrice(prices))
-            .orderDiscountedPrice(getPaymentInfo(orderId, prices.getSumAmount()).getUnPaidAmount())
+            .orderFullPrice(totalPrice)
+            .orderDiscountedPrice(getPaymentInfo(order, prices.getSumAmount()).getUnPaidAmount())
             .orderBonusDiscount(prices.getBonus())
             .orderCertificateTotalDiscount(prices.getCertificateBonus())
             .orderExportedPrice(prices.getSumExported())
@@ -372,9 +385,9 @@ public class UBSManagementServiceImpl implements UBSManagementService {
             .amountOfBagsConfirmed(order.getConfirmedQuantity())
             .numbersFromShop(order.getAdditionalOrders())
             .certificates(prices.getCertificate())
-            .paymentTableInfoDto(getPaymentInfo(orderId, setTotalPrice(prices)))
-            .exportDetailsDto(getOrderExportDetails(orderId))
-            .employeePositionDtoRequest(getAllEmployeesByPosition(orderId, email))
+            .paymentTableInfoDto(getPaymentInfo(order, totalPrice))
+            .exportDetailsDto(exportDetailsDto)
+            .employeePositionDtoRequest(getEmployeePositionDtoRequest(order, join(allPositionsEmployees)))
             .comment(order.getComment())
             .courierPricePerPackage(convertCoinsIntoBills(servicePriceInCoins))
             .courierInfo(modelMapper.map(order.getTariffsInfo(), CourierInfoDto.class))
@@ -382,6 +395,32 @@ public class UBSManagementServiceImpl implements UBSManagementService {
             .build();
     }
 
+    /**
+     * Starts the lookup of the employees on orderPageExecutor. The request thread
+     * already holds a connection (open-in-view) and waits for the lookup, which
+     * borrows a second one. The executor has no queue and fewer threads than
+     * maximumPoolSize, so when all of its threads are busy the lookup is rejected
+     * and runs on the request thread and its connection instead of waiting for a
+     * connection held by the waiting requests.
+     */
+    private CompletableFuture<Map<PositionDto, List<EmployeeNameIdDto>>> getAvailableEmployeesByPositionAsync(
+        Long tariffsInfoId) {
+        try {
+            return CompletableFuture.supplyAsync(() -> getAvailableEmployeesByPosition(tariffsInfoId),
+                orderPageExecutor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.completedFuture(getAvailableEmployeesByPosition(tariffsInfoId));
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
     /**
      * Checks if any position in the given set has administrative permissions.
      * Specifically, it checks if any position's ID matches the IDs associated with
@@ -391,10 +430,8 @@ public class UBSManagementServiceImpl implements UBSManagementService {
      * @return true if any position in the set is an admin position, false otherwise
      */
     private boolean checkEmployeePositionsIsAdmin(Set<Position> positions) {
-        List<Long> idsWithValidPermissionsToEditOrder = positionRepository
-            .findAllIdsFromNames(ADMIN_POSITION_NAMES);
         return positions.stream()
-            .anyMatch(p -> idsWithValidPermissionsToEditOrder.contains(p.getId()));
+            .anyMatch(p -> ADMIN_POSITION_NAMES.contains(p.getNameEn()));
     }
 
     private Double setTotalPrice(CounterOrderDetailsDto dto) {
@@ -457,7 +494,7 @@ public class UBSManagementServiceImpl implements UBSManagementService {
     private GeneralOrderInfo getInfoAboutStatusesAndDateFormed(Optional<Order> order) {
         OrderStatus orderStatus = order.isPresent() ? order.get().getOrderStatus() : OrderStatus.CANCELED;
         Optional<OrderStatusTranslation> orderStatusTranslation =
-            orderStatusTranslationRepository.getOrderStatusTranslationById((long) orderStatus.getNumValue());
+            referenceDataCacheService.getOrderStatusTranslationById((long) orderStatus.getNumValue());
         String currentOrderStatusTranslation =
             orderStatusTranslation.isPresent() ? orderStatusTranslation.get().getName() : orderStatus.name();
         String currentOrderStatusTranslationEng =
@@ -483,7 +520,7 @@ public class UBSManagementServiceImpl implements UBSManagementService {
             .orderStatusName(currentOrderStatusTranslation)
             .orderStatusNameEng(currentOrderStatusTranslationEng)
             .adminComment(currentOrder.getAdminComment())
-            .blocked(currentOrder.isBlocked())
+            .blocked(orderLockService.isLocked(currentOrder))
             .build();
     }
 
@@ -812,9 +849,14 @@ public class UBSManagementServiceImpl implements UBSManagementService {
     }
 
     private CounterOrderDetailsDto getPriceDetails(Long id) {
-        CounterOrderDetailsDto dto = new CounterOrderDetailsDto();
         Order order = orderRepository.getOrderDetails(id)
             .orElseThrow(() -> new NotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + id));
+        return getPriceDetails(order);
+    }
+
+    private CounterOrderDetailsDto getPriceDetails(Order order) {
+        Long id = order.getId();
+        CounterOrderDetailsDto dto = new CounterOrderDetailsDto();
         List<Bag> bag = orderBagService.findAllBagsInOrderBagsList(order.getOrderBags());
         final List<Certificate> currentCertificate = certificateRepository.findCertificate(id);
 
@@ -1063,10 +1105,7 @@ public class UBSManagementServiceImpl implements UBSManagementService {
         dto.setAmount(modelMapper.map(order, new TypeToken<List<BagMappingDto>>() {
         }.getType()));
 
-        dto.setCapacityAndPrice(orderBagService.findAllBagsByOrderId(order.getId())
-            .stream()
-            .map(b -> modelMapper.map(b, BagInfoDto.class))
-            .collect(Collectors.toList()));
+        dto.setCapacityAndPrice(bagInfoDtoMapper.mapAll(orderBagService.findAllBagsByOrderId(order.getId())));
 
         dto.setName(bagRepository.findAllByOrder(order.getId())
             .stream()
@@ -1141,6 +1180,10 @@ public class UBSManagementServiceImpl implements UBSManagementService {
     public ExportDetailsDto getOrderExportDetails(Long id) {
         Order order = orderRepository.findById(id)
             .orElseThrow(() -> new NotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + id));
+        return getOrderExportDetails(order);
+    }
+
+    private ExportDetailsDto getOrderExportDetails(Order order) {
         List<ReceivingStation> receivingStation = receivingStationRepository.findAll();
         if (receivingStation.isEmpty()) {
             throw new NotFoundException(RECEIVING_STATION_NOT_FOUND);
@@ -1486,6 +1529,11 @@ public class UBSManagementServiceImpl implements UBSManagementService {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new NotFoundException(ORDER_WITH_CURRENT_ID_DOES_NOT_EXIST + orderId));
         checkAvailableOrderForEmployee(order, email);
+        return getEmployeePositionDtoRequest(order, getAvailableEmployeesByPosition(order.getTariffsInfo().getId()));
+    }
+
+    private EmployeePositionDtoRequest getEmployeePositionDtoRequest(Order order,
+        Map<PositionDto, List<EmployeeNameIdDto>> allPositionEmployee) {
         EmployeePositionDtoRequest dto = EmployeePositionDtoRequest.builder().orderId(order.getId()).build();
         List<EmployeeOrderPosition> newList = employeeOrderPositionRepository.findAllByOrderId(order.getId());
         if (!newList.isEmpty()) {
@@ -1499,32 +1547,46 @@ public class UBSManagementServiceImpl implements UBSManagementService {
                 x.getEmployee().getFirstName().concat(" ").concat(x.getEmployee().getLastName())));
             dto.setCurrentPositionEmployees(currentPositionEmployee);
         }
-        List<Position> positions = positionRepository.findAll();
+        dto.setAllPositionsEmployees(allPositionEmployee);
+
+        return dto;
+    }
+
+    /**
+     * Groups the employees who work with the tariff by their positions, reading the
+     * employees with one query instead of checking every employee of every
+     * position.
+     *
+     * @param tariffsInfoId id of the tariff of the order.
+     * @return employees of every position.
+     */
+    private Map<PositionDto, List<EmployeeNameIdDto>> getAvailableEmployeesByPosition(Long tariffsInfoId) {
+        Map<Long, List<EmployeeNameIdDto>> employeesByPositionId = new HashMap<>();
+        for (Employee employee : employeeRepository.findAllWithPositionsByTariffsInfoId(tariffsInfoId)) {
+            EmployeeNameIdDto employeeNameIdDto = EmployeeNameIdDto.builder()
+                .id(employee.getId())
+                .name(employee.getFirstName() + " " + employee.getLastName())
+                .build();
+            employee.getEmployeePosition().forEach(position -> employeesByPositionId
+                .computeIfAbsent(position.getId(), id -> new ArrayList<>())
+                .add(employeeNameIdDto));
+        }
         Map<PositionDto, List<EmployeeNameIdDto>> allPositionEmployee = new HashMap<>();
-        for (Position position : positions) {
+        for (Position position : referenceDataCacheService.getPositions()) {
             PositionDto positionDto = PositionDto.builder()
                 .id(position.getId())
                 .name(position.getName())
                 .nameEn(position.getNameEn())
                 .build();
-            allPositionEmployee.put(positionDto, listAvailableEmployeeWithPosition(order, position)
-                .stream().map(employee -> EmployeeNameIdDto.builder()
-                    .id(employee.getId())
-                    .name(employee.getFirstName() + " " + employee.getLastName())
-                    .build())
-                .collect(Collectors.toList()));
+            allPositionEmployee.put(positionDto,
+                employeesByPositionId.getOrDefault(position.getId(), new ArrayList<>()));
         }
-        dto.setAllPositionsEmployees(allPositionEmployee);
-
-        return dto;
+        return allPositionEmployee;
     }
 
     @Override
     public void saveReason(Order order, String description, MultipartFile[] images) {
-        List<String> pictures = (images != null) ? Arrays.stream(images)
-            .map(this::processImage)
-            .collect(Collectors.toList())
-            : new ArrayList<>();
+        List<String> pictures = (images != null) ? processImages(images) : new ArrayList<>();
         ReasonNotTakeBagDto dto = new ReasonNotTakeBagDto();
         dto.setImages(pictures);
         dto.setDescription(description);
@@ -1535,8 +1597,14 @@ public class UBSManagementServiceImpl implements UBSManagementService {
         orderRepository.save(order);
     }
 
-    private String processImage(MultipartFile image) {
-        return (image != null) ? fileService.upload(image) : DEFAULT_IMAGE_PATH;
+    private List<String> processImages(MultipartFile[] images) {
+        Iterator<String> uploaded = fileService.uploadAll(Arrays.stream(images)
+            .filter(Objects::nonNull)
+            .toList())
+            .iterator();
+        return Arrays.stream(images)
+            .map(image -> (image != null) ? uploaded.next() : DEFAULT_IMAGE_PATH)
+            .collect(Collectors.toList());
     }
 
     /**
@@ -1728,6 +1796,10 @@ public class UBSManagementServiceImpl implements UBSManagementService {
     private void checkAvailableOrderForEmployee(Order order, String email) {
         Long employeeId = employeeRepository.findByEmail(email)
             .orElseThrow(() -> new NotFoundException(EMPLOYEE_NOT_FOUND)).getId();
+        checkAvailableOrderForEmployee(order, employeeId);
+    }
+
+    private void checkAvailableOrderForEmployee(Order order, Long employeeId) {
         Optional<TariffsInfo> tariffsInfoOptional = tariffsInfoRepository.findTariffsInfoByIdForEmployee(
             order.getTariffsInfo().getId(), employeeId);
         if (tariffsInfoOptional.isEmpty()) {
@@ -1735,16 +1807,6 @@ public class UBSManagementServiceImpl implements UBSManagementService {
         }
     }
 
-    private List<Employee> listAvailableEmployeeWithPosition(Order order, Position position) {
-        Long tariffId = order.getTariffsInfo().getId();
-        return employeeRepository.findAllByEmployeePositionId(position.getId())
-            .stream()
-            .filter(
-                employee -> tariffsInfoRepository.findTariffsInfoByIdForEmployee(tariffId, employee.getId())
-                    .isPresent())
-            .collect(Collectors.toList());
-    }
-
     /**
      * This method checks if Employee is assigned to the order.
      *
@@ -1,55 +1,47 @@
 package greencity.service.ubs;
 
+import greencity.dto.UserTableRowDto;
 import greencity.dto.order.UserWithSomeOrderDetailDto;
 import greencity.dto.pageble.PageableDto;
 import greencity.enums.SortingOrder;
-import greencity.entity.order.Order;
-import greencity.entity.user.User;
 import greencity.filters.CustomerPage;
 import greencity.filters.UserFilterCriteria;
 import greencity.repository.EmployeeRepository;
-import greencity.repository.UserRepository;
 import greencity.repository.UserTableRepo;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import static greencity.constant.ErrorMessage.EMPLOYEE_NOT_FOUND;
 
 @Service
 @AllArgsConstructor
 public class ValuesForUserTableServiceImpl implements ValuesForUserTableService {
-    UserRepository userRepository;
-    UserTableRepo userTableRepo;
+    private final UserTableRepo userTableRepo;
     private final EmployeeRepository employeeRepository;
     private static final String DATE_FORMAT = "yyyy-MM-dd";
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
     public PageableDto<UserWithSomeOrderDetailDto> getAllFields(CustomerPage page, String columnName,
         SortingOrder sortingOrder, UserFilterCriteria userFilterCriteria, String email) {
         Long employeeId = employeeRepository.findByEmail(email)
             .orElseThrow(() -> new EntityNotFoundException(EMPLOYEE_NOT_FOUND)).getId();
-        List<Long> tariffsInfoIds = employeeRepository.findTariffsInfoForEmployee(employeeId);
-        List<Long> usId = new ArrayList<>();
-        for (Long id : tariffsInfoIds) {
-            usId.addAll(userRepository.getAllUsersByTariffsInfoId(id));
-        }
-        Page<User> users = userTableRepo.findAll(userFilterCriteria, columnName, sortingOrder, page, usId);
-        List<UserWithSomeOrderDetailDto> fields = new ArrayList<>();
-        for (User u : users) {
-            UserWithSomeOrderDetailDto allFieldsFromTableDto = mapToDto(u);
-            fields.add(allFieldsFromTableDto);
-        }
+        Page<UserTableRowDto> users =
+            userTableRepo.findAll(userFilterCriteria, columnName, sortingOrder, page, employeeId);
+        List<UserWithSomeOrderDetailDto> fields = users.getContent().stream()
+            .map(this::mapToDto)
+            .toList();
 
         return new PageableDto<>(fields, users.getTotalElements(),
             users.getPageable().getPageNumber(), users.getTotalPages());
     }
 
-    private UserWithSomeOrderDetailDto mapToDto(User u) {
+    private UserWithSomeOrderDetailDto mapToDto(UserTableRowDto u) {
         final UserWithSomeOrderDetailDto allFieldsFromTableDto = new UserWithSomeOrderDetailDto();
         StringBuilder name = new StringBuilder();
         allFieldsFromTableDto.setUserId(u.getId());
@@ -73,7 +65,7 @@ public class ValuesForUserTableServiceImpl implements ValuesForUserTableService
         } else {
             allFieldsFromTableDto.setPhone("");
         }
-        allFieldsFromTableDto.setNumberOfOrders(u.getOrders().size());
+        allFieldsFromTableDto.setNumberOfOrders(u.getNumberOfOrders().intValue());
         allFieldsFromTableDto.setViolation(u.getViolations());
         if (u.getDateOfRegistration() != null) {
             allFieldsFromTableDto
@@ -82,12 +74,9 @@ public class ValuesForUserTableServiceImpl implements ValuesForUserTableService
             allFieldsFromTableDto.setRegistrationDate("");
         }
         allFieldsFromTableDto.setUserBonuses(u.getCurrentPoints().toString());
-        Optional<Order> optional =
-            u.getOrders().stream().max((o1, o2) -> o1.getOrderDate().compareTo(o2.getOrderDate()));
-        if (optional.isPresent()) {
+        if (u.getLastOrderDate() != null) {
             allFieldsFromTableDto
-                .setLastOrderDate(optional
-                    .get().getOrderDate().toLocalDate().format(DateTimeFormatter.ofPattern(DATE_FORMAT)));
+                .setLastOrderDate(u.getLastOrderDate().toLocalDate().format(DateTimeFormatter.ofPattern(DATE_FORMAT)));
         }
         return allFieldsFromTableDto;
     }
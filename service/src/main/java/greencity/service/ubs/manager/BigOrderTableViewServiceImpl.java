@@ -1,50 +1,172 @@
 package greencity.service.ubs.manager;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 import greencity.client.UserRemoteClient;
+import greencity.config.OrderExportConfigProp;
 import greencity.constant.ErrorMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.user.UserVO;
+import greencity.entity.order.BigOrderTableViews;
+import greencity.enums.OrderExportFormat;
+import greencity.exceptions.BadRequestException;
 import greencity.exceptions.user.UserNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
+import org.apache.commons.lang.StringUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import greencity.dto.order.BigOrderTableDTO;
 import greencity.dto.table.CustomTableViewDto;
 import greencity.entity.parameters.CustomTableView;
+import greencity.mapping.order.BigOrderTableDtoMapper;
+import greencity.filters.OrderCursor;
 import greencity.filters.OrderPage;
 import greencity.filters.OrderSearchCriteria;
 import greencity.repository.BigOrderTableRepository;
 import greencity.repository.CustomTableViewRepo;
 import greencity.repository.EmployeeRepository;
 import greencity.repository.UserRepository;
+import greencity.service.ubs.OrderLockService;
 import lombok.AllArgsConstructor;
 import static greencity.constant.ErrorMessage.EMPLOYEE_NOT_FOUND;
 
 @Service
 @AllArgsConstructor
 public class BigOrderTableViewServiceImpl implements BigOrderTableServiceView {
+    private static final String UKRAINIAN_LANGUAGE = "ua";
     private final BigOrderTableRepository bigOrderTableRepository;
     private final CustomTableViewRepo customTableViewRepo;
-    private final ModelMapper modelMapper;
+    private final BigOrderTableDtoMapper bigOrderTableDtoMapper;
     private final EmployeeRepository employeeRepository;
     private final UserRepository userRepository;
     private final UserRemoteClient userRemoteClient;
+    private final OrderLockService orderLockService;
+    private final OrderExportConfigProp orderExportConfigProp;
 
     @Override
     public Page<BigOrderTableDTO> getOrders(OrderPage orderPage, OrderSearchCriteria searchCriteria, String email) {
+        String language = getUserLanguage(email);
+        List<Long> tariffsInfoIds = getTariffsInfoIds(email);
+        var orders = bigOrderTableRepository.findAll(orderPage, searchCriteria, tariffsInfoIds, language);
+        List<BigOrderTableDTO> orderList = bigOrderTableDtoMapper.mapAll(orders.getContent());
+        releaseExpiredLocks(orderList);
+        return new PageImpl<>(orderList, orders.getPageable(), orders.getTotalElements());
+    }
+
+    @Override
+    public CursorPageDto<BigOrderTableDTO> getOrdersAfter(OrderPage orderPage, OrderSearchCriteria searchCriteria,
+        String email) {
+        if (OrderPage.RELEVANCE.equals(orderPage.getSortBy())) {
+            throw new BadRequestException(ErrorMessage.RELEVANCE_SORTING_IS_NOT_SUPPORTED_BY_CURSOR);
+        }
+        OrderCursor cursor = decodeCursor(orderPage);
+        String language = getUserLanguage(email);
+        List<Long> tariffsInfoIds = getTariffsInfoIds(email);
+        var orders = findAllAfter(orderPage, cursor, searchCriteria, tariffsInfoIds, language);
+        List<BigOrderTableDTO> orderList = bigOrderTableDtoMapper.mapAll(orders.getContent());
+        releaseExpiredLocks(orderList);
+        return CursorPageDto.<BigOrderTableDTO>builder()
+            .content(orderList)
+            .nextCursor(orders.getNextCursor())
+            .totalElements(orders.getTotalElements())
+            .approximateTotal(orders.isApproximateTotal())
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(OrderPage orderPage, OrderSearchCriteria searchCriteria, String email,
+        OrderExportFormat format, OutputStream outputStream) {
+        String language = getUserLanguage(email);
+        List<Long> tariffsInfoIds = getTariffsInfoIds(email);
+        boolean ukrainian = UKRAINIAN_LANGUAGE.equals(language);
+        try (Stream<BigOrderTableViews> orders = bigOrderTableRepository.streamAll(orderPage, searchCriteria,
+            tariffsInfoIds, language, orderExportConfigProp.getFetchSize())) {
+            OrderExportWriter writer = OrderExportWriter.of(format, outputStream);
+            writer.writeRow(OrderExportColumn.getTitles(ukrainian));
+            Iterator<BigOrderTableViews> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(OrderExportColumn.getValues(iterator.next(), ukrainian));
+            }
+            // The document is completed only after the last row, so a failure in the
+            // middle leaves it incomplete instead of sending a well-formed part of it.
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The orders table keeps the lock flag of an order until the order is changed,
+     * so the locks of the shown orders are checked against their lease here.
+     */
+    private void releaseExpiredLocks(List<BigOrderTableDTO> orders) {
+        List<Long> blockedOrdersId = orders.stream()
+            .filter(order -> Boolean.TRUE.equals(order.getIsBlocked()))
+            .map(BigOrderTableDTO::getId)
+            .toList();
+        if (blockedOrdersId.isEmpty()) {
+            return;
+        }
+        Set<Long> lockedOrdersId = orderLockService.getLockedOrderIds(blockedOrdersId);
+        orders.stream()
+            .filter(order -> Boolean.TRUE.equals(order.getIsBlocked()) && !lockedOrdersId.contains(order.getId()))
+            .forEach(order -> order.setIsBlocked(false).setBlockedBy(null));
+    }
+
+    private OrderCursor decodeCursor(OrderPage orderPage) {
+        if (StringUtils.isBlank(orderPage.getCursor())) {
+            return null;
+        }
+        OrderCursor cursor;
+        try {
+            cursor = OrderCursor.decode(orderPage.getCursor());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorMessage.INVALID_ORDER_CURSOR + orderPage.getCursor());
+        }
+        if (!cursor.matches(orderPage)) {
+            throw new BadRequestException(ErrorMessage.INVALID_ORDER_CURSOR + orderPage.getCursor());
+        }
+        return cursor;
+    }
+
+    /**
+     * The sort value of the cursor is parsed by the repository as the type of the
+     * sort key, so a cursor whose value does not parse is rejected as malformed.
+     */
+    private CursorPageDto<BigOrderTableViews> findAllAfter(OrderPage orderPage, OrderCursor cursor,
+        OrderSearchCriteria searchCriteria, List<Long> tariffsInfoIds, String language) {
+        try {
+            return bigOrderTableRepository.findAllAfter(orderPage, cursor, searchCriteria, tariffsInfoIds, language);
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new BadRequestException(ErrorMessage.INVALID_ORDER_CURSOR + orderPage.getCursor());
+        }
+    }
+
+    private String getUserLanguage(String email) {
         UserVO userVO = userRemoteClient.findNotDeactivatedByEmail(email).orElseThrow(() -> new UserNotFoundException(
             ErrorMessage.USER_WITH_THIS_EMAIL_DOES_NOT_EXIST));
+        return userVO.getLanguageVO().getCode();
+    }
+
+    private List<Long> getTariffsInfoIds(String email) {
         Long employeeId = employeeRepository.findByEmail(email)
             .orElseThrow(() -> new EntityNotFoundException(EMPLOYEE_NOT_FOUND)).getId();
-        List<Long> tariffsInfoIds = employeeRepository.findTariffsInfoForEmployee(employeeId);
-        var orders = bigOrderTableRepository.findAll(orderPage, searchCriteria, tariffsInfoIds,
-            userVO.getLanguageVO().getCode());
-        var orderList = new ArrayList<BigOrderTableDTO>();
-        orders.forEach(o -> orderList.add(modelMapper.map(o, BigOrderTableDTO.class)));
-        return new PageImpl<>(orderList, orders.getPageable(), orders.getTotalElements());
+        return employeeRepository.findTariffsInfoForEmployee(employeeId);
+    }
+
+    @Override
+    @Transactional
+    public long rebuildOrderTable() {
+        return bigOrderTableRepository.rebuild();
     }
 
     @Override
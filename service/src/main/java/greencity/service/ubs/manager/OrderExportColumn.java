@@ -0,0 +1,102 @@
+package greencity.service.ubs.manager;
+
+import greencity.constant.AppConstant;
+import greencity.entity.order.BigOrderTableViews;
+import lombok.AllArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Columns of the exported orders table. Titles follow the columns of the orders
+ * table page, addresses are taken in the language of the manager, and sums are
+ * converted from coins.
+ */
+@AllArgsConstructor
+enum OrderExportColumn {
+    ID("Номер замовлення", "Order number", BigOrderTableViews::getId),
+    ORDER_STATUS("Статус замовлення", "Order status", BigOrderTableViews::getOrderStatus),
+    ORDER_PAYMENT_STATUS("Статус оплати", "Payment status", BigOrderTableViews::getOrderPaymentStatus),
+    ORDER_DATE("Дата замовлення", "Order date", view -> toText(view.getOrderDate())),
+    PAYMENT_DATE("Дата оплати", "Payment date", view -> toText(view.getPaymentDate())),
+    CLIENT_NAME("Ім'я клієнта", "Client name", BigOrderTableViews::getClientName),
+    CLIENT_PHONE("Телефон клієнта", "Phone number", BigOrderTableViews::getClientPhoneNumber),
+    CLIENT_EMAIL("Email клієнта", "Client email", BigOrderTableViews::getClientEmail),
+    SENDER_NAME("Ім'я відправника", "Sender name", BigOrderTableViews::getSenderName),
+    SENDER_PHONE("Телефон відправника", "Sender phone", BigOrderTableViews::getSenderPhone),
+    SENDER_EMAIL("Email відправника", "Sender email", BigOrderTableViews::getSenderEmail),
+    VIOLATIONS_AMOUNT("Кількість порушень клієнта", "Violations", BigOrderTableViews::getViolationsAmount),
+    REGION("Область", "Region", (view, ukrainian) -> ukrainian ? view.getRegion() : view.getRegionEn()),
+    CITY("Місто", "City", (view, ukrainian) -> ukrainian ? view.getCity() : view.getCityEn()),
+    DISTRICT("Район", "District", (view, ukrainian) -> ukrainian ? view.getDistrict() : view.getDistrictEn()),
+    ADDRESS("Адреса", "Address", (view, ukrainian) -> ukrainian ? view.getAddress() : view.getAddressEn()),
+    COMMENT_TO_ADDRESS_FOR_CLIENT("Коментар до адреси від клієнта", "Comment to address from the client",
+                                  BigOrderTableViews::getCommentToAddressForClient),
+    BAGS_AMOUNT("К-сть пакетів", "Bags amount", BigOrderTableViews::getBagAmount),
+    TOTAL_ORDER_SUM("Сума замовлення", "Total order sum", view -> toBills(view.getTotalOrderSum())),
+    ORDER_CERTIFICATE_CODE("Номер сертифікату", "Order certificate code",
+                           BigOrderTableViews::getOrderCertificateCode),
+    GENERAL_DISCOUNT("Загальна знижка", "General discount", BigOrderTableViews::getGeneralDiscount),
+    AMOUNT_DUE("Сума до оплати", "Amount due", view -> toBills(view.getAmountDue())),
+    COMMENT_FOR_ORDER_BY_CLIENT("Коментар до замовлення від клієнта", "Comment to the order from the client",
+                                BigOrderTableViews::getCommentForOrderByClient),
+    TOTAL_PAYMENT("Оплата", "Total payment", view -> toBills(view.getTotalPayment())),
+    DATE_OF_EXPORT("Дата вивезення", "Date of export", view -> toText(view.getDateOfExport())),
+    TIME_OF_EXPORT("Час вивезення", "Time of export", BigOrderTableViews::getTimeOfExport),
+    ID_ORDER_FROM_SHOP("Номер замовлення з магазину", "Id order from shop", BigOrderTableViews::getIdOrderFromShop),
+    RECEIVING_STATION("Станція приймання", "Receiving station", BigOrderTableViews::getReceivingStation),
+    RESPONSIBLE_CALLER("Менеджер обдзвону", "Call manager", BigOrderTableViews::getResponsibleCaller),
+    RESPONSIBLE_LOGIC_MAN("Логіст", "Logistician", BigOrderTableViews::getResponsibleLogicMan),
+    RESPONSIBLE_DRIVER("Водій", "Driver", BigOrderTableViews::getResponsibleDriver),
+    RESPONSIBLE_NAVIGATOR("Штурман", "Navigator", BigOrderTableViews::getResponsibleNavigator),
+    COMMENTS_FOR_ORDER("Коментар адміністратора", "Admin comment", BigOrderTableViews::getCommentForOrderByAdmin);
+
+    private static final OrderExportColumn[] COLUMNS = values();
+
+    private final String titleUa;
+    private final String titleEn;
+    private final BiFunction<BigOrderTableViews, Boolean, Object> value;
+
+    OrderExportColumn(String titleUa, String titleEn, Function<BigOrderTableViews, Object> value) {
+        this(titleUa, titleEn, (view, ukrainian) -> value.apply(view));
+    }
+
+    /**
+     * Method returns the titles of all columns.
+     *
+     * @param ukrainian whether the titles are in Ukrainian or in English.
+     * @return {@link List} of titles.
+     */
+    static List<String> getTitles(boolean ukrainian) {
+        return Arrays.stream(COLUMNS)
+            .map(column -> ukrainian ? column.titleUa : column.titleEn)
+            .toList();
+    }
+
+    /**
+     * Method returns the values of all columns of the order.
+     *
+     * @param view      {@link BigOrderTableViews} order.
+     * @param ukrainian whether the addresses are in Ukrainian or in English.
+     * @return {@link List} of values.
+     */
+    static List<Object> getValues(BigOrderTableViews view, boolean ukrainian) {
+        Object[] values = new Object[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            values[i] = COLUMNS[i].value.apply(view, ukrainian);
+        }
+        return Arrays.asList(values);
+    }
+
+    private static String toText(LocalDate date) {
+        return date == null ? null : date.toString();
+    }
+
+    private static BigDecimal toBills(Long coins) {
+        return coins == null ? null
+            : BigDecimal.valueOf(coins).movePointLeft(AppConstant.TWO_DECIMALS_AFTER_POINT_IN_CURRENCY);
+    }
+}
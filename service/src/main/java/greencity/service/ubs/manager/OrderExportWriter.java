@@ -0,0 +1,35 @@
+package greencity.service.ubs.manager;
+
+import greencity.enums.OrderExportFormat;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes the rows of the exported orders table straight to the output stream.
+ * Closing the writer completes the document but leaves the output stream open,
+ * so the writer is closed only after all rows are written.
+ */
+interface OrderExportWriter extends Closeable {
+    /**
+     * Method writes one row. Numbers are written as numbers, {@code null} as an
+     * empty cell and everything else as text.
+     *
+     * @param cells values of the row.
+     */
+    void writeRow(List<?> cells) throws IOException;
+
+    /**
+     * Method creates the writer of the given format.
+     *
+     * @param format       {@link OrderExportFormat} of the document.
+     * @param outputStream {@link OutputStream} to write the document to.
+     * @return {@link OrderExportWriter}
+     */
+    static OrderExportWriter of(OrderExportFormat format, OutputStream outputStream) throws IOException {
+        return format == OrderExportFormat.XLSX
+            ? new XlsxOrderExportWriter(outputStream)
+            : new CsvOrderExportWriter(outputStream);
+    }
+}
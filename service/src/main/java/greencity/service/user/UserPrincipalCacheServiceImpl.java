@@ -0,0 +1,74 @@
+package greencity.service.user;
+
+import greencity.client.UserRemoteClient;
+import greencity.config.BoundedCache;
+import greencity.config.UserPrincipalCacheConfigProp;
+import greencity.dto.user.UserPrincipalVO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import java.time.Clock;
+
+@Service
+public class UserPrincipalCacheServiceImpl implements UserPrincipalCacheService {
+    private final UserRemoteClient userRemoteClient;
+    private final UserPrincipalCacheConfigProp userPrincipalCacheConfigProp;
+    private final BoundedCache principals;
+
+    /**
+     * Constructor to initialize the cache bounded by the configured size. The least
+     * recently used user is evicted when the size is exceeded.
+     */
+    public UserPrincipalCacheServiceImpl(UserRemoteClient userRemoteClient,
+        UserPrincipalCacheConfigProp userPrincipalCacheConfigProp, @Qualifier("kyivZonedClock") Clock clock) {
+        this.userRemoteClient = userRemoteClient;
+        this.userPrincipalCacheConfigProp = userPrincipalCacheConfigProp;
+        this.principals = new BoundedCache("userPrincipals", userPrincipalCacheConfigProp.getMaxSize(),
+            userPrincipalCacheConfigProp.getTtl(), clock);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserPrincipalVO getPrincipal(String email) {
+        UserPrincipalVO cachedPrincipal = principals.get(email, UserPrincipalVO.class);
+        if (cachedPrincipal != null) {
+            return cachedPrincipal;
+        }
+        UserPrincipalVO principal = load(email);
+        principals.put(email, principal, principal.isActive()
+            ? userPrincipalCacheConfigProp.getTtl()
+            : userPrincipalCacheConfigProp.getNegativeTtl());
+        return principal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(String email) {
+        principals.evict(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        principals.clear();
+    }
+
+    private UserPrincipalVO load(String email) {
+        if (userRemoteClient.findNotDeactivatedByEmail(email).isEmpty()) {
+            return UserPrincipalVO.builder()
+                .email(email)
+                .active(false)
+                .build();
+        }
+        return UserPrincipalVO.builder()
+            .email(email)
+            .uuid(userRemoteClient.findUuidByEmail(email))
+            .active(true)
+            .build();
+    }
+}
@@ -1,14 +1,14 @@
 package greencity.ubstelegrambot;
 
-import greencity.client.UserRemoteClient;
 import greencity.constant.ErrorMessage;
 import greencity.dto.notification.NotificationDto;
 import greencity.entity.notifications.UserNotification;
 import greencity.entity.user.User;
 import greencity.enums.NotificationReceiverType;
 import greencity.exceptions.bots.MessageWasNotSent;
-import greencity.repository.NotificationTemplateRepository;
 import greencity.service.notification.AbstractNotificationProvider;
+import greencity.service.notification.NotificationTemplateCacheService;
+import greencity.service.notification.NotificationUserCacheService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -28,9 +28,9 @@ public class TelegramService extends AbstractNotificationProvider {
      */
     @Autowired
     public TelegramService(UBSTelegramBot ubsTelegramBot,
-        UserRemoteClient userRemoteClient,
-        NotificationTemplateRepository templateRepository) {
-        super(userRemoteClient, templateRepository, notificationType);
+        NotificationUserCacheService notificationUserCacheService,
+        NotificationTemplateCacheService notificationTemplateCacheService) {
+        super(notificationUserCacheService, notificationTemplateCacheService, notificationType);
         this.ubsTelegramBot = ubsTelegramBot;
     }
 
@@ -47,13 +47,17 @@ public class TelegramService extends AbstractNotificationProvider {
             && Objects.equals(user.getTelegramBot().getIsNotify(), true);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getChannelName() {
+        return "telegram";
+    }
+
     private void sendMessageToUser(SendMessage sendMessage) {
         try {
             ubsTelegramBot.execute(sendMessage);
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            log.error(ErrorMessage.INTERRUPTED_EXCEPTION);
-            Thread.currentThread().interrupt();
         } catch (Exception e) {
             throw new MessageWasNotSent(ErrorMessage.THE_MESSAGE_WAS_NOT_SENT);
         }
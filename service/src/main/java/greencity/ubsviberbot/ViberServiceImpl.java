@@ -1,6 +1,5 @@
 package greencity.ubsviberbot;
 
-import greencity.client.UserRemoteClient;
 import greencity.client.ViberClient;
 import greencity.constant.ErrorMessage;
 import greencity.dto.notification.NotificationDto;
@@ -15,10 +14,11 @@ import greencity.enums.NotificationReceiverType;
 import greencity.exceptions.NotFoundException;
 import greencity.exceptions.bots.MessageWasNotSent;
 import greencity.exceptions.bots.ViberBotAlreadyConnected;
-import greencity.repository.NotificationTemplateRepository;
 import greencity.repository.UserRepository;
 import greencity.repository.ViberBotRepository;
 import greencity.service.notification.AbstractNotificationProvider;
+import greencity.service.notification.NotificationTemplateCacheService;
+import greencity.service.notification.NotificationUserCacheService;
 import greencity.service.ubs.ViberService;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -47,11 +47,11 @@ public class ViberServiceImpl extends AbstractNotificationProvider implements Vi
      */
     @Autowired
     public ViberServiceImpl(ViberClient viberClient,
-        UserRemoteClient userRemoteClient,
+        NotificationUserCacheService notificationUserCacheService,
         UserRepository userRepository,
         ViberBotRepository viberBotRepository,
-        NotificationTemplateRepository templateRepository) {
-        super(userRemoteClient, templateRepository, notificationType);
+        NotificationTemplateCacheService notificationTemplateCacheService) {
+        super(notificationUserCacheService, notificationTemplateCacheService, notificationType);
         this.viberClient = viberClient;
         this.userRepository = userRepository;
         this.viberBotRepository = viberBotRepository;
@@ -78,6 +78,14 @@ public class ViberServiceImpl extends AbstractNotificationProvider implements Vi
         return Objects.nonNull(user.getViberBot().getIsNotify()) && user.getViberBot().getIsNotify();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getChannelName() {
+        return "viber";
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -182,10 +190,6 @@ public class ViberServiceImpl extends AbstractNotificationProvider implements Vi
     private void sendMessageToUser(SendMessageToUserDto sendMessageToUserDto) {
         try {
             viberClient.sendMessage(sendMessageToUserDto);
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            log.error(ErrorMessage.INTERRUPTED_EXCEPTION);
-            Thread.currentThread().interrupt();
         } catch (Exception e) {
             throw new MessageWasNotSent(ErrorMessage.THE_MESSAGE_WAS_NOT_SENT);
         }
@@ -163,6 +163,7 @@ import greencity.enums.CertificateStatus;
 import greencity.enums.CourierLimit;
 import greencity.enums.CourierStatus;
 import greencity.enums.EmployeeStatus;
+import greencity.enums.EventCode;
 import greencity.enums.LocationStatus;
 import greencity.enums.NotificationReceiverType;
 import greencity.enums.NotificationTime;
@@ -2094,7 +2095,7 @@ public class ModelUtils {
         return Order.builder()
             .id(1L)
             .events(List.of(new Event(1L, LocalDateTime.now(),
-                "Roman", "Roman", "Roman", "Roman", new Order())))
+                "Roman", "Roman", "Roman", "Roman", EventCode.OTHER, new Order())))
             .orderStatus(OrderStatus.FORMED)
             .payment(singletonList(Payment.builder()
                 .id(1L)
@@ -2116,7 +2117,7 @@ public class ModelUtils {
         return Order.builder()
             .id(1L)
             .events(List.of(new Event(1L, LocalDateTime.now(),
-                "Roman", "Roman", "Roman", "Roman", new Order())))
+                "Roman", "Roman", "Roman", "Roman", EventCode.OTHER, new Order())))
             .orderStatus(OrderStatus.CANCELED)
             .payment(singletonList(Payment.builder()
                 .id(1L)
@@ -2138,7 +2139,7 @@ public class ModelUtils {
         return Order.builder()
             .id(1L)
             .events(List.of(new Event(1L, LocalDateTime.now(),
-                "Roman", "Roman", "Roman", "Roman", new Order())))
+                "Roman", "Roman", "Roman", "Roman", EventCode.OTHER, new Order())))
             .orderStatus(OrderStatus.ADJUSTMENT)
             .payment(singletonList(Payment.builder()
                 .id(1L)
@@ -2160,7 +2161,7 @@ public class ModelUtils {
         return Order.builder()
             .id(1L)
             .events(List.of(new Event(1L, LocalDateTime.now(),
-                "Roman", "Roman", "Roman", "Roman", new Order())))
+                "Roman", "Roman", "Roman", "Roman", EventCode.OTHER, new Order())))
             .orderStatus(OrderStatus.FORMED)
             .payment(singletonList(Payment.builder()
                 .id(1L)
@@ -2182,7 +2183,7 @@ public class ModelUtils {
         return Order.builder()
             .id(1L)
             .events(List.of(new Event(1L, LocalDateTime.now(),
-                "Roman", "Roman", "Roman", "Roman", new Order())))
+                "Roman", "Roman", "Roman", "Roman", EventCode.OTHER, new Order())))
             .orderStatus(OrderStatus.CANCELED)
             .payment(singletonList(Payment.builder()
                 .id(1L)
@@ -3859,17 +3860,6 @@ public class ModelUtils {
             .build();
     }
 
-    public static Order getOrderForGetOrderStatusEmptyPriceDetails() {
-        return Order.builder()
-            .id(1L)
-            .amountOfBagsOrdered(new HashMap<>())
-            .confirmedQuantity(new HashMap<>())
-            .exportedQuantity(new HashMap<>())
-            .pointsToUse(100)
-            .orderStatus(OrderStatus.DONE)
-            .build();
-    }
-
     public static Order getOrderWithoutExportedBags() {
         Map<Integer, Integer> hashMap = new HashMap<>();
         hashMap.put(1, 1);
@@ -0,0 +1,117 @@
+package greencity.config;
+
+import greencity.dto.CacheStatsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedCacheTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    private Clock clock;
+
+    private BoundedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW);
+        cache = new BoundedCache("regions", 2, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    void getReturnsPutValueTest() {
+        cache.put("a", "1");
+        cache.put("b", null);
+
+        assertEquals("1", cache.get("a", String.class));
+        assertNull(cache.get("b").get());
+        assertNull(cache.get("c"));
+    }
+
+    @Test
+    void getSkipsExpiredValueTest() {
+        cache.put("a", "1");
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(10)));
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    void getSkipsValueExpiredByItsOwnTtlTest() {
+        cache.put("a", "1", Duration.ofMinutes(1));
+        cache.put("b", "2");
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(1)));
+
+        assertNull(cache.get("a"));
+        assertEquals("2", cache.get("b", String.class));
+    }
+
+    @Test
+    void putEvictsLeastRecentlyUsedValueTest() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a", String.class));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c", String.class));
+    }
+
+    @Test
+    void getWithValueLoaderLoadsAbsentValueOnceTest() {
+        assertEquals("1", cache.get("a", () -> "1"));
+        assertEquals("1", cache.get("a", () -> "2"));
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("b", () -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    void evictAndClearTest() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.evict("a");
+
+        assertNull(cache.get("a"));
+        cache.clear();
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void getStatsTest() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        cache.get("c");
+        cache.get("a");
+
+        CacheStatsDto expected = CacheStatsDto.builder()
+            .name("regions")
+            .size(2)
+            .maxSize(2)
+            .ttlSeconds(600)
+            .hitCount(1)
+            .missCount(1)
+            .evictionCount(1)
+            .hitRate(0.5)
+            .build();
+        assertEquals(expected, cache.getStats());
+    }
+}
@@ -0,0 +1,57 @@
+package greencity.config;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OutboundConcurrencyFeignClientTest {
+    private final OutboundConcurrencyConfigProp outboundConcurrencyConfigProp = new OutboundConcurrencyConfigProp();
+    private final Request.Options options = new Request.Options();
+    private OutboundConcurrencyLimiter limiter;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        outboundConcurrencyConfigProp.setLimits(Map.of("user-remote-client", 1));
+        outboundConcurrencyConfigProp.setAcquireTimeout(Duration.ofMillis(10));
+        limiter = new OutboundConcurrencyLimiter(outboundConcurrencyConfigProp);
+        RequestTemplate requestTemplate = new RequestTemplate()
+            .feignTarget(new Target.HardCodedTarget<>(Object.class, "user-remote-client", "http://localhost"));
+        request = Request.create(Request.HttpMethod.GET, "http://localhost/user/checkByUuid", Map.of(), null,
+            StandardCharsets.UTF_8, requestTemplate);
+    }
+
+    @Test
+    void executeHoldsSlotOfFeignClientUntilResponseTest() throws IOException {
+        Response response = Response.builder().status(200).request(request).build();
+        Client delegate = (sentRequest, sentOptions) -> {
+            assertEquals(0, limiter.getAvailableSlots("user-remote-client"));
+            return response;
+        };
+
+        assertSame(response, new OutboundConcurrencyFeignClient(delegate, limiter).execute(request, options));
+        assertEquals(1, limiter.getAvailableSlots("user-remote-client"));
+    }
+
+    @Test
+    void executeThrowsIoExceptionWhenNoSlotIsFreedInTimeTest() {
+        Client delegate = (sentRequest, sentOptions) -> Response.builder().status(200).request(request).build();
+
+        try (OutboundConcurrencyLimiter.Permit permit = limiter.acquire("user-remote-client")) {
+            OutboundConcurrencyFeignClient client = new OutboundConcurrencyFeignClient(delegate, limiter);
+
+            assertThrows(IOException.class, () -> client.execute(request, options));
+        }
+    }
+}
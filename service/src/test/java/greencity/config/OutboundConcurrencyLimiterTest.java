@@ -0,0 +1,68 @@
+package greencity.config;
+
+import greencity.constant.ErrorMessage;
+import greencity.exceptions.http.RemoteServerUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboundConcurrencyLimiterTest {
+    private final OutboundConcurrencyConfigProp outboundConcurrencyConfigProp = new OutboundConcurrencyConfigProp();
+    private OutboundConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        outboundConcurrencyConfigProp.setDefaultLimit(3);
+        outboundConcurrencyConfigProp.setLimits(Map.of("azure-blob", 1));
+        outboundConcurrencyConfigProp.setAcquireTimeout(Duration.ofMillis(10));
+        limiter = new OutboundConcurrencyLimiter(outboundConcurrencyConfigProp);
+    }
+
+    @Test
+    void acquireUsesLimitOfDestinationTest() {
+        assertEquals(1, limiter.getAvailableSlots("azure-blob"));
+        assertEquals(3, limiter.getAvailableSlots("user-remote-client"));
+
+        try (OutboundConcurrencyLimiter.Permit permit = limiter.acquire("azure-blob")) {
+            assertEquals(0, limiter.getAvailableSlots("azure-blob"));
+            assertEquals(3, limiter.getAvailableSlots("user-remote-client"));
+        }
+
+        assertEquals(1, limiter.getAvailableSlots("azure-blob"));
+    }
+
+    @Test
+    void acquireThrowsExceptionWhenNoSlotIsFreedInTimeTest() {
+        try (OutboundConcurrencyLimiter.Permit permit = limiter.acquire("azure-blob")) {
+            RemoteServerUnavailableException exception =
+                assertThrows(RemoteServerUnavailableException.class, () -> limiter.acquire("azure-blob"));
+
+            assertEquals(ErrorMessage.OUTBOUND_CONCURRENCY_LIMIT_EXCEEDED + "azure-blob", exception.getMessage());
+        }
+    }
+
+    @Test
+    void acquireThrowsExceptionWhenInterruptedTest() {
+        try (OutboundConcurrencyLimiter.Permit permit = limiter.acquire("azure-blob")) {
+            Thread.currentThread().interrupt();
+
+            assertThrows(RemoteServerUnavailableException.class, () -> limiter.acquire("azure-blob"));
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    void closeReleasesSlotOnlyOnceTest() {
+        OutboundConcurrencyLimiter.Permit permit = limiter.acquire("user-remote-client");
+        limiter.acquire("user-remote-client");
+
+        permit.close();
+        permit.close();
+
+        assertEquals(2, limiter.getAvailableSlots("user-remote-client"));
+    }
+}
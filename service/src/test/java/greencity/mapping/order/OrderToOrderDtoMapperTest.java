@@ -0,0 +1,91 @@
+package greencity.mapping.order;
+
+import greencity.dto.order.OrderDto;
+import greencity.entity.coords.Coordinates;
+import greencity.entity.order.Order;
+import greencity.entity.user.ubs.OrderAddress;
+import greencity.entity.user.ubs.UBSuser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(MockitoExtension.class)
+class OrderToOrderDtoMapperTest {
+    @InjectMocks
+    private OrderToOrderDtoMapper mapper;
+
+    @Test
+    void convertTest() {
+        OrderDto expected = OrderDto.builder()
+            .firstName("Anna")
+            .lastName("Koval")
+            .phoneNumber("0991234567")
+            .address("Kyiv, Khreshchatyk, 1")
+            .addressComment("second entrance")
+            .latitude(50.45)
+            .longitude(30.52)
+            .build();
+
+        assertEquals(expected, mapper.convert(getOrder()));
+    }
+
+    @Test
+    void convertSkipsMissingAddressPartsTest() {
+        Order order = getOrder();
+        order.getUbsUser().getOrderAddress().setStreet(null);
+        order.getUbsUser().getOrderAddress().setCoordinates(null);
+
+        OrderDto actual = mapper.convert(order);
+
+        assertEquals("Kyiv, 1", actual.getAddress());
+        assertNull(actual.getLatitude());
+        assertNull(actual.getLongitude());
+    }
+
+    @Test
+    void convertWithoutUbsUserTest() {
+        assertEquals(new OrderDto(), mapper.convert(Order.builder().id(1L).build()));
+    }
+
+    @Test
+    void mapAllTest() {
+        Order order = getOrder();
+
+        List<OrderDto> actual = mapper.mapAll(List.of(order, order));
+
+        assertEquals(List.of(mapper.convert(order), mapper.convert(order)), actual);
+        assertNull(mapper.map(null));
+    }
+
+    @Test
+    void mapThroughModelMapperTest() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.addConverter(mapper);
+        Order order = getOrder();
+
+        assertEquals(mapper.map(order), modelMapper.map(order, OrderDto.class));
+    }
+
+    private Order getOrder() {
+        return Order.builder()
+            .id(1L)
+            .ubsUser(UBSuser.builder()
+                .firstName("Anna")
+                .lastName("Koval")
+                .phoneNumber("0991234567")
+                .orderAddress(OrderAddress.builder()
+                    .city("Kyiv")
+                    .street("Khreshchatyk")
+                    .houseNumber("1")
+                    .addressComment("second entrance")
+                    .coordinates(Coordinates.builder().latitude(50.45).longitude(30.52).build())
+                    .build())
+                .build())
+            .build();
+    }
+}
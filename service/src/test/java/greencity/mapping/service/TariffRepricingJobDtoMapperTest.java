@@ -0,0 +1,48 @@
+package greencity.mapping.service;
+
+import greencity.dto.service.TariffRepricingJobDto;
+import greencity.entity.order.TariffRepricingJob;
+import greencity.enums.TariffRepricingJobStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.LocalDateTime;
+
+@ExtendWith(MockitoExtension.class)
+class TariffRepricingJobDtoMapperTest {
+    @InjectMocks
+    private TariffRepricingJobDtoMapper mapper;
+
+    @Test
+    void convert() {
+        LocalDateTime time = LocalDateTime.of(2024, 7, 1, 10, 0);
+        TariffRepricingJob job = TariffRepricingJob.builder()
+            .id(1L)
+            .bagId(2)
+            .priceChanged(true)
+            .status(TariffRepricingJobStatus.DONE)
+            .lastOrderId(300L)
+            .processedOrders(120)
+            .attempts(1)
+            .createdAt(time)
+            .updatedAt(time.plusMinutes(1))
+            .finishedAt(time.plusMinutes(2))
+            .build();
+
+        TariffRepricingJobDto dto = mapper.convert(job);
+
+        Assertions.assertEquals(1L, dto.getId());
+        Assertions.assertEquals(2, dto.getBagId());
+        Assertions.assertTrue(dto.isPriceChanged());
+        Assertions.assertEquals(TariffRepricingJobStatus.DONE, dto.getStatus());
+        Assertions.assertEquals(300L, dto.getLastOrderId());
+        Assertions.assertEquals(120, dto.getProcessedOrders());
+        Assertions.assertEquals(1, dto.getAttempts());
+        Assertions.assertNull(dto.getError());
+        Assertions.assertEquals(time, dto.getCreatedAt());
+        Assertions.assertEquals(time.plusMinutes(1), dto.getUpdatedAt());
+        Assertions.assertEquals(time.plusMinutes(2), dto.getFinishedAt());
+    }
+}
@@ -1,26 +1,37 @@
 package greencity.service.google;
 
+import com.google.gson.Gson;
 import com.google.maps.GeoApiContext;
 import com.google.maps.GeocodingApi;
 import com.google.maps.GeocodingApiRequest;
 import com.google.maps.errors.InvalidRequestException;
 import com.google.maps.model.GeocodingResult;
+import greencity.ModelUtils;
+import greencity.config.OutboundConcurrencyLimiter;
 import greencity.constant.ErrorMessage;
+import greencity.entity.coords.GeocodeCache;
 import greencity.exceptions.NotFoundException;
 import greencity.exceptions.api.GoogleApiException;
+import greencity.repository.GeocodeCacheRepository;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class GoogleApiServiceTest {
@@ -31,6 +42,10 @@ class GoogleApiServiceTest {
     GeoApiContext context;
     @Mock
     GeocodingApiRequest request;
+    @Mock
+    GeocodeCacheRepository geocodeCacheRepository;
+    @Mock
+    OutboundConcurrencyLimiter outboundConcurrencyLimiter;
 
     @Test
     @SneakyThrows
@@ -163,4 +178,55 @@ class GoogleApiServiceTest {
             verify(request).await();
         }
     }
+
+    @Test
+    @SneakyThrows
+    void testGetResultFromGeoCodeStoresResultInCache() {
+        GeocodingResult result = ModelUtils.getGeocodingResult().getFirst();
+
+        try (MockedStatic<GeocodingApi> utilities = Mockito.mockStatic(GeocodingApi.class)) {
+            utilities.when(() -> GeocodingApi.newRequest(context))
+                .thenReturn(request);
+            when(request.place("placeId")).thenReturn(request);
+            when(request.language("en")).thenReturn(request);
+            when(request.await()).thenReturn(new GeocodingResult[] {result});
+
+            assertEquals(result, googleApiService.getResultFromGeoCode("placeId", 1));
+        }
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(geocodeCacheRepository).findByCacheKey("place:placeId:en");
+        verify(geocodeCacheRepository).insertIfAbsent(eq("place:placeId:en"),
+            json.capture());
+
+        when(geocodeCacheRepository.findByCacheKey("place:placeId:en"))
+            .thenReturn(Optional.of(GeocodeCache.builder().result(json.getValue()).build()));
+        GeocodingResult cached = googleApiService.getResultFromGeoCode("placeId", 1);
+
+        assertEquals(result.formattedAddress, cached.formattedAddress);
+        assertEquals(result.geometry.location.lat, cached.geometry.location.lat);
+        assertEquals(result.geometry.location.lng, cached.geometry.location.lng);
+        assertEquals(result.addressComponents.length, cached.addressComponents.length);
+        assertEquals(result.addressComponents[0].longName, cached.addressComponents[0].longName);
+        assertEquals(result.addressComponents[0].types[0], cached.addressComponents[0].types[0]);
+        verify(outboundConcurrencyLimiter).acquire("google-geocoding");
+    }
+
+    @Test
+    void testGetGeocodingResultByCityAndCountryAndLocaleFromCache() {
+        GeocodingResult result = ModelUtils.getGeocodingResult().getFirst();
+        when(geocodeCacheRepository.findByCacheKey("city:ukraine,bila tserkva:en"))
+            .thenReturn(Optional.of(GeocodeCache.builder().result(new Gson().toJson(result)).build()));
+
+        try (MockedStatic<GeocodingApi> utilities = Mockito.mockStatic(GeocodingApi.class)) {
+            GeocodingResult cached = googleApiService
+                .getGeocodingResultByCityAndCountryAndLocale("Ukraine", " Bila  Tserkva", "en");
+
+            assertEquals(result.geometry.location.lat, cached.geometry.location.lat);
+            assertEquals(result.geometry.location.lng, cached.geometry.location.lng);
+            utilities.verifyNoInteractions();
+        }
+        verify(geocodeCacheRepository, never()).insertIfAbsent(anyString(), anyString());
+        verifyNoInteractions(outboundConcurrencyLimiter);
+    }
 }
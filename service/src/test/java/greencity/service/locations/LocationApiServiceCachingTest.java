@@ -0,0 +1,84 @@
+package greencity.service.locations;
+
+import greencity.config.LocationCacheConfig;
+import greencity.config.LocationCacheConfigProp;
+import greencity.dto.location.api.LocationDto;
+import greencity.enums.LocationDivision;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+import java.net.URI;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocationApiServiceCachingTest {
+    private static final String API_URL = "https://directory.org.ua/api/katottg";
+    private static final String REGION_NAME = "Львівська";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private AnnotationConfigApplicationContext context;
+    private LocationApiService locationApiService;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.register(LocationCacheConfig.class, LocationCacheConfigProp.class, LocationApiServiceImpl.class);
+        context.registerBean(RestTemplate.class, () -> restTemplate);
+        context.registerBean(LocationSnapshotService.class, () -> mock(LocationSnapshotService.class));
+        context.registerBean("kyivZonedClock", Clock.class, Clock::systemUTC);
+        context.refresh();
+        locationApiService = context.getBean(LocationApiService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void internalCallsGoThroughCacheTest() {
+        URI byName = UriComponentsBuilder.fromHttpUrl(API_URL)
+            .queryParam("page_size", 125)
+            .queryParam("name", REGION_NAME)
+            .queryParam("level", LocationDivision.REGION.getLevelId())
+            .build().encode().toUri();
+        URI byLevel = UriComponentsBuilder.fromHttpUrl(API_URL)
+            .queryParam("page_size", 125)
+            .queryParam("level", LocationDivision.REGION.getLevelId())
+            .build().encode().toUri();
+        respond(byName, List.of());
+        respond(byLevel, List.of(Map.of("code", "UA46000000000026241", "name", REGION_NAME, "name_en", "Lvivska")));
+
+        LocationDto region = locationApiService.getRegionByName(REGION_NAME);
+        locationApiService.getRegionByName(REGION_NAME);
+        List<LocationDto> regions = locationApiService.getAllRegions();
+
+        assertEquals("UA46000000000026241", region.getId());
+        assertEquals(List.of(region), regions);
+        verify(restTemplate, times(1)).exchange(eq(byName), eq(HttpMethod.GET), eq(null),
+            any(ParameterizedTypeReference.class));
+        verify(restTemplate, times(1)).exchange(eq(byLevel), eq(HttpMethod.GET), eq(null),
+            any(ParameterizedTypeReference.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respond(URI uri, List<Map<String, Object>> results) {
+        when(restTemplate.exchange(eq(uri), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
+            .thenReturn(new ResponseEntity<>(Map.of("results", results), HttpStatus.OK));
+    }
+}
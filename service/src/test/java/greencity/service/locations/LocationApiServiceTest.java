@@ -13,6 +13,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import java.util.Map;
@@ -21,12 +22,14 @@ import java.util.List;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Optional;
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -46,6 +49,8 @@ class LocationApiServiceTest {
     LocationApiServiceImpl locationApiService;
     @Mock
     RestTemplate restTemplate;
+    @Mock
+    LocationSnapshotService locationSnapshotService;
 
     static Map<String, Object> getApiResult(String code, String parent_id, String name, String nameEn) {
         Map<String, Object> apiResult = new HashMap<>();
@@ -58,7 +63,8 @@ class LocationApiServiceTest {
 
     @BeforeEach
     void setUp() {
-        locationApiService = new LocationApiServiceImpl(restTemplate);
+        locationApiService = new LocationApiServiceImpl(restTemplate, locationSnapshotService);
+        ReflectionTestUtils.setField(locationApiService, "self", locationApiService);
     }
 
     private UriComponentsBuilder buildCode(String code, int level) {
@@ -492,4 +498,21 @@ class LocationApiServiceTest {
         assertThrows(NotFoundException.class,
             () -> locationApiService.getAllDistrictsInCityByNames("Миколаївська область", "Миколаїв"));
     }
+
+    @Test
+    void testGetLocationDataFromSnapshot() {
+        LocationDto region = LocationDto.builder()
+            .id("UA46000000000026241")
+            .locationNameMap(Map.of(NAME, "Львівська", NAME_EN, "Lvivska"))
+            .build();
+        when(locationSnapshotService.getLocationDataByLevel(LocationDivision.REGION.getLevelId()))
+            .thenReturn(Optional.of(List.of(region)));
+        when(locationSnapshotService.getLocationDataByCode(LocationDivision.REGION.getLevelId(), region.getId()))
+            .thenReturn(Optional.of(region));
+
+        assertEquals(List.of(region), locationApiService.getAllRegions());
+        assertEquals(region, locationApiService.getLocationDataByCode(LocationDivision.REGION.getLevelId(),
+            region.getId()));
+        verifyNoInteractions(restTemplate);
+    }
 }
@@ -0,0 +1,55 @@
+package greencity.service.locations;
+
+import greencity.config.LocationCacheConfig;
+import greencity.config.LocationCacheConfigProp;
+import greencity.dto.location.api.LocationCacheStatsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LocationCacheServiceImplTest {
+    private CacheManager cacheManager;
+    private LocationCacheServiceImpl locationCacheService;
+
+    @BeforeEach
+    void setUp() {
+        LocationCacheConfigProp locationCacheConfigProp = new LocationCacheConfigProp();
+        locationCacheConfigProp.setMaxSize(100);
+        locationCacheConfigProp.setTtl(Duration.ofHours(1));
+        locationCacheConfigProp.getRegions().put("locationDataByLevel",
+            new LocationCacheConfigProp.Policy().setMaxSize(10));
+        cacheManager = new LocationCacheConfig().cacheManager(locationCacheConfigProp, Clock.systemUTC());
+        locationCacheService = new LocationCacheServiceImpl(cacheManager);
+    }
+
+    @Test
+    void getStatsTest() {
+        cacheManager.getCache("regionByName").put("Київ", "UA80000000000093317");
+        cacheManager.getCache("locationDataByLevel").get(1);
+
+        List<LocationCacheStatsDto> stats = locationCacheService.getStats();
+
+        assertEquals(2, stats.size());
+        assertEquals("locationDataByLevel", stats.get(0).getName());
+        assertEquals(10, stats.get(0).getMaxSize());
+        assertEquals(3600, stats.get(0).getTtlSeconds());
+        assertEquals(1, stats.get(0).getMissCount());
+        assertEquals("regionByName", stats.get(1).getName());
+        assertEquals(100, stats.get(1).getMaxSize());
+        assertEquals(1, stats.get(1).getSize());
+    }
+
+    @Test
+    void invalidateAllTest() {
+        cacheManager.getCache("regionByName").put("Київ", "UA80000000000093317");
+
+        locationCacheService.invalidateAll();
+
+        assertNull(cacheManager.getCache("regionByName").get("Київ"));
+    }
+}
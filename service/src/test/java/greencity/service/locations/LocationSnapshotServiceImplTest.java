@@ -0,0 +1,121 @@
+package greencity.service.locations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.config.LocationSnapshotConfigProp;
+import greencity.dto.location.api.LocationDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class LocationSnapshotServiceImplTest {
+    private static final String SNAPSHOT = "classpath:locations/katottg-snapshot.json";
+
+    @Mock
+    private LocationCacheService locationCacheService;
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final LocationSnapshotConfigProp locationSnapshotConfigProp = new LocationSnapshotConfigProp();
+    private LocationSnapshotServiceImpl locationSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        locationSnapshotService = new LocationSnapshotServiceImpl(new DefaultResourceLoader(), new ObjectMapper(),
+            locationSnapshotConfigProp, locationCacheService);
+    }
+
+    @Test
+    void lookupsWithoutSnapshotTest() {
+        locationSnapshotService.refresh();
+
+        assertTrue(locationSnapshotService.getLocationDataByLevel(1).isEmpty());
+        assertTrue(locationSnapshotService.getLocationDataByName(1, "Київ").isEmpty());
+        assertTrue(locationSnapshotService.getLocationDataByUpperId(5, "UA80000000000093317").isEmpty());
+        assertTrue(locationSnapshotService.getLocationDataByCode(1, "UA80000000000093317").isEmpty());
+        verifyNoInteractions(locationCacheService);
+    }
+
+    @Test
+    void lookupsFromSnapshotTest() {
+        locationSnapshotConfigProp.setPath(SNAPSHOT);
+        locationSnapshotService.refresh();
+
+        assertEquals(2, locationSnapshotService.getLocationDataByLevel(1).orElseThrow().size());
+        assertEquals(List.of("UA46060250010015970"), ids(locationSnapshotService.getLocationDataByName(4, "Lviv")));
+        assertEquals(List.of("UA46060250020011124"), ids(locationSnapshotService.getLocationDataByName(4, "Зав’ятки")));
+        assertEquals(List.of(), ids(locationSnapshotService.getLocationDataByName(4, "Миколаїв")));
+        assertEquals(List.of("UA46060250010121390", "UA46060250010259421"),
+            ids(locationSnapshotService.getLocationDataByUpperId(5, "UA46060250010015970")));
+        assertEquals("Львівський", locationSnapshotService.getLocationDataByCode(2, "UA46060000000042587")
+            .orElseThrow().getLocationNameMap().get("name"));
+        assertTrue(locationSnapshotService.getLocationDataByCode(3, "UA46060000000042587").isEmpty());
+        verify(locationCacheService).invalidateAll();
+    }
+
+    @Test
+    void refreshReloadsOnlyChangedSnapshotTest(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("katottg.json.gz");
+        try (InputStream in = getClass().getResourceAsStream("/locations/katottg-snapshot.json");
+            OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            in.transferTo(out);
+        }
+        locationSnapshotConfigProp.setPath(file.toUri().toString());
+
+        locationSnapshotService.refresh();
+        locationSnapshotService.refresh();
+        verify(locationCacheService, times(1)).invalidateAll();
+
+        Files.writeString(file, "broken");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        locationSnapshotService.refresh();
+
+        verify(locationCacheService, times(1)).invalidateAll();
+        assertEquals(2, locationSnapshotService.getLocationDataByLevel(1).orElseThrow().size());
+    }
+
+    @Test
+    void getAllDistrictsInCityByNamesFromSnapshotTest() {
+        locationSnapshotConfigProp.setPath(SNAPSHOT);
+        locationSnapshotService.refresh();
+        LocationApiServiceImpl locationApiService = new LocationApiServiceImpl(restTemplate, locationSnapshotService);
+        ReflectionTestUtils.setField(locationApiService, "self", locationApiService);
+
+        assertEquals(List.of("UA46060250010121390", "UA46060250010259421"),
+            ids(Optional.of(locationApiService.getAllDistrictsInCityByNames("Львівська область", "Львів"))));
+        assertEquals(List.of("UA46060250020011124"),
+            ids(Optional.of(locationApiService.getAllDistrictsInCityByNames("Lvivska", "Зав'ятки"))));
+        assertEquals(List.of("UA80000000000126643"),
+            ids(Optional.of(locationApiService.getAllDistrictsInCityByNames("Київ", "Київ"))));
+        verify(restTemplate, never()).exchange(any(URI.class), any(), any(), any(ParameterizedTypeReference.class));
+    }
+
+    private static List<String> ids(Optional<List<LocationDto>> locations) {
+        return locations.orElseThrow().stream().map(LocationDto::getId).toList();
+    }
+}
@@ -22,6 +22,10 @@ class EmailServiceTest {
     private EmailService emailService;
     @Mock
     private UserRemoteClient userRemoteClient;
+    @Mock
+    private NotificationUserCacheService notificationUserCacheService;
+    @Mock
+    private NotificationTemplateCacheService notificationTemplateCacheService;
 
     @Test
     void isEnabled() {
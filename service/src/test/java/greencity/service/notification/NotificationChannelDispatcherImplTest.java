@@ -0,0 +1,154 @@
+package greencity.service.notification;
+
+import greencity.config.NotificationChannelConfigProp;
+import greencity.dto.notification.NotificationChannelStatsDto;
+import greencity.entity.notifications.UserNotification;
+import greencity.enums.NotificationReceiverType;
+import greencity.exceptions.user.UserNotFoundException;
+import greencity.exceptions.bots.MessageWasNotSent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationChannelDispatcherImplTest {
+    @Mock
+    private AbstractNotificationProvider emailService;
+    @Mock
+    private AbstractNotificationProvider viberService;
+
+    private final NotificationChannelConfigProp notificationChannelConfigProp = new NotificationChannelConfigProp();
+    private final UserNotification notification = new UserNotification();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private NotificationChannelDispatcherImpl dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        NotificationChannelConfigProp.Channel email = new NotificationChannelConfigProp.Channel();
+        email.setInitialBackoff(Duration.ofMillis(10));
+        NotificationChannelConfigProp.Channel viber = new NotificationChannelConfigProp.Channel();
+        viber.setConcurrency(1);
+        viber.setQueueCapacity(1);
+        notificationChannelConfigProp.setChannels(Map.of("email", email, "viber", viber));
+        notification.setId(1L);
+        when(emailService.getChannelName()).thenReturn("email");
+        when(viberService.getChannelName()).thenReturn("viber");
+        lenient().when(emailService.getNotificationType()).thenReturn(NotificationReceiverType.EMAIL);
+        lenient().when(viberService.getNotificationType()).thenReturn(NotificationReceiverType.MOBILE);
+        dispatcher = new NotificationChannelDispatcherImpl(List.of(emailService, viberService),
+            notificationChannelConfigProp);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatchDoesNotWaitForSlowChannelTest() {
+        blockViber();
+
+        dispatcher.dispatch(notification, 2L);
+
+        verify(emailService, timeout(1000)).sendNotification(notification, NotificationReceiverType.EMAIL, 2L);
+        verify(viberService, timeout(1000)).sendNotification(notification, NotificationReceiverType.MOBILE, 2L);
+        assertEquals(1, awaitSent("email", 1).getSentCount());
+        assertEquals(0, getStats("viber").getSentCount());
+    }
+
+    @Test
+    void dispatchRetriesFailedNotificationTest() {
+        doThrow(new MessageWasNotSent("Not sent"))
+            .doNothing()
+            .when(emailService).sendNotification(notification, NotificationReceiverType.EMAIL, 0L);
+
+        dispatcher.dispatch(notification, 0L);
+
+        verify(emailService, timeout(1000).times(2))
+            .sendNotification(notification, NotificationReceiverType.EMAIL, 0L);
+        NotificationChannelStatsDto stats = awaitSent("email", 1);
+        assertEquals(1, stats.getRetriedCount());
+        assertEquals(0, stats.getFailedCount());
+    }
+
+    @Test
+    void dispatchDoesNotRetryNotificationOfAbsentUserTest() throws InterruptedException {
+        doThrow(new UserNotFoundException("Not found"))
+            .when(emailService).sendNotification(notification, NotificationReceiverType.EMAIL, 0L);
+
+        dispatcher.dispatch(notification, 0L);
+
+        verify(emailService, timeout(1000)).sendNotification(notification, NotificationReceiverType.EMAIL, 0L);
+        TimeUnit.MILLISECONDS.sleep(100);
+        verify(emailService, times(1)).sendNotification(any(), any(), anyLong());
+        assertEquals(1, getStats("email").getFailedCount());
+        assertEquals(0, getStats("email").getRetriedCount());
+    }
+
+    @Test
+    void dispatchSendsNotificationInCallerThreadWhenQueueIsFullTest() {
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+            .doNothing()
+            .when(viberService).sendNotification(any(), any(), anyLong());
+        lenient().doNothing().when(emailService).sendNotification(any(), any(), anyLong());
+
+        dispatcher.dispatch(notification, 0L);
+        verify(viberService, timeout(1000)).sendNotification(notification, NotificationReceiverType.MOBILE, 0L);
+        dispatcher.dispatch(notification, 0L);
+        dispatcher.dispatch(notification, 0L);
+
+        NotificationChannelStatsDto stats = getStats("viber");
+        assertEquals(1, stats.getQueueSize());
+        assertEquals(1, stats.getCallerRunsCount());
+        assertEquals(1, stats.getSentCount());
+
+        release.countDown();
+
+        verify(viberService, timeout(1000).times(3))
+            .sendNotification(notification, NotificationReceiverType.MOBILE, 0L);
+        assertEquals(3, awaitSent("viber", 3).getSentCount());
+    }
+
+    private void blockViber() {
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+            .when(viberService).sendNotification(any(), any(), anyLong());
+        lenient().doNothing().when(emailService).sendNotification(any(), any(), anyLong());
+    }
+
+    private NotificationChannelStatsDto awaitSent(String channel, long sentCount) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        NotificationChannelStatsDto stats = getStats(channel);
+        while (stats.getSentCount() < sentCount && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            stats = getStats(channel);
+        }
+        return stats;
+    }
+
+    private NotificationChannelStatsDto getStats(String channel) {
+        return dispatcher.getStats().stream()
+            .filter(stats -> stats.getChannel().equals(channel))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -3,19 +3,20 @@ package greencity.service.notification;
 import com.google.common.util.concurrent.MoreExecutors;
 import greencity.ModelUtils;
 import greencity.config.InternalUrlConfigProp;
+import greencity.config.NotificationBatchConfigProp;
 import greencity.dto.notification.NotificationDto;
 import greencity.dto.notification.NotificationShortDto;
 import greencity.dto.pageble.PageableDto;
 import greencity.entity.order.Event;
-import greencity.enums.NotificationTrigger;
+import greencity.enums.EventCode;
 import greencity.enums.NotificationType;
 import greencity.enums.OrderPaymentStatus;
 import greencity.enums.OrderStatus;
 import greencity.enums.PaymentStatus;
-import greencity.enums.NotificationReceiverType;
 import greencity.entity.notifications.NotificationParameter;
 import greencity.entity.notifications.UserNotification;
 import greencity.entity.order.Order;
+import greencity.entity.order.OrderBag;
 import greencity.entity.order.Payment;
 import greencity.entity.user.User;
 import greencity.entity.user.Violation;
@@ -24,29 +25,29 @@ import greencity.exceptions.NotFoundException;
 import greencity.exceptions.http.AccessDeniedException;
 import greencity.filters.UserSpecification;
 import greencity.repository.NotificationParameterRepository;
-import greencity.repository.NotificationTemplateRepository;
+import greencity.repository.NotificationSweepRepository;
 import greencity.repository.OrderRepository;
+import greencity.repository.UserNotificationBatchRepository;
 import greencity.repository.UserNotificationRepository;
 import greencity.repository.UserRepository;
 import greencity.repository.ViolationRepository;
 import greencity.service.ubs.OrderBagService;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.EnumSource;
 
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -59,6 +60,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -85,7 +87,6 @@ import static greencity.ModelUtils.TEST_USER_NOTIFICATION_7;
 import static greencity.ModelUtils.TEST_VIOLATION;
 import static greencity.ModelUtils.createUserNotificationForViolationWithParameters;
 import static greencity.ModelUtils.createViolationNotificationDto;
-import static greencity.ModelUtils.getBag1list;
 import static greencity.ModelUtils.getBag4list;
 import static greencity.ModelUtils.getCertificate;
 import static greencity.ModelUtils.getUser;
@@ -101,19 +102,20 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.anyLong;
-import static greencity.constant.OrderHistory.ADD_VIOLATION;
-import static greencity.constant.OrderHistory.CHANGES_VIOLATION;
-import static greencity.constant.OrderHistory.DELETE_VIOLATION;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static greencity.constant.OrderHistory.ORDER_ADJUSTMENT;
 import static greencity.constant.OrderHistory.ORDER_CONFIRMED;
 import static greencity.constant.OrderHistory.ORDER_FORMED;
-import static greencity.constant.OrderHistory.ORDER_NOT_TAKEN_OUT;
 import static greencity.constant.OrderHistory.ORDER_ON_THE_ROUTE;
-import static java.util.Arrays.asList;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceImplTest {
     private final static LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of(1994, 3, 28, 15, 10);
+    private static final List<EventCode> DONE_OR_CANCELED_EVENT_CODES = List.of(EventCode.ORDER_ADJUSTMENT,
+        EventCode.ORDER_CONFIRMED, EventCode.ORDER_ON_THE_ROUTE, EventCode.ORDER_NOT_TAKEN_OUT);
 
     private static final String ORDER_NUMBER_KEY = "orderNumber";
     private static final String AMOUNT_TO_PAY_KEY = "amountToPay";
@@ -141,7 +143,7 @@ class NotificationServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private NotificationTemplateRepository templateRepository;
+    private NotificationTemplateCacheService notificationTemplateCacheService;
 
     @Mock
     private Clock clock;
@@ -162,6 +164,24 @@ class NotificationServiceImplTest {
     @Mock
     private OrderBagService orderBagService;
 
+    @Mock
+    private UserNotificationBatchRepository userNotificationBatchRepository;
+
+    @Spy
+    private NotificationBatchConfigProp notificationBatchConfigProp = new NotificationBatchConfigProp();
+
+    @Mock
+    private NotificationSweepRepository notificationSweepRepository;
+
+    @Mock
+    private NotificationUserCacheService notificationUserCacheService;
+
+    @Mock
+    private TaskExecutor notificationDispatchExecutor;
+
+    @Mock
+    private NotificationChannelDispatcher notificationChannelDispatcher;
+
     @Nested
     class ClockNotification {
         @BeforeEach
@@ -198,44 +218,35 @@ class NotificationServiceImplTest {
             when(orderRepository.findAllByOrderPaymentStatus(OrderPaymentStatus.UNPAID))
                 .thenReturn(orders);
 
-            doReturn(Optional.empty()).when(userNotificationRepository)
-                .findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(orders.get(0).getId(),
-                    NotificationType.UNPAID_ORDER);
-
-            doReturn(Optional.empty()).when(userNotificationRepository)
-                .findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(orders.get(1).getId(),
-                    NotificationType.UNPAID_ORDER);
-
-            UserNotification thirdOrderLastNotification = new UserNotification();
-            thirdOrderLastNotification.setNotificationType(NotificationType.UNPAID_ORDER);
-            thirdOrderLastNotification.setNotificationTime(LocalDateTime.now(fixedClock).minusWeeks(1));
+            when(notificationSweepRepository.findLastNotificationTimes(List.of(1L, 2L, 3L),
+                List.of(NotificationType.UNPAID_ORDER)))
+                .thenReturn(Map.of(3L, LocalDateTime.now(fixedClock).minusWeeks(1)));
 
-            doReturn(Optional.of(thirdOrderLastNotification)).when(userNotificationRepository)
-                .findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(orders.get(2).getId(),
-                    NotificationType.UNPAID_ORDER);
-
-            UserNotification created = new UserNotification();
-            created.setNotificationType(NotificationType.UNPAID_ORDER);
-            created.setNotificationTime(LocalDateTime.now(fixedClock));
-            created.setUser(getUser());
-            created.setId(1L);
+            notificationService.notifyUnpaidOrders();
 
-            when(userNotificationRepository.save(any())).thenReturn(created);
+            verify(userNotificationBatchRepository).saveAll(argThat(notifications -> notifications.size() == 3
+                && notifications.stream().allMatch(n -> n.getNotificationType() == NotificationType.UNPAID_ORDER)));
+            verify(notificationDispatchExecutor).execute(any(Runnable.class));
+            verify(userNotificationRepository, never()).save(any());
+            verify(orderBagService).findAllOrderBagsByOrderIds(List.of(1L, 2L, 3L));
+            verify(orderBagService, never()).findAllBagsByOrderId(any());
+        }
 
-            List<NotificationParameter> notificationParameters = List.of(
-                NotificationParameter.builder().id(1L)
-                    .userNotification(created).key("orderNumber")
-                    .value(orders.getFirst().getId().toString()).build(),
-                NotificationParameter.builder().id(2L)
-                    .userNotification(created).key("amountToPay")
-                    .value("10000").build());
+        @Test
+        void testNotifyUnpaidOrdersSkipsRecentlyNotifiedOrders() {
+            Order order = Order.builder().id(1L).user(getUser()).orderPaymentStatus(OrderPaymentStatus.UNPAID)
+                .orderDate(LocalDateTime.now(fixedClock).minusDays(3))
+                .build();
 
-            when(notificationParameterRepository.saveAll(any())).thenReturn(notificationParameters);
+            when(orderRepository.findAllByOrderPaymentStatus(OrderPaymentStatus.UNPAID))
+                .thenReturn(List.of(order));
+            when(notificationSweepRepository.findLastNotificationTimes(List.of(1L),
+                List.of(NotificationType.UNPAID_ORDER)))
+                .thenReturn(Map.of(1L, LocalDateTime.now(fixedClock).minusDays(6)));
 
             notificationService.notifyUnpaidOrders();
 
-            verify(notificationParameterRepository, times(3)).saveAll(any());
-            verify(userNotificationRepository, times(3)).save(any());
+            verify(userNotificationBatchRepository, never()).saveAll(any());
         }
 
         @Test
@@ -245,7 +256,8 @@ class NotificationServiceImplTest {
             notificationService.notifyPaidOrder(TEST_ORDER_2);
 
             verify(userNotificationRepository, times(1)).save(any());
-
+            verify(notificationChannelDispatcher).dispatch(TEST_USER_NOTIFICATION, 0L);
+            verifyNoInteractions(notificationDispatchExecutor);
         }
 
         @Test
@@ -291,20 +303,14 @@ class NotificationServiceImplTest {
             UserNotification userNotification = getInternallyFormedOrderUserNotification(order);
             List<NotificationParameter> parameters = courierInternallyFormedParameters(order);
 
-            mockUserNeedNotificationCheck(order, NotificationType.COURIER_ITINERARY_FORMED);
             when(orderRepository.findAllByOrderStatusAndOrderPaymentStatus(
                 OrderStatus.ADJUSTMENT, OrderPaymentStatus.PAID)).thenReturn(orders);
 
-            when(userNotificationRepository.save(any())).thenReturn(userNotification);
-
-            parameters.forEach(parameter -> parameter.setUserNotification(userNotification));
-            when(notificationParameterRepository.saveAll(new HashSet<>(parameters))).thenReturn(parameters);
-
             notificationService.notifyAllCourierItineraryFormed();
 
-            verifyUserNeedNotificationCheck();
-            verify(userNotificationRepository).save(any());
-            verify(notificationParameterRepository).saveAll(new HashSet<>(parameters));
+            verify(userNotificationBatchRepository).saveAll(argThat(notifications -> notifications.size() == 1
+                && notifications.getFirst().equals(userNotification)
+                && notifications.getFirst().getParameters().equals(new HashSet<>(parameters))));
         }
 
         private UserNotification getInternallyFormedOrderUserNotification(Order order) {
@@ -431,22 +437,19 @@ class NotificationServiceImplTest {
         void testNotifyAllAddedViolations() {
             Order order = TEST_ORDER_4;
             List<Order> orders = Collections.singletonList(order);
-            setEventsToOrder(order, ADD_VIOLATION);
             Violation violation = getOrdersViolations(order);
             Set<NotificationParameter> parameters = getNewViolationParameter(violation);
 
-            mockUserNeedNotificationCheck(order, NotificationType.VIOLATION_THE_RULES);
-            when(orderRepository.findAllWithEventsByEventNames(ADD_VIOLATION, CHANGES_VIOLATION, DELETE_VIOLATION))
-                .thenReturn(orders);
-            when(violationRepository.findActiveViolationByOrderId(anyLong())).thenReturn(Optional.of(violation));
-            mockFillAndSendNotification(parameters, order, NotificationType.VIOLATION_THE_RULES);
+            when(orderRepository.findAllWithEventCodesWithoutEventCodes(List.of(EventCode.ADD_VIOLATION),
+                List.of(EventCode.CHANGES_VIOLATION, EventCode.DELETE_VIOLATION))).thenReturn(orders);
+            when(violationRepository.findActiveViolationsByOrderIds(List.of(order.getId())))
+                .thenReturn(List.of(violation));
 
             notificationService.notifyAllAddedViolations();
 
-            verify(userNotificationRepository).save(any());
-            verify(orderRepository).findAllWithEventsByEventNames(anyString(), anyString(), anyString());
-            verify(violationRepository).findActiveViolationByOrderId(anyLong());
-            verifyFillAndSendNotification();
+            verify(orderRepository).findAllWithEventCodesWithoutEventCodes(anyList(), anyList());
+            verify(violationRepository, never()).findActiveViolationByOrderId(anyLong());
+            verifyNotificationSavedInBatch(parameters, order, NotificationType.VIOLATION_THE_RULES);
         }
 
         private Violation getOrdersViolations(Order order) {
@@ -468,68 +471,54 @@ class NotificationServiceImplTest {
 
         @Test
         void testNotifyAllAddedViolationsWhenThereAreNotJustNewViolations() {
-            Order order = TEST_ORDER_4;
-            List<Order> orders = Collections.singletonList(order);
-            setEventsToOrder(order, ADD_VIOLATION, CHANGES_VIOLATION);
-
-            when(orderRepository.findAllWithEventsByEventNames(ADD_VIOLATION, CHANGES_VIOLATION, DELETE_VIOLATION))
-                .thenReturn(orders);
+            when(orderRepository.findAllWithEventCodesWithoutEventCodes(List.of(EventCode.ADD_VIOLATION),
+                List.of(EventCode.CHANGES_VIOLATION, EventCode.DELETE_VIOLATION))).thenReturn(Collections.emptyList());
 
             notificationService.notifyAllAddedViolations();
 
-            verify(orderRepository).findAllWithEventsByEventNames(anyString(), anyString(), anyString());
+            verify(orderRepository).findAllWithEventCodesWithoutEventCodes(anyList(), anyList());
+            verifyNoInteractions(violationRepository, userNotificationBatchRepository);
         }
 
         @Test
         void testNotifyAllChangedViolations() {
             Order order = TEST_ORDER_4;
             List<Order> orders = Collections.singletonList(order);
-            setEventsToOrder(order, CHANGES_VIOLATION);
             Set<NotificationParameter> parameters = getViolationParameter(order);
 
-            mockUserNeedNotificationCheck(order, NotificationType.CHANGED_IN_RULE_VIOLATION_STATUS);
-            when(orderRepository.findAllWithEventsByEventNames(CHANGES_VIOLATION, DELETE_VIOLATION))
-                .thenReturn(orders);
-            mockFillAndSendNotification(parameters, order, NotificationType.CHANGED_IN_RULE_VIOLATION_STATUS);
+            when(orderRepository.findAllWithEventCodesWithoutEventCodes(List.of(EventCode.CHANGES_VIOLATION),
+                List.of(EventCode.DELETE_VIOLATION))).thenReturn(orders);
 
             notificationService.notifyAllChangedViolations();
 
-            verifyUserNeedNotificationCheck();
-            verify(orderRepository).findAllWithEventsByEventNames(anyString(), anyString());
-            verifyFillAndSendNotification();
+            verify(orderRepository).findAllWithEventCodesWithoutEventCodes(anyList(), anyList());
+            verifyNotificationSavedInBatch(parameters, order, NotificationType.CHANGED_IN_RULE_VIOLATION_STATUS);
         }
 
         @Test
         void testNotifyAllChangedViolationsWithDeletedEvents() {
-            Order order = TEST_ORDER_4;
-            List<Order> orders = Collections.singletonList(order);
-            setEventsToOrder(order, CHANGES_VIOLATION, DELETE_VIOLATION);
-
-            when(orderRepository.findAllWithEventsByEventNames(CHANGES_VIOLATION, DELETE_VIOLATION))
-                .thenReturn(orders);
+            when(orderRepository.findAllWithEventCodesWithoutEventCodes(List.of(EventCode.CHANGES_VIOLATION),
+                List.of(EventCode.DELETE_VIOLATION))).thenReturn(Collections.emptyList());
 
             notificationService.notifyAllChangedViolations();
 
-            verify(orderRepository).findAllWithEventsByEventNames(anyString(), anyString());
+            verify(orderRepository).findAllWithEventCodesWithoutEventCodes(anyList(), anyList());
+            verifyNoInteractions(userNotificationBatchRepository);
         }
 
         @Test
         void testNotifyAllCanceledViolations() {
             Order order = TEST_ORDER_4;
             List<Order> orders = Collections.singletonList(order);
-            setEventsToOrder(order, DELETE_VIOLATION);
             Set<NotificationParameter> parameters = getViolationParameter(order);
 
-            mockUserNeedNotificationCheck(order, NotificationType.CANCELED_VIOLATION_THE_RULES_BY_THE_MANAGER);
-            when(orderRepository.findAllWithEventsByEventNames(DELETE_VIOLATION)).thenReturn(orders);
-            mockFillAndSendNotification(parameters, order,
-                NotificationType.CANCELED_VIOLATION_THE_RULES_BY_THE_MANAGER);
+            when(orderRepository.findAllWithEventCodes(List.of(EventCode.DELETE_VIOLATION))).thenReturn(orders);
 
             notificationService.notifyAllCanceledViolations();
 
-            verifyUserNeedNotificationCheck();
-            verify(orderRepository).findAllWithEventsByEventNames(anyString());
-            verifyFillAndSendNotification();
+            verify(orderRepository).findAllWithEventCodes(anyList());
+            verifyNotificationSavedInBatch(parameters, order,
+                NotificationType.CANCELED_VIOLATION_THE_RULES_BY_THE_MANAGER);
         }
 
         private Set<NotificationParameter> getViolationParameter(Order order) {
@@ -545,36 +534,33 @@ class NotificationServiceImplTest {
         void testNotifyAllDoneOrCanceledUnpaidOrders() {
             Order order = getOrderWithAmountToPay();
             List<Order> orders = Collections.singletonList(order);
-            setEventsToOrder(order, ORDER_ADJUSTMENT, ORDER_CONFIRMED, ORDER_ON_THE_ROUTE);
             Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order);
 
-            mockUserNeedNotificationCheck(order, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
-            when(orderRepository.findAllByPaymentStatusesAndOrderStatuses(
+            when(orderRepository.findAllByPaymentStatusesAndOrderStatusesWithEventCount(
                 List.of(OrderPaymentStatus.UNPAID, OrderPaymentStatus.HALF_PAID),
-                List.of(OrderStatus.DONE, OrderStatus.CANCELED))).thenReturn(orders);
-            when(orderBagService.findAllBagsByOrderId(any())).thenReturn(getBag4list());
-            mockFillAndSendNotification(parameters, order, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
+                List.of(OrderStatus.DONE, OrderStatus.CANCELED), DONE_OR_CANCELED_EVENT_CODES, 3L))
+                .thenReturn(orders);
+            mockOrderBags(order);
 
             notificationService.notifyAllDoneOrCanceledUnpaidOrders();
 
-            verifyUserNeedNotificationCheck();
-            verify(orderRepository).findAllByPaymentStatusesAndOrderStatuses(any(), any());
-            verifyFillAndSendNotification();
+            verify(orderRepository).findAllByPaymentStatusesAndOrderStatusesWithEventCount(any(), any(), any(),
+                anyLong());
+            verifyNotificationSavedInBatch(parameters, order, NotificationType.DONE_OR_CANCELED_UNPAID_ORDER);
         }
 
         @Test
         void testNotifyAllDoneOrCanceledUnpaidOrdersWithoutRequiredEvents() {
-            Order order = getOrderWithAmountToPay();
-            List<Order> orders = Collections.singletonList(order);
-            order.setEvents(Collections.emptyList());
-
-            when(orderRepository.findAllByPaymentStatusesAndOrderStatuses(
+            when(orderRepository.findAllByPaymentStatusesAndOrderStatusesWithEventCount(
                 List.of(OrderPaymentStatus.UNPAID, OrderPaymentStatus.HALF_PAID),
-                List.of(OrderStatus.DONE, OrderStatus.CANCELED))).thenReturn(orders);
+                List.of(OrderStatus.DONE, OrderStatus.CANCELED), DONE_OR_CANCELED_EVENT_CODES, 3L))
+                .thenReturn(Collections.emptyList());
 
             notificationService.notifyAllDoneOrCanceledUnpaidOrders();
 
-            verify(orderRepository).findAllByPaymentStatusesAndOrderStatuses(any(), any());
+            verify(orderRepository).findAllByPaymentStatusesAndOrderStatusesWithEventCount(any(), any(), any(),
+                anyLong());
+            verifyNoInteractions(userNotificationBatchRepository);
         }
 
         @Test
@@ -583,95 +569,76 @@ class NotificationServiceImplTest {
             List<Order> orders = Collections.singletonList(order);
             Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order);
 
-            mockUserNeedNotificationCheck(order, NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF);
             when(orderRepository.findAllByOrderStatusAndOrderPaymentStatus(OrderStatus.BROUGHT_IT_HIMSELF,
                 OrderPaymentStatus.HALF_PAID)).thenReturn(orders);
-            when(orderBagService.findAllBagsByOrderId(any())).thenReturn(getBag4list());
-            mockFillAndSendNotification(parameters, order,
-                NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF);
+            mockOrderBags(order);
 
             notificationService.notifyAllHalfPaidOrdersWithStatusBroughtByHimself();
 
-            verifyUserNeedNotificationCheck();
             verify(orderRepository).findAllByOrderStatusAndOrderPaymentStatus(any(), any());
-            verifyFillAndSendNotification();
+            verifyNotificationSavedInBatch(parameters, order,
+                NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF);
         }
 
         @Test
         void testNotifyAllChangedOrderStatuses() {
             Order order = getOrderWithAmountToPay();
-            setEventsToOrder(order, ORDER_NOT_TAKEN_OUT, ADD_VIOLATION);
             List<Order> orders = Collections.singletonList(order);
             Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order);
 
-            when(orderRepository.findAllByOrderStatusWithEvents(OrderStatus.BROUGHT_IT_HIMSELF)).thenReturn(orders);
-            mockUserNeedNotificationCheck(order, NotificationType.ORDER_STATUS_CHANGED);
-            when(orderBagService.findAllBagsByOrderId(any())).thenReturn(getBag4list());
-            mockFillAndSendNotification(parameters, order, NotificationType.ORDER_STATUS_CHANGED);
+            when(orderRepository.findAllByOrderStatusWithoutEventCodes(OrderStatus.BROUGHT_IT_HIMSELF,
+                List.of(EventCode.ORDER_ADJUSTMENT, EventCode.ORDER_CONFIRMED))).thenReturn(orders);
+            mockOrderBags(order);
 
             notificationService.notifyAllChangedOrderStatuses();
 
-            verifyUserNeedNotificationCheck();
-            verify(orderRepository).findAllByOrderStatusWithEvents(any());
-            verifyFillAndSendNotification();
+            verify(orderRepository).findAllByOrderStatusWithoutEventCodes(any(), anyList());
+            verifyNotificationSavedInBatch(parameters, order, NotificationType.ORDER_STATUS_CHANGED);
         }
 
         @Test
         void testNotifyAllChangedOrderStatusesWithUnacceptableEvents() {
-            Order order = getOrderWithAmountToPay();
-            setEventsToOrder(order, ORDER_ADJUSTMENT, ORDER_CONFIRMED);
-            List<Order> orders = Collections.singletonList(order);
-
-            when(orderRepository.findAllByOrderStatusWithEvents(OrderStatus.BROUGHT_IT_HIMSELF)).thenReturn(orders);
+            when(orderRepository.findAllByOrderStatusWithoutEventCodes(OrderStatus.BROUGHT_IT_HIMSELF,
+                List.of(EventCode.ORDER_ADJUSTMENT, EventCode.ORDER_CONFIRMED))).thenReturn(Collections.emptyList());
 
             notificationService.notifyAllChangedOrderStatuses();
 
-            verify(orderRepository).findAllByOrderStatusWithEvents(any());
+            verify(orderRepository).findAllByOrderStatusWithoutEventCodes(any(), anyList());
+            verifyNoInteractions(userNotificationBatchRepository);
         }
 
         @ParameterizedTest
-        @MethodSource("correctArguments")
-        void testNotifyUnpaidPackages(OrderStatus orderStatus, List<String> eventNames) {
+        @EnumSource(value = OrderStatus.class, names = {"CONFIRMED", "DONE", "CANCELED"})
+        void testNotifyUnpaidPackages(OrderStatus orderStatus) {
             Order order = getOrderWithAmountToPay();
             order.setOrderStatus(orderStatus);
-            setEventsToOrder(order, eventNames);
             List<Order> orders = Collections.singletonList(order);
             Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order);
 
-            when(orderRepository.findAllByOrderPaymentStatusWithEvents(OrderPaymentStatus.HALF_PAID))
+            when(orderRepository.findAllByOrderPaymentStatusWithoutEventCount(OrderPaymentStatus.HALF_PAID,
+                List.of(OrderStatus.DONE, OrderStatus.CANCELED), DONE_OR_CANCELED_EVENT_CODES, 3L))
                 .thenReturn(orders);
-            mockUserNeedNotificationCheck(order, NotificationType.UNPAID_PACKAGE);
-            when(orderBagService.findAllBagsByOrderId(any())).thenReturn(getBag4list());
-            mockFillAndSendNotification(parameters, order, NotificationType.UNPAID_PACKAGE);
+            mockOrderBags(order);
 
             notificationService.notifyUnpaidPackages();
 
-            verifyUserNeedNotificationCheck();
-            verify(orderRepository).findAllByOrderPaymentStatusWithEvents(any());
-            verifyFillAndSendNotification();
-        }
-
-        private static Stream<Arguments> correctArguments() {
-            return Stream.of(
-                Arguments.of(OrderStatus.CONFIRMED, asList(ORDER_CONFIRMED, ORDER_ON_THE_ROUTE, ORDER_NOT_TAKEN_OUT)),
-                Arguments.of(OrderStatus.DONE, Collections.singletonList(ORDER_CONFIRMED)),
-                Arguments.of(OrderStatus.CANCELED, asList(ORDER_CONFIRMED, ORDER_ON_THE_ROUTE)));
+            verify(orderRepository).findAllByOrderPaymentStatusWithoutEventCount(any(), anyList(), anyList(),
+                anyLong());
+            verifyNotificationSavedInBatch(parameters, order, NotificationType.UNPAID_PACKAGE);
         }
 
-        @ParameterizedTest
-        @MethodSource("wrongForUnpaidOrderStatusesProvider")
-        void testNotifyUnpaidPackagesWhenOrderHasUnacceptableStatusesAndEvents(OrderStatus status) {
+        @Test
+        void testNotifyUnpaidPackagesWhenOrderIsBroughtByHimself() {
             Order order = getOrderWithAmountToPay();
-            order.setOrderStatus(status);
-            setEventsToOrder(order, ORDER_CONFIRMED, ORDER_ON_THE_ROUTE, ORDER_NOT_TAKEN_OUT);
-            List<Order> orders = Collections.singletonList(order);
+            order.setOrderStatus(OrderStatus.BROUGHT_IT_HIMSELF);
 
-            when(orderRepository.findAllByOrderPaymentStatusWithEvents(OrderPaymentStatus.HALF_PAID))
-                .thenReturn(orders);
+            when(orderRepository.findAllByOrderPaymentStatusWithoutEventCount(OrderPaymentStatus.HALF_PAID,
+                List.of(OrderStatus.DONE, OrderStatus.CANCELED), DONE_OR_CANCELED_EVENT_CODES, 3L))
+                .thenReturn(List.of(order));
 
             notificationService.notifyUnpaidPackages();
 
-            verify(orderRepository).findAllByOrderPaymentStatusWithEvents(any());
+            verifyNoInteractions(userNotificationBatchRepository);
         }
 
         @Test
@@ -680,31 +647,12 @@ class NotificationServiceImplTest {
             List<Order> orders = Collections.singletonList(order);
             Set<NotificationParameter> parameters = initialiseNotificationParametersForUnpaidOrder(order);
 
-            when(orderRepository.findAllUnpaidOrdersWithUsersByBagId(anyInt())).thenReturn(orders);
-            when(orderBagService.findAllBagsByOrderId(any())).thenReturn(getBag4list());
-            mockFillAndSendNotification(parameters, order, NotificationType.TARIFF_PRICE_WAS_CHANGED);
+            when(orderRepository.findAllUnpaidWithUsersByIdIn(List.of(order.getId()))).thenReturn(orders);
+            mockOrderBags(order);
 
-            notificationService.notifyAllOrdersWithIncreasedTariffPrice(anyInt());
-            verify(orderRepository).findAllUnpaidOrdersWithUsersByBagId(any());
-            verifyFillAndSendNotification();
-        }
-
-        private static Stream<OrderStatus> wrongForUnpaidOrderStatusesProvider() {
-            return Stream.of(OrderStatus.DONE, OrderStatus.CANCELED);
-        }
-
-        private void setEventsToOrder(Order order, String... eventNames) {
-            List<Event> events = Stream.of(eventNames)
-                .map(e -> Event.builder().eventName(e).build())
-                .toList();
-            order.setEvents(events);
-        }
-
-        private void setEventsToOrder(Order order, List<String> eventNames) {
-            List<Event> events = eventNames.stream()
-                .map(e -> Event.builder().eventName(e).build())
-                .toList();
-            order.setEvents(events);
+            notificationService.notifyOrdersWithIncreasedTariffPrice(List.of(order.getId()));
+            verify(orderRepository).findAllUnpaidWithUsersByIdIn(List.of(order.getId()));
+            verifyNotificationSavedInBatch(parameters, order, NotificationType.TARIFF_PRICE_WAS_CHANGED);
         }
 
         private Order getOrderWithAmountToPay() {
@@ -737,32 +685,26 @@ class NotificationServiceImplTest {
             return parameters;
         }
 
-        private void mockUserNeedNotificationCheck(Order order,NotificationType notificationType){
-            when(userNotificationRepository
-                .findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(order.getId(),
-                    notificationType)).thenReturn(Optional.empty());
+        private void mockOrderBags(Order order) {
+            when(orderBagService.findAllOrderBagsByOrderIds(List.of(order.getId())))
+                .thenReturn(Map.of(order.getId(), List.of(OrderBag.builder()
+                    .amount(1)
+                    .confirmedQuantity(1)
+                    .price(120_00L)
+                    .build())));
         }
 
-        private void mockFillAndSendNotification(Set<NotificationParameter> parameters, Order order,
+        private void verifyNotificationSavedInBatch(Set<NotificationParameter> parameters, Order order,
             NotificationType notificationType) {
-            UserNotification userNotification = new UserNotification();
-            userNotification.setNotificationType(notificationType);
-            userNotification.setUser(order.getUser());
-            userNotification.setOrder(order);
-            parameters.forEach(p -> p.setUserNotification(userNotification));
-
-            when(userNotificationRepository.save(any())).thenReturn(userNotification);
-            when(notificationParameterRepository.saveAll(any())).thenReturn(new LinkedList<>(parameters));
-        }
-
-        private void verifyFillAndSendNotification() {
-            verify(userNotificationRepository).save(any());
-            verify(notificationParameterRepository).saveAll(any());
-        }
-
-        private void verifyUserNeedNotificationCheck() {
-            verify(userNotificationRepository)
-                .findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(anyLong(), any());
+            Set<String> keys = parameters.stream().map(NotificationParameter::getKey).collect(Collectors.toSet());
+            verify(userNotificationBatchRepository).saveAll(argThat(notifications -> notifications.size() == 1
+                && notifications.getFirst().getOrder() == order
+                && notifications.getFirst().getNotificationType() == notificationType
+                && notifications.getFirst().getParameters().stream().map(NotificationParameter::getKey)
+                    .collect(Collectors.toSet()).equals(keys)
+                && notifications.getFirst().getParameters().stream()
+                    .allMatch(parameter -> parameter.getUserNotification() == notifications.getFirst())));
+            verify(userNotificationRepository, never()).save(any());
         }
 
         @Test
@@ -775,18 +717,30 @@ class NotificationServiceImplTest {
             userNotification.setTemplateId(templateId);
 
             when(userRepository.findAll(any(UserSpecification.class))).thenReturn(Collections.singletonList(user));
-            when(userNotificationRepository.save(any())).thenReturn(userNotification);
 
             notificationService.notifyCustom(templateId, UserCategory.USERS_WITH_ORDERS_MADE_LESS_THAN_3_MONTHS);
 
-            verify(userNotificationRepository).save(any());
+            verify(userNotificationBatchRepository).saveAll(List.of(userNotification));
             verify(userRepository).findAll(any(UserSpecification.class));
         }
 
+        @Test
+        void testNotifyCustomSplitsNotificationsIntoBatches() {
+            notificationBatchConfigProp.setBatchSize(2);
+            var users = List.of(User.builder().id(1L).build(), User.builder().id(2L).build(),
+                User.builder().id(3L).build());
+
+            when(userRepository.findAll(any(UserSpecification.class))).thenReturn(users);
+
+            notificationService.notifyCustom(1L, UserCategory.USERS_WITH_ORDERS_MADE_LESS_THAN_3_MONTHS);
+
+            verify(userNotificationBatchRepository).saveAll(argThat(notifications -> notifications.size() == 2));
+            verify(userNotificationBatchRepository).saveAll(argThat(notifications -> notifications.size() == 1));
+            verify(notificationDispatchExecutor, times(2)).execute(any(Runnable.class));
+        }
+
         @Test
         void testNotifyInactiveAccounts() {
-            AbstractNotificationProvider abstractNotificationProvider =
-                Mockito.mock(AbstractNotificationProvider.class);
             NotificationServiceImpl notificationService1 = new NotificationServiceImpl(
                 userRepository,
                 userNotificationRepository,
@@ -794,10 +748,15 @@ class NotificationServiceImplTest {
                 violationRepository,
                 notificationParameterRepository,
                 clock,
-                List.of(abstractNotificationProvider),
-                templateRepository,
+                notificationChannelDispatcher,
+                notificationTemplateCacheService,
                 mockExecutor,
-                internalUrlConfigProp, orderBagService);
+                internalUrlConfigProp, orderBagService,
+                userNotificationBatchRepository,
+                notificationBatchConfigProp,
+                notificationSweepRepository,
+                notificationUserCacheService,
+                mockExecutor::execute);
             User user = User.builder().id(42L).build();
             User user1 = User.builder().id(43L).build();
             UserNotification notification = new UserNotification();
@@ -810,11 +769,14 @@ class NotificationServiceImplTest {
                 .thenReturn(List.of(11L, 22L));
             when(userRepository.getInactiveUsersByDateOfLastOrder(LocalDate.now(clock).minusMonths(2L)))
                 .thenReturn(List.of(user, user1));
-            when(userNotificationRepository.save(any())).thenReturn(notification);
 
             notificationService1.notifyInactiveAccounts();
 
-            verify(userNotificationRepository, times(2)).save(any());
+            verify(userNotificationBatchRepository).saveAll(argThat(notifications -> notifications.size() == 2
+                && notifications.stream().allMatch(n -> n.getNotificationType() == notification.getNotificationType()
+                    && n.getNotificationTime().equals(LocalDateTime.now(fixedClock)))));
+            verify(notificationUserCacheService).prefetch(argThat(emails -> emails.size() == 2));
+            verify(notificationChannelDispatcher, times(2)).dispatch(any(), eq(2L));
         }
 
         @Test
@@ -879,40 +841,38 @@ class NotificationServiceImplTest {
             notification.setOrder(orders.getFirst());
             notification.setNotificationTime(LocalDateTime.now(fixedClock).minusWeeks(2));
 
-            when(userNotificationRepository.findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(
-                orders.get(0).getId(),
-                NotificationType.UNPAID_PACKAGE,
-                NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF,
-                NotificationType.DONE_OR_CANCELED_UNPAID_ORDER)).thenReturn(Optional.of(notification));
-
-            when(userNotificationRepository.findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(
-                orders.get(1).getId(),
-                NotificationType.UNPAID_PACKAGE,
-                NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF,
-                NotificationType.DONE_OR_CANCELED_UNPAID_ORDER)).thenReturn(Optional.empty());
-
-            when(userNotificationRepository.findFirstByOrderIdAndNotificationTypeInOrderByNotificationTimeDesc(
-                orders.get(2).getId(),
+            List<Long> orderIds = List.of(47L, 53L, 51L);
+            when(notificationSweepRepository.findLastNotificationTimes(orderIds, List.of(
                 NotificationType.UNPAID_PACKAGE,
                 NotificationType.HALF_PAID_ORDER_WITH_STATUS_BROUGHT_BY_HIMSELF,
-                NotificationType.DONE_OR_CANCELED_UNPAID_ORDER)).thenReturn(Optional.empty());
-
-            Set<NotificationParameter> parameters = new HashSet<>();
-
-            long amountToPay = 4400L;
-            parameters.add(NotificationParameter.builder().key("amountToPay")
-                .value(String.format("%.2f", (double) amountToPay)).build());
-            parameters.add(NotificationParameter.builder().key("orderNumber")
-                .value(orders.get(0).getId().toString()).build());
-
-            when(orderBagService.findAllBagsByOrderId(any())).thenReturn(getBag1list());
-            when(userNotificationRepository.save(any())).thenReturn(notification);
-            when(notificationParameterRepository.saveAll(any())).thenReturn(new ArrayList<>(parameters));
+                NotificationType.DONE_OR_CANCELED_UNPAID_ORDER)))
+                .thenReturn(Map.of(47L, notification.getNotificationTime()));
+            when(orderBagService.findAllOrderBagsByOrderIds(orderIds)).thenReturn(Map.of(
+                47L, List.of(OrderBag.builder().amount(3).confirmedQuantity(3).price(170_00L).build()),
+                53L, List.of(OrderBag.builder().amount(3).confirmedQuantity(3).exportedQuantity(3)
+                    .price(170_00L).build()),
+                51L, List.of(OrderBag.builder().amount(3).price(170_00L).build())));
+            when(notificationSweepRepository.findPaidAmounts(orderIds))
+                .thenReturn(Map.of(47L, 5000L, 53L, 5000L, 51L, 10000L));
+            when(notificationSweepRepository.findCertificatePoints(orderIds)).thenReturn(Map.of(53L, 100L));
 
             notificationService.notifyAllHalfPaidPackages();
 
-            verify(userNotificationRepository, times(3)).save(notification);
-            verify(notificationParameterRepository, times(3)).saveAll(any());
+            verify(userNotificationBatchRepository).saveAll(argThat(notifications -> notifications.stream()
+                .map(n -> n.getOrder().getId()).toList().equals(orderIds)
+                && notifications.stream().allMatch(n -> n.getNotificationType() == NotificationType.UNPAID_PACKAGE)
+                && notifications.stream().map(this::getAmountToPay).toList().equals(List.of(
+                    String.format("%.2f", 410.0), String.format("%.2f", 320.0), String.format("%.2f", 410.0)))));
+            verify(userNotificationRepository, never()).save(any());
+            verify(orderBagService, never()).findAllBagsByOrderId(any());
+        }
+
+        private String getAmountToPay(UserNotification notification) {
+            return notification.getParameters().stream()
+                .filter(parameter -> parameter.getKey().equals(AMOUNT_TO_PAY_KEY))
+                .map(NotificationParameter::getValue)
+                .findFirst()
+                .orElseThrow();
         }
     }
 
@@ -921,9 +881,8 @@ class NotificationServiceImplTest {
         when(userRepository.findByUuid("Test")).thenReturn(TEST_USER);
         when(userNotificationRepository.findAllByUser(TEST_USER, TEST_PAGEABLE))
             .thenReturn(TEST_PAGE);
-        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-            NotificationType.UNPAID_ORDER,
-            SITE)).thenReturn(Optional.of(TEST_NOTIFICATION_TEMPLATE));
+        when(notificationTemplateCacheService.getTitle(any(UserNotification.class), eq("ua"), eq(SITE)))
+            .thenReturn(TEST_NOTIFICATION_TEMPLATE.getTitle());
 
         PageableDto<NotificationShortDto> actual = notificationService
             .getAllNotificationsForUser("Test", "ua", TEST_PAGEABLE);
@@ -939,9 +898,8 @@ class NotificationServiceImplTest {
     @Test
     void testGetNotification() {
         when(userNotificationRepository.findById(1L)).thenReturn(Optional.of(TEST_USER_NOTIFICATION_4));
-        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-            NotificationType.UNPAID_ORDER,
-            SITE)).thenReturn(Optional.of(TEST_NOTIFICATION_TEMPLATE));
+        when(notificationTemplateCacheService.createNotificationDto(TEST_USER_NOTIFICATION_4, "ua", SITE, 0L))
+            .thenReturn(NotificationDto.builder().title("Title").body("Body").build());
 
         NotificationDto actual = notificationService.getNotification("test", 1L, "ua");
 
@@ -961,9 +919,8 @@ class NotificationServiceImplTest {
         UserNotification notification = createUserNotificationForViolationWithParameters();
         notification.getUser().setUuid("abc");
         when(userNotificationRepository.findById(1L)).thenReturn(Optional.of(notification));
-        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-            NotificationType.VIOLATION_THE_RULES,
-            SITE)).thenReturn(Optional.of(TEST_NOTIFICATION_TEMPLATE));
+        when(notificationTemplateCacheService.createNotificationDto(notification, "ua", SITE, 0L))
+            .thenReturn(NotificationDto.builder().title("Title").body("Body").build());
         when(violationRepository.findByOrderIdAndDescription(notification.getOrder().getId(), "Description"))
             .thenReturn(Optional.of(getViolation()));
 
@@ -977,9 +934,8 @@ class NotificationServiceImplTest {
         UserNotification notification = createUserNotificationForViolationWithParameters();
         notification.getUser().setUuid("abc");
         when(userNotificationRepository.findById(1L)).thenReturn(Optional.of(notification));
-        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-            NotificationType.VIOLATION_THE_RULES,
-            SITE)).thenReturn(Optional.of(TEST_NOTIFICATION_TEMPLATE));
+        when(notificationTemplateCacheService.createNotificationDto(notification, "ua", SITE, 0L))
+            .thenReturn(NotificationDto.builder().title("Title").body("Body").build());
         when(violationRepository.findByOrderIdAndDescription(notification.getOrder().getId(), "Description"))
             .thenReturn(Optional.empty());
 
@@ -993,7 +949,7 @@ class NotificationServiceImplTest {
         Order order = ModelUtils.getOrdersStatusBROUGHT_IT_HIMSELFDto();
         order.setConfirmedQuantity(Collections.singletonMap(1, 1));
         order.setExportedQuantity(Collections.emptyMap());
-        order.setEvents(List.of(Event.builder().eventName(ORDER_FORMED).build()));
+        order.setEvents(List.of(Event.builder().eventName(ORDER_FORMED).code(EventCode.ORDER_FORMED).build()));
         order.setPayment(TEST_PAYMENT_LIST);
         order.setPointsToUse(0);
         order.setCertificates(Collections.emptySet());
@@ -1020,10 +976,10 @@ class NotificationServiceImplTest {
         Order order = ModelUtils.getOrdersStatusDoneDto();
         order.setConfirmedQuantity(Collections.singletonMap(1, 1));
         order.setExportedQuantity(Collections.singletonMap(1, 1));
-        Event formed = Event.builder().eventName(ORDER_FORMED).build();
-        Event adjustment = Event.builder().eventName(ORDER_ADJUSTMENT).build();
-        Event confirmed = Event.builder().eventName(ORDER_CONFIRMED).build();
-        Event onTheRoad = Event.builder().eventName(ORDER_ON_THE_ROUTE).build();
+        Event formed = Event.builder().eventName(ORDER_FORMED).code(EventCode.ORDER_FORMED).build();
+        Event adjustment = Event.builder().eventName(ORDER_ADJUSTMENT).code(EventCode.ORDER_ADJUSTMENT).build();
+        Event confirmed = Event.builder().eventName(ORDER_CONFIRMED).code(EventCode.ORDER_CONFIRMED).build();
+        Event onTheRoad = Event.builder().eventName(ORDER_ON_THE_ROUTE).code(EventCode.ORDER_ON_THE_ROUTE).build();
         order.setEvents(List.of(formed, adjustment, confirmed, onTheRoad));
         order.setPayment(TEST_PAYMENT_LIST);
         order.setPointsToUse(0);
@@ -1051,10 +1007,10 @@ class NotificationServiceImplTest {
         order.setConfirmedQuantity(Collections.emptyMap());
         order.setExportedQuantity(Collections.emptyMap());
         order.setAmountOfBagsOrdered(Collections.singletonMap(1, 1));
-        Event formed = Event.builder().eventName(ORDER_FORMED).build();
-        Event adjustment = Event.builder().eventName(ORDER_ADJUSTMENT).build();
-        Event confirmed = Event.builder().eventName(ORDER_CONFIRMED).build();
-        Event onTheRoad = Event.builder().eventName(ORDER_ON_THE_ROUTE).build();
+        Event formed = Event.builder().eventName(ORDER_FORMED).code(EventCode.ORDER_FORMED).build();
+        Event adjustment = Event.builder().eventName(ORDER_ADJUSTMENT).code(EventCode.ORDER_ADJUSTMENT).build();
+        Event confirmed = Event.builder().eventName(ORDER_CONFIRMED).code(EventCode.ORDER_CONFIRMED).build();
+        Event onTheRoad = Event.builder().eventName(ORDER_ON_THE_ROUTE).code(EventCode.ORDER_ON_THE_ROUTE).build();
         order.setEvents(List.of(formed, adjustment, confirmed, onTheRoad));
         order.setPayment(TEST_PAYMENT_LIST);
         order.setPointsToUse(0);
@@ -1082,10 +1038,10 @@ class NotificationServiceImplTest {
         Order order = ModelUtils.getOrdersStatusDoneDto();
         order.setConfirmedQuantity(Collections.singletonMap(1, 1));
         order.setExportedQuantity(Collections.singletonMap(1, 1));
-        Event formed = Event.builder().eventName(ORDER_FORMED).build();
-        Event adjustment = Event.builder().eventName(ORDER_ADJUSTMENT).build();
-        Event confirmed = Event.builder().eventName(ORDER_CONFIRMED).build();
-        Event onTheRoad = Event.builder().eventName(ORDER_ON_THE_ROUTE).build();
+        Event formed = Event.builder().eventName(ORDER_FORMED).code(EventCode.ORDER_FORMED).build();
+        Event adjustment = Event.builder().eventName(ORDER_ADJUSTMENT).code(EventCode.ORDER_ADJUSTMENT).build();
+        Event confirmed = Event.builder().eventName(ORDER_CONFIRMED).code(EventCode.ORDER_CONFIRMED).build();
+        Event onTheRoad = Event.builder().eventName(ORDER_ON_THE_ROUTE).code(EventCode.ORDER_ON_THE_ROUTE).build();
         order.setEvents(List.of(formed, adjustment, confirmed, onTheRoad));
         order.setPayment(TEST_PAYMENT_LIST);
         order.setPointsToUse(0);
@@ -1113,7 +1069,7 @@ class NotificationServiceImplTest {
         Order order = ModelUtils.getOrdersStatusBROUGHT_IT_HIMSELFDto();
         order.setConfirmedQuantity(Collections.singletonMap(1, 1));
         order.setExportedQuantity(Collections.emptyMap());
-        order.setEvents(List.of(Event.builder().eventName(ORDER_FORMED).build()));
+        order.setEvents(List.of(Event.builder().eventName(ORDER_FORMED).code(EventCode.ORDER_FORMED).build()));
         order.setPayment(TEST_PAYMENT_LIST);
         order.setPointsToUse(0);
         order.setCertificates(Collections.emptySet());
@@ -1134,54 +1090,6 @@ class NotificationServiceImplTest {
         verify(notificationParameterRepository).saveAll(any());
     }
 
-    @Test
-    void createNotificationDtoTitleUaLanguageTest() {
-        String language = "ua";
-
-        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(any(), any()))
-            .thenReturn(Optional.of(TEST_NOTIFICATION_TEMPLATE));
-
-        NotificationDto result = NotificationServiceImpl.createNotificationDto(TEST_USER_NOTIFICATION, language,
-            NotificationReceiverType.MOBILE, templateRepository, 5L);
-
-        assertEquals(TEST_NOTIFICATION_TEMPLATE.getTitle(), result.getTitle());
-    }
-
-    @Test
-    void createNotificationDtoTitleEnLanguageTest() {
-        String language = "en";
-
-        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(any(), any()))
-            .thenReturn(Optional.of(TEST_NOTIFICATION_TEMPLATE));
-
-        NotificationDto result = NotificationServiceImpl.createNotificationDto(TEST_USER_NOTIFICATION, language,
-            NotificationReceiverType.MOBILE, templateRepository, 5L);
-
-        assertEquals(TEST_NOTIFICATION_TEMPLATE.getTitleEng(), result.getTitle());
-    }
-
-    @Test
-    void createNotificationDtoOfCustomTemplateTest() {
-        String language = "en";
-
-        var testNotificationTemplate = TEST_NOTIFICATION_TEMPLATE;
-        testNotificationTemplate.setNotificationType(NotificationType.CUSTOM);
-        testNotificationTemplate.setTrigger(NotificationTrigger.CUSTOM);
-
-        var testUserNotification = TEST_USER_NOTIFICATION;
-        testUserNotification.setNotificationType(NotificationType.CUSTOM);
-        testUserNotification.setTemplateId(testNotificationTemplate.getId());
-
-        when(templateRepository.findNotificationTemplateByIdAndNotificationReceiverType(any(), any()))
-            .thenReturn(Optional.of(testNotificationTemplate));
-
-        NotificationDto result = NotificationServiceImpl.createNotificationDto(testUserNotification, language,
-            NotificationReceiverType.MOBILE, templateRepository, 5L);
-
-        assertEquals(testNotificationTemplate.getTitleEng(), result.getTitle());
-        verify(templateRepository).findNotificationTemplateByIdAndNotificationReceiverType(any(), any());
-    }
-
     @Test
     void notifySelfPickupOrderTest() {
         User user = getUser();
@@ -0,0 +1,180 @@
+package greencity.service.notification;
+
+import greencity.config.NotificationTemplateCacheConfigProp;
+import greencity.dto.notification.NotificationDto;
+import greencity.entity.notifications.NotificationParameter;
+import greencity.entity.notifications.NotificationPlatform;
+import greencity.entity.notifications.NotificationTemplate;
+import greencity.entity.notifications.UserNotification;
+import greencity.enums.NotificationReceiverType;
+import greencity.enums.NotificationType;
+import greencity.exceptions.NotFoundException;
+import greencity.repository.NotificationTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import static greencity.enums.NotificationReceiverType.EMAIL;
+import static greencity.enums.NotificationReceiverType.SITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationTemplateCacheServiceImplTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    private NotificationTemplateRepository templateRepository;
+    @Mock
+    private Clock clock;
+
+    private final NotificationTemplateCacheConfigProp notificationTemplateCacheConfigProp =
+        new NotificationTemplateCacheConfigProp();
+    private NotificationTemplateCacheServiceImpl notificationTemplateCacheService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW);
+        notificationTemplateCacheService =
+            new NotificationTemplateCacheServiceImpl(templateRepository, notificationTemplateCacheConfigProp, clock);
+    }
+
+    @Test
+    void createNotificationDtoRendersUaTemplateTest() {
+        UserNotification notification = getUserNotification(NotificationType.UNPAID_ORDER);
+        notification.setParameters(Set.of(
+            NotificationParameter.builder().key("orderNumber").value("42").build(),
+            NotificationParameter.builder().key("amountToPay").value("${orderNumber}").build()));
+        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, EMAIL))
+            .thenReturn(Optional.of(getTemplate(
+                "Order ${orderNumber}: ${amountToPay} UAH, $${orderNumber}, ${unknown}, ${payButton:-none}",
+                "Order ${orderNumber}")));
+
+        NotificationDto result = notificationTemplateCacheService.createNotificationDto(notification, "ua", EMAIL, 0L);
+
+        assertEquals("Title", result.getTitle());
+        assertEquals("Order 42: ${orderNumber} UAH, ${orderNumber}, ${unknown}, none", result.getBody());
+    }
+
+    @Test
+    void createNotificationDtoFormatsMonthsOfInactivityTest() {
+        UserNotification notification = getUserNotification(NotificationType.LETS_STAY_CONNECTED);
+        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.LETS_STAY_CONNECTED, EMAIL))
+            .thenReturn(Optional.of(getTemplate("Body", "No orders for %d months")));
+
+        NotificationDto result = notificationTemplateCacheService.createNotificationDto(notification, "en", EMAIL, 3L);
+
+        assertEquals("TitleEng", result.getTitle());
+        assertEquals("No orders for 3 months", result.getBody());
+    }
+
+    @Test
+    void createNotificationDtoLoadsTemplateOnceTest() {
+        UserNotification notification = getUserNotification(NotificationType.UNPAID_ORDER);
+        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, EMAIL))
+            .thenReturn(Optional.of(getTemplate("Body", "BodyEng")));
+
+        notificationTemplateCacheService.createNotificationDto(notification, "ua", EMAIL, 0L);
+        notificationTemplateCacheService.createNotificationDto(notification, "en", EMAIL, 0L);
+
+        assertEquals("Title", notificationTemplateCacheService.getTitle(notification, "ua", EMAIL));
+        verify(templateRepository).findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, EMAIL);
+    }
+
+    @Test
+    void createNotificationDtoOfCustomTemplateTest() {
+        UserNotification notification = getUserNotification(NotificationType.CUSTOM);
+        notification.setTemplateId(5L);
+        when(templateRepository.findNotificationTemplateByIdAndNotificationReceiverType(5L, EMAIL))
+            .thenReturn(Optional.of(getTemplate("Body", "BodyEng")));
+
+        NotificationDto result = notificationTemplateCacheService.createNotificationDto(notification, "en", EMAIL, 0L);
+
+        assertEquals("TitleEng", result.getTitle());
+        assertEquals("BodyEng", result.getBody());
+    }
+
+    @Test
+    void createNotificationDtoReloadsExpiredTemplateTest() {
+        UserNotification notification = getUserNotification(NotificationType.UNPAID_ORDER);
+        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, EMAIL))
+            .thenReturn(Optional.of(getTemplate("Body", "BodyEng")), Optional.of(getTemplate("New", "NewEng")));
+
+        notificationTemplateCacheService.createNotificationDto(notification, "ua", EMAIL, 0L);
+        when(clock.instant()).thenReturn(NOW.plus(notificationTemplateCacheConfigProp.getTtl()));
+
+        assertEquals("New",
+            notificationTemplateCacheService.createNotificationDto(notification, "ua", EMAIL, 0L).getBody());
+    }
+
+    @Test
+    void evictTest() {
+        UserNotification notification = getUserNotification(NotificationType.UNPAID_ORDER);
+        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, SITE))
+            .thenReturn(Optional.of(getTemplate("Body", "BodyEng", SITE)));
+        notificationTemplateCacheService.getTitle(notification, "ua", SITE);
+
+        notificationTemplateCacheService.evict(2L);
+        notificationTemplateCacheService.getTitle(notification, "ua", SITE);
+        notificationTemplateCacheService.evict(1L);
+        notificationTemplateCacheService.getTitle(notification, "ua", SITE);
+
+        verify(templateRepository, times(2)).findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, SITE);
+    }
+
+    @Test
+    void createNotificationDtoThrowsNotFoundExceptionTest() {
+        UserNotification notification = getUserNotification(NotificationType.UNPAID_ORDER);
+        when(templateRepository.findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, EMAIL))
+            .thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class,
+            () -> notificationTemplateCacheService.createNotificationDto(notification, "ua", EMAIL, 0L));
+        assertThrows(NotFoundException.class,
+            () -> notificationTemplateCacheService.createNotificationDto(notification, "ua", EMAIL, 0L));
+        verify(templateRepository, times(2)).findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
+            NotificationType.UNPAID_ORDER, EMAIL);
+    }
+
+    private UserNotification getUserNotification(NotificationType notificationType) {
+        UserNotification notification = new UserNotification();
+        notification.setNotificationType(notificationType);
+        return notification;
+    }
+
+    private NotificationTemplate getTemplate(String body, String bodyEng) {
+        return getTemplate(body, bodyEng, EMAIL);
+    }
+
+    private NotificationTemplate getTemplate(String body, String bodyEng,
+        NotificationReceiverType receiverType) {
+        return NotificationTemplate.builder()
+            .id(1L)
+            .title("Title")
+            .titleEng("TitleEng")
+            .notificationPlatforms(List.of(NotificationPlatform.builder()
+                .body(body)
+                .bodyEng(bodyEng)
+                .notificationReceiverType(receiverType)
+                .build()))
+            .build();
+    }
+}
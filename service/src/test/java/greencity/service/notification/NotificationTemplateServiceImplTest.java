@@ -59,6 +59,9 @@ class NotificationTemplateServiceImplTest {
     @Mock
     ModelMapper modelMapper;
 
+    @Mock
+    NotificationTemplateCacheService notificationTemplateCacheService;
+
     @InjectMocks
     private NotificationTemplateServiceImpl notificationService;
 
@@ -111,6 +114,7 @@ class NotificationTemplateServiceImplTest {
         assertEquals(platformDto.getStatus(), platform.getNotificationStatus());
 
         verify(templateRepository).findById(id);
+        verify(notificationTemplateCacheService).evict(id);
         verify(notificationPlanner).restartNotificator(any());
     }
 
@@ -212,6 +216,7 @@ class NotificationTemplateServiceImplTest {
             .forEach(platform -> assertEquals(INACTIVE, platform.getNotificationStatus()));
 
         verify(templateRepository).findById(id);
+        verify(notificationTemplateCacheService).evict(id);
     }
 
     @Test
@@ -288,6 +293,7 @@ class NotificationTemplateServiceImplTest {
         assertDoesNotThrow(() -> notificationService.removeNotificationTemplate(1L));
         verify(templateRepository).findById(anyLong());
         verify(templateRepository).deleteById(anyLong());
+        verify(notificationTemplateCacheService).evict(1L);
         verify(notificationPlanner).restartNotificator(any());
     }
 
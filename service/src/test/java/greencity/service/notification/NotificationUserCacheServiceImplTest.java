@@ -0,0 +1,128 @@
+package greencity.service.notification;
+
+import greencity.client.UserRemoteClient;
+import greencity.config.NotificationUserCacheConfigProp;
+import greencity.dto.language.LanguageVO;
+import greencity.dto.notification.NotificationUserCacheStatsDto;
+import greencity.dto.user.UserVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUserCacheServiceImplTest {
+    private static final String EMAIL = "user@email.com";
+    private static final String OTHER_EMAIL = "other@email.com";
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    private UserRemoteClient userRemoteClient;
+    @Mock
+    private Clock clock;
+
+    private final NotificationUserCacheConfigProp notificationUserCacheConfigProp =
+        new NotificationUserCacheConfigProp();
+    private NotificationUserCacheServiceImpl notificationUserCacheService;
+
+    @BeforeEach
+    void setUp() {
+        notificationUserCacheConfigProp.setMaxSize(2);
+        notificationUserCacheConfigProp.setTtl(Duration.ofMinutes(10));
+        lenient().when(clock.instant()).thenReturn(NOW);
+        notificationUserCacheService =
+            new NotificationUserCacheServiceImpl(userRemoteClient, notificationUserCacheConfigProp, clock);
+    }
+
+    @Test
+    void getLanguageCodeLoadsUserOnceTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(getUserVO("ua")));
+
+        assertEquals(Optional.of("ua"), notificationUserCacheService.getLanguageCode(EMAIL));
+        assertEquals(Optional.of("ua"), notificationUserCacheService.getLanguageCode(EMAIL));
+
+        verify(userRemoteClient).findNotDeactivatedByEmail(EMAIL);
+        NotificationUserCacheStatsDto stats = notificationUserCacheService.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void getLanguageCodeCachesDeactivatedUserTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), notificationUserCacheService.getLanguageCode(EMAIL));
+        assertEquals(Optional.empty(), notificationUserCacheService.getLanguageCode(EMAIL));
+
+        verify(userRemoteClient).findNotDeactivatedByEmail(EMAIL);
+    }
+
+    @Test
+    void getLanguageCodeDoesNotCacheFailureTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL))
+            .thenThrow(new RuntimeException())
+            .thenReturn(Optional.of(getUserVO("ua")));
+
+        assertThrows(RuntimeException.class, () -> notificationUserCacheService.getLanguageCode(EMAIL));
+        assertEquals(Optional.of("ua"), notificationUserCacheService.getLanguageCode(EMAIL));
+
+        assertEquals(1, notificationUserCacheService.getStats().getLoadFailureCount());
+    }
+
+    @Test
+    void prefetchLoadsEveryMissingUserOnceTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(getUserVO("ua")));
+        when(userRemoteClient.findNotDeactivatedByEmail(OTHER_EMAIL)).thenThrow(new RuntimeException());
+        notificationUserCacheService.getLanguageCode(EMAIL);
+
+        notificationUserCacheService.prefetch(Arrays.asList(EMAIL, OTHER_EMAIL, null, OTHER_EMAIL));
+
+        verify(userRemoteClient).findNotDeactivatedByEmail(EMAIL);
+        verify(userRemoteClient).findNotDeactivatedByEmail(OTHER_EMAIL);
+        assertEquals(1, notificationUserCacheService.getStats().getSize());
+    }
+
+    @Test
+    void invalidateTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(anyString())).thenReturn(Optional.of(getUserVO("ua")));
+        notificationUserCacheService.prefetch(List.of(EMAIL, OTHER_EMAIL));
+
+        notificationUserCacheService.invalidate(EMAIL);
+        notificationUserCacheService.getLanguageCode(OTHER_EMAIL);
+        notificationUserCacheService.getLanguageCode(EMAIL);
+
+        verify(userRemoteClient, times(2)).findNotDeactivatedByEmail(EMAIL);
+        verify(userRemoteClient).findNotDeactivatedByEmail(OTHER_EMAIL);
+    }
+
+    @Test
+    void invalidateAllTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(getUserVO("ua")));
+        notificationUserCacheService.prefetch(List.of(EMAIL));
+
+        notificationUserCacheService.invalidateAll();
+
+        assertEquals(0, notificationUserCacheService.getStats().getSize());
+        verify(userRemoteClient, never()).findNotDeactivatedByEmail(OTHER_EMAIL);
+    }
+
+    private UserVO getUserVO(String languageCode) {
+        return UserVO.builder().languageVO(LanguageVO.builder().code(languageCode).build()).build();
+    }
+}
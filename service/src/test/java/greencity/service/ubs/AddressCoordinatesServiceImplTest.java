@@ -0,0 +1,78 @@
+package greencity.service.ubs;
+
+import com.google.maps.model.GeocodingResult;
+import com.google.maps.model.Geometry;
+import com.google.maps.model.LatLng;
+import greencity.config.GeocodingConfigProp;
+import greencity.exceptions.NotFoundException;
+import greencity.repository.AddressRepository;
+import greencity.service.google.GoogleApiService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AddressCoordinatesServiceImplTest {
+    @Mock
+    private AddressRepository addressRepository;
+    @Mock
+    private GoogleApiService googleApiService;
+
+    private final GeocodingConfigProp geocodingConfigProp = new GeocodingConfigProp();
+    private AddressCoordinatesServiceImpl addressCoordinatesService;
+
+    @BeforeEach
+    void setUp() {
+        geocodingConfigProp.setBackfillBatchSize(2);
+        addressCoordinatesService =
+            new AddressCoordinatesServiceImpl(addressRepository, googleApiService, geocodingConfigProp);
+    }
+
+    @Test
+    void backfillMissingCoordinatesTest() {
+        when(addressRepository.findCitiesOfAddressesWithoutCoordinates("", PageRequest.of(0, 2)))
+            .thenReturn(List.of("Bucha", "Irpin"));
+        when(addressRepository.findCitiesOfAddressesWithoutCoordinates("Irpin", PageRequest.of(0, 2)))
+            .thenReturn(List.of("Vyshneve"));
+        when(googleApiService.getGeocodingResultByCityAndCountryAndLocale("Ukraine", "Bucha", "en"))
+            .thenReturn(getGeocodingResult(50.54, 30.21));
+        when(googleApiService.getGeocodingResultByCityAndCountryAndLocale("Ukraine", "Irpin", "en"))
+            .thenReturn(getGeocodingResult(50.52, 30.25));
+        when(googleApiService.getGeocodingResultByCityAndCountryAndLocale("Ukraine", "Vyshneve", "en"))
+            .thenReturn(getGeocodingResult(50.38, 30.37));
+        when(addressRepository.updateMissingCoordinatesByCityEn("Bucha", 50.54, 30.21)).thenReturn(2);
+        when(addressRepository.updateMissingCoordinatesByCityEn("Irpin", 50.52, 30.25)).thenReturn(1);
+        when(addressRepository.updateMissingCoordinatesByCityEn("Vyshneve", 50.38, 30.37)).thenReturn(1);
+
+        assertEquals(4, addressCoordinatesService.backfillMissingCoordinates());
+    }
+
+    @Test
+    void backfillMissingCoordinatesSkipsUnknownCityTest() {
+        when(addressRepository.findCitiesOfAddressesWithoutCoordinates("", PageRequest.of(0, 2)))
+            .thenReturn(List.of("Unknown"));
+        when(googleApiService.getGeocodingResultByCityAndCountryAndLocale("Ukraine", "Unknown", "en"))
+            .thenThrow(NotFoundException.class);
+
+        assertEquals(0, addressCoordinatesService.backfillMissingCoordinates());
+
+        verify(addressRepository, never()).updateMissingCoordinatesByCityEn(eq("Unknown"), anyDouble(), anyDouble());
+    }
+
+    private static GeocodingResult getGeocodingResult(double lat, double lng) {
+        GeocodingResult geocodingResult = new GeocodingResult();
+        geocodingResult.geometry = new Geometry();
+        geocodingResult.geometry.location = new LatLng(lat, lng);
+        return geocodingResult;
+    }
+}
@@ -1,6 +1,7 @@
 package greencity.service.ubs;
 
 import greencity.ModelUtils;
+import greencity.dto.CoordinatesCapacityDto;
 import greencity.dto.location.CoordinatesDto;
 import greencity.dto.order.GroupedOrderDto;
 import greencity.dto.order.OrderDto;
@@ -8,6 +9,7 @@ import greencity.entity.coords.Coordinates;
 import greencity.entity.order.Order;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
+import greencity.mapping.order.OrderToOrderDtoMapper;
 import greencity.repository.AddressRepository;
 import greencity.repository.OrderRepository;
 import org.junit.jupiter.api.Assertions;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
@@ -29,6 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,12 +52,16 @@ class CoordinateServiceImplTest {
     @Mock(lenient = true)
     private ModelMapper modelMapper;
 
+    @Spy
+    private OrderToOrderDtoMapper orderToOrderDtoMapper;
+
     int litres = 1000;
     double distance = 2;
 
     private void getMocksBehavior() {
 
-        when(addressRepository.capacity(anyDouble(), anyDouble())).thenReturn(25);
+        when(addressRepository.undeliveredOrdersCoordsCapacities())
+            .thenReturn(getCapacities(ModelUtils.getCoordinatesSet(), 25));
 
         for (Coordinates coordinate : ModelUtils.getCoordinatesSet()) {
             List<Order> orders = ModelUtils.getOrdersToGroupThem().stream()
@@ -60,10 +70,10 @@ class CoordinateServiceImplTest {
             when(orderRepository.undeliveredOrdersGroupThem(coordinate.getLatitude(), coordinate.getLongitude()))
                 .thenReturn(orders);
             for (Order order : orders) {
-                when(modelMapper.map(order, OrderDto.class)).thenReturn(OrderDto.builder()
+                lenient().doReturn(OrderDto.builder()
                     .latitude(order.getUbsUser().getOrderAddress().getCoordinates().getLatitude())
                     .longitude(order.getUbsUser().getOrderAddress().getCoordinates().getLongitude())
-                    .build());
+                    .build()).when(orderToOrderDtoMapper).map(order);
             }
         }
     }
@@ -86,15 +96,18 @@ class CoordinateServiceImplTest {
 
         when(addressRepository.undeliveredOrdersCoords()).thenReturn(ModelUtils.getCoordinatesSet());
         when(orderRepository.undeliveredAddresses()).thenReturn(allUndeliveredOrders);
-        when(addressRepository.capacity(anyDouble(), anyDouble())).thenReturn(75, 25);
+        List<CoordinatesCapacityDto> capacities = getCapacities(ModelUtils.getCoordinatesSet(), 25);
+        capacities.getFirst().setCapacity(75L);
+        when(addressRepository.undeliveredOrdersCoordsCapacities()).thenReturn(capacities);
 
         for (Coordinates cord : ModelUtils.getCoordinatesSet()) {
             List<Order> currentOrders = allUndeliveredOrders.stream().filter(
                 o -> o.getUbsUser().getOrderAddress().getCoordinates().equals(cord)).toList();
             for (Order order : currentOrders) {
-                when(modelMapper.map(order, OrderDto.class)).thenReturn(
+                lenient().doReturn(
                     OrderDto.builder().latitude(order.getUbsUser().getOrderAddress().getCoordinates().getLatitude())
-                        .longitude(order.getUbsUser().getOrderAddress().getCoordinates().getLongitude()).build());
+                        .longitude(order.getUbsUser().getOrderAddress().getCoordinates().getLongitude()).build())
+                    .when(orderToOrderDtoMapper).map(order);
             }
         }
 
@@ -146,8 +159,9 @@ class CoordinateServiceImplTest {
         List<Order> orderList = new ArrayList<>();
         orderList.add(ModelUtils.getOrderTest());
         when(addressRepository.undeliveredOrdersCoords()).thenReturn(result);
-        when(addressRepository.capacity(anyDouble(), anyDouble())).thenReturn(300);
+        when(addressRepository.undeliveredOrdersCoordsCapacities()).thenReturn(getCapacities(result, 300));
         when(orderRepository.undeliveredOrdersGroupThem(anyDouble(), anyDouble())).thenReturn(orderList);
+        doReturn(getOrderDto()).when(orderToOrderDtoMapper).map(ModelUtils.getOrderTest());
         when(modelMapper.map(any(), any())).thenAnswer(new Answer() {
             private int count = 0;
 
@@ -201,4 +215,25 @@ class CoordinateServiceImplTest {
             () -> coordinateService.getClusteredCoordsAlongWithSpecified(test, 3000, 15));
 
     }
+
+    @Test
+    void getClusteredCoordsLoadsCapacitiesOnceTest() {
+        Set<Coordinates> coordinates = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            coordinates.add(Coordinates.builder().latitude(49.8 + i / 1000d).longitude(24 + i % 10 / 100d).build());
+        }
+        when(addressRepository.undeliveredOrdersCoordsWithCapacityLimit(litres)).thenReturn(coordinates);
+        when(addressRepository.undeliveredOrdersCoordsCapacities()).thenReturn(getCapacities(coordinates, 10));
+
+        List<GroupedOrderDto> actual = coordinateService.getClusteredCoords(distance, litres);
+
+        assertEquals(100, actual.stream().mapToInt(GroupedOrderDto::getAmountOfLitres).sum() / 10);
+        verify(addressRepository).undeliveredOrdersCoordsCapacities();
+    }
+
+    private List<CoordinatesCapacityDto> getCapacities(Set<Coordinates> coordinates, long capacity) {
+        return coordinates.stream()
+            .map(c -> new CoordinatesCapacityDto(c.getLatitude(), c.getLongitude(), capacity))
+            .collect(Collectors.toList());
+    }
 }
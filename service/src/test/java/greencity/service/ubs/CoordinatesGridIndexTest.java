@@ -0,0 +1,56 @@
+package greencity.service.ubs;
+
+import greencity.entity.coords.Coordinates;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoordinatesGridIndexTest {
+    @Test
+    void findWithinReturnsSameCoordinatesAsFullScanTest() {
+        Random random = new Random(42);
+        List<Coordinates> coordinates = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            coordinates.add(new Coordinates(49.7 + random.nextDouble() * 0.3, 23.8 + random.nextDouble() * 0.4));
+        }
+        for (double radius : new double[] {0, 0.5, 2, 7.5, 20}) {
+            CoordinatesGridIndex index = new CoordinatesGridIndex(coordinates, radius);
+            for (int i = 0; i < 50; i++) {
+                Coordinates center = coordinates.get(random.nextInt(coordinates.size()));
+                Set<Coordinates> expected = coordinates.stream()
+                    .filter(c -> CoordinatesGridIndex.distance(center, c) <= radius)
+                    .collect(Collectors.toSet());
+
+                assertEquals(expected, new HashSet<>(index.findWithin(center, radius)));
+            }
+        }
+    }
+
+    @Test
+    void removeTest() {
+        Coordinates first = new Coordinates(49.83, 23.88);
+        Coordinates second = new Coordinates(49.831, 23.881);
+        CoordinatesGridIndex index = new CoordinatesGridIndex(List.of(first, second), 2);
+
+        index.remove(first);
+
+        assertEquals(List.of(second), index.findWithin(first, 2));
+        index.remove(second);
+        assertTrue(index.findWithin(first, 2).isEmpty());
+    }
+
+    @Test
+    void distanceTest() {
+        Coordinates lviv = new Coordinates(49.8397, 24.0297);
+        Coordinates kyiv = new Coordinates(50.4501, 30.5234);
+
+        assertEquals(0, CoordinatesGridIndex.distance(lviv, lviv));
+        assertEquals(468, CoordinatesGridIndex.distance(lviv, kyiv), 1);
+    }
+}
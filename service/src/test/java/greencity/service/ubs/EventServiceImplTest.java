@@ -2,22 +2,29 @@ package greencity.service.ubs;
 
 import greencity.ModelUtils;
 import greencity.constant.OrderHistory;
+import greencity.entity.order.Event;
 import greencity.entity.order.Order;
+import greencity.enums.EventCode;
 import greencity.repository.EmployeeRepository;
 import greencity.repository.EventRepository;
+import org.hibernate.collection.spi.PersistentBag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class EventServiceImplTest {
@@ -122,6 +129,36 @@ class EventServiceImplTest {
         verify(eventRepository, times(7)).save(any());
     }
 
+    @Test
+    void saveSetsEventCodeTest() {
+        Order order = ModelUtils.getOrder();
+        order.setEvents(List.of());
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+
+        eventService.save(OrderHistory.ORDER_CONFIRMED, OrderHistory.SYSTEM, order);
+        eventService.save(OrderHistory.ADD_PAYMENT_SYSTEM + "123", OrderHistory.SYSTEM, order);
+        eventService.save(OrderHistory.ORDER_CANCELLED + "  comment", "admin", order);
+        eventService.save("Замовлення оплаченно", "admin", order);
+
+        verify(eventRepository, times(4)).save(captor.capture());
+        assertEquals(List.of(EventCode.ORDER_CONFIRMED, EventCode.ADD_PAYMENT_SYSTEM, EventCode.ORDER_CANCELLED,
+            EventCode.OTHER), captor.getAllValues().stream().map(Event::getCode).toList());
+        assertEquals(4, order.getEvents().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAddsEventToPersistentEventsWithoutCopyingThemTest() {
+        Order order = ModelUtils.getOrder();
+        PersistentBag<Event> events = mock(PersistentBag.class);
+        order.setEvents(events);
+
+        eventService.save(OrderHistory.ADD_VIOLATION, OrderHistory.SYSTEM, order);
+
+        verify(events).add(any(Event.class));
+        assertSame(events, order.getEvents());
+    }
+
     @Test
     void changesWithResponsibleEmployeeTest() {
         String existedCallManager = eventService.changesWithResponsibleEmployee(2L, Boolean.TRUE);
@@ -0,0 +1,151 @@
+package greencity.service.ubs;
+
+import greencity.config.FileStorageConfigProp;
+import greencity.exceptions.BadRequestException;
+import greencity.exceptions.image.FileNotSavedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalFileStorageServiceTest {
+    private static final String PUBLIC_URL = "http://localhost:8050/uploads/";
+
+    @TempDir
+    private Path root;
+
+    private final FileStorageConfigProp fileStorageConfigProp = new FileStorageConfigProp();
+    private LocalFileStorageService localFileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageConfigProp.setLocalRoot(root.toString());
+        fileStorageConfigProp.setLocalPublicUrl(PUBLIC_URL);
+        localFileStorageService = new LocalFileStorageService(fileStorageConfigProp, new SyncTaskExecutor());
+    }
+
+    @Test
+    void uploadTest() throws IOException {
+        String url = localFileStorageService.upload(
+            new MockMultipartFile("file", "my photo.jpg", "image/jpeg", "photo".getBytes()));
+
+        assertTrue(url.startsWith(PUBLIC_URL) && url.endsWith("my_photo.jpg"));
+        assertEquals("photo", Files.readString(root.resolve(url.substring(PUBLIC_URL.length()))));
+    }
+
+    @Test
+    void uploadReturnsFileUrlWithoutPublicUrlTest() {
+        fileStorageConfigProp.setLocalPublicUrl("");
+        localFileStorageService = new LocalFileStorageService(fileStorageConfigProp, new SyncTaskExecutor());
+
+        String url = localFileStorageService.upload(new MockMultipartFile("file", "a.jpg", null, new byte[1]));
+
+        assertTrue(Files.exists(Path.of(URI.create(url))));
+    }
+
+    @Test
+    void uploadAllUploadsFilesConcurrentlyTest() throws IOException {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        localFileStorageService = new LocalFileStorageService(fileStorageConfigProp, executor);
+
+        List<String> urls = localFileStorageService.uploadAll(List.of(
+            new MockMultipartFile("file", "first.jpg", null, "first".getBytes()),
+            new MockMultipartFile("file", "second.jpg", null, "second".getBytes()),
+            new MockMultipartFile("file", "third.jpg", null, "third".getBytes())));
+        executor.shutdown();
+
+        assertEquals(3, urls.size());
+        assertEquals("first", Files.readString(root.resolve(urls.get(0).substring(PUBLIC_URL.length()))));
+        assertEquals("second", Files.readString(root.resolve(urls.get(1).substring(PUBLIC_URL.length()))));
+        assertEquals("third", Files.readString(root.resolve(urls.get(2).substring(PUBLIC_URL.length()))));
+    }
+
+    @Test
+    void uploadAllDeletesUploadedFilesWhenOneFailsTest() throws IOException {
+        MultipartFile broken = mock(MultipartFile.class);
+        when(broken.getOriginalFilename()).thenReturn("broken.jpg");
+        when(broken.getInputStream()).thenThrow(new IOException());
+        List<MultipartFile> files = List.of(new MockMultipartFile("file", "first.jpg", null, new byte[1]), broken);
+
+        assertThrows(FileNotSavedException.class, () -> localFileStorageService.uploadAll(files));
+
+        try (var stream = Files.list(root)) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    void deleteTest() {
+        String url = localFileStorageService.upload(new MockMultipartFile("file", "a.jpg", null, new byte[1]));
+
+        localFileStorageService.delete(url);
+
+        assertFalse(Files.exists(root.resolve(url.substring(PUBLIC_URL.length()))));
+    }
+
+    @Test
+    void deleteAfterCommitTest() {
+        String url = localFileStorageService.upload(new MockMultipartFile("file", "a.jpg", null, new byte[1]));
+        Path file = root.resolve(url.substring(PUBLIC_URL.length()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            localFileStorageService.delete(url);
+            assertTrue(Files.exists(file));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void deleteThrowsBadRequestExceptionTest() {
+        assertThrows(BadRequestException.class, () -> localFileStorageService.delete("http://wrong url"));
+    }
+
+    @Test
+    void deleteDoesNotLeaveRootTest() throws IOException {
+        Path outside = Files.createTempFile("outside", ".jpg");
+
+        localFileStorageService.delete(PUBLIC_URL + "..%2F" + outside.getFileName());
+
+        assertTrue(Files.exists(outside));
+        Files.delete(outside);
+    }
+
+    @Test
+    void uploadThrowsFileNotSavedExceptionTest() throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        InputStream inputStream = InputStream.nullInputStream();
+        when(file.getOriginalFilename()).thenReturn("a.jpg");
+        when(file.getInputStream()).thenReturn(inputStream);
+        Files.delete(root);
+        Files.createFile(root);
+
+        assertThrows(FileNotSavedException.class, () -> localFileStorageService.upload(file));
+
+        Files.delete(root);
+        Files.createDirectory(root);
+    }
+}
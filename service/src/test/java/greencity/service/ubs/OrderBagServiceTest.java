@@ -1,6 +1,7 @@
 package greencity.service.ubs;
 
 import greencity.entity.order.Bag;
+import greencity.entity.order.Order;
 import greencity.entity.order.OrderBag;
 import greencity.repository.OrderBagRepository;
 import java.util.Arrays;
@@ -20,6 +21,8 @@ import static greencity.ModelUtils.getOrderBag2;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({MockitoExtension.class})
@@ -42,6 +45,25 @@ class OrderBagServiceTest {
         assertEquals(bag2, bags.get(1));
     }
 
+    @Test
+    void testFindAllOrderBagsByOrderIds() {
+        OrderBag firstOrderBag = OrderBag.builder().id(1L).order(Order.builder().id(1L).build()).build();
+        OrderBag secondOrderBag = OrderBag.builder().id(2L).order(Order.builder().id(1L).build()).build();
+        OrderBag thirdOrderBag = OrderBag.builder().id(3L).order(Order.builder().id(2L).build()).build();
+        when(orderBagRepository.findOrderBagsByOrderIds(List.of(1L, 2L)))
+            .thenReturn(List.of(firstOrderBag, secondOrderBag, thirdOrderBag));
+
+        Map<Long, List<OrderBag>> orderBags = orderBagService.findAllOrderBagsByOrderIds(List.of(1L, 2L));
+
+        assertEquals(Map.of(1L, List.of(firstOrderBag, secondOrderBag), 2L, List.of(thirdOrderBag)), orderBags);
+    }
+
+    @Test
+    void testFindAllOrderBagsByOrderIdsWithoutOrders() {
+        assertEquals(Map.of(), orderBagService.findAllOrderBagsByOrderIds(List.of()));
+        verify(orderBagRepository, never()).findOrderBagsByOrderIds(any());
+    }
+
     @Test
     void testFindBagsByOrdersList() {
         List<Bag> bags = orderBagService.findAllBagsInOrderBagsList(Arrays.asList(getOrderBag(), getOrderBag2()));
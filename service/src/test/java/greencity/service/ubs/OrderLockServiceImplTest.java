@@ -3,19 +3,27 @@ package greencity.service.ubs;
 import greencity.entity.order.Order;
 import greencity.entity.user.employee.Employee;
 import greencity.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +34,11 @@ class OrderLockServiceImplTest {
     @InjectMocks
     private OrderLockServiceImpl orderLockService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderLockService, "lockDurationMinutes", 5);
+    }
+
     @Test
     void lockOrderTest() {
         Order order = new Order();
@@ -34,16 +47,56 @@ class OrderLockServiceImplTest {
         employee.setId(1L);
 
         LocalDateTime currentTime = LocalDateTime.now();
+        when(orderRepository.lockOrders(eq(List.of(1L)), eq(1L), any(LocalDateTime.class),
+            any(LocalDateTime.class))).thenReturn(List.of(1L));
 
         orderLockService.lockOrder(order, employee);
 
-        verify(orderRepository, times(1)).save(order);
-
         assertTrue(order.isBlocked());
         assertEquals(employee, order.getBlockedByEmployee());
         assertTrue(order.getBlockedAt().isAfter(currentTime.minusSeconds(1)));
     }
 
+    @Test
+    void lockOrderLockedByAnotherEmployeeTest() {
+        Employee anotherEmployee = Employee.builder().id(2L).build();
+        Order order = Order.builder()
+            .id(1L)
+            .blocked(true)
+            .blockedByEmployee(anotherEmployee)
+            .build();
+        Employee employee = Employee.builder().id(1L).build();
+
+        when(orderRepository.lockOrders(eq(List.of(1L)), eq(1L), any(LocalDateTime.class),
+            any(LocalDateTime.class))).thenReturn(Collections.emptyList());
+
+        orderLockService.lockOrder(order, employee);
+
+        assertTrue(order.isBlocked());
+        assertEquals(anotherEmployee, order.getBlockedByEmployee());
+    }
+
+    @Test
+    void lockOrdersTest() {
+        Employee employee = Employee.builder().id(1L).build();
+
+        when(orderRepository.lockOrders(eq(List.of(1L, 2L)), eq(1L), any(LocalDateTime.class),
+            any(LocalDateTime.class))).thenReturn(List.of(2L));
+
+        assertEquals(List.of(2L), orderLockService.lockOrders(List.of(1L, 2L), employee));
+        assertTrue(orderLockService.lockOrders(List.of(), employee).isEmpty());
+        verify(orderRepository, times(1)).lockOrders(anyList(), eq(1L), any(LocalDateTime.class),
+            any(LocalDateTime.class));
+    }
+
+    @Test
+    void lockAllOrdersTest() {
+        orderLockService.lockAllOrders(Employee.builder().id(1L).build());
+
+        verify(orderRepository).setBlockedEmployeeForAllOrders(eq(1L), any(LocalDateTime.class),
+            any(LocalDateTime.class));
+    }
+
     @Test
     void unlockOrderTest() {
         Order order = Order.builder()
@@ -65,9 +118,37 @@ class OrderLockServiceImplTest {
     }
 
     @Test
-    void testCheckLockOrders() {
-        doNothing().when(orderRepository).unlockExpiredOrders(any(LocalDateTime.class));
-        orderLockService.checkLockOrders();
-        verify(orderRepository, times(1)).unlockExpiredOrders(any(LocalDateTime.class));
+    void unlockOrdersTest() {
+        Employee employee = Employee.builder().id(1L).build();
+
+        when(orderRepository.unlockOrders(List.of(1L, 2L), 1L)).thenReturn(List.of(1L));
+
+        assertEquals(List.of(1L), orderLockService.unlockOrders(List.of(1L, 2L), employee));
+    }
+
+    @Test
+    void isLockedTest() {
+        Order order = Order.builder().id(1L).build();
+        assertFalse(orderLockService.isLocked(order));
+
+        order.setBlocked(true).setBlockedAt(LocalDateTime.now().minusMinutes(4));
+        assertTrue(orderLockService.isLocked(order));
+
+        order.setBlockedAt(LocalDateTime.now().minusMinutes(6));
+        assertFalse(orderLockService.isLocked(order));
+    }
+
+    @Test
+    void getLockedOrderIdsTest() {
+        when(orderRepository.findLockedOrderIds(eq(List.of(1L, 2L)), any(LocalDateTime.class)))
+            .thenReturn(List.of(2L));
+
+        assertEquals(Set.of(2L), orderLockService.getLockedOrderIds(List.of(1L, 2L)));
+    }
+
+    @Test
+    void getLockedOrderIdsOfNoOrdersTest() {
+        assertTrue(orderLockService.getLockedOrderIds(List.of()).isEmpty());
+        verifyNoInteractions(orderRepository);
     }
 }
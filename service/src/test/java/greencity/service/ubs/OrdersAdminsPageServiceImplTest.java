@@ -5,6 +5,7 @@ import greencity.client.UserRemoteClient;
 import greencity.constant.ErrorMessage;
 import greencity.constant.OrderHistory;
 import greencity.dto.courier.ReceivingStationDto;
+import greencity.dto.order.BlockedOrderDto;
 import greencity.dto.order.ChangeOrderResponseDTO;
 import greencity.dto.order.RequestToChangeOrdersDataDto;
 import greencity.dto.table.ColumnWidthDto;
@@ -12,6 +13,7 @@ import greencity.entity.order.Event;
 import greencity.entity.table.TableColumnWidthForEmployee;
 import greencity.entity.user.ubs.Address;
 import greencity.enums.CancellationReason;
+import greencity.enums.EventCode;
 import greencity.enums.OrderStatus;
 import greencity.entity.order.Order;
 import greencity.entity.order.OrderPaymentStatusTranslation;
@@ -21,13 +23,13 @@ import greencity.entity.user.employee.Employee;
 import greencity.entity.user.employee.EmployeeOrderPosition;
 import greencity.entity.user.employee.Position;
 import greencity.exceptions.BadRequestException;
+import greencity.exceptions.bots.MessageWasNotSent;
 import greencity.exceptions.NotFoundException;
 import greencity.repository.AddressRepository;
 import greencity.repository.EmployeeOrderPositionRepository;
 import greencity.repository.EmployeeRepository;
 import greencity.repository.OrderPaymentStatusTranslationRepository;
 import greencity.repository.OrderRepository;
-import greencity.repository.OrderStatusTranslationRepository;
 import greencity.repository.PositionRepository;
 import greencity.repository.ReceivingStationRepository;
 import greencity.repository.TableColumnWidthForEmployeeRepository;
@@ -45,6 +47,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -70,14 +73,20 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 
 @ExtendWith(MockitoExtension.class)
 class OrdersAdminsPageServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
+
+    @Mock
+    private ReferenceDataCacheService referenceDataCacheService;
     @Mock
     private EmployeeRepository employeeRepository;
     @Mock
@@ -91,8 +100,6 @@ class OrdersAdminsPageServiceImplTest {
     @Mock
     private EmployeeOrderPositionRepository employeeOrderPositionRepository;
     @Mock
-    private OrderStatusTranslationRepository orderStatusTranslationRepository;
-    @Mock
     private OrderPaymentStatusTranslationRepository orderPaymentStatusTranslationRepository;
     @Mock
     private UserRepository userRepository;
@@ -110,6 +117,8 @@ class OrdersAdminsPageServiceImplTest {
     private TableColumnWidthForEmployeeRepository tableColumnWidthForEmployeeRepository;
     @Mock
     private OrderLockService orderLockService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     @InjectMocks
     private OrdersAdminsPageServiceImpl ordersAdminsPageService;
 
@@ -118,7 +127,7 @@ class OrdersAdminsPageServiceImplTest {
 
         OrderStatusTranslation orderStatusTranslation = ModelUtils.getOrderStatusTranslation();
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(1L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation));
         assertThrows(EntityNotFoundException.class, () -> ordersAdminsPageService.getParametersForOrdersTable("1"));
     }
@@ -129,10 +138,10 @@ class OrdersAdminsPageServiceImplTest {
         OrderStatusTranslation orderStatusTranslation = ModelUtils.getOrderStatusTranslation();
         OrderStatusTranslation orderStatusTranslation2 = ModelUtils.getOrderStatusTranslation();
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(1L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(1L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2));
 
         assertThrows(EntityNotFoundException.class, () -> ordersAdminsPageService.getParametersForOrdersTable("1"));
@@ -147,37 +156,37 @@ class OrdersAdminsPageServiceImplTest {
         List<Employee> employeeList = new ArrayList<>();
         employeeList.add(ModelUtils.getEmployee());
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(1L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(1L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(2L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(2L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(2L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(2L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(2L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(2L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(3L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(3L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(3L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(3L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(3L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(3L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(4L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(4L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(4L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(5L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(5L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(5L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(6L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(7L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(7L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(7L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(8L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(8L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(8L)));
 
         assertThrows(EntityNotFoundException.class, () -> ordersAdminsPageService.getParametersForOrdersTable("1"));
@@ -195,37 +204,37 @@ class OrdersAdminsPageServiceImplTest {
         employeeList.add(ModelUtils.getEmployee());
         List<Address> addressList = List.of(ModelUtils.getAddress());
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(1L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(1L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(2L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(2L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(2L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(2L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(2L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(2L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(3L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(3L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(3L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(3L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(3L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(3L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(4L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(4L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(4L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(5L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(5L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(5L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(6L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(7L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(7L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation2.setStatusId(7L)));
 
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(8L))
+        when(referenceDataCacheService.getOrderStatusTranslationById(8L))
             .thenReturn(Optional.ofNullable(orderStatusTranslation.setStatusId(8L)));
 
         when(orderPaymentStatusTranslationRepository.getOrderPaymentStatusTranslationById(anyLong()))
@@ -233,13 +242,13 @@ class OrdersAdminsPageServiceImplTest {
 
         when(superAdminService.getAllReceivingStations())
             .thenReturn(receivingStations);
-        when(employeeRepository.findAllByEmployeePositionId(2L))
+        when(referenceDataCacheService.getEmployeesByPositionId(2L))
             .thenReturn(employeeList);
-        when(employeeRepository.findAllByEmployeePositionId(3L))
+        when(referenceDataCacheService.getEmployeesByPositionId(3L))
             .thenReturn(employeeList);
-        when(employeeRepository.findAllByEmployeePositionId(5L))
+        when(referenceDataCacheService.getEmployeesByPositionId(5L))
             .thenReturn(employeeList);
-        when(employeeRepository.findAllByEmployeePositionId(4L))
+        when(referenceDataCacheService.getEmployeesByPositionId(4L))
             .thenReturn(employeeList);
         when(addressRepository.findDistinctDistricts())
             .thenReturn(addressList);
@@ -279,7 +288,7 @@ class OrdersAdminsPageServiceImplTest {
             .dateOfExport(exportDate)
             .build();
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order));
 
         List<Long> result = ordersAdminsPageService.timeOfExportForDevelopStage(ordersId, newValue, employeeId);
 
@@ -302,11 +311,11 @@ class OrdersAdminsPageServiceImplTest {
                 .id(employeeId).build())
             .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
 
         var result = ordersAdminsPageService.timeOfExportForDevelopStage(ordersId, newValue, employeeId);
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(orderId));
         verify(orderRepository, never()).save(any(Order.class));
 
         assertTrue(order.isBlocked());
@@ -333,11 +342,13 @@ class OrdersAdminsPageServiceImplTest {
             .dateOfExport(exportDate)
             .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
+
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.timeOfExportForDevelopStage(ordersId, newValue, employeeId);
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(orderId));
         verify(orderRepository, never()).save(any(Order.class));
 
         assertTrue(order.isBlocked());
@@ -366,7 +377,7 @@ class OrdersAdminsPageServiceImplTest {
             .deliverTo(LocalDateTime.of(previousExportDate, timeTo))
             .build();
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order));
 
         var result = ordersAdminsPageService.dateOfExportForDevelopStage(ordersId, newValue, employeeId);
 
@@ -375,6 +386,37 @@ class OrdersAdminsPageServiceImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void dateOfExportForDevelopStageChangesEveryOrderInItsOwnTransactionTest() {
+        var ordersId = List.of(1L, 2L, 3L);
+        var newValue = "2023-06-30T00:00:00.000Z";
+        var employeeId = 3L;
+        var order = Order.builder().id(1L).build();
+        var blockedOrder = Order.builder()
+            .id(2L)
+            .blocked(true)
+            .blockedByEmployee(Employee.builder().id(4L).build())
+            .build();
+
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(2L))).thenReturn(List.of(blockedOrder));
+        when(orderRepository.findAllByIdInForUpdate(List.of(3L))).thenReturn(List.of());
+        when(orderLockService.isLocked(blockedOrder)).thenReturn(true);
+
+        var result = ordersAdminsPageService.dateOfExportForDevelopStage(ordersId, newValue, employeeId);
+
+        verify(orderRepository, never()).findById(anyLong());
+        verify(orderLockService).unlockOrder(order);
+        verify(orderLockService, never()).unlockOrder(blockedOrder);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager).commit(any());
+        verify(transactionManager, times(2)).rollback(any());
+
+        assertEquals(LocalDate.of(2023, 6, 30), order.getDateOfExport());
+        assertNull(blockedOrder.getDateOfExport());
+        assertEquals(List.of(2L, 3L), result);
+    }
+
     @Test
     void dateOfExportForDevelopStageBlockedByAnotherEmployeeThrowExceptionTest() {
         var orderId = 1L;
@@ -392,11 +434,13 @@ class OrdersAdminsPageServiceImplTest {
             .dateOfExport(exportDate)
             .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
+
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.dateOfExportForDevelopStage(ordersId, newValue, employeeId);
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(orderId));
         verify(orderRepository, never()).save(any(Order.class));
 
         assertTrue(order.isBlocked());
@@ -434,10 +478,8 @@ class OrdersAdminsPageServiceImplTest {
             requestToChangeOrdersDataDto.getOrderIdsList().size(),
             changeOrderResponseDTO.getUnresolvedGoalsOrderId().size());
 
-        int orderRepositoryFindByIdCalls = requestToChangeOrdersDataDto.getOrderIdsList().size();
-
         verify(employeeRepository).findByEmail(email);
-        verify(orderRepository, times(orderRepositoryFindByIdCalls)).findById(anyLong());
+        verify(orderRepository).findAllByIdInForUpdate(requestToChangeOrdersDataDto.getOrderIdsList());
     }
 
     @Test
@@ -454,7 +496,7 @@ class OrdersAdminsPageServiceImplTest {
             .build();
 
         when(employeeRepository.findByEmail(email)).thenReturn(Optional.of(employee));
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order));
         doNothing().when(orderLockService).unlockOrder(order);
 
         var changeOrderResponseDto = ordersAdminsPageService.chooseOrdersDataSwitcher(
@@ -466,11 +508,9 @@ class OrdersAdminsPageServiceImplTest {
             changeOrderResponseDto.getUnresolvedGoalsOrderId().size());
         assertEquals(1, order.getEvents().size());
 
-        int orderRepositoryFindByIdCalls = requestToChangeOrdersDataDto.getOrderIdsList().size();
-
         verify(employeeRepository).findByEmail(email);
-        verify(orderRepository, times(orderRepositoryFindByIdCalls)).findById(anyLong());
-        verify(orderLockService, times(orderRepositoryFindByIdCalls)).unlockOrder(any(Order.class));
+        verify(orderRepository).findAllByIdInForUpdate(requestToChangeOrdersDataDto.getOrderIdsList());
+        verify(orderLockService).unlockOrder(order);
 
     }
 
@@ -501,7 +541,8 @@ class OrdersAdminsPageServiceImplTest {
             .build();
 
         when(employeeRepository.findByEmail(email)).thenReturn(Optional.of(employee));
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.chooseOrdersDataSwitcher(email, dto);
 
@@ -532,7 +573,7 @@ class OrdersAdminsPageServiceImplTest {
                 ModelUtils.getPosition(),
                 order)));
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order));
 
         ordersAdminsPageService.orderStatusForDevelopStage(List.of(1L), newStatus, ModelUtils.getEmployee());
 
@@ -558,7 +599,7 @@ class OrdersAdminsPageServiceImplTest {
         expected.setDeliverTo(null);
         expected.setReceivingStation(null);
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(saved));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(saved));
 
         ordersAdminsPageService.orderStatusForDevelopStage(List.of(1L), newStatus, ModelUtils.getEmployee());
 
@@ -567,6 +608,30 @@ class OrdersAdminsPageServiceImplTest {
         verify(orderLockService).unlockOrder(expected);
     }
 
+    @Test
+    void orderStatusForDevelopStageRollsBackOnlyOrderWhoseNotificationFailsTest() {
+        Order first = ModelUtils.getOrder().setOrderStatus(OrderStatus.FORMED);
+        Order second = ModelUtils.getOrder().setOrderStatus(OrderStatus.FORMED);
+        second.setId(2L);
+        Order third = ModelUtils.getOrder().setOrderStatus(OrderStatus.FORMED);
+        third.setId(3L);
+
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(first));
+        when(orderRepository.findAllByIdInForUpdate(List.of(2L))).thenReturn(List.of(second));
+        when(orderRepository.findAllByIdInForUpdate(List.of(3L))).thenReturn(List.of(third));
+        lenient().doThrow(new MessageWasNotSent("Not sent")).when(notificationService).notifySelfPickupOrder(second);
+
+        List<Long> result = ordersAdminsPageService.orderStatusForDevelopStage(List.of(1L, 2L, 3L),
+            "BROUGHT_IT_HIMSELF", ModelUtils.getEmployee());
+
+        assertEquals(List.of(2L), result);
+        verify(orderLockService).unlockOrder(first);
+        verify(orderLockService, never()).unlockOrder(second);
+        verify(orderLockService).unlockOrder(third);
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager).rollback(any());
+    }
+
     @ParameterizedTest
     @CsvSource({
         "CONFIRMED, FORMED",
@@ -586,7 +651,7 @@ class OrdersAdminsPageServiceImplTest {
                 ModelUtils.getPosition(),
                 order)));
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order));
 
         ordersAdminsPageService.orderStatusForDevelopStage(List.of(1L), newStatus, ModelUtils.getEmployee());
 
@@ -595,15 +660,15 @@ class OrdersAdminsPageServiceImplTest {
 
     @Test
     void orderStatusForDevelopStageEntityNotFoundException() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of());
         assertEquals(List.of(1L),
             ordersAdminsPageService.orderStatusForDevelopStage(List.of(1L), "", ModelUtils.getEmployee()));
     }
 
     @Test
     void orderStatusForDevelopStageBadOrderStatusRequestException() {
-        when(orderRepository.findById(1L))
-            .thenReturn(Optional.of(ModelUtils.getOrder().setOrderStatus(OrderStatus.FORMED)));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L)))
+            .thenReturn(List.of(ModelUtils.getOrder().setOrderStatus(OrderStatus.FORMED)));
         assertEquals(List.of(1L),
             ordersAdminsPageService.orderStatusForDevelopStage(List.of(1L), "DONE", ModelUtils.getEmployee()));
     }
@@ -622,11 +687,13 @@ class OrdersAdminsPageServiceImplTest {
                 .id(anotherEmployeeId).build())
             .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
+
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.orderStatusForDevelopStage(ordersId, newValue, ModelUtils.getEmployee());
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(orderId));
         verify(orderRepository, never()).save(any(Order.class));
 
         assertTrue(order.isBlocked());
@@ -646,17 +713,27 @@ class OrdersAdminsPageServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(employee);
         when(employeeRepository.findByEmail(anyString())).thenReturn(currentEmployee);
         when(positionRepository.findById(1L)).thenReturn(position);
-        when(orderRepository.findById(1L)).thenReturn(order);
-        when(employeeOrderPositionRepository.existsByOrderAndPosition(order.get(), position.get()))
-            .thenReturn(Boolean.TRUE);
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order.get()));
+        EmployeeOrderPosition employeeOrderPosition = EmployeeOrderPosition.builder()
+            .id(1L)
+            .employee(Employee.builder().id(3L).build())
+            .order(order.get())
+            .position(position.get())
+            .build();
+        when(employeeOrderPositionRepository.findAllByOrderIdIn(Set.of(1L)))
+            .thenReturn(List.of(employeeOrderPosition));
         when(eventService.changesWithResponsibleEmployee(1L, Boolean.TRUE)).thenReturn("Some changes");
 
         ordersAdminsPageService.responsibleEmployee(List.of(1L), "1", 1L, email);
 
+        assertEquals(employee.get(), employeeOrderPosition.getEmployee());
         verify(employeeRepository).findById(1L);
-        verify(orderRepository).findById(1L);
-        verify(employeeOrderPositionRepository).existsByOrderAndPosition(order.get(), position.get());
+        verify(orderRepository).findAllByIdInForUpdate(List.of(1L));
+        verify(employeeOrderPositionRepository).findAllByOrderIdIn(Set.of(1L));
         verify(eventService).changesWithResponsibleEmployee(1L, Boolean.TRUE);
+        verify(eventService).save("Some changes", currentEmployee.get().getFirstName() + "  "
+            + currentEmployee.get().getLastName(), order.get());
+        verify(orderLockService).unlockOrder(order.get());
     }
 
     @Test
@@ -670,25 +747,23 @@ class OrdersAdminsPageServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(employee);
         when(employeeRepository.findByEmail(anyString())).thenReturn(currentEmployee);
         when(positionRepository.findById(1L)).thenReturn(position);
-        when(orderRepository.findById(1L)).thenReturn(order);
-        when(employeeOrderPositionRepository.existsByOrderAndPosition(order.get(), position.get()))
-            .thenReturn(Boolean.FALSE);
-        when(employeeOrderPositionRepository.findAllByOrderId(1L))
-            .thenReturn(new ArrayList<>(List.of(EmployeeOrderPosition.builder()
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order.get()));
+        when(employeeOrderPositionRepository.findAllByOrderIdIn(Set.of(1L)))
+            .thenReturn(List.of(EmployeeOrderPosition.builder()
                 .id(1L)
                 .employee(employee.get())
                 .order(order.get())
-                .position(position.get())
-                .build())));
+                .position(Position.builder().id(2L).build())
+                .build()));
         when(eventService.changesWithResponsibleEmployee(1L, Boolean.FALSE)).thenReturn("Some changes");
 
         ordersAdminsPageService.responsibleEmployee(List.of(1L), "1", 1L, email);
 
         verify(employeeRepository).findById(1L);
-        verify(orderRepository).findById(1L);
-        verify(employeeOrderPositionRepository).existsByOrderAndPosition(order.get(), position.get());
-        verify(employeeOrderPositionRepository).findAllByOrderId(1L);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(1L));
+        verify(employeeOrderPositionRepository).findAllByOrderIdIn(Set.of(1L));
         verify(eventService).changesWithResponsibleEmployee(1L, Boolean.FALSE);
+        assertEquals(2, order.get().getEmployeeOrderPositions().size());
     }
 
     @Test
@@ -738,7 +813,7 @@ class OrdersAdminsPageServiceImplTest {
         ordersAdminsPageService.responsibleEmployee(ordersId, "1", 1L, email);
 
         verify(employeeRepository).findById(1L);
-        verify(orderRepository).findById(1L);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(1L));
     }
 
     @Test
@@ -756,13 +831,14 @@ class OrdersAdminsPageServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(employee);
         when(employeeRepository.findByEmail(email)).thenReturn(currentEmployee);
         when(positionRepository.findById(1L)).thenReturn(position);
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order));
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.responsibleEmployee(ordersIds, "1", 1L, email);
 
         verify(employeeRepository).findByEmail(email);
         verify(employeeRepository).findById(1L);
-        verify(orderRepository).findById(1L);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(1L));
         verify(orderRepository, never()).save(any(Order.class));
         verify(eventService, never()).save(anyString(), anyString(), any(Order.class));
 
@@ -807,7 +883,7 @@ class OrdersAdminsPageServiceImplTest {
     void receivingStationForDevelopStage() {
         Optional<Order> order = Optional.of(ModelUtils.getOrder());
 
-        when(orderRepository.findById(1L)).thenReturn(order);
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order.get()));
         when(receivingStationRepository.getOne(1L)).thenReturn(ModelUtils.getReceivingStation());
 
         ordersAdminsPageService.receivingStationForDevelopStage(List.of(1L), "1", 1L);
@@ -829,11 +905,13 @@ class OrdersAdminsPageServiceImplTest {
                 .id(anotherEmployeeId).build())
             .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
+
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.receivingStationForDevelopStage(ordersId, newValue, employeeId);
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findAllByIdInForUpdate(List.of(orderId));
         verify(orderRepository, never()).save(any(Order.class));
 
         assertNull(order.getReceivingStation());
@@ -851,18 +929,16 @@ class OrdersAdminsPageServiceImplTest {
         Optional<Order> order = Optional.of(ModelUtils.getOrder());
 
         when(employeeRepository.findById(1L)).thenReturn(employee);
-        when(orderRepository.findById(1L)).thenReturn(order);
+        when(orderRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(order.get()));
         when(positionRepository.findById(1L)).thenReturn(position);
 
-        when(employeeOrderPositionRepository.existsByOrderAndPosition(order.get(), position.get()))
-            .thenReturn(Boolean.FALSE);
-        when(employeeOrderPositionRepository.findAllByOrderId(1L))
-            .thenReturn(new ArrayList<>(List.of(EmployeeOrderPosition.builder()
+        when(employeeOrderPositionRepository.findAllByOrderIdIn(Set.of(1L)))
+            .thenReturn(List.of(EmployeeOrderPosition.builder()
                 .id(1L)
                 .employee(employee.get())
                 .order(order.get())
-                .position(position.get())
-                .build())));
+                .position(Position.builder().id(2L).build())
+                .build()));
         when(eventService.changesWithResponsibleEmployee(1L, Boolean.FALSE)).thenReturn("Some changes");
 
         when(employeeRepository.findByEmail(email)).thenReturn(employee);
@@ -870,9 +946,8 @@ class OrdersAdminsPageServiceImplTest {
         ordersAdminsPageService.chooseOrdersDataSwitcher(email, dto);
 
         verify(employeeRepository, atLeast(1)).findById(1L);
-        verify(orderRepository, atLeast(1)).findById(1L);
-        verify(employeeOrderPositionRepository, atLeast(1)).existsByOrderAndPosition(order.get(), position.get());
-        verify(employeeOrderPositionRepository, atLeast(1)).findAllByOrderId(1L);
+        verify(orderRepository, atLeast(1)).findAllByIdInForUpdate(List.of(1L));
+        verify(employeeOrderPositionRepository, atLeast(1)).findAllByOrderIdIn(Set.of(1L));
         verify(eventService, atLeast(1)).changesWithResponsibleEmployee(1L, Boolean.FALSE);
     }
 
@@ -900,7 +975,7 @@ class OrdersAdminsPageServiceImplTest {
             .unresolvedGoalsOrderId(Collections.emptyList())
             .build();
         when(employeeRepository.findByEmail(email)).thenReturn(Optional.of(employee));
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
         doNothing().when(orderLockService).unlockOrder(order);
 
         var result = ordersAdminsPageService.chooseOrdersDataSwitcher(email, dto);
@@ -941,7 +1016,8 @@ class OrdersAdminsPageServiceImplTest {
             .build();
 
         when(employeeRepository.findByEmail(email)).thenReturn(Optional.of(employee));
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.chooseOrdersDataSwitcher(email, dto);
 
@@ -993,6 +1069,7 @@ class OrdersAdminsPageServiceImplTest {
             .eventDate(dateTime)
             .authorName(employee.getFirstName() + "  " + employee.getLastName())
             .eventName(OrderHistory.ORDER_CANCELLED + "  " + newComment)
+            .code(EventCode.ORDER_CANCELLED)
             .build();
 
         expectedSavedOrder.getEvents().add(event);
@@ -1003,7 +1080,7 @@ class OrdersAdminsPageServiceImplTest {
             .build();
 
         when(employeeRepository.findByEmail(email)).thenReturn(Optional.of(employee));
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
         doNothing().when(orderLockService).unlockOrder(order);
 
         ChangeOrderResponseDTO result;
@@ -1051,7 +1128,8 @@ class OrdersAdminsPageServiceImplTest {
             .build();
 
         when(employeeRepository.findByEmail(email)).thenReturn(Optional.of(employee));
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findAllByIdInForUpdate(List.of(orderId))).thenReturn(List.of(order));
+        when(orderLockService.isLocked(order)).thenReturn(true);
 
         var result = ordersAdminsPageService.chooseOrdersDataSwitcher(email, dto);
 
@@ -1072,9 +1150,57 @@ class OrdersAdminsPageServiceImplTest {
         when(userRemoteClient.findByUuid(user.getUuid()))
             .thenReturn(Optional.of(ModelUtils.getUbsCustomersDto().setEmail("test@gmail.com")));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(ModelUtils.getOrder()));
+        when(orderLockService.lockOrders(orders, ModelUtils.getEmployee())).thenReturn(List.of(1L));
+
+        assertTrue(ordersAdminsPageService.requestToBlockOrder(user.getUuid(), orders).isEmpty());
+        verify(orderRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    void requestToBlockOrderLockedByAnotherEmployeeTest() {
+        User user = ModelUtils.getUser().setUuid("uuid");
+        List<Long> orders = List.of(1L, 2L);
+        Order order = Order.builder()
+            .id(2L)
+            .blocked(true)
+            .blockedByEmployee(Employee.builder().id(3L).firstName("Ivan").lastName("Petrenko").build())
+            .build();
+
+        when(userRemoteClient.findByUuid(user.getUuid()))
+            .thenReturn(Optional.of(ModelUtils.getUbsCustomersDto().setEmail("test@gmail.com")));
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        when(orderLockService.lockOrders(orders, ModelUtils.getEmployee())).thenReturn(List.of(1L));
+        when(orderRepository.findAllById(List.of(2L))).thenReturn(List.of(order));
+
+        assertEquals(List.of(BlockedOrderDto.builder().orderId(2L).userName("Ivan Petrenko").build()),
+            ordersAdminsPageService.requestToBlockOrder(user.getUuid(), orders));
+    }
+
+    @Test
+    void requestToBlockOrderNotFoundTest() {
+        User user = ModelUtils.getUser().setUuid("uuid");
+        List<Long> orders = List.of(1L);
+
+        when(userRemoteClient.findByUuid(user.getUuid()))
+            .thenReturn(Optional.of(ModelUtils.getUbsCustomersDto().setEmail("test@gmail.com")));
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        when(orderLockService.lockOrders(orders, ModelUtils.getEmployee())).thenReturn(List.of());
+        when(orderRepository.findAllById(orders)).thenReturn(List.of());
+
+        String uuid = user.getUuid();
+        assertThrows(EntityNotFoundException.class, () -> ordersAdminsPageService.requestToBlockOrder(uuid, orders));
+    }
+
+    @Test
+    void requestToBlockAllOrdersTest() {
+        User user = ModelUtils.getUser().setUuid("uuid");
+
+        when(userRemoteClient.findByUuid(user.getUuid()))
+            .thenReturn(Optional.of(ModelUtils.getUbsCustomersDto().setEmail("test@gmail.com")));
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
 
-        assertNotNull(ordersAdminsPageService.requestToBlockOrder(user.getUuid(), orders));
+        assertTrue(ordersAdminsPageService.requestToBlockOrder(user.getUuid(), List.of()).isEmpty());
+        verify(orderLockService).lockAllOrders(ModelUtils.getEmployee());
     }
 
     @Test
@@ -1086,9 +1212,9 @@ class OrdersAdminsPageServiceImplTest {
         when(userRemoteClient.findByUuid(user.getUuid()))
             .thenReturn(Optional.of(ModelUtils.getUbsCustomersDto().setEmail("test@gmail.com")));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(ModelUtils.getOrder()));
+        when(orderLockService.unlockOrders(orders, ModelUtils.getEmployee())).thenReturn(List.of(1L));
 
-        assertNotNull(ordersAdminsPageService.unblockOrder(user.getUuid(), orders));
+        assertEquals(List.of(1L), ordersAdminsPageService.unblockOrder(user.getUuid(), orders));
     }
 
     @Test
@@ -0,0 +1,171 @@
+package greencity.service.ubs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.config.PaymentCallbackConfigProp;
+import greencity.dto.payment.PaymentResponseDto;
+import greencity.entity.order.PaymentCallback;
+import greencity.enums.PaymentCallbackStatus;
+import greencity.exceptions.BadRequestException;
+import greencity.repository.PaymentCallbackRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import static greencity.ModelUtils.getPaymentResponseDto;
+import static greencity.constant.ErrorMessage.PAYMENT_VALIDATION_ERROR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCallbackServiceImplTest {
+    @Mock
+    private PaymentCallbackRepository paymentCallbackRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private UBSClientService ubsClientService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PaymentCallbackConfigProp paymentCallbackConfigProp = new PaymentCallbackConfigProp();
+    private PaymentCallbackServiceImpl paymentCallbackService;
+
+    @BeforeEach
+    void setUp() {
+        paymentCallbackConfigProp.setWorkers(2);
+        paymentCallbackConfigProp.setMaxAttempts(3);
+        paymentCallbackConfigProp.setRetryBatchSize(10);
+        paymentCallbackService = new PaymentCallbackServiceImpl(paymentCallbackRepository,
+            paymentCallbackConfigProp, objectMapper, transactionManager);
+        ReflectionTestUtils.setField(paymentCallbackService, "ubsClientService", ubsClientService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentCallbackService.shutdown();
+    }
+
+    @Test
+    void receiveStoresCallbackAndAppliesItTest() throws Exception {
+        PaymentResponseDto response = getPaymentResponseDto();
+        PaymentCallback callback = getPaymentCallback(response);
+
+        when(paymentCallbackRepository.insertIfAbsent(eq("1_001"), eq("Approved"), eq(1L), anyString()))
+            .thenReturn(List.of(5L));
+        when(paymentCallbackRepository.lockPending(5L, 3)).thenReturn(Optional.of(callback));
+
+        assertTrue(paymentCallbackService.receive(response, 1L));
+
+        verify(ubsClientService, timeout(1000)).applyPaymentCallback(any(PaymentResponseDto.class));
+        verify(paymentCallbackRepository, timeout(1000)).save(callback);
+        assertEquals(PaymentCallbackStatus.PROCESSED, callback.getStatus());
+    }
+
+    @Test
+    void receiveSkipsRepeatedCallbackTest() {
+        PaymentResponseDto response = getPaymentResponseDto();
+
+        when(paymentCallbackRepository.insertIfAbsent(eq("1_001"), eq("Approved"), eq(1L), anyString()))
+            .thenReturn(List.of());
+
+        assertFalse(paymentCallbackService.receive(response, 1L));
+
+        verify(paymentCallbackRepository, never()).lockPending(any(), any(Integer.class));
+        verifyNoInteractions(ubsClientService);
+    }
+
+    @Test
+    void processAppliesCallbackTest() throws Exception {
+        PaymentResponseDto response = getPaymentResponseDto();
+        PaymentCallback callback = getPaymentCallback(response);
+
+        when(paymentCallbackRepository.lockPending(5L, 3)).thenReturn(Optional.of(callback));
+
+        assertTrue(paymentCallbackService.process(5L));
+
+        ArgumentCaptor<PaymentResponseDto> captor = ArgumentCaptor.forClass(PaymentResponseDto.class);
+        verify(ubsClientService).applyPaymentCallback(captor.capture());
+        assertEquals("1_001", captor.getValue().getOrderReference());
+        assertEquals("Approved", captor.getValue().getTransactionStatus());
+        assertEquals(PaymentCallbackStatus.PROCESSED, callback.getStatus());
+        assertEquals(1, callback.getAttempts());
+        assertNotNull(callback.getProcessedAt());
+        verify(paymentCallbackRepository).save(callback);
+    }
+
+    @Test
+    void processSkipsAppliedCallbackTest() {
+        when(paymentCallbackRepository.lockPending(5L, 3)).thenReturn(Optional.empty());
+
+        assertFalse(paymentCallbackService.process(5L));
+
+        verifyNoInteractions(ubsClientService);
+        verify(paymentCallbackRepository, never()).save(any());
+    }
+
+    @Test
+    void processMarksCallbackAsFailedTest() throws Exception {
+        PaymentCallback callback = getPaymentCallback(getPaymentResponseDto());
+
+        when(paymentCallbackRepository.lockPending(5L, 3)).thenReturn(Optional.of(callback));
+        doThrow(new BadRequestException(PAYMENT_VALIDATION_ERROR))
+            .when(ubsClientService).applyPaymentCallback(any(PaymentResponseDto.class));
+        when(paymentCallbackRepository.findById(5L)).thenReturn(Optional.of(callback));
+
+        assertFalse(paymentCallbackService.process(5L));
+
+        assertEquals(PaymentCallbackStatus.FAILED, callback.getStatus());
+        assertEquals(1, callback.getAttempts());
+        assertEquals(PAYMENT_VALIDATION_ERROR, callback.getError());
+        assertNull(callback.getProcessedAt());
+        verify(paymentCallbackRepository).save(callback);
+    }
+
+    @Test
+    void retryPendingTest() throws Exception {
+        PaymentCallback first = getPaymentCallback(getPaymentResponseDto());
+        PaymentCallback second = getPaymentCallback(getPaymentResponseDto());
+        second.setId(6L);
+        second.setOrderId(2L);
+
+        when(paymentCallbackRepository.findPending(any(LocalDateTime.class), eq(3), eq(10)))
+            .thenReturn(List.of(first, second));
+        when(paymentCallbackRepository.lockPending(5L, 3)).thenReturn(Optional.empty());
+        when(paymentCallbackRepository.lockPending(6L, 3)).thenReturn(Optional.empty());
+
+        assertEquals(2, paymentCallbackService.retryPending());
+
+        verify(paymentCallbackRepository, timeout(1000)).lockPending(5L, 3);
+        verify(paymentCallbackRepository, timeout(1000)).lockPending(6L, 3);
+    }
+
+    private PaymentCallback getPaymentCallback(PaymentResponseDto response) throws Exception {
+        return PaymentCallback.builder()
+            .id(5L)
+            .orderReference(response.getOrderReference())
+            .transactionStatus(response.getTransactionStatus())
+            .orderId(1L)
+            .payload(objectMapper.writeValueAsString(response))
+            .status(PaymentCallbackStatus.NEW)
+            .build();
+    }
+}
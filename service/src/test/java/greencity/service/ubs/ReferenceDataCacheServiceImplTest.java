@@ -0,0 +1,168 @@
+package greencity.service.ubs;
+
+import greencity.config.ReferenceDataCacheConfigProp;
+import greencity.dto.ReferenceDataCacheStatsDto;
+import greencity.entity.order.Bag;
+import greencity.entity.order.OrderStatusTranslation;
+import greencity.entity.user.employee.Position;
+import greencity.enums.ReferenceDataRegion;
+import greencity.repository.BagRepository;
+import greencity.repository.EmployeeRepository;
+import greencity.repository.OrderStatusTranslationRepository;
+import greencity.repository.PositionRepository;
+import greencity.repository.ServiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheServiceImplTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    private BagRepository bagRepository;
+    @Mock
+    private ServiceRepository serviceRepository;
+    @Mock
+    private PositionRepository positionRepository;
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private OrderStatusTranslationRepository orderStatusTranslationRepository;
+    @Mock
+    private Clock clock;
+
+    private final ReferenceDataCacheConfigProp referenceDataCacheConfigProp = new ReferenceDataCacheConfigProp();
+    private ReferenceDataCacheServiceImpl referenceDataCacheService;
+
+    @BeforeEach
+    void setUp() {
+        referenceDataCacheConfigProp.setTtl(Duration.ofMinutes(5));
+        lenient().when(clock.instant()).thenReturn(NOW);
+        referenceDataCacheService = new ReferenceDataCacheServiceImpl(bagRepository, serviceRepository,
+            positionRepository, employeeRepository, orderStatusTranslationRepository,
+            referenceDataCacheConfigProp, clock);
+    }
+
+    @Test
+    void getActiveBagsByTariffsInfoIdLoadsBagsOnceTest() {
+        List<Bag> bags = List.of(Bag.builder().id(1).build());
+        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(bags);
+
+        assertEquals(bags, referenceDataCacheService.getActiveBagsByTariffsInfoId(1L));
+        assertEquals(bags, referenceDataCacheService.getActiveBagsByTariffsInfoId(1L));
+
+        verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
+        ReferenceDataCacheStatsDto stats = getStats(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF);
+        assertEquals(1, stats.getSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void getActiveBagsByTariffsInfoIdReturnsUnmodifiableListTest() {
+        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L))
+            .thenReturn(new ArrayList<>(List.of(Bag.builder().id(1).build())));
+
+        List<Bag> bags = referenceDataCacheService.getActiveBagsByTariffsInfoId(1L);
+        Bag bag = Bag.builder().id(2).build();
+
+        assertThrows(UnsupportedOperationException.class, () -> bags.add(bag));
+    }
+
+    @Test
+    void getOrderStatusTranslationByIdCachesAbsentTranslationTest() {
+        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), referenceDataCacheService.getOrderStatusTranslationById(1L));
+        assertEquals(Optional.empty(), referenceDataCacheService.getOrderStatusTranslationById(1L));
+
+        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(1L);
+    }
+
+    @Test
+    void getPositionsReloadsExpiredPositionsTest() {
+        List<Position> positions = List.of(Position.builder().id(1L).build());
+        when(positionRepository.findAll()).thenReturn(positions);
+
+        referenceDataCacheService.getPositions();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(4)));
+        assertEquals(240, getStats(ReferenceDataRegion.POSITIONS).getOldestEntryAgeSeconds());
+        referenceDataCacheService.getPositions();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(5)));
+        referenceDataCacheService.getPositions();
+
+        verify(positionRepository, times(2)).findAll();
+    }
+
+    @Test
+    void invalidateReloadsOnlyInvalidatedRegionTest() {
+        OrderStatusTranslation translation = OrderStatusTranslation.builder().id(1L).name("Сформовано").build();
+        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(List.of());
+        when(orderStatusTranslationRepository.getOrderStatusTranslationById(1L)).thenReturn(Optional.of(translation));
+
+        referenceDataCacheService.getActiveBagsByTariffsInfoId(1L);
+        referenceDataCacheService.getOrderStatusTranslationById(1L);
+        referenceDataCacheService.invalidate(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF);
+        referenceDataCacheService.getActiveBagsByTariffsInfoId(1L);
+        referenceDataCacheService.getOrderStatusTranslationById(1L);
+
+        verify(bagRepository, times(2)).findAllActiveBagsByTariffsInfoId(1L);
+        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(1L);
+        assertEquals(1, getStats(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF).getVersion());
+        assertEquals(1, getStats(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF).getInvalidationCount());
+        assertEquals(0, getStats(ReferenceDataRegion.ORDER_STATUS_TRANSLATIONS).getVersion());
+    }
+
+    @Test
+    void invalidateInTransactionRemovesDataLoadedBeforeCommitTest() {
+        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            referenceDataCacheService.invalidate(ReferenceDataRegion.SERVICE_BY_TARIFF);
+            referenceDataCacheService.getServiceByTariffsInfoId(1L);
+            assertEquals(1, getStats(ReferenceDataRegion.SERVICE_BY_TARIFF).getSize());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ReferenceDataCacheStatsDto stats = getStats(ReferenceDataRegion.SERVICE_BY_TARIFF);
+        assertEquals(0, stats.getSize());
+        assertEquals(2, stats.getVersion());
+    }
+
+    @Test
+    void invalidateAllInvalidatesEveryRegionTest() {
+        referenceDataCacheService.invalidateAll();
+
+        referenceDataCacheService.getStats()
+            .forEach(stats -> assertEquals(1, stats.getVersion()));
+        assertEquals(ReferenceDataRegion.values().length, referenceDataCacheService.getStats().size());
+    }
+
+    private ReferenceDataCacheStatsDto getStats(ReferenceDataRegion region) {
+        return referenceDataCacheService.getStats().stream()
+            .filter(stats -> stats.getName().equals(region.name()))
+            .findFirst()
+            .orElseThrow();
+    }
+}
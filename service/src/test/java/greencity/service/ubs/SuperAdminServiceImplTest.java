@@ -19,7 +19,6 @@ import greencity.dto.service.TariffServiceDto;
 import greencity.dto.tariff.ChangeTariffLocationStatusDto;
 import greencity.dto.tariff.EditTariffDto;
 import greencity.dto.tariff.GetTariffLimitsDto;
-import greencity.dto.tariff.GetTariffsInfoDto;
 import greencity.dto.tariff.SetTariffLimitsDto;
 import greencity.entity.order.Bag;
 import greencity.entity.order.Courier;
@@ -36,12 +35,15 @@ import greencity.enums.LocationStatus;
 import greencity.enums.StationStatus;
 import greencity.enums.TariffStatus;
 import greencity.enums.BagStatus;
+import greencity.enums.ReferenceDataRegion;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
 import greencity.exceptions.UnprocessableEntityException;
 import greencity.exceptions.courier.CourierAlreadyExists;
 import greencity.exceptions.service.ServiceAlreadyExistsException;
 import greencity.exceptions.tariff.TariffAlreadyExistsException;
+import greencity.mapping.service.GetTariffServiceDtoMapper;
+import greencity.mapping.tariff.GetTariffsInfoDtoMapper;
 import greencity.filters.TariffsInfoFilterCriteria;
 import greencity.filters.TariffsInfoSpecification;
 import greencity.repository.*;
@@ -89,6 +91,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -102,6 +105,12 @@ class SuperAdminServiceImplTest {
     @Mock
     private EmployeeRepository employeeRepository;
     @Mock
+    private ReferenceDataCacheService referenceDataCacheService;
+    @Mock
+    private GetTariffServiceDtoMapper getTariffServiceDtoMapper;
+    @Mock
+    private GetTariffsInfoDtoMapper getTariffsInfoDtoMapper;
+    @Mock
     private BagRepository bagRepository;
     @Mock
     private LocationRepository locationRepository;
@@ -130,7 +139,7 @@ class SuperAdminServiceImplTest {
     @Mock
     private OrderAddressRepository orderAddressRepository;
     @Mock
-    private NotificationService notificationService;
+    private TariffRepricingService tariffRepricingService;
 
     @AfterEach
     void afterEach() {
@@ -170,6 +179,7 @@ class SuperAdminServiceImplTest {
         verify(employeeRepository).findByUuid(uuid);
         verify(tariffsInfoRepository).findById(1L);
         verify(bagRepository).save(bag);
+        verify(referenceDataCacheService).invalidate(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF);
         verify(modelMapper).map(dto, Bag.class);
         verify(modelMapper).map(bag, GetTariffServiceDto.class);
     }
@@ -211,13 +221,13 @@ class SuperAdminServiceImplTest {
 
         when(tariffsInfoRepository.existsById(1L)).thenReturn(true);
         when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(bags);
-        when(modelMapper.map(bags.getFirst(), GetTariffServiceDto.class)).thenReturn(dto);
+        when(getTariffServiceDtoMapper.mapAll(bags)).thenReturn(List.of(dto));
 
         superAdminService.getTariffService(1);
 
         verify(tariffsInfoRepository).existsById(1L);
         verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
-        verify(modelMapper).map(bags.getFirst(), GetTariffServiceDto.class);
+        verify(getTariffServiceDtoMapper).mapAll(bags);
     }
 
     @Test
@@ -350,149 +360,51 @@ class SuperAdminServiceImplTest {
     }
 
     @Test
-    void editTariffServiceWithUnpaidOrder() {
-        Bag bag = ModelUtils.getBag();
-        Bag editedBag = ModelUtils.getEditedBag();
-        Employee employee = getEmployee();
-        TariffServiceDto dto = ModelUtils.getTariffServiceDto();
-        GetTariffServiceDto editedDto = ModelUtils.getGetTariffServiceDto();
-        Order order = ModelUtils.getOrder();
-        String uuid = UUID.randomUUID().toString();
-        order.updateWithNewOrderBags(List.of(getOrderBag()));
-
-        when(employeeRepository.findByUuid(uuid)).thenReturn(Optional.of(employee));
-        when(bagRepository.findActiveBagById(1)).thenReturn(Optional.of(bag));
-
-        when(bagRepository.save(editedBag)).thenReturn(editedBag);
-        when(modelMapper.map(editedBag, GetTariffServiceDto.class)).thenReturn(editedDto);
-        doNothing().when(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        when(orderRepository.findAllUnpaidOrdersByBagId(1)).thenReturn(List.of(order));
-        when(orderBagService.getActualBagsAmountForOrder(Collections.singletonList(getOrderBag())))
-            .thenReturn(ModelUtils.getAmount());
-        doNothing().when(notificationService).notifyAllOrdersWithIncreasedTariffPrice(any());
-        when(orderRepository.saveAll(List.of(order))).thenReturn(List.of(order));
-
-        GetTariffServiceDto actual = superAdminService.editTariffService(dto, 1, uuid);
-
-        assertEquals(editedDto, actual);
-        verify(employeeRepository).findByUuid(uuid);
-        verify(bagRepository).findActiveBagById(1);
-        verify(bagRepository).save(editedBag);
-        verify(modelMapper).map(editedBag, GetTariffServiceDto.class);
-        verify(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        verify(orderRepository).findAllUnpaidOrdersByBagId(1);
-        verify(notificationService).notifyAllOrdersWithIncreasedTariffPrice(any());
-        verify(orderRepository).saveAll(anyList());
-    }
-
-    @Test
-    void editTariffServiceWithUnpaidOrderAndBagConfirmedAmount() {
-        Bag bag = ModelUtils.getBag();
-        Bag editedBag = ModelUtils.getEditedBag();
-        Employee employee = getEmployee();
-        TariffServiceDto dto = ModelUtils.getTariffServiceDto();
-        GetTariffServiceDto editedDto = ModelUtils.getGetTariffServiceDto();
-        Order order = ModelUtils.getOrder();
-        String uuid = UUID.randomUUID().toString();
-        order.updateWithNewOrderBags(List.of(ModelUtils.getOrderBagWithConfirmedAmount()));
-
-        when(employeeRepository.findByUuid(uuid)).thenReturn(Optional.of(employee));
-        when(bagRepository.findActiveBagById(1)).thenReturn(Optional.of(bag));
-        when(bagRepository.save(editedBag)).thenReturn(editedBag);
-        when(modelMapper.map(editedBag, GetTariffServiceDto.class)).thenReturn(editedDto);
-        doNothing().when(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        when(orderRepository.findAllUnpaidOrdersByBagId(1)).thenReturn(List.of(order));
-        when(orderBagService
-            .getActualBagsAmountForOrder(Collections.singletonList(getOrderBag().setConfirmedQuantity(2))))
-            .thenReturn(ModelUtils.getAmount());
-        doNothing().when(notificationService).notifyAllOrdersWithIncreasedTariffPrice(any());
-        when(orderRepository.saveAll(List.of(order))).thenReturn(List.of(order));
-
-        GetTariffServiceDto actual = superAdminService.editTariffService(dto, 1, uuid);
-
-        assertEquals(editedDto, actual);
-        verify(employeeRepository).findByUuid(uuid);
-        verify(bagRepository).findActiveBagById(1);
-        verify(bagRepository).save(editedBag);
-        verify(modelMapper).map(editedBag, GetTariffServiceDto.class);
-        verify(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        verify(orderRepository).findAllUnpaidOrdersByBagId(1);
-        verify(notificationService).notifyAllOrdersWithIncreasedTariffPrice(any());
-        verify(orderRepository).saveAll(anyList());
-    }
-
-    @Test
-    void editTariffServiceWithUnpaidOrderAndBagExportedAmount() {
+    void editTariffServiceWithChangedPrice() {
         Bag bag = ModelUtils.getBag();
         Bag editedBag = ModelUtils.getEditedBag();
         Employee employee = getEmployee();
         TariffServiceDto dto = ModelUtils.getTariffServiceDto();
         GetTariffServiceDto editedDto = ModelUtils.getGetTariffServiceDto();
-        Order order = ModelUtils.getOrder();
         String uuid = UUID.randomUUID().toString();
-        order.updateWithNewOrderBags(List.of(ModelUtils.getOrderBagWithExportedAmount()));
 
         when(employeeRepository.findByUuid(uuid)).thenReturn(Optional.of(employee));
         when(bagRepository.findActiveBagById(1)).thenReturn(Optional.of(bag));
         when(bagRepository.save(editedBag)).thenReturn(editedBag);
         when(modelMapper.map(editedBag, GetTariffServiceDto.class)).thenReturn(editedDto);
-        doNothing().when(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        when(orderRepository.findAllUnpaidOrdersByBagId(1)).thenReturn(List.of(order));
-        when(orderBagService.getActualBagsAmountForOrder(
-            Collections.singletonList(getOrderBag().setExportedQuantity(2).setConfirmedQuantity(2))))
-            .thenReturn(ModelUtils.getAmount());
 
-        when(orderRepository.saveAll(List.of(order))).thenReturn(List.of(order));
-        doNothing().when(notificationService).notifyAllOrdersWithIncreasedTariffPrice(any());
         GetTariffServiceDto actual = superAdminService.editTariffService(dto, 1, uuid);
 
         assertEquals(editedDto, actual);
         verify(employeeRepository).findByUuid(uuid);
         verify(bagRepository).findActiveBagById(1);
-        verify(bagRepository).findActiveBagById(1);
-
         verify(bagRepository).save(editedBag);
         verify(modelMapper).map(editedBag, GetTariffServiceDto.class);
-        verify(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        verify(orderRepository).findAllUnpaidOrdersByBagId(1);
-        verify(notificationService).notifyAllOrdersWithIncreasedTariffPrice(any());
-        verify(orderRepository).saveAll(anyList());
+        verify(tariffRepricingService).enqueue(1, true);
+        verify(referenceDataCacheService).invalidate(ReferenceDataRegion.ACTIVE_BAGS_BY_TARIFF);
+        verifyNoInteractions(orderRepository, orderBagRepository);
     }
 
     @Test
-    void editTariffServiceWithoutUnpaidOrder() {
+    void editTariffServiceWithoutChangedPrice() {
         Bag bag = ModelUtils.getBag();
-        Bag editedBag = ModelUtils.getEditedBag();
         Employee employee = getEmployee();
         TariffServiceDto dto = ModelUtils.getTariffServiceDto();
+        dto.setPrice(120.0);
         GetTariffServiceDto editedDto = ModelUtils.getGetTariffServiceDto();
         String uuid = UUID.randomUUID().toString();
 
         when(employeeRepository.findByUuid(uuid)).thenReturn(Optional.of(employee));
         when(bagRepository.findActiveBagById(1)).thenReturn(Optional.of(bag));
-        when(bagRepository.save(editedBag)).thenReturn(editedBag);
-        when(modelMapper.map(editedBag, GetTariffServiceDto.class)).thenReturn(editedDto);
-        doNothing().when(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        when(orderRepository.findAllUnpaidOrdersByBagId(1)).thenReturn(Collections.emptyList());
+        when(bagRepository.save(bag)).thenReturn(bag);
+        when(modelMapper.map(bag, GetTariffServiceDto.class)).thenReturn(editedDto);
 
         GetTariffServiceDto actual = superAdminService.editTariffService(dto, 1, uuid);
 
         assertEquals(editedDto, actual);
-        verify(employeeRepository).findByUuid(uuid);
-        verify(bagRepository).findActiveBagById(1);
-        verify(bagRepository).save(editedBag);
-        verify(modelMapper).map(editedBag, GetTariffServiceDto.class);
-        verify(orderBagRepository)
-            .updateAllByBagIdForUnpaidOrders(1, 20, 150_00L, "Бавовняна сумка", null);
-        verify(orderRepository).findAllUnpaidOrdersByBagId(1);
-        verify(orderRepository, never()).saveAll(anyList());
+        assertEquals(170_00L, bag.getFullPrice());
+        verify(tariffRepricingService).enqueue(1, false);
+        verifyNoInteractions(orderRepository, orderBagRepository);
     }
 
     @Test
@@ -618,6 +530,7 @@ class SuperAdminServiceImplTest {
         verify(serviceRepository).findById(1L);
         verify(employeeRepository).findByUuid(uuid);
         verify(serviceRepository).save(service);
+        verify(referenceDataCacheService).invalidate(ReferenceDataRegion.SERVICE_BY_TARIFF);
         verify(modelMapper).map(service, GetServiceDto.class);
     }
 
@@ -1000,7 +913,7 @@ class SuperAdminServiceImplTest {
     void getAllTariffsInfoTest() {
         when(tariffsInfoRepository.findAll(any(TariffsInfoSpecification.class)))
             .thenReturn(List.of(ModelUtils.getTariffsInfo()));
-        when(modelMapper.map(any(TariffsInfo.class), eq(GetTariffsInfoDto.class))).thenReturn(getAllTariffsInfoDto());
+        when(getTariffsInfoDtoMapper.map(any(TariffsInfo.class))).thenReturn(getAllTariffsInfoDto());
 
         superAdminService.getAllTariffsInfo(TariffsInfoFilterCriteria.builder().build());
 
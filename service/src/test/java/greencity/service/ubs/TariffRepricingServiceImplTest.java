@@ -0,0 +1,188 @@
+package greencity.service.ubs;
+
+import greencity.config.TariffRepricingConfigProp;
+import greencity.dto.service.TariffRepricingJobDto;
+import greencity.entity.order.TariffRepricingJob;
+import greencity.enums.TariffRepricingJobStatus;
+import greencity.exceptions.NotFoundException;
+import greencity.mapping.service.TariffRepricingJobDtoMapper;
+import greencity.repository.OrderBagRepository;
+import greencity.repository.OrderRepository;
+import greencity.repository.TariffRepricingJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TariffRepricingServiceImplTest {
+    @Mock
+    private TariffRepricingJobRepository tariffRepricingJobRepository;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderBagRepository orderBagRepository;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private TariffRepricingJobDtoMapper tariffRepricingJobDtoMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final TariffRepricingConfigProp tariffRepricingConfigProp = new TariffRepricingConfigProp();
+    private TariffRepricingServiceImpl tariffRepricingService;
+
+    @BeforeEach
+    void setUp() {
+        tariffRepricingConfigProp.setBatchSize(2);
+        tariffRepricingConfigProp.setMaxAttempts(3);
+        tariffRepricingConfigProp.setRetryBatchSize(10);
+        tariffRepricingService = new TariffRepricingServiceImpl(tariffRepricingJobRepository, orderRepository,
+            orderBagRepository, notificationService, tariffRepricingJobDtoMapper, tariffRepricingConfigProp,
+            transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tariffRepricingService.shutdown();
+    }
+
+    @Test
+    void enqueueStoresJobAndProcessesItTest() {
+        TariffRepricingJob job = getJob(false);
+
+        when(tariffRepricingJobRepository.save(any(TariffRepricingJob.class))).thenReturn(job);
+        when(tariffRepricingJobRepository.lockPending(5L, 3)).thenReturn(Optional.empty());
+
+        assertEquals(5L, tariffRepricingService.enqueue(1, false));
+
+        verify(tariffRepricingJobRepository, timeout(1000)).lockPending(5L, 3);
+    }
+
+    @Test
+    void processUpdatesOrdersChunkByChunkTest() {
+        TariffRepricingJob job = getJob(true);
+
+        when(tariffRepricingJobRepository.lockPending(5L, 3)).thenReturn(Optional.of(job));
+        when(orderRepository.lockUnpaidOrderIdsByBagId(1, 0L, 2)).thenReturn(List.of(10L, 11L));
+        when(orderRepository.lockUnpaidOrderIdsByBagId(1, 11L, 2)).thenReturn(List.of(12L));
+
+        assertTrue(tariffRepricingService.process(5L));
+
+        verify(orderBagRepository).updateBagDataByOrderIds(1, List.of(10L, 11L));
+        verify(orderBagRepository).updateBagDataByOrderIds(1, List.of(12L));
+        verify(orderRepository).updateSumTotalAmountWithoutDiscounts(List.of(10L, 11L));
+        verify(orderRepository).updateSumTotalAmountWithoutDiscounts(List.of(12L));
+        verify(notificationService).notifyOrdersWithIncreasedTariffPrice(List.of(10L, 11L));
+        verify(notificationService).notifyOrdersWithIncreasedTariffPrice(List.of(12L));
+        assertEquals(TariffRepricingJobStatus.DONE, job.getStatus());
+        assertEquals(12L, job.getLastOrderId());
+        assertEquals(3, job.getProcessedOrders());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void processDoesNotRecalculateSumsIfPriceIsNotChangedTest() {
+        TariffRepricingJob job = getJob(false);
+
+        when(tariffRepricingJobRepository.lockPending(5L, 3)).thenReturn(Optional.of(job));
+        when(orderRepository.lockUnpaidOrderIdsByBagId(1, 0L, 2)).thenReturn(List.of(10L));
+
+        assertTrue(tariffRepricingService.process(5L));
+
+        verify(orderBagRepository).updateBagDataByOrderIds(1, List.of(10L));
+        verify(orderRepository, never()).updateSumTotalAmountWithoutDiscounts(anyList());
+        verifyNoInteractions(notificationService);
+        assertEquals(TariffRepricingJobStatus.DONE, job.getStatus());
+    }
+
+    @Test
+    void processSkipsFinishedJobTest() {
+        when(tariffRepricingJobRepository.lockPending(5L, 3)).thenReturn(Optional.empty());
+
+        assertFalse(tariffRepricingService.process(5L));
+
+        verifyNoInteractions(orderRepository, orderBagRepository, notificationService);
+    }
+
+    @Test
+    void processMarksJobAsFailedAndKeepsProgressTest() {
+        TariffRepricingJob job = getJob(true);
+
+        when(tariffRepricingJobRepository.lockPending(5L, 3)).thenReturn(Optional.of(job));
+        when(orderRepository.lockUnpaidOrderIdsByBagId(1, 0L, 2)).thenReturn(List.of(10L, 11L));
+        when(orderRepository.lockUnpaidOrderIdsByBagId(1, 11L, 2)).thenReturn(List.of(12L, 13L));
+        when(orderBagRepository.updateBagDataByOrderIds(1, List.of(10L, 11L))).thenReturn(2);
+        when(orderBagRepository.updateBagDataByOrderIds(1, List.of(12L, 13L)))
+            .thenThrow(new IllegalStateException("Deadlock detected"));
+        when(tariffRepricingJobRepository.findById(5L)).thenReturn(Optional.of(job));
+
+        assertFalse(tariffRepricingService.process(5L));
+
+        assertEquals(TariffRepricingJobStatus.FAILED, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertEquals("Deadlock detected", job.getError());
+        verify(notificationService).notifyOrdersWithIncreasedTariffPrice(List.of(10L, 11L));
+    }
+
+    @Test
+    void retryPendingTest() {
+        TariffRepricingJob job = getJob(true);
+
+        when(tariffRepricingJobRepository.findPending(any(LocalDateTime.class), eq(3), eq(10)))
+            .thenReturn(List.of(job));
+        when(tariffRepricingJobRepository.lockPending(5L, 3)).thenReturn(Optional.empty());
+
+        assertEquals(1, tariffRepricingService.retryPending());
+
+        verify(tariffRepricingJobRepository, timeout(1000)).lockPending(5L, 3);
+    }
+
+    @Test
+    void getLatestJobTest() {
+        TariffRepricingJob job = getJob(true);
+        TariffRepricingJobDto dto = TariffRepricingJobDto.builder().id(5L).build();
+
+        when(tariffRepricingJobRepository.findFirstByBagIdOrderByIdDesc(1)).thenReturn(Optional.of(job));
+        when(tariffRepricingJobDtoMapper.map(job)).thenReturn(dto);
+
+        assertEquals(dto, tariffRepricingService.getLatestJob(1));
+    }
+
+    @Test
+    void getLatestJobThrowsNotFoundExceptionTest() {
+        when(tariffRepricingJobRepository.findFirstByBagIdOrderByIdDesc(1)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> tariffRepricingService.getLatestJob(1));
+    }
+
+    private TariffRepricingJob getJob(boolean priceChanged) {
+        return TariffRepricingJob.builder()
+            .id(5L)
+            .bagId(1)
+            .priceChanged(priceChanged)
+            .status(TariffRepricingJobStatus.NEW)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -1,5 +1,8 @@
 package greencity.service.ubs;
 
+import com.google.maps.model.GeocodingResult;
+import com.google.maps.model.Geometry;
+import com.google.maps.model.LatLng;
 import greencity.ModelUtils;
 import greencity.client.FondyClient;
 import greencity.client.UserRemoteClient;
@@ -7,6 +10,7 @@ import static greencity.constant.AppConstant.USER_WITH_PREFIX;
 
 import greencity.client.WayForPayClient;
 import greencity.constant.ErrorMessage;
+import greencity.constant.OrderHistory;
 import greencity.dto.CreateAddressRequestDto;
 import greencity.dto.payment.PaymentRequestDto;
 import greencity.dto.payment.PaymentResponseDto;
@@ -17,7 +21,6 @@ import greencity.dto.TariffsForLocationDto;
 import greencity.dto.address.AddressDto;
 import greencity.dto.bag.BagDto;
 import greencity.dto.bag.BagForUserDto;
-import greencity.dto.bag.BagTranslationDto;
 import greencity.dto.certificate.CertificateDto;
 import greencity.dto.courier.CourierDto;
 import greencity.dto.customer.UbsCustomersDto;
@@ -47,9 +50,12 @@ import greencity.exceptions.WrongSignatureException;
 import greencity.exceptions.http.AccessDeniedException;
 import greencity.exceptions.user.UBSuserNotFoundException;
 import greencity.exceptions.user.UserNotFoundException;
+import greencity.mapping.bag.BagTranslationDtoMapper;
 import greencity.repository.*;
 import greencity.service.google.GoogleApiService;
 import greencity.service.locations.LocationApiService;
+import greencity.service.notification.NotificationUserCacheService;
+import greencity.service.user.UserPrincipalCacheService;
 import greencity.util.Bot;
 import greencity.util.EncryptionUtil;
 import jakarta.persistence.EntityNotFoundException;
@@ -59,6 +65,8 @@ import java.security.NoSuchAlgorithmException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -87,6 +95,11 @@ class UBSClientServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReferenceDataCacheService referenceDataCacheService;
+    @Mock
+    private BagTranslationDtoMapper bagTranslationDtoMapper;
+
     @Mock
     private BagRepository bagRepository;
 
@@ -184,6 +197,15 @@ class UBSClientServiceImplTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private NotificationUserCacheService notificationUserCacheService;
+
+    @Mock
+    private UserPrincipalCacheService userPrincipalCacheService;
+
+    @Mock
+    private PaymentCallbackService paymentCallbackService;
+
     @Value("${greencity.wayforpay.secret}")
     private String wayForPaySecret;
 
@@ -229,7 +251,7 @@ class UBSClientServiceImplTest {
         verify(locationRepository).findById(locationId);
         verify(tariffLocationRepository).findTariffLocationByTariffsInfoAndLocation(tariffsInfo, location);
 
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -255,7 +277,7 @@ class UBSClientServiceImplTest {
         verify(locationRepository).findById(locationId);
 
         verify(tariffLocationRepository, never()).findTariffLocationByTariffsInfoAndLocation(any(), any());
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -280,7 +302,7 @@ class UBSClientServiceImplTest {
 
         verify(locationRepository, never()).findById(anyLong());
         verify(tariffLocationRepository, never()).findTariffLocationByTariffsInfoAndLocation(any(), any());
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), anyLong());
     }
 
@@ -305,7 +327,7 @@ class UBSClientServiceImplTest {
         verify(locationRepository).findById(locationId);
 
         verify(tariffLocationRepository, never()).findTariffLocationByTariffsInfoAndLocation(any(), any());
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -330,7 +352,7 @@ class UBSClientServiceImplTest {
         verify(locationRepository).findById(locationId);
 
         verify(tariffLocationRepository, never()).findTariffLocationByTariffsInfoAndLocation(any(), any());
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -362,7 +384,7 @@ class UBSClientServiceImplTest {
         verify(locationRepository).findById(locationId);
         verify(tariffLocationRepository).findTariffLocationByTariffsInfoAndLocation(tariffsInfo, location);
 
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -385,8 +407,8 @@ class UBSClientServiceImplTest {
         when(locationRepository.findById(locationId)).thenReturn(Optional.of(location));
         when(tariffLocationRepository.findTariffLocationByTariffsInfoAndLocation(tariffsInfo, location))
             .thenReturn(Optional.of(tariffLocation));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(tariffsInfoId)).thenReturn(bags);
-        when(modelMapper.map(bags.getFirst(), BagTranslationDto.class)).thenReturn(bagTranslationDto);
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(tariffsInfoId)).thenReturn(bags);
+        when(bagTranslationDtoMapper.mapAll(bags)).thenReturn(List.of(bagTranslationDto));
 
         var userPointsAndAllBagsDtoActual =
             ubsService.getFirstPageDataByTariffAndLocationId(tariffsInfoId, locationId);
@@ -404,8 +426,8 @@ class UBSClientServiceImplTest {
         verify(tariffsInfoRepository).findById(tariffsInfoId);
         verify(locationRepository).findById(locationId);
         verify(tariffLocationRepository).findTariffLocationByTariffsInfoAndLocation(tariffsInfo, location);
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(tariffsInfoId);
-        verify(modelMapper).map(bags.getFirst(), BagTranslationDto.class);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(tariffsInfoId);
+        verify(bagTranslationDtoMapper).mapAll(bags);
     }
 
     @Test
@@ -432,7 +454,7 @@ class UBSClientServiceImplTest {
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
         when(tariffLocationRepository.findTariffLocationByTariffsInfoAndLocation(tariffsInfo, location))
             .thenReturn(Optional.of(tariffLocation));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(tariffsInfoId)).thenReturn(bags);
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(tariffsInfoId)).thenReturn(bags);
         when(orderBagRepository.getAmountOfOrderBagsByOrderIdAndBagId(anyLong(), anyInt()))
             .thenReturn(Optional.of(2));
 
@@ -455,7 +477,7 @@ class UBSClientServiceImplTest {
         verify(userRepository).findUserByUuid(uuid);
         verify(orderRepository).findById(orderId);
         verify(tariffLocationRepository).findTariffLocationByTariffsInfoAndLocation(tariffsInfo, location);
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(tariffsInfoId);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(tariffsInfoId);
         verify(orderBagRepository).getAmountOfOrderBagsByOrderIdAndBagId(anyLong(), anyInt());
     }
 
@@ -478,7 +500,7 @@ class UBSClientServiceImplTest {
 
         verify(orderRepository, never()).findById(anyLong());
         verify(tariffLocationRepository, never()).findTariffLocationByTariffsInfoAndLocation(any(), any());
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -504,7 +526,7 @@ class UBSClientServiceImplTest {
         verify(orderRepository).findById(orderId);
 
         verify(tariffLocationRepository, never()).findTariffLocationByTariffsInfoAndLocation(any(), any());
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -530,7 +552,7 @@ class UBSClientServiceImplTest {
         verify(orderRepository).findById(orderId);
 
         verify(tariffLocationRepository, never()).findTariffLocationByTariffsInfoAndLocation(any(), any());
-        verify(bagRepository, never()).findAllActiveBagsByTariffsInfoId(anyLong());
+        verify(referenceDataCacheService, never()).getActiveBagsByTariffsInfoId(anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -825,6 +847,80 @@ class UBSClientServiceImplTest {
 
     }
 
+    @Test
+    void testSaveToDBWithUncachedCityInLocationArea() throws IllegalAccessException {
+        User user = getUserWithLastLocation();
+        user.setAlternateEmail("test@mail.com");
+        user.setCurrentPoints(900);
+
+        OrderResponseDto dto = getOrderResponseDto();
+        dto.setLocationId(2L);
+        dto.getBags().getFirst().setAmount(15);
+        dto.setBags(List.of(BagDto.builder().id(1).amount(1).build(), BagDto.builder().id(3).amount(15).build()));
+
+        Order order = getOrder();
+        user.setOrders(new ArrayList<>());
+        user.getOrders().add(order);
+        user.setChangeOfPointsList(new ArrayList<>());
+
+        Bag bag1 = getBagForOrder();
+        bag1.setId(1);
+        bag1.setCapacity(100);
+        bag1.setLimitIncluded(false);
+        Bag bag3 = getBagForOrder();
+        bag3.setCapacity(1000);
+        TariffsInfo tariffsInfo = getTariffInfo();
+        tariffsInfo.setBags(Arrays.asList(bag1, bag3));
+        UBSuser ubSuser = getUBSuser();
+
+        OrderAddress orderAddress = ubSuser.getOrderAddress();
+        orderAddress.setAddressStatus(AddressStatus.NEW);
+
+        Order order1 = getOrder();
+        order1.setPayment(new ArrayList<>());
+        Payment payment1 = getPayment();
+        payment1.setId(1L);
+        order1.getPayment().add(payment1);
+        order.updateWithNewOrderBags(
+            Arrays.asList(ModelUtils.getOrderBag(), ModelUtils.getOrderBag(), ModelUtils.getOrderBag()));
+        order1
+            .updateWithNewOrderBags(
+                Arrays.asList(ModelUtils.getOrderBag(), ModelUtils.getOrderBag(), ModelUtils.getOrderBag()));
+        Field[] fields = UBSClientServiceImpl.class.getDeclaredFields();
+        for (Field f : fields) {
+            if (f.getName().equals("merchantId")) {
+                f.setAccessible(true);
+                f.set(ubsService, "1");
+            }
+        }
+        Address addressWithoutCoordinates = ModelUtils.getAddressTrue();
+        addressWithoutCoordinates.setCoordinates(null);
+        GeocodingResult boiarka = new GeocodingResult();
+        boiarka.geometry = new Geometry();
+        boiarka.geometry.location = new LatLng(50.3072388, 30.3316833);
+        when(addressRepository.findById(any())).thenReturn(Optional.of(addressWithoutCoordinates));
+        when(googleApiService.getGeocodingResultByCityAndCountryAndLocale("Ukraine", "Boiarka", "en"))
+            .thenReturn(boiarka);
+        when(userRepository.findByUuid("35467585763t4sfgchjfuyetf")).thenReturn(user);
+        when(tariffsInfoRepository.findTariffsInfoByBagIdAndLocationId(anyList(), anyLong()))
+            .thenReturn(Optional.of(tariffsInfo));
+        when(bagRepository.findActiveBagById(1)).thenReturn(Optional.of(bag1));
+        when(bagRepository.findActiveBagById(3)).thenReturn(Optional.of(bag3));
+        when(ubsUserRepository.findById(1L)).thenReturn(Optional.of(ubSuser));
+        when(modelMapper.map(dto, Order.class)).thenReturn(order);
+        when(modelMapper.map(dto.getPersonalData(), UBSuser.class)).thenReturn(ubSuser);
+        when(orderRepository.findById(any())).thenReturn(Optional.of(order1));
+
+        String mockWayForPayResponse = "{\"invoiceUrl\": \"http://example.com/invoice\"}";
+        when(wayForPayClient.getCheckOutResponse(any(PaymentRequestDto.class))).thenReturn(mockWayForPayResponse);
+
+        WayForPayOrderResponse result = ubsService.saveFullOrderToDB(dto, "35467585763t4sfgchjfuyetf", null);
+        Assertions.assertNotNull(result);
+        assertEquals(50.3072388, addressWithoutCoordinates.getCoordinates().getLatitude());
+        assertEquals(30.3316833, addressWithoutCoordinates.getCoordinates().getLongitude());
+        verify(addressRepository).save(addressWithoutCoordinates);
+    }
+
     @Test
     void testSaveToDBWithCertificates() throws IllegalAccessException {
         User user = getUserWithLastLocation();
@@ -1475,6 +1571,8 @@ class UBSClientServiceImplTest {
         ubsService.markUserAsDeactivated("test", request);
         verify(userRepository).findByUuid("test");
         verify(userRemoteClient).markUserDeactivated(user.getUuid(), request);
+        verify(notificationUserCacheService).invalidate(user.getRecipientEmail());
+        verify(userPrincipalCacheService).invalidate(user.getRecipientEmail());
     }
 
     @Test
@@ -3082,7 +3180,7 @@ class UBSClientServiceImplTest {
             .thenReturn(order);
         when(orderBagService.getActualBagsAmountForOrder(Collections.singletonList(ModelUtils.getOrderBag())))
             .thenReturn(ModelUtils.getAmount());
-        when(orderStatusTranslationRepository
+        when(referenceDataCacheService
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue()))
             .thenReturn(Optional.of(orderStatusTranslation));
         when(orderPaymentStatusTranslationRepository.getById(
@@ -3092,7 +3190,7 @@ class UBSClientServiceImplTest {
         ubsService.getOrderForUser(user.getUuid(), 1L);
 
         verify(modelMapper).map(any(OrderBag.class), eq(BagForUserDto.class));
-        verify(orderStatusTranslationRepository, times(orderList.size()))
+        verify(referenceDataCacheService, times(orderList.size()))
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue());
         verify(orderPaymentStatusTranslationRepository, times(orderList.size()))
             .getById(
@@ -3131,7 +3229,7 @@ class UBSClientServiceImplTest {
         when(ordersForUserRepository.getAllByUserUuid(pageable, user.getUuid()))
             .thenReturn(page);
         when(modelMapper.map(any(OrderBag.class), eq(BagForUserDto.class))).thenReturn(TEST_BAG_FOR_USER_DTO);
-        when(orderStatusTranslationRepository
+        when(referenceDataCacheService
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue()))
             .thenReturn(Optional.of(orderStatusTranslation));
         when(orderPaymentStatusTranslationRepository.getById(
@@ -3146,7 +3244,7 @@ class UBSClientServiceImplTest {
         assertEquals(dto.getPage().getFirst().getId(), order.getId());
 
         verify(modelMapper).map(any(OrderBag.class), eq(BagForUserDto.class));
-        verify(orderStatusTranslationRepository, times(orderList.size()))
+        verify(referenceDataCacheService, times(orderList.size()))
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue());
         verify(orderPaymentStatusTranslationRepository, times(orderList.size()))
             .getById((long) order.getOrderPaymentStatus().getStatusValue());
@@ -3174,7 +3272,7 @@ class UBSClientServiceImplTest {
 
         when(ordersForUserRepository.getAllByUserUuid(pageable, user.getUuid()))
             .thenReturn(page);
-        when(orderStatusTranslationRepository
+        when(referenceDataCacheService
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue()))
             .thenReturn(Optional.of(orderStatusTranslation));
         when(orderPaymentStatusTranslationRepository.getById(
@@ -3189,7 +3287,7 @@ class UBSClientServiceImplTest {
         assertEquals(dto.getPage().getFirst().getId(), order.getId());
 
         verify(modelMapper).map(any(OrderBag.class), eq(BagForUserDto.class));
-        verify(orderStatusTranslationRepository, times(orderList.size()))
+        verify(referenceDataCacheService, times(orderList.size()))
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue());
         verify(orderPaymentStatusTranslationRepository, times(orderList.size()))
             .getById(
@@ -3219,7 +3317,7 @@ class UBSClientServiceImplTest {
         when(ordersForUserRepository.getAllByUserUuid(pageable, user.getUuid()))
             .thenReturn(page);
         when(modelMapper.map(any(OrderBag.class), eq(BagForUserDto.class))).thenReturn(TEST_BAG_FOR_USER_DTO);
-        when(orderStatusTranslationRepository
+        when(referenceDataCacheService
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue()))
             .thenReturn(Optional.of(orderStatusTranslation));
         when(orderPaymentStatusTranslationRepository.getById(
@@ -3233,7 +3331,7 @@ class UBSClientServiceImplTest {
         assertEquals(dto.getPage().getFirst().getId(), order.getId());
 
         verify(modelMapper).map(any(OrderBag.class), eq(BagForUserDto.class));
-        verify(orderStatusTranslationRepository, times(orderList.size()))
+        verify(referenceDataCacheService, times(orderList.size()))
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue());
         verify(orderPaymentStatusTranslationRepository, times(orderList.size()))
             .getById(
@@ -3262,7 +3360,7 @@ class UBSClientServiceImplTest {
         order.setTariffsInfo(tariffsInfo);
         when(ordersForUserRepository.getAllByUserUuid(pageable, user.getUuid()))
             .thenReturn(page);
-        when(orderStatusTranslationRepository
+        when(referenceDataCacheService
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue()))
             .thenReturn(Optional.of(orderStatusTranslation));
         when(orderPaymentStatusTranslationRepository.getById(
@@ -3569,7 +3667,7 @@ class UBSClientServiceImplTest {
         order.setTariffsInfo(tariffsInfo);
         when(ordersForUserRepository.getAllByUserUuid(pageable, user.getUuid()))
             .thenReturn(page);
-        when(orderStatusTranslationRepository
+        when(referenceDataCacheService
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue()))
             .thenReturn(Optional.of(orderStatusTranslation));
         when(orderPaymentStatusTranslationRepository.getById(
@@ -3583,7 +3681,7 @@ class UBSClientServiceImplTest {
 
         assertEquals(dto.getTotalElements(), orderList.size());
         assertEquals(dto.getPage().getFirst().getId(), order.getId());
-        verify(orderStatusTranslationRepository, times(orderList.size()))
+        verify(referenceDataCacheService, times(orderList.size()))
             .getOrderStatusTranslationById((long) order.getOrderStatus().getNumValue());
         verify(orderPaymentStatusTranslationRepository, times(orderList.size()))
             .getById(
@@ -3696,9 +3794,7 @@ class UBSClientServiceImplTest {
     void testValidatePaymentSuccess() {
         PaymentResponseDto response = getPaymentResponseDto();
 
-        Order expectedOrder = getOrder2();
-
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(expectedOrder));
+        when(orderRepository.existsById(1L)).thenReturn(true);
         when(encryptionUtil.formResponseSignature(any(PaymentResponseWayForPay.class), eq(wayForPaySecret)))
             .thenReturn("signature");
 
@@ -3709,8 +3805,10 @@ class UBSClientServiceImplTest {
         assertEquals(response.getOrderReference(), result.getOrderReference());
         assertEquals("signature", result.getSignature());
 
-        verify(orderRepository).findById(1L);
+        verify(orderRepository).existsById(1L);
+        verify(paymentCallbackService).receive(response, 1L);
         verify(encryptionUtil).formResponseSignature(any(PaymentResponseWayForPay.class), eq(wayForPaySecret));
+        verify(paymentRepository, never()).save(any());
     }
 
     @Test
@@ -3718,15 +3816,59 @@ class UBSClientServiceImplTest {
         PaymentResponseDto response = getPaymentResponseDto();
         response.setOrderReference("2_001");
 
-        when(orderRepository.findById(2L)).thenReturn(Optional.empty());
+        when(orderRepository.existsById(2L)).thenReturn(false);
 
         BadRequestException exception = assertThrows(
             BadRequestException.class,
             () -> ubsClientService.validatePayment(response));
 
         assertEquals(PAYMENT_VALIDATION_ERROR, exception.getMessage());
-        verify(orderRepository).findById(2L);
-        verifyNoInteractions(encryptionUtil);
+        verify(orderRepository).existsById(2L);
+        verifyNoInteractions(encryptionUtil, paymentCallbackService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "_001", "1_abc", "abc_001"})
+    void testValidatePaymentWithWrongOrderReference(String orderReference) {
+        PaymentResponseDto response = getPaymentResponseDto();
+        response.setOrderReference(orderReference);
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> ubsClientService.validatePayment(response));
+
+        assertEquals(PAYMENT_VALIDATION_ERROR, exception.getMessage());
+        verifyNoInteractions(orderRepository, encryptionUtil, paymentCallbackService);
+    }
+
+    @Test
+    void testApplyPaymentCallback() {
+        PaymentResponseDto response = getPaymentResponseDto();
+        Order order = getOrder2();
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        ubsClientService.applyPaymentCallback(response);
+
+        assertEquals(OrderPaymentStatus.PAID, order.getOrderPaymentStatus());
+        verify(orderRepository).findById(1L);
+        verify(paymentRepository).save(any(Payment.class));
+        verify(orderRepository).save(order);
+        verify(eventService).save(OrderHistory.ORDER_PAID, OrderHistory.SYSTEM, order);
+    }
+
+    @Test
+    void testApplyPaymentCallbackOrderNotFound() {
+        PaymentResponseDto response = getPaymentResponseDto();
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> ubsClientService.applyPaymentCallback(response));
+
+        assertEquals(PAYMENT_VALIDATION_ERROR, exception.getMessage());
+        verifyNoInteractions(paymentRepository);
     }
 
     @Test
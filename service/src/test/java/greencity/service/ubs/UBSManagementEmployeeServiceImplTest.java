@@ -13,6 +13,7 @@ import greencity.entity.order.TariffsInfo;
 import greencity.entity.user.employee.Employee;
 import greencity.entity.user.employee.Position;
 import greencity.enums.EmployeeStatus;
+import greencity.enums.ReferenceDataRegion;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
 import greencity.exceptions.UnprocessableEntityException;
@@ -65,6 +66,8 @@ class UBSManagementEmployeeServiceImplTest {
     @Mock
     private PositionRepository positionRepository;
     @Mock
+    private ReferenceDataCacheService referenceDataCacheService;
+    @Mock
     private TariffsInfoRepository tariffsInfoRepository;
     @Mock
     private FileService fileService;
@@ -317,6 +320,7 @@ class UBSManagementEmployeeServiceImplTest {
         when(repository.findById(1L)).thenReturn(Optional.of(employee));
         employeeService.deactivateEmployee(1L);
         verify(repository).findById(1L);
+        verify(referenceDataCacheService).invalidate(ReferenceDataRegion.EMPLOYEES_BY_POSITION);
         assertEquals(EmployeeStatus.INACTIVE, employee.getEmployeeStatus());
         Exception thrown = assertThrows(NotFoundException.class,
             () -> employeeService.deactivateEmployee(2L));
@@ -403,6 +407,7 @@ class UBSManagementEmployeeServiceImplTest {
 
         verify(positionRepository, times(1)).existsPositionByName(any());
         verify(positionRepository, times(1)).save(any());
+        verify(referenceDataCacheService).invalidate(ReferenceDataRegion.POSITIONS);
         verify(modelMapper, times(1)).map(any(Position.class), eq(PositionDto.class));
 
         Exception thrown = assertThrows(UnprocessableEntityException.class,
@@ -3,6 +3,7 @@ package greencity.service.ubs;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import greencity.ModelUtils;
 import greencity.client.UserRemoteClient;
+import greencity.constant.AppConstant;
 import greencity.constant.OrderHistory;
 import greencity.dto.bag.AdditionalBagInfoDto;
 import greencity.dto.bag.BagInfoDto;
@@ -51,6 +52,7 @@ import greencity.enums.OrderStatus;
 import greencity.enums.SortingOrder;
 import greencity.exceptions.BadRequestException;
 import greencity.exceptions.NotFoundException;
+import greencity.mapping.bag.BagInfoDtoMapper;
 import greencity.repository.BagRepository;
 import greencity.repository.CertificateRepository;
 import greencity.repository.EmployeeOrderPositionRepository;
@@ -65,7 +67,6 @@ import greencity.repository.PaymentRepository;
 import greencity.repository.PositionRepository;
 import greencity.repository.ReceivingStationRepository;
 import greencity.repository.RefundRepository;
-import greencity.repository.ServiceRepository;
 import greencity.repository.TariffsInfoRepository;
 import greencity.repository.UserRepository;
 import greencity.service.locations.LocationApiService;
@@ -79,6 +80,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -95,7 +97,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.data.domain.Page;
@@ -144,7 +150,6 @@ import static greencity.ModelUtils.getOrderExportDetailsWithExportDateDeliverFro
 import static greencity.ModelUtils.getOrderExportDetailsWithExportDateDeliverFromTo;
 import static greencity.ModelUtils.getOrderExportDetailsWithNullValues;
 import static greencity.ModelUtils.getOrderForGetOrderStatusData2Test;
-import static greencity.ModelUtils.getOrderForGetOrderStatusEmptyPriceDetails;
 import static greencity.ModelUtils.getOrderStatusPaymentTranslations;
 import static greencity.ModelUtils.getOrderStatusTranslation;
 import static greencity.ModelUtils.getOrderStatusTranslations;
@@ -183,6 +188,7 @@ import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -198,6 +204,11 @@ class UBSManagementServiceImplTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private ReferenceDataCacheService referenceDataCacheService;
+    @Mock(lenient = true)
+    private BagInfoDtoMapper bagInfoDtoMapper;
+
     @Mock(lenient = true)
     OrderRepository orderRepository;
 
@@ -219,9 +230,6 @@ class UBSManagementServiceImplTest {
     @Mock
     private EmployeeOrderPositionRepository employeeOrderPositionRepository;
 
-    @Mock
-    private PositionRepository positionRepository;
-
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -239,6 +247,9 @@ class UBSManagementServiceImplTest {
     @Mock
     private OrderDetailRepository orderDetailRepository;
 
+    @Spy
+    private TaskExecutor orderPageExecutor = new SyncTaskExecutor();
+
     @InjectMocks
     private UBSManagementServiceImpl ubsManagementService;
 
@@ -257,9 +268,6 @@ class UBSManagementServiceImplTest {
     @Mock
     private UBSManagementServiceImpl ubsManagementServiceMock;
 
-    @Mock
-    private ServiceRepository serviceRepository;
-
     @Mock
     OrdersAdminsPageService ordersAdminsPageService;
 
@@ -931,15 +939,15 @@ class UBSManagementServiceImplTest {
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
         when(employeeOrderPositionRepository.findAllByOrderId(anyLong())).thenReturn(newList);
-        when(positionRepository.findAll()).thenReturn(positionList);
-        when(employeeRepository.findAllByEmployeePositionId(anyLong())).thenReturn(employeeList);
+        when(referenceDataCacheService.getPositions()).thenReturn(positionList);
+        when(employeeRepository.findAllWithPositionsByTariffsInfoId(1L)).thenReturn(employeeList);
         assertEquals(dto, ubsManagementService.getAllEmployeesByPosition(1L, "test@gmail.com"));
         verify(orderRepository).findById(anyLong());
         verify(employeeRepository).findByEmail("test@gmail.com");
         verify(employeeOrderPositionRepository).findAllByOrderId(anyLong());
-        verify(positionRepository).findAll();
-        verify(employeeRepository).findAllByEmployeePositionId(anyLong());
-        verify(tariffsInfoRepository, atLeastOnce()).findTariffsInfoByIdForEmployee(anyLong(), anyLong());
+        verify(referenceDataCacheService).getPositions();
+        verify(employeeRepository).findAllWithPositionsByTariffsInfoId(1L);
+        verify(tariffsInfoRepository).findTariffsInfoByIdForEmployee(anyLong(), anyLong());
     }
 
     @Test
@@ -1030,7 +1038,7 @@ class UBSManagementServiceImplTest {
         when(modelMapper.map(TEST_ORDER, new TypeToken<List<BagMappingDto>>() {
         }.getType())).thenReturn(TEST_BAG_MAPPING_DTO_LIST);
         when(orderBagService.findAllBagsByOrderId(1L)).thenReturn(TEST_BAG_LIST);
-        when(modelMapper.map(TEST_BAG, BagInfoDto.class)).thenReturn(TEST_BAG_INFO_DTO);
+        when(bagInfoDtoMapper.mapAll(TEST_BAG_LIST)).thenReturn(List.of(TEST_BAG_INFO_DTO));
         when(bagRepository.findAllByOrder(1L)).thenReturn(TEST_BAG_LIST);
         when(modelMapper.map(any(), eq(new TypeToken<List<OrderDetailInfoDto>>() {
         }.getType()))).thenReturn(TEST_ORDER_DETAILS_INFO_DTO_LIST);
@@ -1044,7 +1052,7 @@ class UBSManagementServiceImplTest {
         }.getType());
         verify(orderBagService).findAllBagsByOrderId(1L);
         verify(bagRepository, times(1)).findAllByOrder(anyLong());
-        verify(modelMapper).map(TEST_BAG, BagInfoDto.class);
+        verify(bagInfoDtoMapper).mapAll(TEST_BAG_LIST);
         verify(modelMapper).map(any(), eq(new TypeToken<List<OrderDetailInfoDto>>() {
         }.getType()));
     }
@@ -1966,39 +1974,76 @@ class UBSManagementServiceImplTest {
         TariffsInfo tariffsInfo = getTariffsInfo();
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
-        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
         when(certificateRepository.findCertificate(1L)).thenReturn(getCertificateList());
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
-        when(modelMapper.map(getBaglist().get(0), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(orderStatusTranslationRepository.findAllBy()).thenReturn(getOrderStatusTranslations());
         when(
             orderPaymentStatusTranslationRepository.getById(1L))
             .thenReturn(OrderPaymentStatusTranslation.builder().translationValue("name").build());
         when(orderPaymentStatusTranslationRepository.getAllBy()).thenReturn(getOrderStatusPaymentTranslations());
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
 
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
 
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(1L);
         verify(certificateRepository).findCertificate(1L);
-        verify(orderRepository, times(5)).findById(1L);
-        verify(serviceRepository).findServiceByTariffsInfoId(1L);
-        verify(modelMapper).map(getBaglist().getFirst(), BagInfoDto.class);
-        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(6L);
+        verify(orderRepository, never()).findById(anyLong());
+        verify(referenceDataCacheService).getServiceByTariffsInfoId(1L);
+        verify(bagInfoDtoMapper).mapAll(getBaglist());
+        verify(referenceDataCacheService).getOrderStatusTranslationById(6L);
         verify(orderPaymentStatusTranslationRepository).getById(1L);
         verify(receivingStationRepository).findAll();
         verify(tariffsInfoRepository, atLeastOnce()).findTariffsInfoByIdForEmployee(anyLong(), anyLong());
         verify(orderStatusTranslationRepository).findAllBy();
         verify(orderPaymentStatusTranslationRepository).getAllBy();
+        verify(orderRepository).findOrderForStatusPage(1L);
+        verify(orderRepository, never()).getOrderDetails(anyLong());
+        verify(employeeRepository).findByEmail("test@gmail.com");
+        verify(employeeRepository).findAllWithPositionsByTariffsInfoId(1L);
+        verify(orderPageExecutor).execute(any(Runnable.class));
+        verify(ubsClientService).getUserAndUserUbsAndViolationsInfo(order);
+        verify(ubsClientService, never()).getUserAndUserUbsAndViolationsInfoByOrderId(anyLong(), any());
+    }
+
+    @Test
+    void getOrderStatusDataLooksUpEmployeesInRequestThreadWhenExecutorIsBusyTest() {
+        Order order = getOrderForGetOrderStatusData2Test();
+        BagInfoDto bagInfoDto = getBagInfoDto();
+        TariffsInfo tariffsInfo = getTariffsInfo();
+        order.setTariffsInfo(tariffsInfo);
+        Employee employee = getEmployee();
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
+        when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
+            .thenReturn(Optional.of(tariffsInfo));
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(certificateRepository.findCertificate(1L)).thenReturn(getCertificateList());
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
+            .thenReturn(Optional.ofNullable(getStatusTranslation()));
+        when(orderStatusTranslationRepository.findAllBy()).thenReturn(getOrderStatusTranslations());
+        when(
+            orderPaymentStatusTranslationRepository.getById(1L))
+            .thenReturn(OrderPaymentStatusTranslation.builder().translationValue("name").build());
+        when(orderPaymentStatusTranslationRepository.getAllBy()).thenReturn(getOrderStatusPaymentTranslations());
+        when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
+
+        doThrow(new TaskRejectedException("Busy")).when(orderPageExecutor).execute(any(Runnable.class));
+
+        ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
+
+        verify(orderPageExecutor).execute(any(Runnable.class));
+        verify(employeeRepository).findAllWithPositionsByTariffsInfoId(1L);
+        verify(ubsClientService).getUserAndUserUbsAndViolationsInfo(order);
     }
 
     @Test
@@ -2034,39 +2079,39 @@ class UBSManagementServiceImplTest {
 
     @Test
     void getOrderStatusDataTestEmptyPriceDetails() {
-        Order order = getOrderForGetOrderStatusEmptyPriceDetails();
+        Order order = getOrderForGetOrderStatusData2Test();
+        order.setAmountOfBagsOrdered(new HashMap<>());
+        order.setConfirmedQuantity(new HashMap<>());
+        order.setExportedQuantity(new HashMap<>());
         BagInfoDto bagInfoDto = getBagInfoDto();
         TariffsInfo tariffsInfo = getTariffsInfo();
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
-        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
-        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.empty());
-        when(modelMapper.map(getBaglist().getFirst(), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.empty());
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(
             orderPaymentStatusTranslationRepository.getById(1L))
             .thenReturn(OrderPaymentStatusTranslation.builder().translationValue("name").build());
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
         when(modelMapper.map(getOrderForGetOrderStatusData2Test().getPayment().getFirst(), PaymentInfoDto.class))
             .thenReturn(getInfoPayment());
 
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
 
-        verify(orderRepository).getOrderDetails(1L);
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
+        verify(orderRepository).findOrderForStatusPage(1L);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(1L);
         verify(certificateRepository).findCertificate(1L);
-        verify(orderRepository, times(5)).findById(1L);
-        verify(serviceRepository).findServiceByTariffsInfoId(1L);
-        verify(modelMapper).map(getBaglist().getFirst(), BagInfoDto.class);
-        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(6L);
+        verify(orderRepository, never()).findById(anyLong());
+        verify(referenceDataCacheService).getServiceByTariffsInfoId(1L);
+        verify(bagInfoDtoMapper).mapAll(getBaglist());
+        verify(referenceDataCacheService).getOrderStatusTranslationById(6L);
         verify(orderPaymentStatusTranslationRepository).getById(1L);
         verify(receivingStationRepository).findAll();
         verify(tariffsInfoRepository, atLeastOnce()).findTariffsInfoByIdForEmployee(anyLong(), anyLong());
@@ -2080,31 +2125,28 @@ class UBSManagementServiceImplTest {
         TariffsInfo tariffsInfo = getTariffsInfo();
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
-        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
-        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(modelMapper.map(getBaglist().getFirst(), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(
             orderPaymentStatusTranslationRepository.getById(1L))
             .thenReturn(OrderPaymentStatusTranslation.builder().translationValue("name").build());
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
 
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
 
-        verify(orderRepository).getOrderDetails(1L);
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
-        verify(orderRepository, times(5)).findById(1L);
-        verify(serviceRepository).findServiceByTariffsInfoId(1L);
-        verify(modelMapper).map(getBaglist().getFirst(), BagInfoDto.class);
-        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(6L);
+        verify(orderRepository).findOrderForStatusPage(1L);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(1L);
+        verify(orderRepository, never()).findById(anyLong());
+        verify(referenceDataCacheService).getServiceByTariffsInfoId(1L);
+        verify(bagInfoDtoMapper).mapAll(getBaglist());
+        verify(referenceDataCacheService).getOrderStatusTranslationById(6L);
         verify(orderPaymentStatusTranslationRepository).getById(1L);
         verify(receivingStationRepository).findAll();
         verify(tariffsInfoRepository, atLeastOnce()).findTariffsInfoByIdForEmployee(anyLong(), anyLong());
@@ -2117,29 +2159,26 @@ class UBSManagementServiceImplTest {
         TariffsInfo tariffsInfo = getTariffsInfo();
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
-        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
-        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(modelMapper.map(getBaglist().getFirst(), BagInfoDto.class)).thenReturn(bagInfoDto);
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
         when(
             orderPaymentStatusTranslationRepository.getById(1L))
             .thenReturn(OrderPaymentStatusTranslation.builder().translationValue("name").build());
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
 
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
 
-        verify(orderRepository).getOrderDetails(1L);
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
-        verify(orderRepository, times(5)).findById(1L);
-        verify(serviceRepository).findServiceByTariffsInfoId(1L);
-        verify(modelMapper).map(getBaglist().getFirst(), BagInfoDto.class);
-        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(6L);
+        verify(orderRepository).findOrderForStatusPage(1L);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(1L);
+        verify(orderRepository, never()).findById(anyLong());
+        verify(referenceDataCacheService).getServiceByTariffsInfoId(1L);
+        verify(bagInfoDtoMapper).mapAll(getBaglist());
+        verify(referenceDataCacheService).getOrderStatusTranslationById(6L);
         verify(orderPaymentStatusTranslationRepository).getById(1L);
         verify(receivingStationRepository).findAll();
         verify(tariffsInfoRepository, atLeastOnce()).findTariffsInfoByIdForEmployee(anyLong(), anyLong());
@@ -2152,16 +2191,14 @@ class UBSManagementServiceImplTest {
         BagInfoDto bagInfoDto = getBagInfoDto();
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
-        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
         when(certificateRepository.findCertificate(1L)).thenReturn(getCertificateList());
-        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(modelMapper.map(getBaglist().getFirst(), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(
             orderPaymentStatusTranslationRepository.getById(1L))
@@ -2421,9 +2458,12 @@ class UBSManagementServiceImplTest {
         Order order = ModelUtils.getOrdersDto();
         ReasonNotTakeBagDto dto = new ReasonNotTakeBagDto();
         dto.setDescription("uu");
-        ubsManagementService.saveReason(order, "uu", new MultipartFile[] {
-            new MockMultipartFile("Name", new byte[2]), new MockMultipartFile("Name", new byte[2])});
+        MultipartFile first = new MockMultipartFile("Name", new byte[2]);
+        MultipartFile second = new MockMultipartFile("Name", new byte[2]);
+        when(fileService.uploadAll(List.of(first, second))).thenReturn(List.of("first", "second"));
+        ubsManagementService.saveReason(order, "uu", new MultipartFile[] {first, null, second});
         assertEquals(order.getReasonNotTakingBagDescription(), dto.getDescription());
+        assertEquals(List.of("first", AppConstant.DEFAULT_IMAGE, "second"), order.getImageReasonNotTakingBags());
         verify(orderRepository).save(order);
     }
 
@@ -2435,16 +2475,14 @@ class UBSManagementServiceImplTest {
         TariffsInfo tariffsInfo = getTariffsInfo();
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
-        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
         when(certificateRepository.findCertificate(1L)).thenReturn(getCertificateList());
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(modelMapper.map(getBaglist().getFirst(), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(
             orderPaymentStatusTranslationRepository.getById(1L))
@@ -2452,17 +2490,15 @@ class UBSManagementServiceImplTest {
         when(
             orderPaymentStatusTranslationRepository.getAllBy())
             .thenReturn(List.of(orderPaymentStatusTranslation));
-
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
 
-        verify(orderRepository).getOrderDetails(1L);
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
+        verify(orderRepository).findOrderForStatusPage(1L);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(1L);
         verify(certificateRepository).findCertificate(1L);
-        verify(orderRepository, times(5)).findById(1L);
-        verify(modelMapper).map(getBaglist().getFirst(), BagInfoDto.class);
-        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(6L);
+        verify(orderRepository, never()).findById(anyLong());
+        verify(bagInfoDtoMapper).mapAll(getBaglist());
+        verify(referenceDataCacheService).getOrderStatusTranslationById(6L);
         verify(orderPaymentStatusTranslationRepository).getById(
             1L);
         verify(receivingStationRepository).findAll();
@@ -2479,16 +2515,14 @@ class UBSManagementServiceImplTest {
         list.add(getOrderStatusTranslation());
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
-        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
         when(certificateRepository.findCertificate(1L)).thenReturn(getCertificateList());
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(modelMapper.map(getBaglist().getFirst(), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(
             orderPaymentStatusTranslationRepository.getById(1L))
@@ -2500,18 +2534,16 @@ class UBSManagementServiceImplTest {
         when(
             orderPaymentStatusTranslationRepository.getAllBy())
             .thenReturn(List.of(orderPaymentStatusTranslation));
-
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
 
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
 
-        verify(orderRepository).getOrderDetails(1L);
-        verify(bagRepository).findAllActiveBagsByTariffsInfoId(1L);
+        verify(orderRepository).findOrderForStatusPage(1L);
+        verify(referenceDataCacheService).getActiveBagsByTariffsInfoId(1L);
         verify(certificateRepository).findCertificate(1L);
-        verify(orderRepository, times(5)).findById(1L);
-        verify(modelMapper).map(getBaglist().getFirst(), BagInfoDto.class);
-        verify(orderStatusTranslationRepository).getOrderStatusTranslationById(6L);
+        verify(orderRepository, never()).findById(anyLong());
+        verify(bagInfoDtoMapper).mapAll(getBaglist());
+        verify(referenceDataCacheService).getOrderStatusTranslationById(6L);
         verify(orderPaymentStatusTranslationRepository).getById(
             1L);
         verify(receivingStationRepository).findAll();
@@ -2988,25 +3020,21 @@ class UBSManagementServiceImplTest {
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getEmployee();
 
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(modelMapper.map(getBaglist().get(0), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
         when(certificateRepository.findCertificate(1L)).thenReturn(getCertificateList());
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(orderStatusTranslationRepository.findAllBy()).thenReturn(getOrderStatusTranslations());
         when(orderPaymentStatusTranslationRepository.getById(1L))
             .thenReturn(OrderPaymentStatusTranslation.builder().translationValue("name").build());
         when(orderPaymentStatusTranslationRepository.getAllBy()).thenReturn(getOrderStatusPaymentTranslations());
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
-        when(positionRepository.findAllIdsFromNames(any())).thenReturn(List.of(6L, 7L));
 
         order.setBlocked(false);
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
@@ -3027,29 +3055,25 @@ class UBSManagementServiceImplTest {
         order.setTariffsInfo(tariffsInfo);
         Employee employee = getAdminEmployee();
 
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findOrderForStatusPage(1L)).thenReturn(Optional.of(order));
         when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(employee));
         when(tariffsInfoRepository.findTariffsInfoByIdForEmployee(anyLong(), anyLong()))
             .thenReturn(Optional.of(tariffsInfo));
-        when(modelMapper.map(getBaglist().get(0), BagInfoDto.class)).thenReturn(bagInfoDto);
-        when(orderRepository.getOrderDetails(1L)).thenReturn(Optional.of(order));
-        when(bagRepository.findAllActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
+        when(bagInfoDtoMapper.mapAll(getBaglist())).thenReturn(List.of(bagInfoDto));
+        when(referenceDataCacheService.getActiveBagsByTariffsInfoId(1L)).thenReturn(getBaglist());
         when(certificateRepository.findCertificate(1L)).thenReturn(getCertificateList());
-        when(orderRepository.findById(1L)).thenReturn(Optional.ofNullable(getOrderForGetOrderStatusData2Test()));
-        when(serviceRepository.findServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
-        when(orderStatusTranslationRepository.getOrderStatusTranslationById(6L))
+        when(referenceDataCacheService.getServiceByTariffsInfoId(1L)).thenReturn(Optional.of(getService()));
+        when(referenceDataCacheService.getOrderStatusTranslationById(6L))
             .thenReturn(Optional.ofNullable(getStatusTranslation()));
         when(orderStatusTranslationRepository.findAllBy()).thenReturn(getOrderStatusTranslations());
         when(orderPaymentStatusTranslationRepository.getById(1L))
             .thenReturn(OrderPaymentStatusTranslation.builder().translationValue("name").build());
         when(orderPaymentStatusTranslationRepository.getAllBy()).thenReturn(getOrderStatusPaymentTranslations());
-        when(orderRepository.findById(6L)).thenReturn(Optional.of(order));
         when(receivingStationRepository.findAll()).thenReturn(getReceivingList());
-        when(positionRepository.findAllIdsFromNames(any())).thenReturn(List.of(6L, 7L));
 
         order.setBlocked(true);
         ubsManagementService.getOrderStatusData(1L, "test@gmail.com");
 
-        verify(orderLockService, times(0)).lockOrder(order, employee);
+        verify(orderLockService).lockOrder(order, employee);
     }
 }
@@ -0,0 +1,84 @@
+package greencity.service.ubs;
+
+import greencity.dto.UserTableRowDto;
+import greencity.dto.order.UserWithSomeOrderDetailDto;
+import greencity.dto.pageble.PageableDto;
+import greencity.entity.user.employee.Employee;
+import greencity.enums.SortingOrder;
+import greencity.filters.CustomerPage;
+import greencity.filters.UserFilterCriteria;
+import greencity.repository.EmployeeRepository;
+import greencity.repository.UserTableRepo;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ValuesForUserTableServiceImplTest {
+    private static final String EMAIL = "employee@gmail.com";
+
+    @Mock
+    private UserTableRepo userTableRepo;
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @InjectMocks
+    private ValuesForUserTableServiceImpl valuesForUserTableService;
+
+    @Test
+    void getAllFieldsTest() {
+        CustomerPage page = new CustomerPage(1, 2);
+        UserFilterCriteria criteria = new UserFilterCriteria();
+        UserTableRowDto row = UserTableRowDto.builder()
+            .id(5L)
+            .recipientName("Ivan")
+            .recipientSurname("Ivanov")
+            .recipientEmail("ivan@gmail.com")
+            .recipientPhone("981099667")
+            .violations(1)
+            .currentPoints(100)
+            .dateOfRegistration(LocalDate.of(2022, 1, 5))
+            .numberOfOrders(3L)
+            .lastOrderDate(LocalDateTime.of(2024, 3, 5, 10, 0))
+            .build();
+        when(employeeRepository.findByEmail(EMAIL)).thenReturn(Optional.of(Employee.builder().id(7L).build()));
+        when(userTableRepo.findAll(criteria, "orderDate", SortingOrder.ASC, page, 7L))
+            .thenReturn(new PageImpl<>(List.of(row), PageRequest.of(1, 2), 3));
+
+        PageableDto<UserWithSomeOrderDetailDto> result =
+            valuesForUserTableService.getAllFields(page, "orderDate", SortingOrder.ASC, criteria, EMAIL);
+
+        UserWithSomeOrderDetailDto expected = new UserWithSomeOrderDetailDto(5L, "Ivan Ivanov", "+380981099667",
+            "ivan@gmail.com", "2022-01-05", "2024-03-05", 3, 1, "100");
+        assertEquals(List.of(expected), result.getPage());
+        assertEquals(3, result.getTotalElements());
+        assertEquals(1, result.getCurrentPage());
+        assertEquals(2, result.getTotalPages());
+    }
+
+    @Test
+    void getAllFieldsThrowsEntityNotFoundExceptionTest() {
+        CustomerPage page = new CustomerPage();
+        UserFilterCriteria criteria = new UserFilterCriteria();
+        when(employeeRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class,
+            () -> valuesForUserTableService.getAllFields(page, null, SortingOrder.ASC, criteria, EMAIL));
+
+        verify(userTableRepo, never()).findAll(any(), any(), any(), any(), any());
+    }
+}
@@ -211,9 +211,14 @@ class ViolationServiceImplTest {
             }
         }
 
-        violationService.updateUserViolation(updateViolationToUserDto, new MultipartFile[2], "abc");
+        MultipartFile first = new MockMultipartFile("file", "first.jpg", "image/jpeg", "first".getBytes());
+        MultipartFile second = new MockMultipartFile("file", "second.jpg", "image/jpeg", "second".getBytes());
+        when(fileService.uploadAll(List.of(first, second))).thenReturn(List.of("first.jpg", "second.jpg"));
 
-        assertEquals(2, violation.getImages().size());
+        violationService.updateUserViolation(updateViolationToUserDto, new MultipartFile[] {first, null, second},
+            "abc");
+
+        assertEquals(List.of("first.jpg", "second.jpg"), violation.getImages());
 
         verify(employeeRepository).findByUuid("abc");
         verify(violationRepository).findActiveViolationByOrderId(1L);
@@ -2,30 +2,56 @@ package greencity.service.ubs.manager;
 
 import greencity.ModelUtils;
 import greencity.client.UserRemoteClient;
+import greencity.config.OrderExportConfigProp;
+import greencity.constant.ErrorMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.language.LanguageVO;
+import greencity.dto.order.BigOrderTableDTO;
 import greencity.dto.user.UserVO;
+import greencity.entity.order.BigOrderTableViews;
 import greencity.entity.parameters.CustomTableView;
 import greencity.entity.user.employee.Employee;
+import greencity.enums.OrderExportFormat;
+import greencity.exceptions.BadRequestException;
 import greencity.filters.DateFilter;
+import greencity.filters.OrderCursor;
 import greencity.filters.OrderPage;
 import greencity.filters.OrderSearchCriteria;
+import greencity.mapping.order.BigOrderTableDtoMapper;
 import greencity.repository.BigOrderTableRepository;
 import greencity.repository.CustomTableViewRepo;
 import greencity.repository.EmployeeRepository;
 import greencity.repository.UserRepository;
+import greencity.service.ubs.OrderLockService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 
@@ -37,13 +63,17 @@ class BigOrderTableServiceImplTest {
     @Mock(lenient = true)
     CustomTableViewRepo customTableViewRepo;
     @Mock
-    private ModelMapper modelMapper;
+    private BigOrderTableDtoMapper bigOrderTableDtoMapper;
     @Mock
     private EmployeeRepository employeeRepository;
     @Mock
     private UserRepository userRepository;
     @Mock
     private UserRemoteClient userRemoteClient;
+    @Mock
+    private OrderLockService orderLockService;
+    @Spy
+    private OrderExportConfigProp orderExportConfigProp = new OrderExportConfigProp();
 
     @Test
     void getOrders() {
@@ -62,6 +92,145 @@ class BigOrderTableServiceImplTest {
         verify(bigOrderTableRepository).findAll(orderPage, orderSearchCriteria, tariffsInfoIds, "eng");
     }
 
+    @Test
+    void getOrdersAfterWithoutCursor() {
+        var orderPage = new OrderPage();
+        var orderSearchCriteria = getOrderSearchCriteria();
+        List<Long> tariffsInfoIds = List.of(1L);
+        var view = BigOrderTableViews.builder().id(1L).build();
+        var dto = new BigOrderTableDTO().setId(1L);
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        when(employeeRepository.findTariffsInfoForEmployee(ModelUtils.getEmployee().getId()))
+            .thenReturn(tariffsInfoIds);
+        UserVO userVO = new UserVO().setLanguageVO(new LanguageVO(null, "eng"));
+        when(userRemoteClient.findNotDeactivatedByEmail("test@gmail.com")).thenReturn(Optional.of(userVO));
+        when(bigOrderTableRepository.findAllAfter(orderPage, null, orderSearchCriteria, tariffsInfoIds, "eng"))
+            .thenReturn(CursorPageDto.<BigOrderTableViews>builder()
+                .content(List.of(view))
+                .nextCursor("next")
+                .totalElements(100L)
+                .approximateTotal(true)
+                .build());
+        when(bigOrderTableDtoMapper.mapAll(List.of(view))).thenReturn(List.of(dto));
+
+        var result = bigOrderTableService.getOrdersAfter(orderPage, orderSearchCriteria, "test@gmail.com");
+
+        Assertions.assertEquals(List.of(dto), result.getContent());
+        Assertions.assertEquals("next", result.getNextCursor());
+        Assertions.assertEquals(100L, result.getTotalElements());
+        Assertions.assertTrue(result.isApproximateTotal());
+    }
+
+    @Test
+    void getOrdersAfterReleasesExpiredLocks() {
+        var orderPage = new OrderPage();
+        var orderSearchCriteria = getOrderSearchCriteria();
+        List<Long> tariffsInfoIds = List.of(1L);
+        var lockedView = BigOrderTableViews.builder().id(1L).build();
+        var expiredView = BigOrderTableViews.builder().id(2L).build();
+        var lockedDto = new BigOrderTableDTO().setId(1L).setIsBlocked(true).setBlockedBy("Ivan");
+        var expiredDto = new BigOrderTableDTO().setId(2L).setIsBlocked(true).setBlockedBy("Petro");
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        when(employeeRepository.findTariffsInfoForEmployee(ModelUtils.getEmployee().getId()))
+            .thenReturn(tariffsInfoIds);
+        UserVO userVO = new UserVO().setLanguageVO(new LanguageVO(null, "eng"));
+        when(userRemoteClient.findNotDeactivatedByEmail("test@gmail.com")).thenReturn(Optional.of(userVO));
+        when(bigOrderTableRepository.findAllAfter(orderPage, null, orderSearchCriteria, tariffsInfoIds, "eng"))
+            .thenReturn(CursorPageDto.<BigOrderTableViews>builder()
+                .content(List.of(lockedView, expiredView))
+                .build());
+        when(bigOrderTableDtoMapper.mapAll(List.of(lockedView, expiredView)))
+            .thenReturn(List.of(lockedDto, expiredDto));
+        when(orderLockService.getLockedOrderIds(List.of(1L, 2L))).thenReturn(Set.of(1L));
+
+        bigOrderTableService.getOrdersAfter(orderPage, orderSearchCriteria, "test@gmail.com");
+
+        Assertions.assertTrue(lockedDto.getIsBlocked());
+        Assertions.assertEquals("Ivan", lockedDto.getBlockedBy());
+        Assertions.assertFalse(expiredDto.getIsBlocked());
+        Assertions.assertNull(expiredDto.getBlockedBy());
+    }
+
+    @Test
+    void getOrdersAfterWithCursor() {
+        var cursor = new OrderCursor("id", Sort.Direction.DESC, 5L, "5");
+        var orderPage = new OrderPage().setCursor(cursor.encode());
+        var orderSearchCriteria = getOrderSearchCriteria();
+        List<Long> tariffsInfoIds = new ArrayList<>();
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        UserVO userVO = new UserVO().setLanguageVO(new LanguageVO(null, "ua"));
+        when(userRemoteClient.findNotDeactivatedByEmail("test@gmail.com")).thenReturn(Optional.of(userVO));
+        when(bigOrderTableRepository.findAllAfter(orderPage, cursor, orderSearchCriteria, tariffsInfoIds, "ua"))
+            .thenReturn(CursorPageDto.<BigOrderTableViews>builder().content(List.of()).build());
+
+        var result = bigOrderTableService.getOrdersAfter(orderPage, orderSearchCriteria, "test@gmail.com");
+
+        Assertions.assertTrue(result.getContent().isEmpty());
+        Assertions.assertNull(result.getNextCursor());
+        verify(bigOrderTableRepository).findAllAfter(orderPage, cursor, orderSearchCriteria, tariffsInfoIds, "ua");
+    }
+
+    @Test
+    void getOrdersAfterWithMalformedCursor() {
+        var orderPage = new OrderPage().setCursor("%%%");
+        var orderSearchCriteria = getOrderSearchCriteria();
+
+        Assertions.assertThrows(BadRequestException.class,
+            () -> bigOrderTableService.getOrdersAfter(orderPage, orderSearchCriteria, "test@gmail.com"));
+
+        verifyNoInteractions(bigOrderTableRepository);
+    }
+
+    @Test
+    void getOrdersAfterWithCursorHoldingInvalidDate() {
+        var cursor = new OrderCursor("orderDate", Sort.Direction.DESC, 5L, "not-a-date");
+        var orderPage = new OrderPage().setSortBy("orderDate").setCursor(cursor.encode());
+        var orderSearchCriteria = getOrderSearchCriteria();
+        List<Long> tariffsInfoIds = new ArrayList<>();
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        UserVO userVO = new UserVO().setLanguageVO(new LanguageVO(null, "ua"));
+        when(userRemoteClient.findNotDeactivatedByEmail("test@gmail.com")).thenReturn(Optional.of(userVO));
+        when(bigOrderTableRepository.findAllAfter(orderPage, cursor, orderSearchCriteria, tariffsInfoIds, "ua"))
+            .thenThrow(new DateTimeParseException("Text 'not-a-date' could not be parsed", "not-a-date", 0));
+
+        BadRequestException exception = Assertions.assertThrows(BadRequestException.class,
+            () -> bigOrderTableService.getOrdersAfter(orderPage, orderSearchCriteria, "test@gmail.com"));
+
+        Assertions.assertEquals(ErrorMessage.INVALID_ORDER_CURSOR + cursor.encode(), exception.getMessage());
+    }
+
+    @Test
+    void getOrdersAfterWithCursorForAnotherSorting() {
+        var cursor = new OrderCursor("orderDate", Sort.Direction.ASC, 5L, "2022-02-01");
+        var orderPage = new OrderPage().setCursor(cursor.encode());
+        var orderSearchCriteria = getOrderSearchCriteria();
+
+        Assertions.assertThrows(BadRequestException.class,
+            () -> bigOrderTableService.getOrdersAfter(orderPage, orderSearchCriteria, "test@gmail.com"));
+
+        verifyNoInteractions(bigOrderTableRepository);
+    }
+
+    @Test
+    void getOrdersAfterSortedByRelevance() {
+        var orderPage = new OrderPage().setSortBy(OrderPage.RELEVANCE);
+        var orderSearchCriteria = getOrderSearchCriteria();
+
+        Assertions.assertThrows(BadRequestException.class,
+            () -> bigOrderTableService.getOrdersAfter(orderPage, orderSearchCriteria, "test@gmail.com"));
+
+        verifyNoInteractions(bigOrderTableRepository);
+    }
+
+    @Test
+    void rebuildOrderTable() {
+        when(bigOrderTableRepository.rebuild()).thenReturn(12L);
+
+        Assertions.assertEquals(12L, bigOrderTableService.rebuildOrderTable());
+
+        verify(bigOrderTableRepository).rebuild();
+    }
+
     @Test
     void changeOrderTableView() {
         String uuid = "uuid1";
@@ -115,4 +284,113 @@ class BigOrderTableServiceImplTest {
     private OrderSearchCriteria getOrderSearchCriteria() {
         return new OrderSearchCriteria().setOrderDate(new DateFilter().setFrom("2022-11-05"));
     }
+
+    @Test
+    void exportOrdersToCsv() {
+        var orderPage = new OrderPage();
+        var orderSearchCriteria = getOrderSearchCriteria();
+        List<Long> tariffsInfoIds = List.of(1L);
+        var closed = new AtomicBoolean();
+        var outputStream = new ByteArrayOutputStream();
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        when(employeeRepository.findTariffsInfoForEmployee(ModelUtils.getEmployee().getId()))
+            .thenReturn(tariffsInfoIds);
+        UserVO userVO = new UserVO().setLanguageVO(new LanguageVO(null, "en"));
+        when(userRemoteClient.findNotDeactivatedByEmail("test@gmail.com")).thenReturn(Optional.of(userVO));
+        when(bigOrderTableRepository.streamAll(orderPage, orderSearchCriteria, tariffsInfoIds, "en", 500))
+            .thenReturn(Stream.of(getExportedView()).onClose(() -> closed.set(true)));
+
+        bigOrderTableService.exportOrders(orderPage, orderSearchCriteria, "test@gmail.com", OrderExportFormat.CSV,
+            outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("\uFEFFOrder number,Order status,Payment status,Order date,"));
+        Assertions.assertTrue(lines[1].startsWith("1,FORMED,PAID,2024-01-15,,Anna Koval,"));
+        Assertions.assertTrue(lines[1].contains(",Kyiv region,Kyiv,Pecherskyi,\"Khreshchatyk, 1\","));
+        Assertions.assertTrue(lines[1].contains(",\"Call \"\"first\"\"\","));
+        Assertions.assertTrue(lines[1].contains(",500.50,"));
+        Assertions.assertTrue(closed.get());
+    }
+
+    @Test
+    void exportOrdersToXlsx() throws Exception {
+        var orderPage = new OrderPage();
+        var orderSearchCriteria = getOrderSearchCriteria();
+        List<Long> tariffsInfoIds = List.of(1L);
+        var outputStream = new ByteArrayOutputStream();
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        when(employeeRepository.findTariffsInfoForEmployee(ModelUtils.getEmployee().getId()))
+            .thenReturn(tariffsInfoIds);
+        UserVO userVO = new UserVO().setLanguageVO(new LanguageVO(null, "ua"));
+        when(userRemoteClient.findNotDeactivatedByEmail("test@gmail.com")).thenReturn(Optional.of(userVO));
+        when(bigOrderTableRepository.streamAll(orderPage, orderSearchCriteria, tariffsInfoIds, "ua", 500))
+            .thenReturn(Stream.of(getExportedView()));
+
+        bigOrderTableService.exportOrders(orderPage, orderSearchCriteria, "test@gmail.com", OrderExportFormat.XLSX,
+            outputStream);
+
+        Map<String, String> entries = new HashMap<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertEquals(Set.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+            "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml"), entries.keySet());
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        Assertions.assertTrue(sheet.contains("<t xml:space=\"preserve\">Номер замовлення</t>"));
+        Assertions.assertTrue(sheet.contains("<row><c><v>1</v></c>"));
+        Assertions.assertTrue(sheet.contains("<t xml:space=\"preserve\">Хрещатик, 1</t>"));
+        Assertions.assertTrue(sheet.contains("<t xml:space=\"preserve\">Call &quot;first&quot;</t>"));
+        Assertions.assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+    }
+
+    @Test
+    void exportOrdersDoesNotCompleteDocumentWhenReadingFailsTest() {
+        var orderPage = new OrderPage();
+        var orderSearchCriteria = getOrderSearchCriteria();
+        List<Long> tariffsInfoIds = List.of(1L);
+        var closed = new AtomicBoolean();
+        var outputStream = new ByteArrayOutputStream();
+        when(employeeRepository.findByEmail("test@gmail.com")).thenReturn(Optional.of(ModelUtils.getEmployee()));
+        when(employeeRepository.findTariffsInfoForEmployee(ModelUtils.getEmployee().getId()))
+            .thenReturn(tariffsInfoIds);
+        UserVO userVO = new UserVO().setLanguageVO(new LanguageVO(null, "en"));
+        when(userRemoteClient.findNotDeactivatedByEmail("test@gmail.com")).thenReturn(Optional.of(userVO));
+        Stream<BigOrderTableViews> orders = Stream.<Supplier<BigOrderTableViews>>of(this::getExportedView, () -> {
+            throw new QueryTimeoutException("Timeout");
+        }).map(Supplier::get);
+        when(bigOrderTableRepository.streamAll(orderPage, orderSearchCriteria, tariffsInfoIds, "en", 500))
+            .thenReturn(orders.onClose(() -> closed.set(true)));
+
+        Assertions.assertThrows(QueryTimeoutException.class, () -> bigOrderTableService.exportOrders(orderPage,
+            orderSearchCriteria, "test@gmail.com", OrderExportFormat.XLSX, outputStream));
+
+        String document = outputStream.toString(StandardCharsets.UTF_8);
+        Assertions.assertFalse(document.contains("</sheetData></worksheet>"));
+        Assertions.assertFalse(document.contains("PK\u0005\u0006"));
+        Assertions.assertTrue(closed.get());
+    }
+
+    private BigOrderTableViews getExportedView() {
+        return BigOrderTableViews.builder()
+            .id(1L)
+            .orderStatus("FORMED")
+            .orderPaymentStatus("PAID")
+            .orderDate(LocalDate.of(2024, 1, 15))
+            .clientName("Anna Koval")
+            .region("Київська область")
+            .regionEn("Kyiv region")
+            .city("Київ")
+            .cityEn("Kyiv")
+            .district("Печерський")
+            .districtEn("Pecherskyi")
+            .address("Хрещатик, 1")
+            .addressEn("Khreshchatyk, 1")
+            .commentToAddressForClient("Call \"first\"")
+            .totalOrderSum(500_50L)
+            .build();
+    }
 }
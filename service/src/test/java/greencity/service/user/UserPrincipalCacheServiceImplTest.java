@@ -0,0 +1,161 @@
+package greencity.service.user;
+
+import greencity.client.UserRemoteClient;
+import greencity.config.UserPrincipalCacheConfigProp;
+import greencity.dto.user.UserPrincipalVO;
+import greencity.dto.user.UserVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheServiceImplTest {
+    private static final String EMAIL = "user@email.com";
+    private static final String OTHER_EMAIL = "other@email.com";
+    private static final String THIRD_EMAIL = "third@email.com";
+    private static final String UUID = "87df9ad5-6393-441f-8423-8b2e770b01a8";
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Mock
+    private UserRemoteClient userRemoteClient;
+    @Mock
+    private Clock clock;
+
+    private final UserPrincipalCacheConfigProp userPrincipalCacheConfigProp = new UserPrincipalCacheConfigProp();
+    private UserPrincipalCacheServiceImpl userPrincipalCacheService;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCacheConfigProp.setMaxSize(2);
+        userPrincipalCacheConfigProp.setTtl(Duration.ofMinutes(1));
+        userPrincipalCacheConfigProp.setNegativeTtl(Duration.ofSeconds(30));
+        lenient().when(clock.instant()).thenReturn(NOW);
+        userPrincipalCacheService =
+            new UserPrincipalCacheServiceImpl(userRemoteClient, userPrincipalCacheConfigProp, clock);
+    }
+
+    @Test
+    void getPrincipalLoadsUserOnceTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(getUserVO()));
+        when(userRemoteClient.findUuidByEmail(EMAIL)).thenReturn(UUID);
+
+        UserPrincipalVO expected = new UserPrincipalVO(EMAIL, UUID, true);
+        assertEquals(expected, userPrincipalCacheService.getPrincipal(EMAIL));
+        assertEquals(expected, userPrincipalCacheService.getPrincipal(EMAIL));
+
+        verify(userRemoteClient).findNotDeactivatedByEmail(EMAIL);
+        verify(userRemoteClient).findUuidByEmail(EMAIL);
+    }
+
+    @Test
+    void getPrincipalOfDeactivatedUserTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        UserPrincipalVO principal = userPrincipalCacheService.getPrincipal(EMAIL);
+        userPrincipalCacheService.getPrincipal(EMAIL);
+
+        assertFalse(principal.isActive());
+        assertNull(principal.getUuid());
+        verify(userRemoteClient).findNotDeactivatedByEmail(EMAIL);
+        verify(userRemoteClient, never()).findUuidByEmail(EMAIL);
+    }
+
+    @Test
+    void getPrincipalReloadsExpiredUserTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(getUserVO()));
+        when(userRemoteClient.findUuidByEmail(EMAIL)).thenReturn(UUID);
+
+        userPrincipalCacheService.getPrincipal(EMAIL);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(59));
+        userPrincipalCacheService.getPrincipal(EMAIL);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+        userPrincipalCacheService.getPrincipal(EMAIL);
+
+        verify(userRemoteClient, times(2)).findNotDeactivatedByEmail(EMAIL);
+    }
+
+    @Test
+    void getPrincipalReloadsDeactivatedUserAfterNegativeTtlTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(getUserVO()));
+        when(userRemoteClient.findUuidByEmail(EMAIL)).thenReturn(UUID);
+
+        assertFalse(userPrincipalCacheService.getPrincipal(EMAIL).isActive());
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        assertTrue(userPrincipalCacheService.getPrincipal(EMAIL).isActive());
+
+        verify(userRemoteClient, times(2)).findNotDeactivatedByEmail(EMAIL);
+    }
+
+    @Test
+    void getPrincipalDoesNotCacheFailureTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL))
+            .thenThrow(new RuntimeException())
+            .thenReturn(Optional.of(getUserVO()));
+        when(userRemoteClient.findUuidByEmail(EMAIL)).thenReturn(UUID);
+
+        assertThrows(RuntimeException.class, () -> userPrincipalCacheService.getPrincipal(EMAIL));
+        assertTrue(userPrincipalCacheService.getPrincipal(EMAIL).isActive());
+
+        verify(userRemoteClient, times(2)).findNotDeactivatedByEmail(EMAIL);
+    }
+
+    @Test
+    void getPrincipalEvictsLeastRecentlyUsedUserTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.empty());
+        when(userRemoteClient.findNotDeactivatedByEmail(OTHER_EMAIL)).thenReturn(Optional.empty());
+        when(userRemoteClient.findNotDeactivatedByEmail(THIRD_EMAIL)).thenReturn(Optional.empty());
+
+        userPrincipalCacheService.getPrincipal(EMAIL);
+        userPrincipalCacheService.getPrincipal(OTHER_EMAIL);
+        userPrincipalCacheService.getPrincipal(EMAIL);
+        userPrincipalCacheService.getPrincipal(THIRD_EMAIL);
+        userPrincipalCacheService.getPrincipal(EMAIL);
+        userPrincipalCacheService.getPrincipal(OTHER_EMAIL);
+
+        verify(userRemoteClient).findNotDeactivatedByEmail(EMAIL);
+        verify(userRemoteClient, times(2)).findNotDeactivatedByEmail(OTHER_EMAIL);
+    }
+
+    @Test
+    void invalidateTest() {
+        when(userRemoteClient.findNotDeactivatedByEmail(EMAIL)).thenReturn(Optional.of(getUserVO()));
+        when(userRemoteClient.findUuidByEmail(EMAIL)).thenReturn(UUID);
+        when(userRemoteClient.findNotDeactivatedByEmail(OTHER_EMAIL)).thenReturn(Optional.empty());
+
+        userPrincipalCacheService.getPrincipal(EMAIL);
+        userPrincipalCacheService.getPrincipal(OTHER_EMAIL);
+        userPrincipalCacheService.invalidate(EMAIL);
+        userPrincipalCacheService.getPrincipal(EMAIL);
+        userPrincipalCacheService.getPrincipal(OTHER_EMAIL);
+        userPrincipalCacheService.invalidateAll();
+        userPrincipalCacheService.getPrincipal(OTHER_EMAIL);
+
+        verify(userRemoteClient, times(2)).findNotDeactivatedByEmail(EMAIL);
+        verify(userRemoteClient, times(2)).findNotDeactivatedByEmail(OTHER_EMAIL);
+    }
+
+    private static UserVO getUserVO() {
+        return UserVO.builder()
+            .id(1L)
+            .email(EMAIL)
+            .build();
+    }
+}
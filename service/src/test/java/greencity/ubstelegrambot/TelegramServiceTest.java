@@ -1,16 +1,15 @@
 package greencity.ubstelegrambot;
 
 import greencity.ModelUtils;
-import greencity.client.UserRemoteClient;
-import greencity.dto.language.LanguageVO;
-import greencity.dto.user.UserVO;
 import greencity.enums.NotificationType;
+import greencity.dto.notification.NotificationDto;
 import greencity.entity.notifications.NotificationTemplate;
 import greencity.entity.notifications.UserNotification;
 import greencity.entity.telegram.TelegramBot;
 import greencity.entity.user.User;
 import greencity.exceptions.bots.MessageWasNotSent;
-import greencity.repository.NotificationTemplateRepository;
+import greencity.service.notification.NotificationTemplateCacheService;
+import greencity.service.notification.NotificationUserCacheService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,10 +31,10 @@ import static org.mockito.Mockito.any;
 class TelegramServiceTest {
 
     @Mock
-    private UserRemoteClient userRemoteClient;
+    private NotificationUserCacheService notificationUserCacheService;
 
     @Mock
-    private NotificationTemplateRepository templateRepository;
+    private NotificationTemplateCacheService notificationTemplateCacheService;
 
     @Mock
     private UBSTelegramBot ubsTelegramBot;
@@ -45,39 +44,39 @@ class TelegramServiceTest {
     private final User user = User.builder().id(32L).recipientEmail("user@email.com")
         .telegramBot(TelegramBot.builder().id(1L).chatId(1L).isNotify(true).build())
         .build();
-    private final UserVO userVO = UserVO.builder().languageVO(LanguageVO.builder().code("ua").build()).build();
     private final UserNotification notification = new UserNotification()
         .setNotificationType(NotificationType.LETS_STAY_CONNECTED)
         .setId(42L)
         .setUser(user);
     private final NotificationTemplate template = ModelUtils.TEST_NOTIFICATION_TEMPLATE;
+    private final NotificationDto notificationDto = NotificationDto.builder()
+        .title(template.getTitle())
+        .body(template.getNotificationPlatforms().getFirst().getBody())
+        .build();
 
     @Test
     void testSendNotification() throws TelegramApiException {
         SendMessage sendMessage = new SendMessage(
             notification.getUser().getTelegramBot().getChatId().toString(),
             template.getTitle() + "\n\n" + template.getNotificationPlatforms().getFirst().getBody());
-        when(templateRepository
-            .findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-                notification.getNotificationType(), MOBILE))
-            .thenReturn(Optional.of(template));
-        when(userRemoteClient.findNotDeactivatedByEmail(notification.getUser().getRecipientEmail()))
-            .thenReturn(Optional.of(userVO));
+        when(notificationTemplateCacheService.createNotificationDto(notification, "ua", MOBILE, 0L))
+            .thenReturn(notificationDto);
+        when(notificationUserCacheService.getLanguageCode(notification.getUser().getRecipientEmail()))
+            .thenReturn(Optional.of("ua"));
         when(ubsTelegramBot.execute(sendMessage)).thenReturn(null);
 
         telegramService.sendNotification(notification, MOBILE, 0L);
-        verify(userRemoteClient).findNotDeactivatedByEmail(notification.getUser().getRecipientEmail());
+        verify(notificationUserCacheService).getLanguageCode(notification.getUser().getRecipientEmail());
         verify(ubsTelegramBot).execute(sendMessage);
     }
 
     @Test
     @SneakyThrows
     void testTelegramException() {
-        when(templateRepository
-            .findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-                notification.getNotificationType(), MOBILE)).thenReturn(Optional.of(template));
-        when(userRemoteClient.findNotDeactivatedByEmail(notification.getUser().getRecipientEmail()))
-            .thenReturn(Optional.of(userVO));
+        when(notificationTemplateCacheService.createNotificationDto(notification, "ua", MOBILE, 0L))
+            .thenReturn(notificationDto);
+        when(notificationUserCacheService.getLanguageCode(notification.getUser().getRecipientEmail()))
+            .thenReturn(Optional.of("ua"));
         when(ubsTelegramBot.execute(any(SendMessage.class))).thenThrow(new TelegramApiException());
 
         assertThrows(MessageWasNotSent.class, () -> telegramService.sendNotification(notification, MOBILE, 0L));
@@ -1,12 +1,10 @@
 package greencity.ubsviberbot;
 
 import greencity.ModelUtils;
-import greencity.client.UserRemoteClient;
 import greencity.client.ViberClient;
-import greencity.dto.language.LanguageVO;
-import greencity.dto.user.UserVO;
 import greencity.dto.viber.dto.SendMessageToUserDto;
 import greencity.dto.viber.enums.MessageType;
+import greencity.dto.notification.NotificationDto;
 import greencity.entity.notifications.NotificationTemplate;
 import greencity.entity.notifications.UserNotification;
 import greencity.entity.user.User;
@@ -15,9 +13,10 @@ import greencity.enums.NotificationType;
 import greencity.exceptions.bots.MessageWasNotSent;
 import greencity.exceptions.bots.ViberBotAlreadyConnected;
 import greencity.exceptions.user.UserNotFoundException;
-import greencity.repository.NotificationTemplateRepository;
 import greencity.repository.UserRepository;
 import greencity.repository.ViberBotRepository;
+import greencity.service.notification.NotificationTemplateCacheService;
+import greencity.service.notification.NotificationUserCacheService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -41,10 +40,10 @@ import static org.mockito.Mockito.when;
 class ViberServiceImplTest {
 
     @Mock
-    private NotificationTemplateRepository templateRepository;
+    private NotificationTemplateCacheService notificationTemplateCacheService;
 
     @Mock
-    private UserRemoteClient userRemoteClient;
+    private NotificationUserCacheService notificationUserCacheService;
 
     @Mock
     private ViberClient viberClient;
@@ -71,12 +70,11 @@ class ViberServiceImplTest {
         .setNotificationType(NotificationType.LETS_STAY_CONNECTED)
         .setId(42L)
         .setUser(user);
-    private final UserVO userVO = UserVO.builder()
-        .languageVO(LanguageVO.builder()
-            .code("ua")
-            .build())
-        .build();
     private final NotificationTemplate template = ModelUtils.TEST_NOTIFICATION_TEMPLATE;
+    private final NotificationDto notificationDto = NotificationDto.builder()
+        .title(template.getTitle())
+        .body(template.getNotificationPlatforms().getFirst().getBody())
+        .build();
 
     @Test
     void testSendWelcomeMessageAndPreRegisterViberBotForUser() {
@@ -117,12 +115,10 @@ class ViberServiceImplTest {
             .text(template.getTitle() + "\n\n" + template.getNotificationPlatforms().getFirst().getBody())
             .build();
 
-        when(userRemoteClient.findNotDeactivatedByEmail(notification.getUser().getRecipientEmail()))
-            .thenReturn(Optional.of(userVO));
-        when(templateRepository
-            .findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-                notification.getNotificationType(), MOBILE))
-            .thenReturn(Optional.of(template));
+        when(notificationUserCacheService.getLanguageCode(notification.getUser().getRecipientEmail()))
+            .thenReturn(Optional.of("ua"));
+        when(notificationTemplateCacheService.createNotificationDto(notification, "ua", MOBILE, 0L))
+            .thenReturn(notificationDto);
         when(viberClient.sendMessage(sendMessageToUserDto)).thenReturn(null);
 
         viberService.sendNotification(notification, MOBILE, 0L);
@@ -134,12 +130,10 @@ class ViberServiceImplTest {
     void sendNotificationNotEnabled() {
         notification.getUser().getViberBot().setIsNotify(false);
 
-        when(userRemoteClient.findNotDeactivatedByEmail(notification.getUser().getRecipientEmail()))
-            .thenReturn(Optional.of(userVO));
-        when(templateRepository
-            .findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-                notification.getNotificationType(), MOBILE))
-            .thenReturn(Optional.of(template));
+        when(notificationUserCacheService.getLanguageCode(notification.getUser().getRecipientEmail()))
+            .thenReturn(Optional.of("ua"));
+        when(notificationTemplateCacheService.createNotificationDto(notification, "ua", MOBILE, 0L))
+            .thenReturn(notificationDto);
 
         viberService.sendNotification(notification, MOBILE, 0L);
 
@@ -148,19 +142,17 @@ class ViberServiceImplTest {
 
     @Test
     void sendNotificationUserNotFoundException() {
-        when(userRemoteClient.findNotDeactivatedByEmail(notification.getUser().getRecipientEmail()))
+        when(notificationUserCacheService.getLanguageCode(notification.getUser().getRecipientEmail()))
             .thenReturn(Optional.empty());
         assertThrows(UserNotFoundException.class, () -> viberService.sendNotification(notification, MOBILE, 0L));
     }
 
     @Test
     void testViberException() {
-        when(userRemoteClient.findNotDeactivatedByEmail(notification.getUser().getRecipientEmail()))
-            .thenReturn(Optional.of(userVO));
-        when(templateRepository
-            .findNotificationTemplateByNotificationTypeAndNotificationReceiverType(
-                notification.getNotificationType(), MOBILE))
-                    .thenReturn(Optional.of(template));
+        when(notificationUserCacheService.getLanguageCode(notification.getUser().getRecipientEmail()))
+            .thenReturn(Optional.of("ua"));
+        when(notificationTemplateCacheService.createNotificationDto(notification, "ua", MOBILE, 0L))
+            .thenReturn(notificationDto);
         when(viberClient.sendMessage(any())).thenThrow(new RuntimeException());
 
         assertThrows(MessageWasNotSent.class, () -> viberService.sendNotification(notification, MOBILE, 0L));